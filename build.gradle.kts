@@ -1,6 +1,7 @@
 plugins {
     id("java")
     id("application")
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "io.maksymuimanov.task"
@@ -21,6 +22,8 @@ dependencies {
     implementation("io.netty:netty-all:4.1.115.Final")
 
     implementation("com.fasterxml.jackson.core:jackson-databind:2.18.1")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile:2.18.1")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor:2.18.1")
 
     implementation("io.lettuce:lettuce-core:6.3.2.RELEASE")
 
@@ -37,6 +40,7 @@ dependencies {
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     testImplementation("org.mockito:mockito-core:5.11.0")
     testImplementation("org.awaitility:awaitility:4.2.0")
+    testImplementation("org.msgpack:msgpack-core:0.9.8")
     testImplementation("org.testcontainers:testcontainers:2.0.1")
     testImplementation("org.testcontainers:junit-jupiter:1.21.3")
     testImplementation("com.redis:testcontainers-redis:2.2.2")
@@ -47,6 +51,11 @@ tasks.test {
     useJUnitPlatform()
 }
 
+jmh {
+    jmhVersion = "1.37"
+    resultFormat = "JSON"
+}
+
 tasks.register<Tar>("distTarGz") {
     group = "distribution"
     description = "Packages the project source code into a .tar.gz archive."
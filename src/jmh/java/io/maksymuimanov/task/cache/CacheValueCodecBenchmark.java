@@ -0,0 +1,73 @@
+package io.maksymuimanov.task.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.maksymuimanov.task.dto.DashboardResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares payload size and encode/decode time of the cache value codecs against the
+ * legacy {@code writeValueAsString} + UTF-8 path used before values were stored as bytes.
+ * <p>
+ * Run with {@code ./gradlew jmh}. Payload sizes are deterministic, so they are not measured here:
+ * {@code JacksonCacheValueCodecTests} checks that the binary formats are smaller than JSON, and
+ * the sizes for this payload are listed in the README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheValueCodecBenchmark {
+    static final String WEATHER_JSON = """
+            {"latitude":51.1,"longitude":17.039999,"generationtime_ms":0.0324249267578125,"utc_offset_seconds":0,
+            "timezone":"GMT","timezone_abbreviation":"GMT","elevation":120.0,
+            "current_weather_units":{"time":"iso8601","interval":"seconds","temperature":"°C","windspeed":"km/h",
+            "winddirection":"°","is_day":"","weathercode":"wmo code"},
+            "current_weather":{"time":"2025-11-05T12:00","interval":900,"temperature":11.4,"windspeed":9.7,
+            "winddirection":238,"is_day":1,"weathercode":3}}""";
+    static final String FACT_JSON = """
+            {"id":"0f2c1e8a4d3b4a0c9e7f6d5c4b3a2918","text":"The average person spends six months of their lifetime waiting for red lights to turn green.",
+            "source":"djtech.net","source_url":"http://www.djtech.net/humor/useless_facts.htm","language":"en",
+            "permalink":"https://uselessfacts.jsph.pl/api/v2/facts/0f2c1e8a4d3b4a0c9e7f6d5c4b3a2918"}""";
+    static final String IP_JSON = """
+            {"ip":"203.0.113.42"}""";
+
+    @Param({"LEGACY_JSON_STRING", "JSON", "SMILE", "CBOR"})
+    public String format;
+    private ObjectMapper objectMapper;
+    private CacheValueCodec codec;
+    private DashboardResponse value;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        value = new DashboardResponse(objectMapper.readTree(WEATHER_JSON), objectMapper.readTree(FACT_JSON), objectMapper.readTree(IP_JSON));
+        if ("LEGACY_JSON_STRING".equals(format)) {
+            encoded = objectMapper.writeValueAsString(value).getBytes(StandardCharsets.UTF_8);
+        } else {
+            codec = CacheValueFormat.valueOf(format).createCodec(objectMapper);
+            encoded = codec.encode(value);
+        }
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        if (codec == null) {
+            return objectMapper.writeValueAsString(value).getBytes(StandardCharsets.UTF_8);
+        }
+        return codec.encode(value);
+    }
+
+    @Benchmark
+    public DashboardResponse decode() throws Exception {
+        if (codec == null) {
+            return objectMapper.readValue(new String(encoded, StandardCharsets.UTF_8), DashboardResponse.class);
+        }
+        return codec.decode(encoded, DashboardResponse.class);
+    }
+}
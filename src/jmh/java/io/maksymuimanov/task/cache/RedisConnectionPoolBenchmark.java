@@ -0,0 +1,84 @@
+package io.maksymuimanov.task.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.ReadFrom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures cache throughput against a live Redis for 1, 4 and 16 shared connections.
+ * <p>
+ * Each invocation issues a window of concurrent {@code GET}s or {@code PSETEX}es from every benchmark
+ * thread and waits for all of them, so the connections' write queues and decoding threads are
+ * saturated. Requires Redis at {@code -Dredis.url} (default {@code redis://localhost:6379});
+ * run with {@code ./gradlew jmh -Pjmh.includes=RedisConnectionPoolBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RedisConnectionPoolBenchmark {
+    static final int KEY_COUNT = 1024;
+    static final int WINDOW = 64;
+    static final String KEY_PREFIX = "bench:";
+
+    @Param({"1", "4", "16"})
+    public int connections;
+    @Param({"KEY_HASH", "ROUND_ROBIN"})
+    public RedisConnectionSelection selection;
+    private final AtomicInteger nextKey = new AtomicInteger();
+    private RedisAsyncCacheManager cacheManager;
+    private String[] keys;
+    private String value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisConnectionFactory connectionFactory = RedisTopology.STANDALONE.createConnectionFactory(RedisAsyncCacheManager.DEFAULT_REDIS_URL, ReadFrom.UPSTREAM, false);
+        RedisConnectionPool connectionPool = new RedisConnectionPool(connectionFactory, connections, selection);
+        cacheManager = new RedisAsyncCacheManager(connectionPool, new JsonCacheValueCodec(new ObjectMapper()),
+                new CacheValueCompressor(), RedisAsyncCacheManager.DEFAULT_REDIS_TTL, false);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = KEY_PREFIX + i;
+        }
+        value = "x".repeat(256);
+        for (String key : keys) {
+            cacheManager.put(key, value).join();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cacheManager.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WINDOW)
+    public void get() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[WINDOW];
+        for (int i = 0; i < WINDOW; i++) {
+            futures[i] = cacheManager.get(this.nextKey(), String.class);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(WINDOW)
+    public void put() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[WINDOW];
+        for (int i = 0; i < WINDOW; i++) {
+            futures[i] = cacheManager.put(this.nextKey(), value);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private String nextKey() {
+        return keys[Math.floorMod(nextKey.getAndIncrement(), KEY_COUNT)];
+    }
+}
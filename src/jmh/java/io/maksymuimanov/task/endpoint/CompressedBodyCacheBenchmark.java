@@ -0,0 +1,60 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares compressing a dashboard body on every request with serving the variant kept by
+ * {@link CompressedBodyCache}.
+ * <p>
+ * Run with {@code ./gradlew jmh}. Compressed sizes are deterministic, so they are not measured
+ * here: {@code ContentCodingTests} checks that both codings shrink a body, and the sizes for this
+ * dashboard are listed in the README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressedBodyCacheBenchmark {
+    static final String DASHBOARD_JSON = """
+            {"weather":{"latitude":51.1,"longitude":17.039999,"generationtime_ms":0.0324249267578125,"utc_offset_seconds":0,
+            "timezone":"GMT","timezone_abbreviation":"GMT","elevation":120.0,
+            "current_weather_units":{"time":"iso8601","interval":"seconds","temperature":"°C","windspeed":"km/h",
+            "winddirection":"°","is_day":"","weathercode":"wmo code"},
+            "current_weather":{"time":"2025-11-05T12:00","interval":900,"temperature":11.4,"windspeed":9.7,
+            "winddirection":238,"is_day":1,"weathercode":3}},
+            "fact":{"id":"0f2c1e8a4d3b4a0c9e7f6d5c4b3a2918","text":"The average person spends six months of their lifetime waiting for red lights to turn green.",
+            "source":"djtech.net","source_url":"http://www.djtech.net/humor/useless_facts.htm","language":"en",
+            "permalink":"https://uselessfacts.jsph.pl/api/v2/facts/0f2c1e8a4d3b4a0c9e7f6d5c4b3a2918"},
+            "ip":{"ip":"203.0.113.42"}}""";
+    static final String CACHE_KEY = "dashboard";
+
+    @Param({"GZIP", "DEFLATE"})
+    public String coding;
+    private ContentCoding contentCoding;
+    private SerializedResponse response;
+    private CompressedBodyCache compressedBodyCache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contentCoding = ContentCoding.valueOf(coding);
+        response = SerializedResponse.of(DASHBOARD_JSON.getBytes(StandardCharsets.UTF_8), Instant.now());
+        compressedBodyCache = new CompressedBodyCache();
+    }
+
+    @Benchmark
+    public byte[] compressPerRequest() {
+        return contentCoding.encode(response.body(), CompressedBodyCache.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    @Benchmark
+    public ByteBuf cachedVariant() {
+        return compressedBodyCache.get(CACHE_KEY, response, contentCoding);
+    }
+}
@@ -0,0 +1,62 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.maksymuimanov.task.dto.HttpEndpoint;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request routing cost of {@link HttpRouter} against the previous
+ * {@code QueryStringDecoder} + {@link HttpEndpoint} + {@code HashMap} lookup.
+ * <p>
+ * Run with {@code ./gradlew jmh}; add {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpRouterBenchmark {
+    @Param({"/api/dashboard", "/api/dashboard?fields=weather", "/api/users/42/orders/7", "/api/unknown"})
+    public String uri;
+    private Map<HttpEndpoint, AsyncHttpEndpointProcessor> endpointProcessors;
+    private HttpRouter router;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        AsyncHttpEndpointProcessor processor = new AsyncHttpEndpointProcessor() {
+            @Override
+            public HttpEndpoint getEndpoint() {
+                return DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT;
+            }
+
+            @Override
+            public CompletableFuture<Void> process(io.netty.channel.ChannelHandlerContext context, io.netty.handler.codec.http.FullHttpRequest request, HttpResponseSender responseSender, boolean keepAlive) {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        endpointProcessors = new HashMap<>();
+        endpointProcessors.put(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT, processor);
+        endpointProcessors.put(new HttpEndpoint("/api/dashboard/stream", HttpMethod.GET), processor);
+        endpointProcessors.put(new HttpEndpoint("/api/users/{id}/orders/{orderId}", HttpMethod.GET), processor);
+        endpointProcessors.put(new HttpEndpoint("/static/*", HttpMethod.GET), processor);
+        router = new HttpRouter(endpointProcessors);
+    }
+
+    @Benchmark
+    public AsyncHttpEndpointProcessor hashMapLookup() {
+        HttpEndpoint httpEndpoint = new HttpEndpoint(new QueryStringDecoder(uri).path(), HttpMethod.GET);
+        return endpointProcessors.containsKey(httpEndpoint) ? endpointProcessors.get(httpEndpoint) : null;
+    }
+
+    @Benchmark
+    public HttpRoute trieRouter() {
+        return router.route(HttpMethod.GET, uri);
+    }
+}
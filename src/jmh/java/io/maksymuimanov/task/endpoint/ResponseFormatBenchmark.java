@@ -0,0 +1,68 @@
+package io.maksymuimanov.task.endpoint;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.maksymuimanov.task.dto.DashboardResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares payload size and serialization time of the negotiable response formats on a
+ * representative dashboard, plus the cost of negotiating an {@code Accept} header with and
+ * without the per-value cache of {@link NegotiatingHttpResponseSender}.
+ * <p>
+ * Run with {@code ./gradlew jmh}. Payload sizes are deterministic, so they are not measured here:
+ * {@code JacksonHttpResponseSenderTests} checks that the binary formats are smaller than JSON, and
+ * the sizes for this dashboard are listed in the README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseFormatBenchmark {
+    static final String WEATHER_JSON = """
+            {"latitude":51.1,"longitude":17.039999,"generationtime_ms":0.0324249267578125,"utc_offset_seconds":0,
+            "timezone":"GMT","timezone_abbreviation":"GMT","elevation":120.0,
+            "current_weather_units":{"time":"iso8601","interval":"seconds","temperature":"°C","windspeed":"km/h",
+            "winddirection":"°","is_day":"","weathercode":"wmo code"},
+            "current_weather":{"time":"2025-11-05T12:00","interval":900,"temperature":11.4,"windspeed":9.7,
+            "winddirection":238,"is_day":1,"weathercode":3}}""";
+    static final String FACT_JSON = """
+            {"id":"0f2c1e8a4d3b4a0c9e7f6d5c4b3a2918","text":"The average person spends six months of their lifetime waiting for red lights to turn green.",
+            "source":"djtech.net","source_url":"http://www.djtech.net/humor/useless_facts.htm","language":"en",
+            "permalink":"https://uselessfacts.jsph.pl/api/v2/facts/0f2c1e8a4d3b4a0c9e7f6d5c4b3a2918"}""";
+    static final String IP_JSON = """
+            {"ip":"203.0.113.42"}""";
+    static final String ACCEPT = "text/html, application/xhtml+xml;q=0.9, application/cbor;q=0.95, */*;q=0.8";
+
+    @Param({"JSON", "CBOR", "SMILE", "MESSAGE_PACK"})
+    public String format;
+    private HttpResponseSender sender;
+    private NegotiatingHttpResponseSender negotiatingSender;
+    private DashboardResponse value;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        value = new DashboardResponse(objectMapper.readTree(WEATHER_JSON), objectMapper.readTree(FACT_JSON), objectMapper.readTree(IP_JSON));
+        sender = new JacksonHttpResponseSender(objectMapper, ResponseFormat.valueOf(format));
+        negotiatingSender = new NegotiatingHttpResponseSender(objectMapper);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return sender.serialize(value);
+    }
+
+    @Benchmark
+    public ResponseFormat negotiateUncached() {
+        return ResponseFormat.negotiate(ACCEPT);
+    }
+
+    @Benchmark
+    public HttpResponseSender negotiateCached() {
+        return negotiatingSender.negotiate(ACCEPT);
+    }
+}
@@ -11,6 +11,9 @@ import java.util.concurrent.CompletableFuture;
  * Implementations are expected to orchestrate several non-blocking API calls using
  * {@link CompletableFuture}, combining their results once all are complete.
  * This abstraction enables concurrent data retrieval across distributed services.
+ * <p>
+ * A {@link CancellationToken} lets the caller abort the underlying calls once it no longer
+ * needs the result, e.g. because its client disconnected.
  *
  * @param <T> the type of aggregated result returned after all asynchronous operations complete
  *
@@ -26,5 +29,17 @@ public interface AsyncApiAggregator<T> {
      * @return a {@link CompletableFuture} producing the final aggregated result
      */
     @NonNull
-    CompletableFuture<T> aggregate();
+    default CompletableFuture<T> aggregate() {
+        return this.aggregate(CancellationToken.NONE);
+    }
+
+    /**
+     * Asynchronously aggregates data from multiple APIs or data providers, aborting the
+     * underlying calls when the token is cancelled.
+     *
+     * @param cancellationToken signals that the result is no longer needed
+     * @return a {@link CompletableFuture} producing the final aggregated result
+     */
+    @NonNull
+    CompletableFuture<T> aggregate(@NonNull CancellationToken cancellationToken);
 }
\ No newline at end of file
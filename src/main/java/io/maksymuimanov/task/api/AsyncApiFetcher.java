@@ -11,6 +11,9 @@ import java.util.concurrent.CompletableFuture;
  * HTTP requests and returning results wrapped in {@link CompletableFuture}.
  * The interface abstracts away the underlying HTTP client and deserialization logic,
  * allowing different response formats (e.g., JSON, XML) or fetching strategies.
+ * <p>
+ * Fetches can be tied to a {@link CancellationToken}, which aborts them once the caller no
+ * longer needs the result.
  *
  * @param <T> the type of the fetched and deserialized response (e.g., {@code JsonNode})
  *
@@ -28,5 +31,17 @@ public interface AsyncApiFetcher<T> {
      * @return a {@link CompletableFuture} that will complete with the fetched result
      */
     @NonNull
-    CompletableFuture<T> fetch(@NonNull String url);
+    default CompletableFuture<T> fetch(@NonNull String url) {
+        return this.fetch(url, CancellationToken.NONE);
+    }
+
+    /**
+     * Asynchronously fetches data from the specified URL, aborting the request when the token is cancelled.
+     *
+     * @param url the target API URL to fetch data from
+     * @param cancellationToken signals that the result is no longer needed
+     * @return a {@link CompletableFuture} that will complete with the fetched result, or fail if cancelled
+     */
+    @NonNull
+    CompletableFuture<T> fetch(@NonNull String url, @NonNull CancellationToken cancellationToken);
 }
@@ -16,6 +16,9 @@ import java.util.concurrent.CompletableFuture;
  * <p>
  * Typical implementations (e.g., {@link RetryableAsyncApiRequestSender})
  * ensure resilience when communicating with unreliable third-party services.
+ * <p>
+ * A {@link CancellationToken} aborts the in-flight exchange and any pending retry once the
+ * caller no longer needs the response.
  *
  * @param <T> the type of the HTTP response body
  *
@@ -35,5 +38,19 @@ public interface AsyncApiRequestSender<T> {
      * @return a {@link CompletableFuture} representing the pending result of the HTTP call
      */
     @NonNull
-    CompletableFuture<HttpResponse<T>> send(@NonNull HttpClient httpClient, @NonNull HttpRequest request, HttpResponse.@NonNull BodyHandler<T> handler);
+    default CompletableFuture<HttpResponse<T>> send(@NonNull HttpClient httpClient, @NonNull HttpRequest request, HttpResponse.@NonNull BodyHandler<T> handler) {
+        return this.send(httpClient, request, handler, CancellationToken.NONE);
+    }
+
+    /**
+     * Sends an asynchronous HTTP request, aborting it when the token is cancelled.
+     *
+     * @param httpClient the client instance used to send the request
+     * @param request the HTTP request to send
+     * @param handler the response body handler determining how to process the response body
+     * @param cancellationToken signals that the response is no longer needed
+     * @return a {@link CompletableFuture} representing the pending result of the HTTP call, failing if cancelled
+     */
+    @NonNull
+    CompletableFuture<HttpResponse<T>> send(@NonNull HttpClient httpClient, @NonNull HttpRequest request, HttpResponse.@NonNull BodyHandler<T> handler, @NonNull CancellationToken cancellationToken);
 }
\ No newline at end of file
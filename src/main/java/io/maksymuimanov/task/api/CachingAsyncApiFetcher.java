@@ -0,0 +1,77 @@
+package io.maksymuimanov.task.api;
+
+import io.maksymuimanov.task.cache.AsyncCacheManager;
+import io.maksymuimanov.task.exception.ApiFetchingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decorates an {@link AsyncApiFetcher} with per-source caching driven by TTL policies.
+ * <p>
+ * Each source URL is mapped to its own time-to-live reflecting how often the upstream data
+ * actually changes. Stable sources (e.g., the public IP) are served from the cache for long
+ * periods, volatile sources are refreshed on their own cadence, and sources without a positive
+ * TTL (e.g., random facts) are always fetched directly.
+ * <p>
+ * Misses are resolved through {@link AsyncCacheManager#getOrCompute(String, Class, Duration, java.util.function.Supplier)},
+ * so when a cached source expires only one caller in the fleet refetches it while the others
+ * wait for the new value or are served the previous one. Cache failures never fail the fetch:
+ * a broken cache read falls through to the delegate, and a failed cache write is ignored.
+ * <p>
+ * Since other callers may be waiting for a cached source's computation, it is never tied to the
+ * caller's {@link CancellationToken}; only direct fetches of uncached sources are aborted with it.
+ *
+ * @param <T> the type of the fetched and cached response
+ *
+ * @see AsyncApiFetcher
+ * @see AsyncCacheManager
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CachingAsyncApiFetcher<T> implements AsyncApiFetcher<T> {
+    /** Prefix prepended to source URLs to build their cache keys. */
+    public static final String API_CACHE_KEY_PREFIX = "api:";
+    @NonNull
+    private final AsyncApiFetcher<T> delegate;
+    @NonNull
+    private final AsyncCacheManager cacheManager;
+    @NonNull
+    private final Class<T> type;
+    @NonNull
+    private final Map<String, Duration> ttlPolicies;
+
+    /**
+     * Fetches the given URL, serving it from the cache when the source has a positive TTL policy.
+     * <p>
+     * On a cache miss the delegate is invoked under the cache's stampede protection and its
+     * result is cached with the source TTL.
+     *
+     * @param url the target API URL
+     * @param cancellationToken aborts the fetch of an uncached source when cancelled
+     * @return a {@link CompletableFuture} containing the cached or freshly fetched response
+     * @throws ApiFetchingException if a synchronous setup or submission fails
+     */
+    @Override
+    @NonNull
+    public CompletableFuture<T> fetch(@NonNull String url, @NonNull CancellationToken cancellationToken) {
+        try {
+            Duration ttl = ttlPolicies.getOrDefault(url, Duration.ZERO);
+            if (!ttl.isPositive()) {
+                return delegate.fetch(url, cancellationToken);
+            }
+            String key = API_CACHE_KEY_PREFIX + url;
+            return cacheManager.getOrCompute(key, type, ttl, () -> {
+                log.debug("Fetching source for cache: url={}, ttl={}ms", url, ttl.toMillis());
+                return delegate.fetch(url, CancellationToken.NONE);
+            });
+        } catch (Exception e) {
+            log.error("Failed to fetch cached external API: url={}", url, e);
+            return CompletableFuture.failedFuture(new ApiFetchingException(e));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.maksymuimanov.task.api;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Signals that the caller of an asynchronous API operation no longer needs its result.
+ * <p>
+ * A token is created per request and cancelled once, typically when the client disconnects.
+ * Aggregators and fetchers pass it down to the request sender, which aborts in-flight HTTP
+ * exchanges and pending retries on cancellation. Work whose result may be shared with other
+ * callers, such as a cache computation other requests are waiting for, must not be tied to a
+ * caller's token and is started with {@link #NONE} instead.
+ *
+ * @see AsyncApiAggregator
+ * @see AsyncApiFetcher
+ * @see RetryableAsyncApiRequestSender
+ */
+public final class CancellationToken {
+    /** Token that is never cancelled, for work that no single caller owns. */
+    public static final CancellationToken NONE = new CancellationToken(false);
+    private final CompletableFuture<Void> cancellation = new CompletableFuture<>();
+    private final boolean cancellable;
+
+    /**
+     * Creates a token that has not been cancelled yet.
+     */
+    public CancellationToken() {
+        this(true);
+    }
+
+    /**
+     * Creates a token.
+     *
+     * @param cancellable whether {@link #cancel()} has any effect
+     */
+    private CancellationToken(boolean cancellable) {
+        this.cancellable = cancellable;
+    }
+
+    /**
+     * Cancels the token and runs the registered actions on the calling thread.
+     *
+     * @return {@code true} if this call cancelled the token
+     */
+    public boolean cancel() {
+        return cancellable && cancellation.complete(null);
+    }
+
+    /**
+     * Checks whether the token has been cancelled.
+     *
+     * @return {@code true} if the result is no longer needed
+     */
+    public boolean isCancelled() {
+        return cancellation.isDone();
+    }
+
+    /**
+     * Registers an action to run on cancellation, immediately if the token is already cancelled.
+     *
+     * @param action the action, e.g. cancelling an in-flight future
+     */
+    public void onCancel(@NonNull Runnable action) {
+        if (cancellable) cancellation.thenRun(action);
+    }
+}
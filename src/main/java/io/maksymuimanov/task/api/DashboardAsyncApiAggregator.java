@@ -3,10 +3,17 @@ package io.maksymuimanov.task.api;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.maksymuimanov.task.dto.DashboardResponse;
 import io.maksymuimanov.task.exception.ApiAggregationException;
+import io.maksymuimanov.task.util.ConfigUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -16,44 +23,96 @@ import java.util.concurrent.CompletableFuture;
  * {@link AsyncApiFetcher}, then combines the results into a single {@link DashboardResponse}.
  * Designed for non-blocking execution with {@link CompletableFuture} to ensure efficient
  * parallel I/O operations.
+ * <p>
+ * The individual fetches are also available as named sections through {@link #aggregateSections()},
+ * so a response can be streamed section by section as each source answers. Callers can request a
+ * subset of the sections, in which case only those sources are fetched.
  *
  * @see AsyncApiFetcher
  * @see AsyncApiAggregator
+ * @see SectionedAsyncApiAggregator
  */
 @Slf4j
 @RequiredArgsConstructor
-public class DashboardAsyncApiAggregator implements AsyncApiAggregator<DashboardResponse> {
+public class DashboardAsyncApiAggregator implements SectionedAsyncApiAggregator<DashboardResponse, JsonNode> {
     /** Public weather API providing current conditions for a predefined location. */
     public static final String WEATHER_API_URL = "https://api.open-meteo.com/v1/forecast?latitude=51.107883&longitude=17.038538&current_weather=true";
     /** Public API returning a random useless fact. */
     public static final String FACTS_API_URL = "https://uselessfacts.jsph.pl/api/v2/facts/random";
     /** Public API returning the current external IP address in JSON format. */
     public static final String IP_API_URL = "https://api.ipify.org/?format=json";
+    /** Name of the weather section, matching {@link DashboardResponse#weather()}. */
+    public static final String WEATHER_SECTION = "weather";
+    /** Name of the fact section, matching {@link DashboardResponse#fact()}. */
+    public static final String FACT_SECTION = "fact";
+    /** Name of the IP section, matching {@link DashboardResponse#ip()}. */
+    public static final String IP_SECTION = "ip";
+    /** Names of all dashboard sections, in {@link DashboardResponse} order. */
+    public static final List<String> SECTION_NAMES = List.of(WEATHER_SECTION, FACT_SECTION, IP_SECTION);
+    /** Source API URL of each dashboard section. */
+    public static final Map<String, String> SECTION_API_URLS = Map.of(
+            WEATHER_SECTION, WEATHER_API_URL,
+            FACT_SECTION, FACTS_API_URL,
+            IP_SECTION, IP_API_URL
+    );
+    /** System property key defining how long (in milliseconds) weather responses are cached. */
+    public static final String WEATHER_CACHE_TTL_PROPERTY = "api.weather.cache.ttl";
+    /** System property key defining how long (in milliseconds) fact responses are cached. */
+    public static final String FACTS_CACHE_TTL_PROPERTY = "api.facts.cache.ttl";
+    /** System property key defining how long (in milliseconds) IP responses are cached. */
+    public static final String IP_CACHE_TTL_PROPERTY = "api.ip.cache.ttl";
+    /** Default weather cache TTL, matching the roughly 15-minute update cadence of open-meteo current conditions. */
+    public static final Duration DEFAULT_WEATHER_CACHE_TTL = ConfigUtils.getOrDefault(WEATHER_CACHE_TTL_PROPERTY, Duration.ofMinutes(10));
+    /** Default fact cache TTL; facts are random per call, so they are not cached. */
+    public static final Duration DEFAULT_FACTS_CACHE_TTL = ConfigUtils.getOrDefault(FACTS_CACHE_TTL_PROPERTY, Duration.ZERO);
+    /** Default IP cache TTL; the public IP address of the service rarely changes. */
+    public static final Duration DEFAULT_IP_CACHE_TTL = ConfigUtils.getOrDefault(IP_CACHE_TTL_PROPERTY, Duration.ofHours(1));
+    /** Per-source cache TTL policies keyed by API URL, driven by the volatility of each source. */
+    public static final Map<String, Duration> DEFAULT_CACHE_TTL_POLICIES = Map.of(
+            WEATHER_API_URL, DEFAULT_WEATHER_CACHE_TTL,
+            FACTS_API_URL, DEFAULT_FACTS_CACHE_TTL,
+            IP_API_URL, DEFAULT_IP_CACHE_TTL
+    );
     @NonNull
     private final AsyncApiFetcher<JsonNode> asyncApiFetcher;
 
     /**
-     * Concurrently fetches weather, fact, and IP data, then aggregates them
+     * Returns the dashboard section names.
+     *
+     * @return {@link #SECTION_NAMES}
+     */
+    @Override
+    @NonNull
+    public List<String> getSectionNames() {
+        return SECTION_NAMES;
+    }
+
+    /**
+     * Concurrently fetches the requested weather, fact, and IP data, then aggregates them
      * into a single {@link DashboardResponse}.
      * <p>
      * All network calls are executed asynchronously using {@link CompletableFuture#allOf},
-     * and the combined result is produced once all fetch operations complete.
+     * and the combined result is produced once all fetch operations complete. Sections that
+     * were not requested are not fetched and are {@code null} in the response.
      * If any request fails, the exception is logged and propagated as an
-     * {@link ApiAggregationException}.
+     * {@link ApiAggregationException}. Cancelling the token aborts the pending fetches, which fails the aggregation.
      *
+     * @param sections names of the sections to fetch
+     * @param cancellationToken aborts the fetches when cancelled
      * @return a {@link CompletableFuture} that completes with the aggregated dashboard data
      * @throws ApiAggregationException if a synchronous setup or submission fails
      */
     @Override
     @NonNull
-    public CompletableFuture<DashboardResponse> aggregate() {
+    public CompletableFuture<DashboardResponse> aggregate(@NonNull Set<String> sections, @NonNull CancellationToken cancellationToken) {
         try {
-            log.info("Starting dashboard aggregation");
-            CompletableFuture<JsonNode> weatherResponse = asyncApiFetcher.fetch(WEATHER_API_URL);
-            CompletableFuture<JsonNode> factResponse = asyncApiFetcher.fetch(FACTS_API_URL);
-            CompletableFuture<JsonNode> ipResponse = asyncApiFetcher.fetch(IP_API_URL);
-            return CompletableFuture.allOf(weatherResponse, ipResponse, factResponse)
-                    .thenApply(v -> new DashboardResponse(weatherResponse.join(), factResponse.join(), ipResponse.join()))
+            log.info("Starting dashboard aggregation: sections={}", sections);
+            Map<String, CompletableFuture<JsonNode>> responses = this.aggregateSections(sections, cancellationToken);
+            return CompletableFuture.allOf(responses.values().toArray(CompletableFuture[]::new))
+                    .thenApply(v -> new DashboardResponse(
+                            this.joinSection(responses, WEATHER_SECTION),
+                            this.joinSection(responses, FACT_SECTION),
+                            this.joinSection(responses, IP_SECTION)))
                     .whenComplete((r, ex) -> {
                         if (ex != null) {
                             log.error("Dashboard aggregation failed", ex);
@@ -66,4 +125,38 @@ public class DashboardAsyncApiAggregator implements AsyncApiAggregator<Dashboard
             return CompletableFuture.failedFuture(new ApiAggregationException(e));
         }
     }
+
+    /**
+     * Concurrently starts fetching the requested weather, fact, and IP data without combining them.
+     *
+     * @param sections names of the sections to fetch
+     * @param cancellationToken aborts the fetches when cancelled
+     * @return the requested fetches by section name, in {@link DashboardResponse} order
+     * @throws IllegalArgumentException if a section name is unknown
+     */
+    @Override
+    @NonNull
+    public Map<String, CompletableFuture<JsonNode>> aggregateSections(@NonNull Set<String> sections, @NonNull CancellationToken cancellationToken) {
+        if (!SECTION_API_URLS.keySet().containsAll(sections)) {
+            throw new IllegalArgumentException("Unknown dashboard sections: " + sections);
+        }
+        Map<String, CompletableFuture<JsonNode>> responses = new LinkedHashMap<>();
+        for (String section : SECTION_NAMES) {
+            if (sections.contains(section)) responses.put(section, asyncApiFetcher.fetch(SECTION_API_URLS.get(section), cancellationToken));
+        }
+        return responses;
+    }
+
+    /**
+     * Returns the result of a completed section fetch, or {@code null} if the section was not requested.
+     *
+     * @param responses the requested fetches
+     * @param section the section name
+     * @return the section, or {@code null}
+     */
+    @Nullable
+    private JsonNode joinSection(Map<String, CompletableFuture<JsonNode>> responses, String section) {
+        CompletableFuture<JsonNode> response = responses.get(section);
+        return response != null ? response.join() : null;
+    }
 }
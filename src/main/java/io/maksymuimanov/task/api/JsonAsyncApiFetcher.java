@@ -84,12 +84,13 @@ public class JsonAsyncApiFetcher implements AsyncApiFetcher<JsonNode> {
      * external response is available and successfully parsed.
      *
      * @param url the target API URL
+     * @param cancellationToken aborts the request when cancelled
      * @return a {@link CompletableFuture} containing the parsed {@link JsonNode} response
      * @throws ApiFetchingException if the API call or JSON parsing fails
      */
     @Override
     @NonNull
-    public CompletableFuture<JsonNode> fetch(@NonNull String url) {
+    public CompletableFuture<JsonNode> fetch(@NonNull String url, @NonNull CancellationToken cancellationToken) {
         try {
             URI uri = URI.create(url);
             HttpRequest httpRequest = HttpRequest.newBuilder(uri)
@@ -98,7 +99,7 @@ public class JsonAsyncApiFetcher implements AsyncApiFetcher<JsonNode> {
                     .build();
             log.info("Fetching external API: uri={}", uri);
             HttpResponse.BodyHandler<String> stringBodyHandler = HttpResponse.BodyHandlers.ofString();
-            return requestSender.send(httpClient, httpRequest, stringBodyHandler)
+            return requestSender.send(httpClient, httpRequest, stringBodyHandler, cancellationToken)
                     .thenApply(HttpResponse::body)
                     .thenApply(this::parseJson);
         } catch (Exception e) {
@@ -11,6 +11,7 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -24,6 +25,8 @@ import java.util.concurrent.TimeUnit;
  * with external services such as weather, fact, or IP providers.
  * <p>
  * Retries are scheduled with a configurable delay using a {@link CompletableFuture} delayed executor.
+ * A {@link CancellationToken} aborts the in-flight exchange or the pending retry once the caller
+ * no longer needs the response.
  *
  * @see AsyncApiRequestSender
  * @see HttpClient
@@ -58,40 +61,51 @@ public class RetryableAsyncApiRequestSender implements AsyncApiRequestSender<Str
      * Sends an asynchronous HTTP request with automatic retry handling.
      * <p>
      * On failure or non-2xx status codes, retries are triggered up to the configured limit.
+     * Cancelling the token aborts the in-flight exchange or the pending retry and stops retrying.
      *
      * @param httpClient the {@link HttpClient} used for asynchronous requests
      * @param request the HTTP request to be sent
      * @param handler the response body handler
+     * @param cancellationToken aborts the request when cancelled
      * @return a {@link CompletableFuture} that completes with the HTTP response or fails after all retries
      * @throws ApiRequestSendingException if all retries are exhausted and the request still fails
+     * @throws CancellationException if the request is cancelled
      */
     @Override
     @NonNull
-    public CompletableFuture<HttpResponse<String>> send(@NonNull HttpClient httpClient, @NonNull HttpRequest request, HttpResponse.@NonNull BodyHandler<String> handler) {
+    public CompletableFuture<HttpResponse<String>> send(@NonNull HttpClient httpClient, @NonNull HttpRequest request, HttpResponse.@NonNull BodyHandler<String> handler, @NonNull CancellationToken cancellationToken) {
         URI uri = request.uri();
         log.debug("Sending HTTP request: method={}, uri={}", request.method(), uri);
-        return send(httpClient, request, handler, retryCount);
+        return send(httpClient, request, handler, cancellationToken, retryCount);
     }
 
     /**
      * Performs a recursive asynchronous send operation with retry support.
      * <p>
-     * Retries are attempted for both connection errors and non-successful HTTP status codes.
+     * Retries are attempted for both connection errors and non-successful HTTP status codes,
+     * unless the request has been cancelled. Cancellation cancels the exchange future, which
+     * makes {@link HttpClient} abort the exchange.
      *
      * @param httpClient the client to send requests
      * @param request the HTTP request to send
      * @param handler the response body handler
+     * @param cancellationToken aborts the request when cancelled
      * @param retriesLeft number of remaining retry attempts
      * @return a {@link CompletableFuture} that completes with a successful response or fails after retries
      */
     @NonNull
-    private CompletableFuture<HttpResponse<String>> send(@NonNull HttpClient httpClient, @NonNull HttpRequest request, HttpResponse.@NonNull BodyHandler<String> handler, int retriesLeft) {
+    private CompletableFuture<HttpResponse<String>> send(@NonNull HttpClient httpClient, @NonNull HttpRequest request, HttpResponse.@NonNull BodyHandler<String> handler, @NonNull CancellationToken cancellationToken, int retriesLeft) {
         try {
-            return httpClient.sendAsync(request, handler)
+            if (cancellationToken.isCancelled()) return this.cancelled(request);
+            CompletableFuture<HttpResponse<String>> exchange = httpClient.sendAsync(request, handler);
+            cancellationToken.onCancel(() -> exchange.cancel(true));
+            return exchange
                     .exceptionallyCompose(ex -> {
-                        if (retriesLeft > 0) {
+                        if (cancellationToken.isCancelled()) {
+                            return this.cancelled(request);
+                        } else if (retriesLeft > 0) {
                             log.warn("Request to {} error: {}, retrying... ({} left)", request.uri(), ex.getMessage(), retriesLeft);
-                            return retry(httpClient, request, handler, retriesLeft);
+                            return retry(httpClient, request, handler, cancellationToken, retriesLeft);
                         }
                         log.error("Request to {} failed with error after retries", request.uri(), ex);
                         return CompletableFuture.failedFuture(new ApiRequestSendingException("Request failed with error: " + ex.getMessage()));
@@ -101,9 +115,11 @@ public class RetryableAsyncApiRequestSender implements AsyncApiRequestSender<Str
                         if (code >= HTTP_OK_STATUS && code < HTTP_SUCCESS_CODE_LIMIT) {
                             log.info("Received successful response: uri={}, status={}", request.uri(), code);
                             return CompletableFuture.completedFuture(response);
+                        } else if (cancellationToken.isCancelled()) {
+                            return this.cancelled(request);
                         } else if (retriesLeft > 0) {
                             log.warn("Request to {} failed (status={}), retrying... ({} left)", request.uri(), code, retriesLeft);
-                            return retry(httpClient, request, handler, retriesLeft);
+                            return retry(httpClient, request, handler, cancellationToken, retriesLeft);
                         } else {
                             log.error("Request to {} failed with status={} after retries", request.uri(), code);
                             return CompletableFuture.failedFuture(new ApiRequestSendingException("Request failed with status code: " + code));
@@ -118,17 +134,35 @@ public class RetryableAsyncApiRequestSender implements AsyncApiRequestSender<Str
      * Executes a delayed retry for a failed or unsuccessful request.
      * <p>
      * This method schedules the next retry asynchronously using {@link CompletableFuture#delayedExecutor}.
+     * Cancelling the token ends the delay at once, so a cancelled request never waits for its retry.
      *
      * @param httpClient the client to send the next retry
      * @param request the request to retry
      * @param handler the response handler
+     * @param cancellationToken aborts the retry when cancelled
      * @param retriesLeft remaining retry attempts
      * @return a {@link CompletableFuture} chaining to the next retry attempt
      */
     @NonNull
-    private CompletableFuture<HttpResponse<String>> retry(@NonNull HttpClient httpClient, @NonNull HttpRequest request, HttpResponse.@NonNull BodyHandler<String> handler, int retriesLeft) {
+    private CompletableFuture<HttpResponse<String>> retry(@NonNull HttpClient httpClient, @NonNull HttpRequest request, HttpResponse.@NonNull BodyHandler<String> handler, @NonNull CancellationToken cancellationToken, int retriesLeft) {
         Executor delayedExecutor = CompletableFuture.delayedExecutor(retryDelay.toMillis(), TimeUnit.MILLISECONDS);
-        return CompletableFuture.supplyAsync(() -> null, delayedExecutor)
-                .thenCompose(v -> send(httpClient, request, handler, retriesLeft - 1));
+        CompletableFuture<Void> delay = CompletableFuture.runAsync(() -> {}, delayedExecutor);
+        cancellationToken.onCancel(() -> delay.cancel(false));
+        return delay
+                .exceptionallyCompose(ex -> this.cancelled(request))
+                .thenCompose(v -> send(httpClient, request, handler, cancellationToken, retriesLeft - 1));
+    }
+
+    /**
+     * Creates the result of a cancelled request.
+     *
+     * @param request the cancelled request
+     * @param <R> the type of the result
+     * @return a future failed with a {@link CancellationException}
+     */
+    @NonNull
+    private <R> CompletableFuture<R> cancelled(@NonNull HttpRequest request) {
+        log.info("Request to {} cancelled", request.uri());
+        return CompletableFuture.failedFuture(new CancellationException("Request cancelled: " + request.uri()));
     }
 }
@@ -0,0 +1,96 @@
+package io.maksymuimanov.task.api;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link AsyncApiAggregator} whose result is made of independently fetched, named sections.
+ * <p>
+ * Exposing the section futures before they are combined lets callers act on each section as
+ * soon as it completes, e.g. to stream it to the client, instead of waiting for the slowest one.
+ * Callers that need only some sections can also request just those, so the other sources are
+ * never fetched.
+ *
+ * @param <T> the type of aggregated result returned after all asynchronous operations complete
+ * @param <S> the type of a single section
+ *
+ * @see DashboardAsyncApiAggregator
+ */
+public interface SectionedAsyncApiAggregator<T, S> extends AsyncApiAggregator<T> {
+    /**
+     * Returns the names of all sections, in the order of the aggregated result.
+     *
+     * @return the section names
+     */
+    @NonNull
+    List<String> getSectionNames();
+
+    /**
+     * Asynchronously aggregates only the given sections; the others are left out of the result.
+     *
+     * @param sections names of the sections to fetch
+     * @return a {@link CompletableFuture} producing the aggregated result
+     */
+    @NonNull
+    default CompletableFuture<T> aggregate(@NonNull Set<String> sections) {
+        return this.aggregate(sections, CancellationToken.NONE);
+    }
+
+    /**
+     * Asynchronously aggregates only the given sections, aborting their fetches when the token is cancelled.
+     *
+     * @param sections names of the sections to fetch
+     * @param cancellationToken signals that the result is no longer needed
+     * @return a {@link CompletableFuture} producing the aggregated result
+     */
+    @NonNull
+    CompletableFuture<T> aggregate(@NonNull Set<String> sections, @NonNull CancellationToken cancellationToken);
+
+    /**
+     * Asynchronously starts fetching only the given sections.
+     *
+     * @param sections names of the sections to fetch
+     * @return futures of the requested sections by section name, in the order of the aggregated result
+     */
+    @NonNull
+    default Map<String, CompletableFuture<S>> aggregateSections(@NonNull Set<String> sections) {
+        return this.aggregateSections(sections, CancellationToken.NONE);
+    }
+
+    /**
+     * Asynchronously starts fetching only the given sections, aborting them when the token is cancelled.
+     *
+     * @param sections names of the sections to fetch
+     * @param cancellationToken signals that the sections are no longer needed
+     * @return futures of the requested sections by section name, in the order of the aggregated result
+     */
+    @NonNull
+    Map<String, CompletableFuture<S>> aggregateSections(@NonNull Set<String> sections, @NonNull CancellationToken cancellationToken);
+
+    /**
+     * Asynchronously aggregates every section, aborting their fetches when the token is cancelled.
+     *
+     * @param cancellationToken signals that the result is no longer needed
+     * @return a {@link CompletableFuture} producing the aggregated result
+     */
+    @Override
+    @NonNull
+    default CompletableFuture<T> aggregate(@NonNull CancellationToken cancellationToken) {
+        return this.aggregate(new LinkedHashSet<>(this.getSectionNames()), cancellationToken);
+    }
+
+    /**
+     * Asynchronously starts fetching every section of the result.
+     *
+     * @return futures of the sections by section name, in the order of the aggregated result
+     */
+    @NonNull
+    default Map<String, CompletableFuture<S>> aggregateSections() {
+        return this.aggregateSections(new LinkedHashSet<>(this.getSectionNames()));
+    }
+}
@@ -4,14 +4,22 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.maksymuimanov.task.api.*;
 import io.maksymuimanov.task.cache.AsyncCacheManager;
+import io.maksymuimanov.task.cache.CacheType;
+import io.maksymuimanov.task.cache.CircuitBreakerAsyncCacheManager;
+import io.maksymuimanov.task.cache.InMemoryAsyncCacheManager;
+import io.maksymuimanov.task.cache.MappedSnapshotAsyncCacheManager;
+import io.maksymuimanov.task.cache.OffHeapAsyncCacheManager;
+import io.maksymuimanov.task.cache.ReconnectingAsyncCacheManager;
 import io.maksymuimanov.task.cache.RedisAsyncCacheManager;
-import io.maksymuimanov.task.dto.DashboardResponse;
+import io.maksymuimanov.task.cache.TieredAsyncCacheManager;
+import io.maksymuimanov.task.cache.WriteBehindAsyncCacheManager;
 import io.maksymuimanov.task.dto.HttpEndpoint;
 import io.maksymuimanov.task.endpoint.*;
 import io.maksymuimanov.task.server.HttpServerEndpointChannelInboundHandler;
 import io.maksymuimanov.task.server.HttpSocketChannelInitializer;
 import io.maksymuimanov.task.server.NettyServer;
 import io.maksymuimanov.task.server.SimpleNettyServer;
+import io.maksymuimanov.task.util.ConfigUtils;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.SocketChannel;
 import lombok.extern.slf4j.Slf4j;
@@ -29,12 +37,22 @@ import java.util.Map;
  *
  * @see NettyApplication
  * @see ObjectMapper
+ * @see InMemoryAsyncCacheManager
  * @see RedisAsyncCacheManager
+ * @see CircuitBreakerAsyncCacheManager
+ * @see ReconnectingAsyncCacheManager
+ * @see TieredAsyncCacheManager
+ * @see WriteBehindAsyncCacheManager
+ * @see MappedSnapshotAsyncCacheManager
+ * @see OffHeapAsyncCacheManager
  * @see RetryableAsyncApiRequestSender
  * @see JsonAsyncApiFetcher
+ * @see CachingAsyncApiFetcher
  * @see DashboardAsyncApiAggregator
- * @see JsonHttpResponseSender
+ * @see NegotiatingHttpResponseSender
  * @see DashboardGetAsyncHttpEndpointProcessor
+ * @see ChunkedDashboardGetAsyncHttpEndpointProcessor
+ * @see DashboardStreamGetAsyncHttpEndpointProcessor
  * @see SimpleHttpEndpointDirector
  * @see HttpServerEndpointChannelInboundHandler
  * @see HttpSocketChannelInitializer
@@ -42,6 +60,15 @@ import java.util.Map;
  */
 @Slf4j
 public class SimpleNettyApplication implements NettyApplication {
+    /** System property key defining which cache stack the application runs with. */
+    public static final String CACHE_TYPE_PROPERTY = "cache.type";
+    /** Default cache stack. */
+    public static final CacheType DEFAULT_CACHE_TYPE = ConfigUtils.getOrDefault(CACHE_TYPE_PROPERTY, CacheType.REDIS);
+    /** System property key enabling progressive chunked streaming of the dashboard. */
+    public static final String DASHBOARD_STREAMING_PROPERTY = "dashboard.streaming.enabled";
+    /** Whether the dashboard is streamed section by section instead of sent once fully aggregated. */
+    public static final boolean DEFAULT_DASHBOARD_STREAMING = ConfigUtils.getOrDefault(DASHBOARD_STREAMING_PROPERTY, false);
+
     /**
      * Initializes all infrastructure components (Redis cache manager,
      * async API fetcher, retryable HTTP sender, endpoint processors, Netty
@@ -58,8 +85,7 @@ public class SimpleNettyApplication implements NettyApplication {
         log.debug("Initializing ObjectMapper");
         ObjectMapper objectMapper = new ObjectMapper();
 
-        log.debug("Initializing RedisAsyncCacheManager");
-        AsyncCacheManager cacheManager = new RedisAsyncCacheManager(objectMapper);
+        AsyncCacheManager cacheManager = this.createCacheManager(objectMapper);
 
         log.debug("Initializing RetryableAsyncApiRequestSender");
         AsyncApiRequestSender<String> apiRequestSender = new RetryableAsyncApiRequestSender();
@@ -67,17 +93,27 @@ public class SimpleNettyApplication implements NettyApplication {
         log.debug("Initializing JsonAsyncApiFetcher");
         AsyncApiFetcher<JsonNode> jsonApiFetcher = new JsonAsyncApiFetcher(objectMapper, apiRequestSender);
 
+        log.debug("Initializing CachingAsyncApiFetcher");
+        AsyncApiFetcher<JsonNode> cachingApiFetcher = new CachingAsyncApiFetcher<>(jsonApiFetcher, cacheManager, JsonNode.class, DashboardAsyncApiAggregator.DEFAULT_CACHE_TTL_POLICIES);
+
         log.debug("Initializing DashboardAsyncApiAggregator");
-        AsyncApiAggregator<DashboardResponse> dashboardApiAggregator = new DashboardAsyncApiAggregator(jsonApiFetcher);
+        DashboardAsyncApiAggregator dashboardApiAggregator = new DashboardAsyncApiAggregator(cachingApiFetcher);
 
-        log.debug("Initializing JsonHttpResponseSender");
-        HttpResponseSender responseSender = new JsonHttpResponseSender(objectMapper);
+        log.debug("Initializing NegotiatingHttpResponseSender");
+        HttpResponseSender responseSender = new NegotiatingHttpResponseSender(objectMapper);
 
-        log.debug("Initializing DashboardGetAsyncHttpEndpointProcessor");
-        AsyncHttpEndpointProcessor dashboardGetEndpointProcessor = new DashboardGetAsyncHttpEndpointProcessor(cacheManager, dashboardApiAggregator);
+        log.debug("Initializing dashboard endpoint processor (streaming={})", DEFAULT_DASHBOARD_STREAMING);
+        AsyncHttpEndpointProcessor dashboardGetEndpointProcessor = DEFAULT_DASHBOARD_STREAMING
+                ? new ChunkedDashboardGetAsyncHttpEndpointProcessor(dashboardApiAggregator)
+                : new DashboardGetAsyncHttpEndpointProcessor(cacheManager, dashboardApiAggregator);
+
+        log.debug("Initializing DashboardStreamGetAsyncHttpEndpointProcessor");
+        DashboardStreamGetAsyncHttpEndpointProcessor dashboardStreamEndpointProcessor = new DashboardStreamGetAsyncHttpEndpointProcessor(dashboardApiAggregator, responseSender);
 
         log.debug("Initializing endpoint handlers map");
-        Map<HttpEndpoint, AsyncHttpEndpointProcessor> endpointHandlers = Map.of(dashboardGetEndpointProcessor.getEndpoint(), dashboardGetEndpointProcessor);
+        Map<HttpEndpoint, AsyncHttpEndpointProcessor> endpointHandlers = Map.of(
+                dashboardGetEndpointProcessor.getEndpoint(), dashboardGetEndpointProcessor,
+                dashboardStreamEndpointProcessor.getEndpoint(), dashboardStreamEndpointProcessor);
 
         log.debug("Initializing SimpleHttpEndpointDirector");
         HttpEndpointDirector endpointDirector = new SimpleHttpEndpointDirector(endpointHandlers);
@@ -91,6 +127,14 @@ public class SimpleNettyApplication implements NettyApplication {
         log.debug("Initializing SimpleNettyServer");
         NettyServer nettyServer = new SimpleNettyServer(channelInitializer);
 
+        this.addShutdownHook(() -> {
+            try {
+                log.warn("Gracefully shutting down dashboard event stream...");
+                dashboardStreamEndpointProcessor.close();
+            } catch (Exception ignored) {
+                log.warn("Failed to gracefully shut down dashboard event stream");
+            }
+        });
         this.addShutdownHook(() -> {
             try {
                 log.warn("Gracefully shutting down cache...");
@@ -111,6 +155,45 @@ public class SimpleNettyApplication implements NettyApplication {
         nettyServer.run();
     }
 
+    /**
+     * Creates the cache stack selected by {@link #DEFAULT_CACHE_TYPE}.
+     * <p>
+     * {@link CacheType#REDIS} stacks a node-local tier over a snapshot-backed, write-behind Redis
+     * cache, retrying the Redis connection in the background if it is unreachable at startup;
+     * {@link CacheType#OFF_HEAP} runs a standalone off-heap cache without any Redis dependency.
+     *
+     * @param objectMapper mapper used to create the value codec
+     * @return the cache manager
+     */
+    private AsyncCacheManager createCacheManager(ObjectMapper objectMapper) {
+        if (DEFAULT_CACHE_TYPE == CacheType.OFF_HEAP) {
+            log.debug("Initializing OffHeapAsyncCacheManager");
+            return new OffHeapAsyncCacheManager(RedisAsyncCacheManager.DEFAULT_CODEC_FORMAT.createCodec(objectMapper));
+        }
+
+        log.debug("Initializing InMemoryAsyncCacheManager");
+        InMemoryAsyncCacheManager localCacheManager = new InMemoryAsyncCacheManager();
+
+        log.debug("Initializing RedisAsyncCacheManager");
+        ReconnectingAsyncCacheManager<RedisAsyncCacheManager> redisCacheManager = new ReconnectingAsyncCacheManager<>(() -> new RedisAsyncCacheManager(objectMapper));
+        log.debug("Initializing CircuitBreakerAsyncCacheManager");
+        CircuitBreakerAsyncCacheManager remoteCacheManager = new CircuitBreakerAsyncCacheManager(redisCacheManager);
+
+        log.debug("Initializing WriteBehindAsyncCacheManager");
+        WriteBehindAsyncCacheManager writeBehindCacheManager = new WriteBehindAsyncCacheManager(remoteCacheManager);
+
+        log.debug("Initializing MappedSnapshotAsyncCacheManager");
+        MappedSnapshotAsyncCacheManager snapshotCacheManager = new MappedSnapshotAsyncCacheManager(writeBehindCacheManager, RedisAsyncCacheManager.DEFAULT_CODEC_FORMAT.createCodec(objectMapper));
+
+        log.debug("Initializing TieredAsyncCacheManager");
+        TieredAsyncCacheManager tieredCacheManager = new TieredAsyncCacheManager(localCacheManager, snapshotCacheManager);
+        redisCacheManager.addConnectionListener(connected -> {
+            connected.addInvalidationListener(tieredCacheManager);
+            connected.addFailureListener(remoteCacheManager);
+        });
+        return tieredCacheManager;
+    }
+
     /**
      * Registers a JVM shutdown hook that ensures proper cleanup of I/O-bound
      * components such as Redis connections and background executor threads.
@@ -1,7 +1,11 @@
 package io.maksymuimanov.task.cache;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Defines a non-blocking, asynchronous cache management contract for storing and retrieving data.
@@ -10,6 +14,14 @@ import java.util.concurrent.CompletableFuture;
  * to ensure cache operations do not block event loop threads in high-concurrency environments.
  * <p>
  * All methods return {@link CompletableFuture} to support fully asynchronous control flow.
+ * <p>
+ * Besides typed values, implementations store pre-serialized payloads (e.g. HTTP response bodies)
+ * through {@link #getBytes(String)} and {@link #putBytes(String, byte[], Duration)}, which bypass
+ * value encoding so that a cache hit costs no serialization work at all.
+ * <p>
+ * {@link #getOrCompute(String, Class, Duration, Supplier)} combines a lookup with the computation
+ * of a missing value. Shared caches override it to make sure only one caller recomputes an
+ * expired entry while the others wait for it, protecting the upstreams from cache stampedes.
  *
  * @see RedisAsyncCacheManager
  */
@@ -28,10 +40,27 @@ public interface AsyncCacheManager extends AutoCloseable {
      */
     <T> CompletableFuture<Optional<T>> get(String key, Class<T> clazz);
 
+    /**
+     * Retrieves a value from the cache asynchronously together with its compute time and expiry.
+     * <p>
+     * The default implementation wraps {@link #get(String, Class)} into an entry without metadata;
+     * implementations storing metadata override it to support early expiration.
+     *
+     * @param key the cache key to retrieve
+     * @param clazz the expected type of the cached value
+     * @param <T> the type of the deserialized value
+     * @return a {@link CompletableFuture} that completes with an {@link Optional} containing the cached entry, or empty if not found
+     */
+    default <T> CompletableFuture<Optional<CacheEntry<T>>> getEntry(String key, Class<T> clazz) {
+        return this.get(key, clazz)
+                .thenApply(value -> value.map(CacheEntry::of));
+    }
+
     /**
      * Stores a value in the cache asynchronously under the specified key.
      * <p>
-     * The value is serialized (typically to JSON) before being written.
+     * The value is serialized (typically to JSON) before being written and expires
+     * after the implementation's default time-to-live.
      * The operation completes when the cache confirms successful storage.
      *
      * @param key the cache key
@@ -39,4 +68,114 @@ public interface AsyncCacheManager extends AutoCloseable {
      * @return a {@link CompletableFuture} that completes when the value is stored
      */
     CompletableFuture<Void> put(String key, Object value);
-}
\ No newline at end of file
+
+    /**
+     * Stores a value in the cache asynchronously under the specified key with an explicit time-to-live.
+     * <p>
+     * Allows callers to align the entry lifetime with the volatility of the cached data.
+     * A non-positive {@code ttl} stores the value without expiration.
+     *
+     * @param key the cache key
+     * @param value the value to cache
+     * @param ttl the time-to-live of the entry
+     * @return a {@link CompletableFuture} that completes when the value is stored
+     */
+    CompletableFuture<Void> put(String key, Object value, Duration ttl);
+
+    /**
+     * Stores a value whose encoded size is already known, e.g. one just read from another cache.
+     * <p>
+     * The default implementation ignores the size; implementations bounded by the size of their
+     * entries use it instead of measuring the value themselves.
+     *
+     * @param key the cache key
+     * @param value the value to cache
+     * @param ttl the time-to-live of the entry
+     * @param encodedSize the size of the encoded value in bytes, or {@link CacheEntry#UNKNOWN_ENCODED_SIZE}
+     * @return a {@link CompletableFuture} that completes when the value is stored
+     */
+    default CompletableFuture<Void> put(String key, Object value, Duration ttl, long encodedSize) {
+        return this.put(key, value, ttl);
+    }
+
+    /**
+     * Retrieves several values from the cache asynchronously in a single batch.
+     * <p>
+     * Implementations backed by a remote store are expected to fetch all keys in one network
+     * round trip. Keys that are not found or cannot be deserialized are omitted from the result.
+     *
+     * @param keys the cache keys to retrieve
+     * @param clazz the expected type of the cached values
+     * @param <T> the type of the deserialized values
+     * @return a {@link CompletableFuture} that completes with a map of found keys to their values
+     */
+    <T> CompletableFuture<Map<String, T>> getAll(Collection<String> keys, Class<T> clazz);
+
+    /**
+     * Stores several values in the cache asynchronously in a single batch with a shared time-to-live.
+     * <p>
+     * Implementations backed by a remote store are expected to send all writes in one network
+     * round trip. A non-positive {@code ttl} stores the values without expiration.
+     *
+     * @param values the values to cache, keyed by cache key
+     * @param ttl the time-to-live of every entry
+     * @return a {@link CompletableFuture} that completes when all values are stored
+     */
+    CompletableFuture<Void> putAll(Map<String, ?> values, Duration ttl);
+
+    /**
+     * Retrieves a pre-serialized payload from the cache asynchronously by key.
+     * <p>
+     * The payload is returned exactly as it was passed to {@link #putBytes(String, byte[], Duration)},
+     * without being decoded. The returned array may be shared and must not be modified.
+     *
+     * @param key the cache key to retrieve
+     * @return a {@link CompletableFuture} that completes with an {@link Optional} containing the payload, or empty if not found
+     */
+    CompletableFuture<Optional<byte[]>> getBytes(String key);
+
+    /**
+     * Stores a pre-serialized payload in the cache asynchronously under the specified key
+     * with the implementation's default time-to-live.
+     *
+     * @param key the cache key
+     * @param value the payload to cache; must not be modified afterwards
+     * @return a {@link CompletableFuture} that completes when the payload is stored
+     */
+    CompletableFuture<Void> putBytes(String key, byte[] value);
+
+    /**
+     * Stores a pre-serialized payload in the cache asynchronously under the specified key
+     * with an explicit time-to-live. A non-positive {@code ttl} stores the payload without expiration.
+     *
+     * @param key the cache key
+     * @param value the payload to cache; must not be modified afterwards
+     * @param ttl the time-to-live of the entry
+     * @return a {@link CompletableFuture} that completes when the payload is stored
+     */
+    CompletableFuture<Void> putBytes(String key, byte[] value, Duration ttl);
+
+    /**
+     * Retrieves a value from the cache or computes and stores it if it is missing.
+     * <p>
+     * Cache failures never fail the returned future: a failed read is treated as a miss and
+     * a failed write is ignored, so only a failure of the {@code loader} is propagated.
+     * The default implementation performs a plain lookup followed by a write and does not
+     * coordinate concurrent callers; shared caches override it with a distributed lease.
+     *
+     * @param key the cache key
+     * @param clazz the expected type of the cached value
+     * @param ttl the time-to-live of a computed entry
+     * @param loader computes the value on a miss
+     * @param <T> the type of the value
+     * @return a {@link CompletableFuture} that completes with the cached or computed value
+     */
+    default <T> CompletableFuture<T> getOrCompute(String key, Class<T> clazz, Duration ttl, Supplier<CompletableFuture<T>> loader) {
+        return this.get(key, clazz)
+                .exceptionally(ex -> Optional.empty())
+                .thenCompose(cached -> cached.map(CompletableFuture::completedFuture)
+                        .orElseGet(() -> loader.get()
+                                .thenCompose(value -> this.put(key, value, ttl)
+                                        .handle((v, ex) -> value))));
+    }
+}
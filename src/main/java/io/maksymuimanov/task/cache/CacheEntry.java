@@ -0,0 +1,77 @@
+package io.maksymuimanov.task.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A cached value together with the metadata needed for early expiration.
+ * <p>
+ * Entries written without metadata (plain puts or entries stored before metadata was introduced)
+ * report a zero compute time and {@link Instant#MAX} as expiry, so they are never refreshed early.
+ * <p>
+ * Entries read from a remote cache also carry the size of their encoded form, so that a local tier
+ * can weigh a promoted value without encoding it again.
+ *
+ * @param value the cached value
+ * @param computeTime how long it took to compute the value
+ * @param expiresAt when the value expires
+ * @param encodedSize the size of the encoded value in bytes, or {@link #UNKNOWN_ENCODED_SIZE}
+ * @param <T> the type of the value
+ *
+ * @see AsyncCacheManager#getEntry(String, Class)
+ * @see XFetchEarlyExpiration
+ */
+public record CacheEntry<T>(T value, Duration computeTime, Instant expiresAt, long encodedSize) {
+    /** Encoded size of entries whose encoded form is not known. */
+    public static final long UNKNOWN_ENCODED_SIZE = -1;
+
+    /**
+     * Creates an entry of unknown encoded size.
+     *
+     * @param value the cached value
+     * @param computeTime how long it took to compute the value
+     * @param expiresAt when the value expires
+     */
+    public CacheEntry(T value, Duration computeTime, Instant expiresAt) {
+        this(value, computeTime, expiresAt, UNKNOWN_ENCODED_SIZE);
+    }
+
+    /**
+     * Creates an entry without compute time and expiry metadata.
+     *
+     * @param value the cached value
+     * @param <T> the type of the value
+     * @return the entry
+     */
+    public static <T> CacheEntry<T> of(T value) {
+        return new CacheEntry<>(value, Duration.ZERO, Instant.MAX);
+    }
+
+    /**
+     * Returns a copy of this entry with the given encoded size.
+     *
+     * @param encodedSize the size of the encoded value in bytes
+     * @return the entry
+     */
+    public CacheEntry<T> withEncodedSize(long encodedSize) {
+        return new CacheEntry<>(value, computeTime, expiresAt, encodedSize);
+    }
+
+    /**
+     * Checks whether the encoded size of the value is known.
+     *
+     * @return {@code true} if {@link #encodedSize()} is the size of the encoded value
+     */
+    public boolean hasEncodedSize() {
+        return encodedSize >= 0;
+    }
+
+    /**
+     * Checks whether the entry carries compute time and expiry metadata.
+     *
+     * @return {@code true} if the entry can be refreshed early
+     */
+    public boolean hasMetadata() {
+        return !computeTime.isZero() && !Instant.MAX.equals(expiresAt);
+    }
+}
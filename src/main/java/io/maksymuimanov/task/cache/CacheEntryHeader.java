@@ -0,0 +1,95 @@
+package io.maksymuimanov.task.cache;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Frames stored cache values with the compute time and expiry of the entry.
+ * <p>
+ * A framed value starts with the {@link #METADATA_HEADER} byte followed by the compute time in
+ * milliseconds and the expiry as epoch milliseconds, both 8-byte big-endian integers, and then
+ * the stored (possibly compressed) value. The compute time is rounded up to whole milliseconds and
+ * is at least one, so a value computed in under a millisecond keeps its metadata and still takes
+ * part in early expiration. Like the {@link CacheValueCompressor} header, the marker
+ * byte can never start a JSON, Smile or CBOR payload, so framed and unframed entries can be
+ * mixed and existing entries stay readable.
+ *
+ * @see CacheEntry
+ * @see RedisAsyncCacheManager
+ */
+@UtilityClass
+public class CacheEntryHeader {
+    /** Header byte marking a value framed with entry metadata. */
+    public static final byte METADATA_HEADER = (byte) 0xFD;
+    /** Size of the header: marker byte, compute time and expiry. */
+    public static final int METADATA_HEADER_LENGTH = 1 + Long.BYTES + Long.BYTES;
+    /** Smallest stored compute time in milliseconds. */
+    public static final long MIN_COMPUTE_TIME_MILLIS = 1;
+
+    /**
+     * Prepends the entry metadata to the stored value.
+     *
+     * @param storedValue the value as it would be stored without metadata
+     * @param computeTime how long it took to compute the value, rounded up to whole milliseconds
+     * @param expiresAt when the value expires
+     * @return the framed value
+     */
+    public byte[] frame(byte[] storedValue, Duration computeTime, Instant expiresAt) {
+        return ByteBuffer.allocate(METADATA_HEADER_LENGTH + storedValue.length)
+                .put(METADATA_HEADER)
+                .putLong(toStoredMillis(computeTime))
+                .putLong(expiresAt.toEpochMilli())
+                .put(storedValue)
+                .array();
+    }
+
+    /**
+     * Checks whether the stored value carries entry metadata.
+     *
+     * @param storedValue the value as stored in the cache
+     * @return {@code true} if the value is framed
+     */
+    public boolean isFramed(byte[] storedValue) {
+        return storedValue.length >= METADATA_HEADER_LENGTH && storedValue[0] == METADATA_HEADER;
+    }
+
+    /**
+     * Removes the metadata from a framed value.
+     *
+     * @param storedValue the value as stored in the cache
+     * @return the value without metadata, or the given array if it is not framed
+     */
+    public byte[] unframe(byte[] storedValue) {
+        return isFramed(storedValue) ? Arrays.copyOfRange(storedValue, METADATA_HEADER_LENGTH, storedValue.length) : storedValue;
+    }
+
+    /**
+     * Wraps a decoded value into a {@link CacheEntry} with the metadata of its stored form.
+     *
+     * @param storedValue the value as stored in the cache
+     * @param value the decoded value
+     * @param <T> the type of the value
+     * @return the entry, without metadata if the stored value is not framed
+     */
+    public <T> CacheEntry<T> toEntry(byte[] storedValue, T value) {
+        if (!isFramed(storedValue)) return CacheEntry.of(value);
+        ByteBuffer buffer = ByteBuffer.wrap(storedValue, 1, Long.BYTES + Long.BYTES);
+        return new CacheEntry<>(value, Duration.ofMillis(buffer.getLong()), Instant.ofEpochMilli(buffer.getLong()));
+    }
+
+    /**
+     * Rounds the compute time up to whole milliseconds, with at least {@link #MIN_COMPUTE_TIME_MILLIS}.
+     *
+     * @param computeTime how long it took to compute the value
+     * @return the compute time to store
+     */
+    private long toStoredMillis(Duration computeTime) {
+        long millis = computeTime.toMillis();
+        if (computeTime.minusMillis(millis).isPositive()) millis++;
+        return Math.max(MIN_COMPUTE_TIME_MILLIS, millis);
+    }
+}
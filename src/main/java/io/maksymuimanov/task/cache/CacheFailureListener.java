@@ -0,0 +1,21 @@
+package io.maksymuimanov.task.cache;
+
+/**
+ * Receives notifications about cache commands that failed without failing the operation.
+ * <p>
+ * Some operations recover from a failed command on their own, e.g. a get-or-compute treats a
+ * failed read as a miss and computes the value, so the failure never reaches the caller.
+ * Listeners still learn about it, for example to let a circuit breaker count it.
+ *
+ * @see RedisAsyncCacheManager#addFailureListener(CacheFailureListener)
+ * @see CircuitBreakerAsyncCacheManager
+ */
+public interface CacheFailureListener {
+    /**
+     * Records a failed command that the cache recovered from.
+     *
+     * @param key the cache key of the failed command
+     * @param cause the failure
+     */
+    void onCacheFailure(String key, Throwable cause);
+}
@@ -0,0 +1,26 @@
+package io.maksymuimanov.task.cache;
+
+/**
+ * Receives invalidation notifications for cache entries that were changed elsewhere.
+ * <p>
+ * Used to keep node-local copies of cached values coherent with the shared cache,
+ * for example when Redis pushes client-side caching invalidations after another
+ * node writes a key.
+ *
+ * @see RedisAsyncCacheManager#addInvalidationListener(CacheInvalidationListener)
+ * @see InMemoryAsyncCacheManager
+ */
+public interface CacheInvalidationListener {
+    /**
+     * Invalidates a single key whose shared value has changed or expired.
+     *
+     * @param key the invalidated cache key
+     */
+    void invalidate(String key);
+
+    /**
+     * Invalidates every key, e.g. after a flush or when invalidations may have been missed
+     * while the connection to the shared cache was down.
+     */
+    void invalidateAll();
+}
@@ -0,0 +1,75 @@
+package io.maksymuimanov.task.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects thread-safe hit and miss counters for a single cache tier.
+ * <p>
+ * Counters are backed by {@link LongAdder} so that concurrent event loop and
+ * completion threads can record lookups without contention.
+ *
+ * @see TieredAsyncCacheManager
+ */
+public class CacheStatistics {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Records a successful cache lookup.
+     */
+    public void recordHit() {
+        hits.increment();
+    }
+
+    /**
+     * Records a cache lookup that found no usable value.
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Returns the number of recorded hits.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of recorded misses.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the ratio of hits to all recorded lookups.
+     *
+     * @return the hit rate in range {@code [0, 1]}, or {@code 0} if nothing was recorded
+     */
+    public double getHitRate() {
+        long hitCount = this.getHitCount();
+        long total = hitCount + this.getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the ratio of misses to all recorded lookups.
+     *
+     * @return the miss rate in range {@code [0, 1]}, or {@code 0} if nothing was recorded
+     */
+    public double getMissRate() {
+        long missCount = this.getMissCount();
+        long total = missCount + this.getHitCount();
+        return total == 0 ? 0 : (double) missCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics[hits=%d, misses=%d, hitRate=%.3f]".formatted(this.getHitCount(), this.getMissCount(), this.getHitRate());
+    }
+}
@@ -0,0 +1,131 @@
+package io.maksymuimanov.task.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects thread-safe payload size and latency counters for a remote cache.
+ * <p>
+ * Tracks how many bytes were encoded before compression, how many were actually sent to and
+ * received from the server, and the cumulative latency of read and write operations, so that
+ * the effect of value codecs and compression on network traffic and server memory can be observed.
+ *
+ * @see RedisAsyncCacheManager
+ * @see CacheValueCompressor
+ */
+public class CacheTransferStatistics {
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder readBytes = new LongAdder();
+    private final LongAdder readNanos = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder encodedBytes = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+
+    /**
+     * Records a completed read.
+     *
+     * @param storedBytes number of bytes received from the server, {@code 0} on a miss
+     * @param nanos operation latency in nanoseconds
+     */
+    public void recordRead(long storedBytes, long nanos) {
+        reads.increment();
+        readBytes.add(storedBytes);
+        readNanos.add(nanos);
+    }
+
+    /**
+     * Records a completed write.
+     *
+     * @param encodedBytes size of the encoded value before compression
+     * @param storedBytes number of bytes sent to the server
+     * @param nanos operation latency in nanoseconds
+     */
+    public void recordWrite(long encodedBytes, long storedBytes, long nanos) {
+        writes.increment();
+        this.encodedBytes.add(encodedBytes);
+        writtenBytes.add(storedBytes);
+        writeNanos.add(nanos);
+    }
+
+    /**
+     * Returns the number of recorded reads.
+     *
+     * @return the read count
+     */
+    public long getReadCount() {
+        return reads.sum();
+    }
+
+    /**
+     * Returns the number of bytes received from the server.
+     *
+     * @return the read byte count
+     */
+    public long getReadBytes() {
+        return readBytes.sum();
+    }
+
+    /**
+     * Returns the number of recorded writes.
+     *
+     * @return the write count
+     */
+    public long getWriteCount() {
+        return writes.sum();
+    }
+
+    /**
+     * Returns the number of encoded bytes before compression.
+     *
+     * @return the encoded byte count
+     */
+    public long getEncodedBytes() {
+        return encodedBytes.sum();
+    }
+
+    /**
+     * Returns the number of bytes sent to the server.
+     *
+     * @return the written byte count
+     */
+    public long getWrittenBytes() {
+        return writtenBytes.sum();
+    }
+
+    /**
+     * Returns the ratio of stored to encoded bytes across all writes.
+     *
+     * @return the compression ratio, {@code 1} if nothing was written
+     */
+    public double getCompressionRatio() {
+        long encoded = this.getEncodedBytes();
+        return encoded == 0 ? 1 : (double) this.getWrittenBytes() / encoded;
+    }
+
+    /**
+     * Returns the average read latency.
+     *
+     * @return the average latency in microseconds, or {@code 0} if nothing was recorded
+     */
+    public double getAverageReadMicros() {
+        long count = this.getReadCount();
+        return count == 0 ? 0 : readNanos.sum() / 1_000.0 / count;
+    }
+
+    /**
+     * Returns the average write latency.
+     *
+     * @return the average latency in microseconds, or {@code 0} if nothing was recorded
+     */
+    public double getAverageWriteMicros() {
+        long count = this.getWriteCount();
+        return count == 0 ? 0 : writeNanos.sum() / 1_000.0 / count;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheTransferStatistics[reads=%d, readBytes=%d, avgReadMicros=%.1f, writes=%d, encodedBytes=%d, writtenBytes=%d, compressionRatio=%.3f, avgWriteMicros=%.1f]".formatted(
+                this.getReadCount(), this.getReadBytes(), this.getAverageReadMicros(),
+                this.getWriteCount(), this.getEncodedBytes(), this.getWrittenBytes(), this.getCompressionRatio(), this.getAverageWriteMicros());
+    }
+}
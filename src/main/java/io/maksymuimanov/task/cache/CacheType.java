@@ -0,0 +1,16 @@
+package io.maksymuimanov.task.cache;
+
+/**
+ * Enumerates the cache stacks the application can run with.
+ * <p>
+ * Allows the cache to be selected through configuration, e.g. {@code -Dcache.type=OFF_HEAP}.
+ *
+ * @see RedisAsyncCacheManager
+ * @see OffHeapAsyncCacheManager
+ */
+public enum CacheType {
+    /** A node-local tier in front of a shared Redis cache. */
+    REDIS,
+    /** A standalone embedded cache storing values in direct memory, for single-node deployments. */
+    OFF_HEAP
+}
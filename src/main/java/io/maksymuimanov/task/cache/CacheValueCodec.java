@@ -0,0 +1,36 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheValueCodingException;
+
+/**
+ * Service provider interface for converting cached values to and from their binary form.
+ * <p>
+ * Cache managers that store raw bytes (e.g., Redis via a {@code byte[]} codec) delegate
+ * serialization to a {@code CacheValueCodec}, which makes the wire format pluggable
+ * without touching the cache access logic.
+ *
+ * @see JacksonCacheValueCodec
+ * @see CacheValueFormat
+ * @see RedisAsyncCacheManager
+ */
+public interface CacheValueCodec {
+    /**
+     * Encodes a value into its binary cache representation.
+     *
+     * @param value the value to encode
+     * @return the encoded bytes
+     * @throws CacheValueCodingException if the value cannot be encoded
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Decodes a binary cache representation into a value of the requested type.
+     *
+     * @param bytes the encoded bytes
+     * @param clazz the expected type of the value
+     * @param <T> the type of the decoded value
+     * @return the decoded value
+     * @throws CacheValueCodingException if the bytes cannot be decoded into the requested type
+     */
+    <T> T decode(byte[] bytes, Class<T> clazz);
+}
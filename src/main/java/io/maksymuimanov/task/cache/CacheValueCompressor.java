@@ -0,0 +1,154 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheValueCodingException;
+import io.maksymuimanov.task.util.ConfigUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses encoded cache values above a configurable size using Deflate.
+ * <p>
+ * Compressed values are prefixed with the self-describing {@link #DEFLATE_HEADER} byte followed
+ * by the uncompressed length as a 4-byte big-endian integer. Values below the threshold are stored
+ * unchanged, without any header. The header value can never start a JSON (invalid UTF-8 byte),
+ * Smile (always starts with {@code ':'}) or CBOR (reserved initial byte) payload, so compressed and
+ * uncompressed entries can be mixed freely, and entries written before compression was introduced
+ * stay readable.
+ * <p>
+ * Writing compressed values is off unless {@code cache.compression.enabled} is set: nodes without
+ * compression support cannot read them, so the flag is only turned on once every node of a
+ * rolling upgrade can decompress. Decompression is always available. The uncompressed length
+ * read from the header is checked against a configured maximum before anything is allocated,
+ * so a corrupted or foreign entry cannot trigger a huge allocation.
+ *
+ * @see RedisAsyncCacheManager
+ * @see CacheValueCodec
+ */
+@RequiredArgsConstructor
+public class CacheValueCompressor {
+    /** System property key defining whether values are written compressed; reading compressed values is always supported. */
+    public static final String CACHE_COMPRESSION_ENABLED_PROPERTY = "cache.compression.enabled";
+    /** System property key defining the minimum encoded size (in bytes) from which values are compressed; negative disables compression. */
+    public static final String CACHE_COMPRESSION_THRESHOLD_PROPERTY = "cache.compression.threshold";
+    /** System property key defining the Deflate compression level (0-9). */
+    public static final String CACHE_COMPRESSION_LEVEL_PROPERTY = "cache.compression.level";
+    /** System property key defining the maximum uncompressed length (in bytes) accepted when decompressing. */
+    public static final String CACHE_COMPRESSION_MAX_LENGTH_PROPERTY = "cache.compression.max-length";
+    /** Whether compression is enabled by default; off until every node can read compressed values. */
+    public static final boolean DEFAULT_COMPRESSION_ENABLED = ConfigUtils.getOrDefault(CACHE_COMPRESSION_ENABLED_PROPERTY, false);
+    /** Default compression threshold in bytes. */
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = ConfigUtils.getOrDefault(CACHE_COMPRESSION_THRESHOLD_PROPERTY, 512);
+    /** Default compression level, favouring speed over ratio. */
+    public static final int DEFAULT_COMPRESSION_LEVEL = ConfigUtils.getOrDefault(CACHE_COMPRESSION_LEVEL_PROPERTY, Deflater.BEST_SPEED);
+    /** Default maximum uncompressed length. */
+    public static final int DEFAULT_MAX_LENGTH = ConfigUtils.getOrDefault(CACHE_COMPRESSION_MAX_LENGTH_PROPERTY, 16 * 1024 * 1024);
+    /** Header byte marking a Deflate-compressed value. */
+    public static final byte DEFLATE_HEADER = (byte) 0xFE;
+    /** Size of the header: marker byte plus uncompressed length. */
+    public static final int DEFLATE_HEADER_LENGTH = 1 + Integer.BYTES;
+    @Getter
+    private final int threshold;
+    private final int level;
+    private final int maxLength;
+
+    /**
+     * Creates a compressor with the default threshold, compression level and maximum length,
+     * which only writes compressed values if {@link #DEFAULT_COMPRESSION_ENABLED} is set.
+     */
+    public CacheValueCompressor() {
+        this(DEFAULT_COMPRESSION_ENABLED ? DEFAULT_COMPRESSION_THRESHOLD : -1, DEFAULT_COMPRESSION_LEVEL, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a compressor with the default maximum length.
+     *
+     * @param threshold minimum encoded size from which values are compressed; negative disables compression
+     * @param level Deflate compression level
+     */
+    public CacheValueCompressor(int threshold, int level) {
+        this(threshold, level, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Compresses the value if it reaches the threshold and compression actually makes it smaller.
+     *
+     * @param value the encoded value
+     * @return the framed compressed value, or the given array if compression was skipped
+     * @throws CacheValueCodingException if compression fails
+     */
+    public byte[] compress(byte[] value) {
+        if (threshold < 0 || value.length < threshold) return value;
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(value);
+            deflater.finish();
+            byte[] buffer = new byte[DEFLATE_HEADER_LENGTH + value.length];
+            int length = DEFLATE_HEADER_LENGTH;
+            while (!deflater.finished() && length < buffer.length) {
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            if (!deflater.finished()) return value;
+            ByteBuffer.wrap(buffer)
+                    .put(DEFLATE_HEADER)
+                    .putInt(value.length);
+            byte[] compressed = new byte[length];
+            System.arraycopy(buffer, 0, compressed, 0, length);
+            return compressed;
+        } catch (Exception e) {
+            throw new CacheValueCodingException(e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Restores the encoded value, decompressing it if it carries the Deflate header.
+     *
+     * @param storedValue the value as stored in the cache
+     * @return the encoded value
+     * @throws CacheValueCodingException if the compressed value is corrupted or its length is out of bounds
+     */
+    public byte[] decompress(byte[] storedValue) {
+        if (!isCompressed(storedValue)) return storedValue;
+        Inflater inflater = new Inflater();
+        try {
+            int originalLength = ByteBuffer.wrap(storedValue, 1, Integer.BYTES).getInt();
+            if (originalLength < 0 || originalLength > maxLength) {
+                throw new DataFormatException("Uncompressed length out of bounds: " + originalLength + " (max " + maxLength + ")");
+            }
+            byte[] value = new byte[originalLength];
+            inflater.setInput(storedValue, DEFLATE_HEADER_LENGTH, storedValue.length - DEFLATE_HEADER_LENGTH);
+            int length = 0;
+            while (!inflater.finished() && length < originalLength) {
+                int inflated = inflater.inflate(value, length, originalLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated compressed cache value");
+                }
+                length += inflated;
+            }
+            if (length != originalLength) {
+                throw new DataFormatException("Unexpected decompressed length: " + length + " != " + originalLength);
+            }
+            return value;
+        } catch (Exception e) {
+            throw new CacheValueCodingException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Checks whether the stored value carries the Deflate header.
+     *
+     * @param storedValue the value as stored in the cache
+     * @return {@code true} if the value is compressed
+     */
+    public static boolean isCompressed(byte[] storedValue) {
+        return storedValue.length >= DEFLATE_HEADER_LENGTH && storedValue[0] == DEFLATE_HEADER;
+    }
+}
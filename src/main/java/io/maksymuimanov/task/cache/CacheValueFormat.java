@@ -0,0 +1,37 @@
+package io.maksymuimanov.task.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.function.Function;
+
+/**
+ * Enumerates the supported binary formats of cached values and creates their codecs.
+ * <p>
+ * Allows the format to be selected through configuration, e.g. {@code -Dredis.codec=SMILE}.
+ *
+ * @see CacheValueCodec
+ */
+public enum CacheValueFormat {
+    /** UTF-8 JSON text. */
+    JSON(JsonCacheValueCodec::new),
+    /** Binary Smile. */
+    SMILE(SmileCacheValueCodec::new),
+    /** Binary CBOR. */
+    CBOR(CborCacheValueCodec::new);
+
+    private final Function<ObjectMapper, CacheValueCodec> codecFactory;
+
+    CacheValueFormat(Function<ObjectMapper, CacheValueCodec> codecFactory) {
+        this.codecFactory = codecFactory;
+    }
+
+    /**
+     * Creates a codec of this format sharing the configuration of the given mapper.
+     *
+     * @param objectMapper the base Jackson mapper
+     * @return a codec producing this format
+     */
+    public CacheValueCodec createCodec(ObjectMapper objectMapper) {
+        return codecFactory.apply(objectMapper);
+    }
+}
@@ -0,0 +1,20 @@
+package io.maksymuimanov.task.cache;
+
+/**
+ * Service provider interface for measuring how much of a size-bounded cache a value takes up.
+ * <p>
+ * Weighing runs on every write to such a cache, so implementations are expected to be much
+ * cheaper than encoding the value; an approximation of its encoded size is good enough.
+ *
+ * @see EstimatingCacheValueWeigher
+ * @see InMemoryAsyncCacheManager
+ */
+public interface CacheValueWeigher {
+    /**
+     * Computes the weight of a value.
+     *
+     * @param value the value to weigh
+     * @return the weight, in approximate encoded bytes
+     */
+    long weigh(Object value);
+}
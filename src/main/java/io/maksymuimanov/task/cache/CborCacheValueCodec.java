@@ -0,0 +1,24 @@
+package io.maksymuimanov.task.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Encodes cached values in the binary CBOR format (RFC 8949).
+ * <p>
+ * CBOR stores numbers and lengths in compact binary form, so decoding needs no text parsing
+ * and the entries stay readable by non-Java consumers.
+ *
+ * @see JacksonCacheValueCodec
+ * @see CBORFactory
+ */
+public class CborCacheValueCodec extends JacksonCacheValueCodec {
+    /**
+     * Creates a CBOR codec sharing the configuration of the given mapper.
+     *
+     * @param objectMapper Jackson mapper whose configuration is copied onto a CBOR factory
+     */
+    public CborCacheValueCodec(ObjectMapper objectMapper) {
+        super(objectMapper.copyWith(new CBORFactory()));
+    }
+}
@@ -0,0 +1,336 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheManagingException;
+import io.maksymuimanov.task.util.ConfigUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Guards a cache with a circuit breaker so that an unhealthy cache fails fast instead of
+ * piling up pending requests.
+ * <p>
+ * The breaker starts {@link State#CLOSED} and counts consecutive failed operations; once the
+ * failure threshold is reached it turns {@link State#OPEN} and rejects every operation
+ * immediately with a {@link CacheManagingException}. After the open duration a single trial
+ * operation is let through ({@link State#HALF_OPEN}): its success closes the breaker again,
+ * its failure reopens it.
+ * <p>
+ * {@link #getOrCompute(String, Class, Duration, Supplier)} calls the loader directly while the
+ * breaker is not closed, so cached computations keep serving fresh values without the cache.
+ * The delegate recovers from failed commands inside a get-or-compute on its own, so it reports
+ * them through {@link CacheFailureListener} and they count like failed operations.
+ * Timeouts are expected to be enforced by the delegate, e.g. through {@link RedisCommandTimeoutSource}.
+ *
+ * @see AsyncCacheManager
+ */
+@Slf4j
+public class CircuitBreakerAsyncCacheManager implements AsyncCacheManager, CacheFailureListener {
+    /** System property key defining how many consecutive failures open the breaker. */
+    public static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY = "cache.circuit-breaker.failure-threshold";
+    /** System property key defining how long (in milliseconds) the breaker stays open before a trial operation. */
+    public static final String CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY = "cache.circuit-breaker.open-duration";
+    /** Default failure threshold. */
+    public static final int DEFAULT_FAILURE_THRESHOLD = ConfigUtils.getOrDefault(CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY, 5);
+    /** Default open duration. */
+    public static final Duration DEFAULT_OPEN_DURATION = ConfigUtils.getOrDefault(CIRCUIT_BREAKER_OPEN_DURATION_PROPERTY, Duration.ofSeconds(5));
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final LongAdder rejections = new LongAdder();
+    private final AsyncCacheManager delegate;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private volatile long openedAt;
+
+    /**
+     * Creates a circuit breaker with the failure threshold and open duration from system properties or the default values.
+     *
+     * @param delegate the guarded cache
+     */
+    public CircuitBreakerAsyncCacheManager(AsyncCacheManager delegate) {
+        this(delegate, DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION);
+    }
+
+    /**
+     * Creates a circuit breaker.
+     *
+     * @param delegate the guarded cache
+     * @param failureThreshold consecutive failures opening the breaker
+     * @param openDuration time the breaker rejects operations before a trial operation
+     */
+    public CircuitBreakerAsyncCacheManager(AsyncCacheManager delegate, int failureThreshold, Duration openDuration) {
+        this.delegate = delegate;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = openDuration.toNanos();
+        log.info("Initialized cache circuit breaker with failureThreshold={}, openDuration={}ms", this.failureThreshold, openDuration.toMillis());
+    }
+
+    /**
+     * Reads the value from the delegate unless the breaker rejects the operation.
+     *
+     * @param key Cache key.
+     * @param clazz Expected type of the cached value.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the cached value.
+     * @throws CacheManagingException if the breaker is open or the delegate fails.
+     */
+    @Override
+    public <T> CompletableFuture<Optional<T>> get(String key, Class<T> clazz) {
+        return this.call(() -> delegate.get(key, clazz));
+    }
+
+    /**
+     * Reads the value with its metadata from the delegate unless the breaker rejects the operation.
+     *
+     * @param key Cache key.
+     * @param clazz Expected type of the cached value.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the cached entry.
+     * @throws CacheManagingException if the breaker is open or the delegate fails.
+     */
+    @Override
+    public <T> CompletableFuture<Optional<CacheEntry<T>>> getEntry(String key, Class<T> clazz) {
+        return this.call(() -> delegate.getEntry(key, clazz));
+    }
+
+    /**
+     * Writes the value to the delegate unless the breaker rejects the operation.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @return A {@link CompletableFuture} completing when the value is stored.
+     * @throws CacheManagingException if the breaker is open or the delegate fails.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value) {
+        return this.call(() -> delegate.put(key, value));
+    }
+
+    /**
+     * Writes the value with the given TTL to the delegate unless the breaker rejects the operation.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @param ttl Expiration time for the stored value.
+     * @return A {@link CompletableFuture} completing when the value is stored.
+     * @throws CacheManagingException if the breaker is open or the delegate fails.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value, Duration ttl) {
+        return this.call(() -> delegate.put(key, value, ttl));
+    }
+
+    /**
+     * Reads the values from the delegate unless the breaker rejects the operation.
+     *
+     * @param keys Cache keys.
+     * @param clazz Expected type of the cached values.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the found values by key.
+     * @throws CacheManagingException if the breaker is open or the delegate fails.
+     */
+    @Override
+    public <T> CompletableFuture<Map<String, T>> getAll(Collection<String> keys, Class<T> clazz) {
+        return this.call(() -> delegate.getAll(keys, clazz));
+    }
+
+    /**
+     * Writes the values to the delegate unless the breaker rejects the operation.
+     *
+     * @param values Objects to cache by key.
+     * @param ttl Expiration time for every stored value.
+     * @return A {@link CompletableFuture} completing when the values are stored.
+     * @throws CacheManagingException if the breaker is open or the delegate fails.
+     */
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, ?> values, Duration ttl) {
+        return this.call(() -> delegate.putAll(values, ttl));
+    }
+
+    /**
+     * Reads the payload from the delegate unless the breaker rejects the operation.
+     *
+     * @param key Cache key.
+     * @return A {@link CompletableFuture} with the cached payload.
+     * @throws CacheManagingException if the breaker is open or the delegate fails.
+     */
+    @Override
+    public CompletableFuture<Optional<byte[]>> getBytes(String key) {
+        return this.call(() -> delegate.getBytes(key));
+    }
+
+    /**
+     * Writes the payload to the delegate unless the breaker rejects the operation.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @return A {@link CompletableFuture} completing when the payload is stored.
+     * @throws CacheManagingException if the breaker is open or the delegate fails.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value) {
+        return this.call(() -> delegate.putBytes(key, value));
+    }
+
+    /**
+     * Writes the payload with the given TTL to the delegate unless the breaker rejects the operation.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @param ttl Expiration time for the stored payload.
+     * @return A {@link CompletableFuture} completing when the payload is stored.
+     * @throws CacheManagingException if the breaker is open or the delegate fails.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value, Duration ttl) {
+        return this.call(() -> delegate.putBytes(key, value, ttl));
+    }
+
+    /**
+     * Delegates the computation while the breaker is closed and calls the loader directly otherwise.
+     * The outcome does not count towards the breaker, because a failure may come from the loader;
+     * failed cache commands are counted through {@link #onCacheFailure(String, Throwable)} instead.
+     *
+     * @param key Cache key.
+     * @param clazz Expected type of the value.
+     * @param ttl Expiration time for a computed value.
+     * @param loader Computes the value on a miss.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the cached or computed value.
+     */
+    @Override
+    public <T> CompletableFuture<T> getOrCompute(String key, Class<T> clazz, Duration ttl, Supplier<CompletableFuture<T>> loader) {
+        if (state.get() != State.CLOSED) {
+            rejections.increment();
+            log.debug("Cache circuit breaker is {}, computing without cache: key={}", state.get(), key);
+            return loader.get();
+        }
+        return delegate.getOrCompute(key, clazz, ttl, loader);
+    }
+
+    /**
+     * Counts a failed command that the delegate recovered from, e.g. a read inside a get-or-compute
+     * that was treated as a miss. Only failures reported while the breaker is closed are counted,
+     * so late reports of commands sent before it opened neither extend nor end the open period.
+     *
+     * @param key the cache key of the failed command
+     * @param cause the failure
+     */
+    @Override
+    public void onCacheFailure(String key, Throwable cause) {
+        if (state.get() == State.CLOSED) this.onFailure(cause);
+    }
+
+    /**
+     * Returns the current state of the breaker.
+     *
+     * @return the state
+     */
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Returns the number of operations rejected or bypassed because the breaker was not closed.
+     *
+     * @return the rejection count
+     */
+    public long getRejectedCount() {
+        return rejections.sum();
+    }
+
+    /**
+     * Closes the delegate.
+     *
+     * @throws Exception if the delegate fails to close
+     */
+    @Override
+    public void close() throws Exception {
+        log.info("Closing cache circuit breaker: state={}, rejected={}", state.get(), this.getRejectedCount());
+        delegate.close();
+    }
+
+    /**
+     * Runs the operation if the breaker permits it and records its outcome.
+     *
+     * @param operation the cache operation
+     * @param <T> Type parameter.
+     * @return the operation future, or a failed future if the breaker rejects it
+     */
+    private <T> CompletableFuture<T> call(Supplier<CompletableFuture<T>> operation) {
+        if (!this.tryAcquirePermission()) {
+            rejections.increment();
+            return CompletableFuture.failedFuture(new CacheManagingException(new IllegalStateException("Cache circuit breaker is open")));
+        }
+        try {
+            return operation.get().whenComplete((result, ex) -> {
+                if (ex == null) this.onSuccess();
+                else this.onFailure(ex);
+            });
+        } catch (Exception e) {
+            this.onFailure(e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Checks whether an operation may run, letting a single trial operation through once the open duration has passed.
+     *
+     * @return {@code true} if the operation may run
+     */
+    private boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) return true;
+        if (current == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            log.info("Cache circuit breaker half-open, sending a trial operation");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Resets the failure count and closes the breaker after a successful trial operation.
+     */
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("Cache circuit breaker closed");
+        }
+    }
+
+    /**
+     * Counts the failure and opens the breaker when the threshold is reached or the trial operation failed.
+     *
+     * @param ex the failure
+     */
+    private void onFailure(Throwable ex) {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            State previous = state.getAndSet(State.OPEN);
+            openedAt = System.nanoTime();
+            consecutiveFailures.set(0);
+            if (previous != State.OPEN) {
+                log.warn("Cache circuit breaker opened for {}ms: {}", openDurationNanos / 1_000_000, ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * States of the circuit breaker.
+     */
+    public enum State {
+        /** Operations run and failures are counted. */
+        CLOSED,
+        /** Operations are rejected immediately. */
+        OPEN,
+        /** A single trial operation decides whether to close or reopen the breaker. */
+        HALF_OPEN
+    }
+}
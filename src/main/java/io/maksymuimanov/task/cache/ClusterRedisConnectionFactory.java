@@ -0,0 +1,92 @@
+package io.maksymuimanov.task.cache;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Opens connections to a Redis Cluster.
+ * <p>
+ * Commands are routed to the node owning the key's slot, and multi-key commands such as
+ * {@code MGET} are split per slot by the client. Reads follow the configured {@link ReadFrom}
+ * policy, so fallback reads can be served by replicas. Client-side caching is not supported
+ * because tracking would have to be enabled on every node connection separately.
+ *
+ * @see RedisConnectionFactory
+ * @see RedisTopology#CLUSTER
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ClusterRedisConnectionFactory implements RedisConnectionFactory {
+    private final RedisClusterClient redisClusterClient;
+    private final ReadFrom readFrom;
+
+    /**
+     * Opens a cluster connection with the configured read policy.
+     *
+     * @return the connection
+     */
+    @Override
+    public StatefulConnection<String, byte[]> connect() {
+        StatefulRedisClusterConnection<String, byte[]> connection = redisClusterClient.connect(RedisAsyncCacheManager.STRING_BYTE_ARRAY_CODEC);
+        connection.setReadFrom(readFrom);
+        return connection;
+    }
+
+    /**
+     * Returns the slot-routing asynchronous commands of the connection.
+     *
+     * @param connection a connection returned by {@link #connect()}
+     * @return the asynchronous command API
+     */
+    @Override
+    public RedisClusterAsyncCommands<String, byte[]> commands(StatefulConnection<String, byte[]> connection) {
+        return ((StatefulRedisClusterConnection<String, byte[]>) connection).async();
+    }
+
+    /**
+     * Client-side caching is not supported in cluster mode.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean supportsClientTracking() {
+        return false;
+    }
+
+    /**
+     * Ignores the listener, since cluster connections do not receive invalidations; callers are
+     * expected to check {@link #supportsClientTracking()} first.
+     *
+     * @param connection a connection returned by {@link #connect()}
+     * @param listener the listener to register
+     */
+    @Override
+    public void addPushListener(StatefulConnection<String, byte[]> connection, PushListener listener) {
+        log.warn("Push listeners are not supported in Redis Cluster mode, ignoring listener");
+    }
+
+    /**
+     * Registers a connection state listener on the cluster client.
+     *
+     * @param listener the listener to register
+     */
+    @Override
+    public void addConnectionStateListener(RedisConnectionStateListener listener) {
+        redisClusterClient.addListener(listener);
+    }
+
+    /**
+     * Shuts down the cluster client.
+     */
+    @Override
+    public void shutdown() {
+        redisClusterClient.shutdown();
+    }
+}
@@ -0,0 +1,76 @@
+package io.maksymuimanov.task.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.maksymuimanov.task.util.ConfigUtils;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Estimates the encoded size of a value without encoding it.
+ * <p>
+ * {@code byte[]} payloads weigh their length. Strings and {@link JsonNode} trees weigh roughly
+ * what their JSON text would: the tree is walked once, counting names and text values by their
+ * length and every other scalar as {@link #SCALAR_WEIGHT} bytes, without allocating anything.
+ * Other values cannot be measured that cheaply and weigh a configurable default.
+ *
+ * @see CacheValueWeigher
+ * @see InMemoryAsyncCacheManager
+ */
+@RequiredArgsConstructor
+public class EstimatingCacheValueWeigher implements CacheValueWeigher {
+    /** System property key defining the weight (in bytes) of values whose size cannot be estimated. */
+    public static final String DEFAULT_WEIGHT_PROPERTY = "cache.local.default-weight";
+    /** Default weight of values whose size cannot be estimated. */
+    public static final long DEFAULT_WEIGHT = ConfigUtils.getOrDefault(DEFAULT_WEIGHT_PROPERTY, 1024L);
+    /** Weight of a number, boolean or null. */
+    public static final long SCALAR_WEIGHT = 8;
+    private final long defaultWeight;
+
+    /**
+     * Creates a weigher with the default weight from system properties or the default value.
+     */
+    public EstimatingCacheValueWeigher() {
+        this(DEFAULT_WEIGHT);
+    }
+
+    /**
+     * Estimates the weight of a value.
+     *
+     * @param value the value to weigh
+     * @return the estimated encoded size, in bytes
+     */
+    @Override
+    public long weigh(Object value) {
+        if (value instanceof byte[] bytes) return bytes.length;
+        if (value instanceof CharSequence text) return text.length() + 2L;
+        if (value instanceof JsonNode node) return this.weigh(node);
+        if (value instanceof Number || value instanceof Boolean) return SCALAR_WEIGHT;
+        return defaultWeight;
+    }
+
+    /**
+     * Estimates the size of a JSON tree as text.
+     *
+     * @param node the tree to weigh
+     * @return the estimated size, in bytes
+     */
+    private long weigh(JsonNode node) {
+        if (node.isObject()) {
+            long weight = 2;
+            for (Map.Entry<String, JsonNode> property : node.properties()) {
+                weight += property.getKey().length() + 4L + this.weigh(property.getValue());
+            }
+            return weight;
+        }
+        if (node.isArray()) {
+            long weight = 2;
+            for (JsonNode element : node) {
+                weight += 1 + this.weigh(element);
+            }
+            return weight;
+        }
+        if (node.isTextual()) return node.textValue().length() + 2L;
+        return SCALAR_WEIGHT;
+    }
+}
@@ -0,0 +1,348 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheManagingException;
+import io.maksymuimanov.task.util.ConfigUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Keeps deserialized values in a bounded in-process map with TTL and LRU eviction.
+ * <p>
+ * Values are stored by reference, so a hit costs neither a network round trip nor
+ * deserialization. The map is bounded both by entry count and by weight: each entry weighs the
+ * size of its encoded form, so a few large dashboards cannot push the heap past the byte budget.
+ * Values are never encoded just to be weighed: a value promoted from a remote tier weighs the
+ * encoded size that tier already knows ({@link #put(String, Object, Duration, long)}), and any
+ * other value is weighed by a cheap {@link CacheValueWeigher} estimate. Once either bound is exceeded, the least recently accessed entries are evicted; values
+ * heavier than the whole budget are not cached at all. Expired entries are dropped lazily on access.
+ * <p>
+ * All futures returned by this manager are already completed, so it never blocks
+ * or schedules work on event loop threads. Entries can be evicted externally through
+ * {@link CacheInvalidationListener} to stay coherent with a shared cache.
+ *
+ * @see AsyncCacheManager
+ * @see TieredAsyncCacheManager
+ * @see CacheInvalidationListener
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class InMemoryAsyncCacheManager implements AsyncCacheManager, CacheInvalidationListener {
+    /** System property key defining the maximum number of entries kept in the in-process cache. */
+    public static final String LOCAL_CACHE_MAX_SIZE_PROPERTY = "cache.local.max-size";
+    /** System property key defining the maximum total weight (in encoded bytes) of the in-process cache entries. */
+    public static final String LOCAL_CACHE_MAX_WEIGHT_PROPERTY = "cache.local.max-weight";
+    /** System property key defining the default time-to-live (in milliseconds) of in-process cache entries. */
+    public static final String LOCAL_CACHE_TTL_PROPERTY = "cache.local.ttl";
+    /** Default maximum number of in-process cache entries. */
+    public static final int DEFAULT_MAXIMUM_SIZE = ConfigUtils.getOrDefault(LOCAL_CACHE_MAX_SIZE_PROPERTY, 1024);
+    /** Default maximum total weight of in-process cache entries. */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = ConfigUtils.getOrDefault(LOCAL_CACHE_MAX_WEIGHT_PROPERTY, 64L * 1024 * 1024);
+    /** Default in-process cache entry time-to-live. */
+    public static final Duration DEFAULT_TTL = ConfigUtils.getOrDefault(LOCAL_CACHE_TTL_PROPERTY, Duration.ofSeconds(30));
+    private final Map<String, CachedValue> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maximumSize;
+    private final long maximumWeight;
+    private final Duration ttl;
+    private final CacheValueWeigher weigher;
+    private long weight;
+
+    /**
+     * Creates an in-process cache with the default bounds and TTL, estimating the weight of values.
+     */
+    public InMemoryAsyncCacheManager() {
+        this(new EstimatingCacheValueWeigher());
+    }
+
+    /**
+     * Creates an in-process cache with the default bounds and TTL.
+     *
+     * @param weigher weighs values whose encoded size is not known
+     */
+    public InMemoryAsyncCacheManager(CacheValueWeigher weigher) {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_MAXIMUM_WEIGHT, DEFAULT_TTL, weigher);
+    }
+
+    /**
+     * Creates an in-process cache with the default weight bound, estimating the weight of values.
+     *
+     * @param maximumSize maximum number of entries
+     * @param ttl default entry time-to-live
+     */
+    public InMemoryAsyncCacheManager(int maximumSize, Duration ttl) {
+        this(maximumSize, DEFAULT_MAXIMUM_WEIGHT, ttl, new EstimatingCacheValueWeigher());
+    }
+
+    /**
+     * Returns the cached value if it is present, not expired and of the expected type.
+     *
+     * @param key Cache key.
+     * @param clazz Expected type of the cached value.
+     * @param <T> Type parameter.
+     * @return A completed {@link CompletableFuture} with the cached value, or empty on a miss.
+     * @throws CacheManagingException if the lookup fails unexpectedly.
+     */
+    @Override
+    public <T> CompletableFuture<Optional<T>> get(String key, Class<T> clazz) {
+        try {
+            Object value;
+            synchronized (entries) {
+                CachedValue entry = entries.get(key);
+                if (entry == null) {
+                    value = null;
+                } else if (entry.isExpired(System.nanoTime())) {
+                    entries.remove(key);
+                    weight -= entry.weight();
+                    value = null;
+                } else {
+                    value = entry.value();
+                }
+            }
+            if (!clazz.isInstance(value)) {
+                log.debug("Local cache miss: key={}", key);
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+            log.debug("Local cache hit: key={}", key);
+            return CompletableFuture.completedFuture(Optional.of(clazz.cast(value)));
+        } catch (Exception e) {
+            log.error("Local cache get failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Stores the value with the default local TTL.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @return A completed {@link CompletableFuture}.
+     * @throws CacheManagingException if the value cannot be stored.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value) {
+        return this.put(key, value, ttl);
+    }
+
+    /**
+     * Stores the value with the given TTL, evicting least recently used entries when full.
+     * A value heavier than the maximum weight is not stored, and the stale entry under its key is dropped.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @param ttl Expiration time for the stored value; non-positive values never expire.
+     * @return A completed {@link CompletableFuture}.
+     * @throws CacheManagingException if the value cannot be stored.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value, Duration ttl) {
+        return this.put(key, value, ttl, CacheEntry.UNKNOWN_ENCODED_SIZE);
+    }
+
+    /**
+     * Stores the value with the given TTL, weighing it by its known encoded size instead of
+     * estimating it. Evicts and skips oversized values like {@link #put(String, Object, Duration)}.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @param ttl Expiration time for the stored value; non-positive values never expire.
+     * @param encodedSize Size of the encoded value in bytes, or {@link CacheEntry#UNKNOWN_ENCODED_SIZE} to estimate it.
+     * @return A completed {@link CompletableFuture}.
+     * @throws CacheManagingException if the value cannot be stored.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value, Duration ttl, long encodedSize) {
+        try {
+            long expiresAt = ttl.isPositive() ? System.nanoTime() + ttl.toNanos() : CachedValue.NEVER_EXPIRES;
+            long valueWeight = encodedSize >= 0 ? encodedSize : weigher.weigh(value);
+            synchronized (entries) {
+                CachedValue replaced = valueWeight > maximumWeight
+                        ? entries.remove(key)
+                        : entries.put(key, new CachedValue(value, expiresAt, valueWeight));
+                if (replaced != null) weight -= replaced.weight();
+                if (valueWeight > maximumWeight) {
+                    log.debug("Local cache skipped oversized value: key={}, weight={}", key, valueWeight);
+                    return CompletableFuture.completedFuture(null);
+                }
+                weight += valueWeight;
+                this.evictOverflow();
+            }
+            log.debug("Local cache put: key={}, ttl={}ms, weight={}", key, ttl.toMillis(), valueWeight);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            log.error("Local cache put failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Returns every cached value that is present, not expired and of the expected type.
+     *
+     * @param keys Cache keys.
+     * @param clazz Expected type of the cached values.
+     * @param <T> Type parameter.
+     * @return A completed {@link CompletableFuture} with the found values by key.
+     * @throws CacheManagingException if the lookup fails unexpectedly.
+     */
+    @Override
+    public <T> CompletableFuture<Map<String, T>> getAll(Collection<String> keys, Class<T> clazz) {
+        try {
+            Map<String, T> values = new LinkedHashMap<>();
+            CompletableFuture<Void> lookups = CompletableFuture.completedFuture(null);
+            for (String key : keys) {
+                lookups = lookups.thenCombine(this.get(key, clazz), (v, value) -> {
+                    value.ifPresent(found -> values.put(key, found));
+                    return null;
+                });
+            }
+            return lookups.thenApply(v -> values);
+        } catch (Exception e) {
+            log.error("Local cache get failed: keys={}", keys, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Stores every value with the given TTL, evicting least recently used entries when full.
+     *
+     * @param values Objects to cache by key.
+     * @param ttl Expiration time for every stored value; non-positive values never expire.
+     * @return A completed {@link CompletableFuture}.
+     * @throws CacheManagingException if the values cannot be stored.
+     */
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, ?> values, Duration ttl) {
+        try {
+            return CompletableFuture.allOf(values.entrySet().stream()
+                    .map(entry -> this.put(entry.getKey(), entry.getValue(), ttl))
+                    .toArray(CompletableFuture[]::new));
+        } catch (Exception e) {
+            log.error("Local cache put failed: keys={}", values.keySet(), e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Returns the cached payload if it is present, not expired and was stored as bytes.
+     *
+     * @param key Cache key.
+     * @return A completed {@link CompletableFuture} with the cached payload, or empty on a miss.
+     * @throws CacheManagingException if the lookup fails unexpectedly.
+     */
+    @Override
+    public CompletableFuture<Optional<byte[]>> getBytes(String key) {
+        return this.get(key, byte[].class);
+    }
+
+    /**
+     * Stores the payload by reference with the default local TTL.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @return A completed {@link CompletableFuture}.
+     * @throws CacheManagingException if the payload cannot be stored.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value) {
+        return this.put(key, value, ttl);
+    }
+
+    /**
+     * Stores the payload by reference with the given TTL.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @param ttl Expiration time for the stored payload; non-positive values never expire.
+     * @return A completed {@link CompletableFuture}.
+     * @throws CacheManagingException if the payload cannot be stored.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value, Duration ttl) {
+        return this.put(key, value, ttl);
+    }
+
+    /**
+     * Evicts a single entry whose shared value has changed.
+     *
+     * @param key Cache key to evict.
+     */
+    @Override
+    public void invalidate(String key) {
+        synchronized (entries) {
+            CachedValue removed = entries.remove(key);
+            if (removed != null) weight -= removed.weight();
+        }
+        log.debug("Local cache invalidated: key={}", key);
+    }
+
+    /**
+     * Evicts all entries.
+     */
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+        log.debug("Local cache invalidated: all keys");
+    }
+
+    /**
+     * Removes all entries from the in-process cache.
+     */
+    @Override
+    public void close() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+        log.info("Local cache cleared");
+    }
+
+    /**
+     * Returns the total weight of the cached entries.
+     *
+     * @return the sum of the entry weights, in encoded bytes
+     */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /**
+     * Removes least recently used entries until the cache fits its maximum size and weight.
+     * Must be called while holding the {@code entries} monitor.
+     */
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, CachedValue>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maximumSize || weight > maximumWeight) && iterator.hasNext()) {
+            Map.Entry<String, CachedValue> evicted = iterator.next();
+            iterator.remove();
+            weight -= evicted.getValue().weight();
+            log.debug("Local cache evicted: key={}", evicted.getKey());
+        }
+    }
+
+    /**
+     * Cached value together with its expiration deadline.
+     *
+     * @param value the cached object
+     * @param expiresAt the {@link System#nanoTime()} deadline after which the entry is stale,
+     *                  or {@link #NEVER_EXPIRES}
+     * @param weight the size of the encoded value, in bytes
+     */
+    private record CachedValue(Object value, long expiresAt, long weight) {
+        static final long NEVER_EXPIRES = Long.MIN_VALUE;
+
+        boolean isExpired(long now) {
+            return expiresAt != NEVER_EXPIRES && now - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.maksymuimanov.task.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.maksymuimanov.task.exception.CacheValueCodingException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Base {@link CacheValueCodec} delegating to a Jackson {@link ObjectMapper}.
+ * <p>
+ * The binary format is determined solely by the mapper's underlying factory, so text JSON,
+ * Smile and CBOR share the same encoding logic and differ only in how their mapper is built.
+ *
+ * @see JsonCacheValueCodec
+ * @see SmileCacheValueCodec
+ * @see CborCacheValueCodec
+ */
+@RequiredArgsConstructor
+public abstract class JacksonCacheValueCodec implements CacheValueCodec {
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Serializes the value with the configured mapper.
+     *
+     * @param value the value to encode
+     * @return the encoded bytes
+     * @throws CacheValueCodingException if serialization fails
+     */
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new CacheValueCodingException(e);
+        }
+    }
+
+    /**
+     * Deserializes the bytes with the configured mapper.
+     *
+     * @param bytes the encoded bytes
+     * @param clazz the expected type of the value
+     * @param <T> the type of the decoded value
+     * @return the decoded value
+     * @throws CacheValueCodingException if deserialization fails
+     */
+    @Override
+    public <T> T decode(byte[] bytes, Class<T> clazz) {
+        try {
+            return objectMapper.readValue(bytes, clazz);
+        } catch (Exception e) {
+            throw new CacheValueCodingException(e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.maksymuimanov.task.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Encodes cached values as UTF-8 JSON text.
+ * <p>
+ * Human-readable in {@code redis-cli} and compatible with entries written by earlier versions
+ * of the service, at the cost of larger payloads and slower parsing than binary formats.
+ *
+ * @see JacksonCacheValueCodec
+ */
+public class JsonCacheValueCodec extends JacksonCacheValueCodec {
+    /**
+     * Creates a JSON codec backed by the given mapper.
+     *
+     * @param objectMapper Jackson mapper configured for JSON
+     */
+    public JsonCacheValueCodec(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+}
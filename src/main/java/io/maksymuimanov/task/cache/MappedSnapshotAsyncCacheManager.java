@@ -0,0 +1,704 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheManagingException;
+import io.maksymuimanov.task.util.ConfigUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the latest written values in a memory-mapped snapshot file and serves them as a
+ * last-resort fallback when the delegate cache is unreachable.
+ * <p>
+ * Every write is recorded in the snapshot before it is passed to the delegate. Values are kept
+ * by reference and only encoded when the background thread next writes the snapshot, so a write
+ * costs no more than the delegate's own encoding. The background thread periodically writes the
+ * recorded values to a temporary file through a memory mapping and atomically renames it over the previous snapshot, so a crash never leaves a
+ * half-written snapshot behind. On startup the snapshot is mapped read-only and only its key index
+ * is read; values stay in the mapping and are decoded lazily on their first fallback read.
+ * <p>
+ * Reads go to the delegate first. When the delegate fails, values up to {@code maxStale} past
+ * their expiry are served; when it merely misses, only values that have not expired yet are
+ * served, so that expired entries are still recomputed while the delegate is healthy. The number
+ * of reads answered from the snapshot is exposed through {@link #getFallbackHitCount()}.
+ * <p>
+ * Values past their staleness bound are pruned whenever the snapshot is written. The number of
+ * recorded values is capped at {@code maxEntries}; when a write exceeds it, unusable values are
+ * pruned first and then the values expiring soonest are evicted.
+ *
+ * @see AsyncCacheManager
+ * @see RedisAsyncCacheManager
+ */
+@Slf4j
+public class MappedSnapshotAsyncCacheManager implements AsyncCacheManager {
+    /** System property key defining the location of the snapshot file. */
+    public static final String CACHE_SNAPSHOT_PATH_PROPERTY = "cache.snapshot.path";
+    /** System property key defining the interval (in milliseconds) between snapshot writes. */
+    public static final String CACHE_SNAPSHOT_INTERVAL_PROPERTY = "cache.snapshot.interval";
+    /** System property key defining how long (in milliseconds) after expiry a value may still be served while the delegate fails. */
+    public static final String CACHE_SNAPSHOT_MAX_STALE_PROPERTY = "cache.snapshot.max-stale";
+    /** System property key defining the maximum number of values kept in the snapshot. */
+    public static final String CACHE_SNAPSHOT_MAX_ENTRIES_PROPERTY = "cache.snapshot.max-entries";
+    /** Default snapshot file in the temporary directory. */
+    public static final Path DEFAULT_SNAPSHOT_PATH = Path.of(ConfigUtils.getOrDefault(CACHE_SNAPSHOT_PATH_PROPERTY, Path.of(System.getProperty("java.io.tmpdir"), "dashboard-cache.snapshot").toString()));
+    /** Default interval between snapshot writes. */
+    public static final Duration DEFAULT_SNAPSHOT_INTERVAL = ConfigUtils.getOrDefault(CACHE_SNAPSHOT_INTERVAL_PROPERTY, Duration.ofSeconds(5));
+    /** Default maximum staleness of values served while the delegate fails. */
+    public static final Duration DEFAULT_MAX_STALE = ConfigUtils.getOrDefault(CACHE_SNAPSHOT_MAX_STALE_PROPERTY, Duration.ofHours(1));
+    /** Default maximum number of values kept in the snapshot. */
+    public static final int DEFAULT_MAX_ENTRIES = ConfigUtils.getOrDefault(CACHE_SNAPSHOT_MAX_ENTRIES_PROPERTY, 10_000);
+    /** Magic number identifying snapshot files ({@code "CSN1"}). */
+    public static final int SNAPSHOT_MAGIC = 0x43534E31;
+    /** Version of the snapshot file layout. */
+    public static final int SNAPSHOT_VERSION = 1;
+    /** Size of the snapshot file header: magic number, version and entry count. */
+    public static final int SNAPSHOT_HEADER_LENGTH = 3 * Integer.BYTES;
+    private final Map<String, SnapshotEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder fallbackHits = new LongAdder();
+    private final AsyncCacheManager delegate;
+    private final CacheValueCodec valueCodec;
+    private final Path snapshotPath;
+    private final Duration defaultTtl;
+    private final Duration maxStale;
+    private final int maxEntries;
+    private final ScheduledExecutorService snapshotExecutor;
+
+    /**
+     * Creates a snapshot cache with the default file, interval, TTL, staleness bound and size cap.
+     *
+     * @param delegate cache serving reads and receiving writes while it is reachable
+     * @param valueCodec codec encoding values stored in the snapshot
+     */
+    public MappedSnapshotAsyncCacheManager(AsyncCacheManager delegate, CacheValueCodec valueCodec) {
+        this(delegate, valueCodec, DEFAULT_SNAPSHOT_PATH, DEFAULT_SNAPSHOT_INTERVAL, RedisAsyncCacheManager.DEFAULT_REDIS_TTL, DEFAULT_MAX_STALE);
+    }
+
+    /**
+     * Creates a snapshot cache with the default size cap.
+     *
+     * @param delegate cache serving reads and receiving writes while it is reachable
+     * @param valueCodec codec encoding values stored in the snapshot
+     * @param snapshotPath location of the snapshot file
+     * @param snapshotInterval interval between snapshot writes
+     * @param defaultTtl lifetime of values written without an explicit TTL
+     * @param maxStale how long after expiry a value may still be served while the delegate fails
+     */
+    public MappedSnapshotAsyncCacheManager(AsyncCacheManager delegate,
+                                           CacheValueCodec valueCodec,
+                                           Path snapshotPath,
+                                           Duration snapshotInterval,
+                                           Duration defaultTtl,
+                                           Duration maxStale) {
+        this(delegate, valueCodec, snapshotPath, snapshotInterval, defaultTtl, maxStale, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a snapshot cache, loads the existing snapshot file and starts the background snapshot thread.
+     *
+     * @param delegate cache serving reads and receiving writes while it is reachable
+     * @param valueCodec codec encoding values stored in the snapshot
+     * @param snapshotPath location of the snapshot file
+     * @param snapshotInterval interval between snapshot writes
+     * @param defaultTtl lifetime of values written without an explicit TTL
+     * @param maxStale how long after expiry a value may still be served while the delegate fails
+     * @param maxEntries maximum number of values kept in the snapshot
+     */
+    public MappedSnapshotAsyncCacheManager(AsyncCacheManager delegate,
+                                           CacheValueCodec valueCodec,
+                                           Path snapshotPath,
+                                           Duration snapshotInterval,
+                                           Duration defaultTtl,
+                                           Duration maxStale,
+                                           int maxEntries) {
+        this.delegate = delegate;
+        this.valueCodec = valueCodec;
+        this.snapshotPath = snapshotPath;
+        this.defaultTtl = defaultTtl;
+        this.maxStale = maxStale;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.load();
+        this.evictOverflow();
+        this.snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = snapshotInterval.toMillis();
+        this.snapshotExecutor.scheduleWithFixedDelay(this::writeSnapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Initialized snapshot cache manager with path={}, entries={}, maxEntries={}, interval={}ms", snapshotPath, entries.size(), this.maxEntries, intervalMillis);
+    }
+
+    /**
+     * Reads the value from the delegate, falling back to the snapshot on a failure or miss.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with an {@link Optional} value, empty if neither the delegate nor the snapshot has it.
+     */
+    @Override
+    public <T> CompletableFuture<Optional<T>> get(String key, Class<T> clazz) {
+        try {
+            return delegate.get(key, clazz)
+                    .handle((value, ex) -> {
+                        if (ex != null) {
+                            log.warn("Cache get failed, serving snapshot: key={}, error={}", key, ex.getMessage());
+                            return this.lookup(key, clazz, true);
+                        }
+                        return value.isPresent() ? value : this.lookup(key, clazz, false);
+                    });
+        } catch (Exception e) {
+            log.warn("Cache get failed, serving snapshot: key={}", key, e);
+            return CompletableFuture.completedFuture(this.lookup(key, clazz, true));
+        }
+    }
+
+    /**
+     * Reads the entry from the delegate, falling back to the snapshot value, without metadata, on a failure or miss.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with an {@link Optional} entry, empty if neither the delegate nor the snapshot has it.
+     */
+    @Override
+    public <T> CompletableFuture<Optional<CacheEntry<T>>> getEntry(String key, Class<T> clazz) {
+        try {
+            return delegate.getEntry(key, clazz)
+                    .handle((entry, ex) -> {
+                        if (ex != null) {
+                            log.warn("Cache get failed, serving snapshot: key={}, error={}", key, ex.getMessage());
+                            return this.lookup(key, clazz, true).map(CacheEntry::of);
+                        }
+                        return entry.isPresent() ? entry : this.lookup(key, clazz, false).map(CacheEntry::of);
+                    });
+        } catch (Exception e) {
+            log.warn("Cache get failed, serving snapshot: key={}", key, e);
+            return CompletableFuture.completedFuture(this.lookup(key, clazz, true).map(CacheEntry::of));
+        }
+    }
+
+    /**
+     * Reads the values from the delegate in one batch, filling gaps from the snapshot.
+     *
+     * @param keys Cache keys.
+     * @param clazz Type of values to deserialize.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the found values by key.
+     */
+    @Override
+    public <T> CompletableFuture<Map<String, T>> getAll(Collection<String> keys, Class<T> clazz) {
+        try {
+            return delegate.getAll(keys, clazz)
+                    .handle((values, ex) -> {
+                        boolean allowStale = ex != null;
+                        if (allowStale) log.warn("Cache get failed, serving snapshot: keys={}, error={}", keys, ex.getMessage());
+                        Map<String, T> result = allowStale ? new LinkedHashMap<>() : new LinkedHashMap<>(values);
+                        for (String key : keys) {
+                            if (!result.containsKey(key)) this.lookup(key, clazz, allowStale).ifPresent(value -> result.put(key, value));
+                        }
+                        return result;
+                    });
+        } catch (Exception e) {
+            log.warn("Snapshot cache get failed: keys={}", keys, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Reads the payload from the delegate, falling back to the snapshot on a failure or miss.
+     *
+     * @param key Cache key.
+     * @return A {@link CompletableFuture} with an {@link Optional} payload, empty if neither the delegate nor the snapshot has it.
+     */
+    @Override
+    public CompletableFuture<Optional<byte[]>> getBytes(String key) {
+        try {
+            return delegate.getBytes(key)
+                    .handle((value, ex) -> {
+                        if (ex != null) {
+                            log.warn("Cache get failed, serving snapshot: key={}, error={}", key, ex.getMessage());
+                            return this.lookupBytes(key, true);
+                        }
+                        return value.isPresent() ? value : this.lookupBytes(key, false);
+                    });
+        } catch (Exception e) {
+            log.warn("Cache get failed, serving snapshot: key={}", key, e);
+            return CompletableFuture.completedFuture(this.lookupBytes(key, true));
+        }
+    }
+
+    /**
+     * Records the value in the snapshot and writes it to the delegate with its default TTL.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @return A {@link CompletableFuture} completed when the delegate has stored the value.
+     * @throws CacheManagingException if the delegate fails to start the write.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value) {
+        try {
+            this.record(key, SnapshotEntry.ofValue(value, this.expiresAtMillis(defaultTtl)));
+            return delegate.put(key, value);
+        } catch (Exception e) {
+            log.warn("Snapshot cache put failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Records the value in the snapshot and writes it to the delegate with the given TTL.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @param ttl Expiration time for the stored value.
+     * @return A {@link CompletableFuture} completed when the delegate has stored the value.
+     * @throws CacheManagingException if the delegate fails to start the write.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value, Duration ttl) {
+        try {
+            this.record(key, SnapshotEntry.ofValue(value, this.expiresAtMillis(ttl)));
+            return delegate.put(key, value, ttl);
+        } catch (Exception e) {
+            log.warn("Snapshot cache put failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Records the values in the snapshot and writes them to the delegate in one batch.
+     *
+     * @param values Objects to cache by key.
+     * @param ttl Expiration time for every stored value.
+     * @return A {@link CompletableFuture} completed when the delegate has stored the values.
+     * @throws CacheManagingException if the delegate fails to start the write.
+     */
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, ?> values, Duration ttl) {
+        try {
+            long expiresAtMillis = this.expiresAtMillis(ttl);
+            values.forEach((key, value) -> this.record(key, SnapshotEntry.ofValue(value, expiresAtMillis)));
+            return delegate.putAll(values, ttl);
+        } catch (Exception e) {
+            log.warn("Snapshot cache put failed: keys={}", values.keySet(), e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Records the payload in the snapshot and writes it to the delegate with its default TTL.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @return A {@link CompletableFuture} completed when the delegate has stored the payload.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value) {
+        this.record(key, SnapshotEntry.ofEncoded(value, this.expiresAtMillis(defaultTtl)));
+        return delegate.putBytes(key, value);
+    }
+
+    /**
+     * Records the payload in the snapshot and writes it to the delegate with the given TTL.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @param ttl Expiration time for the stored payload.
+     * @return A {@link CompletableFuture} completed when the delegate has stored the payload.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value, Duration ttl) {
+        this.record(key, SnapshotEntry.ofEncoded(value, this.expiresAtMillis(ttl)));
+        return delegate.putBytes(key, value, ttl);
+    }
+
+    /**
+     * Delegates the get-or-compute, recording computed values in the snapshot and serving the
+     * snapshot if neither the delegate nor the loader can provide a value.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param ttl Expiration time of a computed value.
+     * @param loader Computes the value on a miss.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the cached, computed or snapshot value.
+     * @throws CacheManagingException if the lookup cannot be started.
+     */
+    @Override
+    public <T> CompletableFuture<T> getOrCompute(String key, Class<T> clazz, Duration ttl, Supplier<CompletableFuture<T>> loader) {
+        try {
+            Supplier<CompletableFuture<T>> recordingLoader = () -> loader.get()
+                    .thenApply(value -> {
+                        this.record(key, SnapshotEntry.ofValue(value, this.expiresAtMillis(ttl)));
+                        return value;
+                    });
+            return delegate.getOrCompute(key, clazz, ttl, recordingLoader)
+                    .exceptionallyCompose(ex -> this.lookup(key, clazz, true)
+                            .map(CompletableFuture::completedFuture)
+                            .orElseGet(() -> CompletableFuture.failedFuture(ex)));
+        } catch (Exception e) {
+            log.warn("Snapshot cache get-or-compute failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Writes the recorded values to the snapshot file if anything changed since the last write.
+     * <p>
+     * Values are written through a memory mapping of a temporary file, which is forced to disk and
+     * then atomically moved over the previous snapshot. Values recorded since the last write are
+     * encoded here and kept encoded, so each value is encoded once. Values past their staleness bound
+     * or failing to encode are left out and pruned from memory.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    public synchronized void writeSnapshot() throws IOException {
+        if (!dirty.getAndSet(false)) return;
+        try {
+            long now = System.currentTimeMillis();
+            List<byte[]> keys = new ArrayList<>();
+            List<SnapshotEntry> values = new ArrayList<>();
+            long size = SNAPSHOT_HEADER_LENGTH;
+            for (Map.Entry<String, SnapshotEntry> entry : entries.entrySet()) {
+                if (!entry.getValue().isUsable(now, maxStale)) {
+                    entries.remove(entry.getKey(), entry.getValue());
+                    continue;
+                }
+                SnapshotEntry value = this.encode(entry.getKey(), entry.getValue());
+                if (value == null) continue;
+                byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                keys.add(key);
+                values.add(value);
+                size += Integer.BYTES + key.length + Long.BYTES + Integer.BYTES + value.encodedValue().remaining();
+            }
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(SNAPSHOT_MAGIC)
+                        .putInt(SNAPSHOT_VERSION)
+                        .putInt(keys.size());
+                for (int i = 0; i < keys.size(); i++) {
+                    SnapshotEntry value = values.get(i);
+                    buffer.putInt(keys.get(i).length)
+                            .put(keys.get(i))
+                            .putLong(value.expiresAtMillis())
+                            .putInt(value.encodedValue().remaining())
+                            .put(value.encodedValue().duplicate());
+                }
+                buffer.force();
+            }
+            Files.move(tempPath, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            log.debug("Cache snapshot written: path={}, entries={}, size={}B", snapshotPath, keys.size(), size);
+        } catch (IOException | RuntimeException e) {
+            dirty.set(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of values currently recorded in the snapshot.
+     *
+     * @return the entry count
+     */
+    public int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of reads answered from the snapshot.
+     *
+     * @return the fallback hit count
+     */
+    public long getFallbackHitCount() {
+        return fallbackHits.sum();
+    }
+
+    /**
+     * Stops the background thread, writes a final snapshot and closes the delegate.
+     *
+     * @throws Exception if closing the delegate fails
+     */
+    @Override
+    public void close() throws Exception {
+        try {
+            snapshotExecutor.shutdown();
+            snapshotExecutor.awaitTermination(WriteBehindAsyncCacheManager.CLOSE_FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            this.writeSnapshotQuietly();
+            log.info("Closing snapshot cache: entries={}, fallbackHits={}", entries.size(), this.getFallbackHitCount());
+        } finally {
+            delegate.close();
+        }
+    }
+
+    /**
+     * Maps the snapshot file and indexes its entries without copying or decoding the values.
+     * An unreadable snapshot is ignored.
+     */
+    private void load() {
+        if (!Files.isRegularFile(snapshotPath)) return;
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < SNAPSHOT_HEADER_LENGTH || buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                log.warn("Ignoring cache snapshot with unknown format: path={}", snapshotPath);
+                return;
+            }
+            int count = buffer.getInt();
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < count; i++) {
+                byte[] key = new byte[buffer.getInt()];
+                buffer.get(key);
+                long expiresAtMillis = buffer.getLong();
+                int valueLength = buffer.getInt();
+                ByteBuffer value = buffer.slice(buffer.position(), valueLength).asReadOnlyBuffer();
+                buffer.position(buffer.position() + valueLength);
+                SnapshotEntry entry = new SnapshotEntry(value, null, expiresAtMillis);
+                if (entry.isUsable(now, maxStale)) entries.put(new String(key, StandardCharsets.UTF_8), entry);
+            }
+            log.info("Loaded cache snapshot: path={}, entries={}", snapshotPath, entries.size());
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable cache snapshot: path={}, error={}", snapshotPath, e.getMessage());
+            entries.clear();
+        }
+    }
+
+    /**
+     * Writes the snapshot, logging instead of propagating failures.
+     */
+    private void writeSnapshotQuietly() {
+        try {
+            this.writeSnapshot();
+        } catch (Exception e) {
+            log.warn("Failed to write cache snapshot: path={}, error={}", snapshotPath, e.getMessage());
+        }
+    }
+
+    /**
+     * Records the entry as the latest value of the key.
+     *
+     * @param key Cache key.
+     * @param entry The value or payload with its expiry.
+     */
+    private void record(String key, SnapshotEntry entry) {
+        entries.put(key, entry);
+        dirty.set(true);
+        if (entries.size() > maxEntries) this.evictOverflow();
+    }
+
+    /**
+     * Computes the expiry of a value written now.
+     *
+     * @param ttl Expiration time of the value; non-positive values never expire.
+     * @return the expiry as epoch milliseconds
+     */
+    private long expiresAtMillis(Duration ttl) {
+        return ttl.isPositive() ? System.currentTimeMillis() + ttl.toMillis() : SnapshotEntry.NEVER_EXPIRES;
+    }
+
+    /**
+     * Encodes a recorded value for the snapshot file and keeps the encoded entry, unless the key
+     * has been written again in the meantime. A value that cannot be encoded is dropped.
+     *
+     * @param key Cache key.
+     * @param entry The recorded entry.
+     * @return the encoded entry, or {@code null} if the value cannot be encoded
+     */
+    private SnapshotEntry encode(String key, SnapshotEntry entry) {
+        if (entry.isEncoded()) return entry;
+        try {
+            SnapshotEntry encoded = SnapshotEntry.ofEncoded(valueCodec.encode(entry.value()), entry.expiresAtMillis());
+            entries.replace(key, entry, encoded);
+            return encoded;
+        } catch (Exception e) {
+            log.warn("Failed to encode snapshot value, dropping it: key={}, error={}", key, e.getMessage());
+            entries.remove(key, entry);
+            return null;
+        }
+    }
+
+    /**
+     * Brings the number of recorded values down to {@code maxEntries}, pruning values past their
+     * staleness bound first and then evicting the values expiring soonest. Skipped while another
+     * thread is already evicting.
+     */
+    private void evictOverflow() {
+        if (entries.size() <= maxEntries || !evicting.compareAndSet(false, true)) return;
+        try {
+            long now = System.currentTimeMillis();
+            entries.entrySet().removeIf(entry -> !entry.getValue().isUsable(now, maxStale));
+            int overflow = entries.size() - maxEntries;
+            if (overflow > 0) {
+                entries.entrySet().stream()
+                        .sorted(Map.Entry.comparingByValue(Comparator.comparingLong(SnapshotEntry::expiresAtMillis)))
+                        .limit(overflow)
+                        .toList()
+                        .forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+            }
+            dirty.set(true);
+            log.debug("Snapshot cache over capacity, evicted values: maxEntries={}, entries={}", maxEntries, entries.size());
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Returns the snapshot value of the key, decoding it only if it is not kept by reference as the expected type.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param allowStale Whether expired values within the staleness bound may be served.
+     * @param <T> Type parameter.
+     * @return the value, empty if there is no usable or decodable value
+     */
+    private <T> Optional<T> lookup(String key, Class<T> clazz, boolean allowStale) {
+        try {
+            return this.lookupEntry(key, allowStale)
+                    .map(entry -> clazz.isInstance(entry.value())
+                            ? clazz.cast(entry.value())
+                            : valueCodec.decode(entry.toByteArray(valueCodec), clazz));
+        } catch (Exception e) {
+            log.warn("Failed to decode snapshot value for key={}, returning empty", key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Copies the snapshot payload of the key, encoding it if it is kept by reference.
+     *
+     * @param key Cache key.
+     * @param allowStale Whether expired values within the staleness bound may be served.
+     * @return the payload, empty if there is no usable or encodable value
+     */
+    private Optional<byte[]> lookupBytes(String key, boolean allowStale) {
+        try {
+            return this.lookupEntry(key, allowStale)
+                    .map(entry -> entry.toByteArray(valueCodec));
+        } catch (Exception e) {
+            log.warn("Failed to encode snapshot value for key={}, returning empty", key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Finds the snapshot entry of the key and counts it as a fallback hit.
+     *
+     * @param key Cache key.
+     * @param allowStale Whether expired values within the staleness bound may be served.
+     * @return the entry, empty if there is no usable value
+     */
+    private Optional<SnapshotEntry> lookupEntry(String key, boolean allowStale) {
+        SnapshotEntry entry = entries.get(key);
+        if (entry == null) return Optional.empty();
+        long now = System.currentTimeMillis();
+        if (!entry.isFresh(now) && !(allowStale && entry.isUsable(now, maxStale))) return Optional.empty();
+        fallbackHits.increment();
+        log.debug("Serving value from snapshot: key={}, stale={}", key, !entry.isFresh(now));
+        return Optional.of(entry);
+    }
+
+    /**
+     * Snapshot value, either kept by reference until the next snapshot write or encoded, on the
+     * heap or pointing into the mapped snapshot file.
+     *
+     * @param encodedValue the read-only encoded value, {@code null} until the value is encoded
+     * @param value the value written, {@code null} once it is encoded
+     * @param expiresAtMillis the expiry as epoch milliseconds
+     */
+    private record SnapshotEntry(ByteBuffer encodedValue, Object value, long expiresAtMillis) {
+        private static final long NEVER_EXPIRES = Long.MAX_VALUE;
+
+        /**
+         * Creates an entry keeping the value by reference.
+         *
+         * @param value the value written
+         * @param expiresAtMillis the expiry as epoch milliseconds
+         * @return the entry
+         */
+        private static SnapshotEntry ofValue(Object value, long expiresAtMillis) {
+            return new SnapshotEntry(null, value, expiresAtMillis);
+        }
+
+        /**
+         * Creates an entry holding an encoded value or pre-serialized payload.
+         *
+         * @param encodedValue the encoded value
+         * @param expiresAtMillis the expiry as epoch milliseconds
+         * @return the entry
+         */
+        private static SnapshotEntry ofEncoded(byte[] encodedValue, long expiresAtMillis) {
+            return new SnapshotEntry(ByteBuffer.wrap(encodedValue).asReadOnlyBuffer(), null, expiresAtMillis);
+        }
+
+        /**
+         * Checks whether the value is encoded.
+         *
+         * @return {@code true} if the value is encoded
+         */
+        private boolean isEncoded() {
+            return encodedValue != null;
+        }
+
+        /**
+         * Checks whether the value has not expired yet.
+         *
+         * @param nowMillis the current time as epoch milliseconds
+         * @return {@code true} if the value is fresh
+         */
+        private boolean isFresh(long nowMillis) {
+            return nowMillis < expiresAtMillis;
+        }
+
+        /**
+         * Checks whether the value is fresh or expired by no more than the staleness bound.
+         *
+         * @param nowMillis the current time as epoch milliseconds
+         * @param maxStale how long after expiry the value may still be served
+         * @return {@code true} if the value may be served as a fallback
+         */
+        private boolean isUsable(long nowMillis, Duration maxStale) {
+            return expiresAtMillis == NEVER_EXPIRES || nowMillis < expiresAtMillis + maxStale.toMillis();
+        }
+
+        /**
+         * Copies the encoded value to the heap, or encodes the value kept by reference.
+         *
+         * @param valueCodec the codec encoding values kept by reference
+         * @return the encoded value
+         */
+        private byte[] toByteArray(CacheValueCodec valueCodec) {
+            if (!this.isEncoded()) return valueCodec.encode(value);
+            byte[] bytes = new byte[encodedValue.remaining()];
+            encodedValue.duplicate().get(bytes);
+            return bytes;
+        }
+    }
+}
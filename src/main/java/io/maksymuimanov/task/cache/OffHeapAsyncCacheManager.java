@@ -0,0 +1,446 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheManagingException;
+import io.maksymuimanov.task.util.ConfigUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stores serialized values off-heap in direct memory slabs with TTL and LRU eviction.
+ * <p>
+ * Memory is organised as fixed-size blocks carved out of direct {@link ByteBuffer} slabs, which
+ * are allocated lazily up to the configured capacity. A value occupies as many blocks as its
+ * encoded size requires; freed blocks are reused through a free list, so the off-heap area never
+ * fragments beyond one partially used block per value. Only a small index entry per key lives on
+ * the heap, so large caches add next to no garbage collection pressure.
+ * <p>
+ * When there are not enough free blocks, the least recently accessed entries are evicted until
+ * the value fits. Expired entries are dropped lazily on access. Values are encoded with a
+ * {@link CacheValueCodec} on write and decoded on every hit.
+ * <p>
+ * All futures returned by this manager are already completed, which makes it a self-contained
+ * cache for single-node deployments that do not run Redis.
+ *
+ * @see AsyncCacheManager
+ * @see CacheType
+ */
+@Slf4j
+public class OffHeapAsyncCacheManager implements AsyncCacheManager {
+    /** System property key defining the maximum off-heap memory (in bytes) used for values. */
+    public static final String OFF_HEAP_CAPACITY_PROPERTY = "cache.off-heap.capacity";
+    /** System property key defining the size (in bytes) of a single slab allocation. */
+    public static final String OFF_HEAP_SLAB_SIZE_PROPERTY = "cache.off-heap.slab-size";
+    /** System property key defining the size (in bytes) of the blocks values are stored in. */
+    public static final String OFF_HEAP_BLOCK_SIZE_PROPERTY = "cache.off-heap.block-size";
+    /** System property key defining the default time-to-live (in milliseconds) of off-heap cache entries. */
+    public static final String OFF_HEAP_TTL_PROPERTY = "cache.off-heap.ttl";
+    /** Default off-heap capacity. */
+    public static final long DEFAULT_CAPACITY = ConfigUtils.getOrDefault(OFF_HEAP_CAPACITY_PROPERTY, 64L * 1024 * 1024);
+    /** Default slab size. */
+    public static final int DEFAULT_SLAB_SIZE = ConfigUtils.getOrDefault(OFF_HEAP_SLAB_SIZE_PROPERTY, 4 * 1024 * 1024);
+    /** Default block size. */
+    public static final int DEFAULT_BLOCK_SIZE = ConfigUtils.getOrDefault(OFF_HEAP_BLOCK_SIZE_PROPERTY, 512);
+    /** Default off-heap cache entry time-to-live. */
+    public static final Duration DEFAULT_TTL = ConfigUtils.getOrDefault(OFF_HEAP_TTL_PROPERTY, Duration.ofMinutes(5));
+    private final Map<String, OffHeapEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private final LongAdder evictions = new LongAdder();
+    @Getter
+    private final CacheStatistics statistics = new CacheStatistics();
+    private final CacheValueCodec valueCodec;
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final int totalBlocks;
+    private final Duration ttl;
+    private int[] freeBlocks;
+    private int freeBlockCount;
+    private int nextUnallocatedBlock;
+
+    /**
+     * Creates an off-heap cache with the default capacity, slab size, block size and TTL.
+     *
+     * @param valueCodec codec encoding and decoding the stored values
+     */
+    public OffHeapAsyncCacheManager(CacheValueCodec valueCodec) {
+        this(valueCodec, DEFAULT_CAPACITY, DEFAULT_SLAB_SIZE, DEFAULT_BLOCK_SIZE, DEFAULT_TTL);
+    }
+
+    /**
+     * Creates an off-heap cache. Slabs are only allocated once values need them.
+     *
+     * @param valueCodec codec encoding and decoding the stored values
+     * @param capacity maximum off-heap memory in bytes
+     * @param slabSize size of a single slab in bytes; a multiple of {@code blockSize}
+     * @param blockSize size of a single block in bytes
+     * @param ttl default time-to-live of entries
+     * @throws IllegalArgumentException if the sizes are not positive or the slab size is not a multiple of the block size
+     */
+    public OffHeapAsyncCacheManager(CacheValueCodec valueCodec, long capacity, int slabSize, int blockSize, Duration ttl) {
+        if (capacity <= 0 || slabSize <= 0 || blockSize <= 0 || slabSize % blockSize != 0) {
+            throw new IllegalArgumentException("Invalid off-heap cache sizes: capacity=" + capacity + ", slabSize=" + slabSize + ", blockSize=" + blockSize);
+        }
+        this.valueCodec = valueCodec;
+        this.blockSize = blockSize;
+        this.blocksPerSlab = slabSize / blockSize;
+        this.totalBlocks = (int) Math.min(Integer.MAX_VALUE, capacity / blockSize);
+        this.ttl = ttl;
+        this.freeBlocks = new int[Math.min(totalBlocks, 1024)];
+        log.info("Initialized off-heap cache manager with capacity={}B, slabSize={}B, blockSize={}B, TTL={}ms",
+                (long) totalBlocks * blockSize, slabSize, blockSize, ttl.toMillis());
+    }
+
+    /**
+     * Decodes the stored value if it is present and not expired.
+     *
+     * @param key Cache key.
+     * @param clazz Expected type of the cached value.
+     * @param <T> Type parameter.
+     * @return A completed {@link CompletableFuture} with the cached value, or empty on a miss or if the value cannot be decoded.
+     * @throws CacheManagingException if the lookup fails unexpectedly.
+     */
+    @Override
+    public <T> CompletableFuture<Optional<T>> get(String key, Class<T> clazz) {
+        try {
+            Optional<byte[]> value = this.read(key);
+            if (value.isEmpty()) return CompletableFuture.completedFuture(Optional.empty());
+            try {
+                return CompletableFuture.completedFuture(Optional.of(valueCodec.decode(value.get(), clazz)));
+            } catch (Exception e) {
+                log.warn("Failed to deserialize off-heap cache value for key={}, returning empty", key);
+                return CompletableFuture.completedFuture(Optional.empty());
+            }
+        } catch (Exception e) {
+            log.error("Off-heap cache get failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Encodes and stores the value with the default TTL.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @return A completed {@link CompletableFuture}.
+     * @throws CacheManagingException if the value cannot be encoded.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value) {
+        return this.put(key, value, ttl);
+    }
+
+    /**
+     * Encodes and stores the value with the given TTL, evicting least recently used entries when memory is short.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @param ttl Expiration time for the stored value; non-positive values never expire.
+     * @return A completed {@link CompletableFuture}.
+     * @throws CacheManagingException if the value cannot be encoded.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value, Duration ttl) {
+        try {
+            this.write(key, valueCodec.encode(value), ttl);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            log.error("Off-heap cache put failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Decodes every stored value that is present and not expired.
+     *
+     * @param keys Cache keys.
+     * @param clazz Expected type of the cached values.
+     * @param <T> Type parameter.
+     * @return A completed {@link CompletableFuture} with the found values by key.
+     */
+    @Override
+    public <T> CompletableFuture<Map<String, T>> getAll(Collection<String> keys, Class<T> clazz) {
+        Map<String, T> values = new LinkedHashMap<>();
+        for (String key : keys) {
+            this.get(key, clazz).join().ifPresent(value -> values.put(key, value));
+        }
+        return CompletableFuture.completedFuture(values);
+    }
+
+    /**
+     * Encodes and stores every value with the given TTL.
+     *
+     * @param values Objects to cache by key.
+     * @param ttl Expiration time for every stored value.
+     * @return A completed {@link CompletableFuture}.
+     * @throws CacheManagingException if a value cannot be encoded.
+     */
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, ?> values, Duration ttl) {
+        try {
+            values.forEach((key, value) -> this.write(key, valueCodec.encode(value), ttl));
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            log.error("Off-heap cache put failed: keys={}", values.keySet(), e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Copies the stored payload to the heap if it is present and not expired.
+     *
+     * @param key Cache key.
+     * @return A completed {@link CompletableFuture} with the payload, or empty on a miss.
+     * @throws CacheManagingException if the lookup fails unexpectedly.
+     */
+    @Override
+    public CompletableFuture<Optional<byte[]>> getBytes(String key) {
+        try {
+            return CompletableFuture.completedFuture(this.read(key));
+        } catch (Exception e) {
+            log.error("Off-heap cache get failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Stores the payload with the default TTL.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @return A completed {@link CompletableFuture}.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value) {
+        return this.putBytes(key, value, ttl);
+    }
+
+    /**
+     * Stores the payload with the given TTL.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @param ttl Expiration time for the stored payload; non-positive values never expire.
+     * @return A completed {@link CompletableFuture}.
+     * @throws CacheManagingException if the payload cannot be stored.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value, Duration ttl) {
+        try {
+            this.write(key, value, ttl);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            log.error("Off-heap cache put failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Returns the number of stored entries.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the number of bytes currently reserved for stored values, rounded up to whole blocks.
+     *
+     * @return the used off-heap memory in bytes
+     */
+    public long getUsedBytes() {
+        synchronized (entries) {
+            return (long) (nextUnallocatedBlock - freeBlockCount) * blockSize;
+        }
+    }
+
+    /**
+     * Returns the number of off-heap bytes allocated for slabs.
+     *
+     * @return the allocated off-heap memory in bytes
+     */
+    public long getAllocatedBytes() {
+        synchronized (entries) {
+            return (long) slabs.size() * blocksPerSlab * blockSize;
+        }
+    }
+
+    /**
+     * Returns the number of entries evicted to make room for new values.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Drops all entries and releases the slabs to the garbage collector.
+     */
+    @Override
+    public void close() {
+        log.info("Closing off-heap cache: entries={}, usedBytes={}, allocatedBytes={}, evictions={}, statistics={}",
+                this.size(), this.getUsedBytes(), this.getAllocatedBytes(), this.getEvictionCount(), statistics);
+        synchronized (entries) {
+            entries.clear();
+            slabs.clear();
+            freeBlockCount = 0;
+            nextUnallocatedBlock = 0;
+        }
+    }
+
+    /**
+     * Copies the value of the key from its blocks to the heap, dropping it if it has expired.
+     *
+     * @param key Cache key.
+     * @return the stored bytes, empty on a miss
+     */
+    private Optional<byte[]> read(String key) {
+        synchronized (entries) {
+            OffHeapEntry entry = entries.get(key);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                entries.remove(key);
+                this.release(entry);
+                entry = null;
+            }
+            if (entry == null) {
+                statistics.recordMiss();
+                log.debug("Off-heap cache miss: key={}", key);
+                return Optional.empty();
+            }
+            byte[] value = new byte[entry.length()];
+            int offset = 0;
+            for (int block : entry.blocks()) {
+                int length = Math.min(blockSize, value.length - offset);
+                this.blockBuffer(block).get(value, offset, length);
+                offset += length;
+            }
+            statistics.recordHit();
+            log.debug("Off-heap cache hit: key={}, size={}B", key, value.length);
+            return Optional.of(value);
+        }
+    }
+
+    /**
+     * Copies the value into free blocks, replacing the previous value of the key and evicting
+     * least recently used entries until enough blocks are free.
+     *
+     * @param key Cache key.
+     * @param value Encoded value or payload.
+     * @param ttl Expiration time of the value; non-positive values never expire.
+     */
+    private void write(String key, byte[] value, Duration ttl) {
+        int requiredBlocks = (value.length + blockSize - 1) / blockSize;
+        long expiresAt = ttl.isPositive() ? System.nanoTime() + ttl.toNanos() : OffHeapEntry.NEVER_EXPIRES;
+        synchronized (entries) {
+            OffHeapEntry previous = entries.remove(key);
+            if (previous != null) this.release(previous);
+            if (requiredBlocks > totalBlocks) {
+                log.warn("Value exceeds off-heap cache capacity, not caching: key={}, size={}B", key, value.length);
+                return;
+            }
+            Iterator<Map.Entry<String, OffHeapEntry>> iterator = entries.entrySet().iterator();
+            while (this.getAvailableBlocks() < requiredBlocks) {
+                Map.Entry<String, OffHeapEntry> eldest = iterator.next();
+                iterator.remove();
+                this.release(eldest.getValue());
+                evictions.increment();
+                log.debug("Off-heap cache evicted: key={}", eldest.getKey());
+            }
+            int[] blocks = new int[requiredBlocks];
+            for (int i = 0; i < requiredBlocks; i++) {
+                blocks[i] = this.allocateBlock();
+                int offset = i * blockSize;
+                this.blockBuffer(blocks[i]).put(value, offset, Math.min(blockSize, value.length - offset));
+            }
+            entries.put(key, new OffHeapEntry(blocks, value.length, expiresAt));
+        }
+        log.debug("Off-heap cache put: key={}, size={}B, blocks={}, ttl={}ms", key, value.length, requiredBlocks, ttl.toMillis());
+    }
+
+    /**
+     * Returns the number of blocks that can be allocated without eviction.
+     *
+     * @return the available block count
+     */
+    private int getAvailableBlocks() {
+        return freeBlockCount + totalBlocks - nextUnallocatedBlock;
+    }
+
+    /**
+     * Takes a block from the free list or carves a new one, allocating a new slab when needed.
+     *
+     * @return the block index
+     */
+    private int allocateBlock() {
+        if (freeBlockCount > 0) return freeBlocks[--freeBlockCount];
+        int block = nextUnallocatedBlock++;
+        if (block / blocksPerSlab == slabs.size()) {
+            int slabBlocks = Math.min(blocksPerSlab, totalBlocks - block);
+            slabs.add(ByteBuffer.allocateDirect(slabBlocks * blockSize));
+            log.debug("Off-heap cache slab allocated: slabs={}, size={}B", slabs.size(), slabBlocks * blockSize);
+        }
+        return block;
+    }
+
+    /**
+     * Returns the blocks of the entry to the free list.
+     *
+     * @param entry the removed entry
+     */
+    private void release(OffHeapEntry entry) {
+        for (int block : entry.blocks()) {
+            if (freeBlockCount == freeBlocks.length) {
+                int[] grown = new int[Math.min(totalBlocks, freeBlocks.length * 2)];
+                System.arraycopy(freeBlocks, 0, grown, 0, freeBlockCount);
+                freeBlocks = grown;
+            }
+            freeBlocks[freeBlockCount++] = block;
+        }
+    }
+
+    /**
+     * Returns a buffer positioned at the start of the block and limited to its end.
+     *
+     * @param block the block index
+     * @return a view of the block
+     */
+    private ByteBuffer blockBuffer(int block) {
+        int offset = (block % blocksPerSlab) * blockSize;
+        return slabs.get(block / blocksPerSlab).slice(offset, blockSize);
+    }
+
+    /**
+     * Heap index entry of a value stored off-heap.
+     *
+     * @param blocks the blocks holding the value, in order
+     * @param length the value length in bytes
+     * @param expiresAt the {@link System#nanoTime()} at which the value expires
+     */
+    private record OffHeapEntry(int[] blocks, int length, long expiresAt) {
+        private static final long NEVER_EXPIRES = Long.MAX_VALUE;
+
+        /**
+         * Checks whether the entry has expired.
+         *
+         * @param now the current {@link System#nanoTime()}
+         * @return {@code true} if the entry has expired
+         */
+        private boolean isExpired(long now) {
+            return expiresAt != NEVER_EXPIRES && now - expiresAt >= 0;
+        }
+    }
+}
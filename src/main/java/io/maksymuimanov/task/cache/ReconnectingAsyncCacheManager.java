@@ -0,0 +1,323 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheManagingException;
+import io.maksymuimanov.task.util.ConfigUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Stands in for a cache that could not be connected and keeps retrying the connection in the
+ * background.
+ * <p>
+ * The connection is attempted once on construction. If it fails, a background thread retries it
+ * every {@code retryInterval} until it succeeds or the manager is closed. While disconnected,
+ * every operation fails with a {@link CacheManagingException}, so that decorators such as
+ * {@link MappedSnapshotAsyncCacheManager} or {@link CircuitBreakerAsyncCacheManager} see the
+ * outage and fall back as they would for an unreachable cache;
+ * {@link #getOrCompute(String, Class, Duration, Supplier)} calls the loader directly. Once
+ * connected, every operation is passed to the connected cache and the registered connection
+ * listeners are notified, e.g. to subscribe to its invalidations.
+ *
+ * @param <M> the type of the connected cache
+ * @see AsyncCacheManager
+ * @see RedisAsyncCacheManager
+ */
+@Slf4j
+public class ReconnectingAsyncCacheManager<M extends AsyncCacheManager> implements AsyncCacheManager {
+    /** System property key defining the interval (in milliseconds) between connection attempts. */
+    public static final String CACHE_RECONNECT_INTERVAL_PROPERTY = "cache.reconnect.interval";
+    /** Default interval between connection attempts. */
+    public static final Duration DEFAULT_RECONNECT_INTERVAL = ConfigUtils.getOrDefault(CACHE_RECONNECT_INTERVAL_PROPERTY, Duration.ofSeconds(5));
+    private final List<Consumer<? super M>> connectionListeners = new CopyOnWriteArrayList<>();
+    private final Supplier<M> connector;
+    private final ScheduledExecutorService reconnectExecutor;
+    private volatile M delegate;
+    private boolean closed;
+
+    /**
+     * Creates a reconnecting cache with the retry interval from system properties or the default value.
+     *
+     * @param connector opens the cache, throwing if it cannot be reached
+     */
+    public ReconnectingAsyncCacheManager(Supplier<M> connector) {
+        this(connector, DEFAULT_RECONNECT_INTERVAL);
+    }
+
+    /**
+     * Creates a reconnecting cache, attempts the first connection and, if it fails, starts the background retries.
+     *
+     * @param connector opens the cache, throwing if it cannot be reached
+     * @param retryInterval interval between connection attempts
+     */
+    public ReconnectingAsyncCacheManager(Supplier<M> connector, Duration retryInterval) {
+        this.connector = connector;
+        this.reconnectExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!this.tryConnect()) {
+            long intervalMillis = retryInterval.toMillis();
+            this.reconnectExecutor.scheduleWithFixedDelay(() -> {
+                if (this.tryConnect()) reconnectExecutor.shutdown();
+            }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+            log.info("Initialized reconnecting cache manager with retryInterval={}ms", intervalMillis);
+        } else {
+            reconnectExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Registers a listener notified with the connected cache, immediately if it is already connected.
+     *
+     * @param listener the listener to add
+     */
+    public void addConnectionListener(Consumer<? super M> listener) {
+        M connected;
+        synchronized (connectionListeners) {
+            connectionListeners.add(listener);
+            connected = delegate;
+        }
+        if (connected != null) listener.accept(connected);
+    }
+
+    /**
+     * Checks whether the cache is connected.
+     *
+     * @return {@code true} if operations are passed to the connected cache
+     */
+    public boolean isConnected() {
+        return delegate != null;
+    }
+
+    /**
+     * Reads the value from the connected cache.
+     *
+     * @param key Cache key.
+     * @param clazz Expected type of the cached value.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the cached value.
+     * @throws CacheManagingException if the cache is not connected.
+     */
+    @Override
+    public <T> CompletableFuture<Optional<T>> get(String key, Class<T> clazz) {
+        return this.call(connected -> connected.get(key, clazz));
+    }
+
+    /**
+     * Reads the value with its metadata from the connected cache.
+     *
+     * @param key Cache key.
+     * @param clazz Expected type of the cached value.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the cached entry.
+     * @throws CacheManagingException if the cache is not connected.
+     */
+    @Override
+    public <T> CompletableFuture<Optional<CacheEntry<T>>> getEntry(String key, Class<T> clazz) {
+        return this.call(connected -> connected.getEntry(key, clazz));
+    }
+
+    /**
+     * Writes the value to the connected cache.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @return A {@link CompletableFuture} completing when the value is stored.
+     * @throws CacheManagingException if the cache is not connected.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value) {
+        return this.call(connected -> connected.put(key, value));
+    }
+
+    /**
+     * Writes the value with the given TTL to the connected cache.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @param ttl Expiration time for the stored value.
+     * @return A {@link CompletableFuture} completing when the value is stored.
+     * @throws CacheManagingException if the cache is not connected.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value, Duration ttl) {
+        return this.call(connected -> connected.put(key, value, ttl));
+    }
+
+    /**
+     * Reads the values from the connected cache.
+     *
+     * @param keys Cache keys.
+     * @param clazz Expected type of the cached values.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the found values by key.
+     * @throws CacheManagingException if the cache is not connected.
+     */
+    @Override
+    public <T> CompletableFuture<Map<String, T>> getAll(Collection<String> keys, Class<T> clazz) {
+        return this.call(connected -> connected.getAll(keys, clazz));
+    }
+
+    /**
+     * Writes the values to the connected cache.
+     *
+     * @param values Objects to cache by key.
+     * @param ttl Expiration time for every stored value.
+     * @return A {@link CompletableFuture} completing when the values are stored.
+     * @throws CacheManagingException if the cache is not connected.
+     */
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, ?> values, Duration ttl) {
+        return this.call(connected -> connected.putAll(values, ttl));
+    }
+
+    /**
+     * Reads the payload from the connected cache.
+     *
+     * @param key Cache key.
+     * @return A {@link CompletableFuture} with the cached payload.
+     * @throws CacheManagingException if the cache is not connected.
+     */
+    @Override
+    public CompletableFuture<Optional<byte[]>> getBytes(String key) {
+        return this.call(connected -> connected.getBytes(key));
+    }
+
+    /**
+     * Writes the payload to the connected cache.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @return A {@link CompletableFuture} completing when the payload is stored.
+     * @throws CacheManagingException if the cache is not connected.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value) {
+        return this.call(connected -> connected.putBytes(key, value));
+    }
+
+    /**
+     * Writes the payload with the given TTL to the connected cache.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @param ttl Expiration time for the stored payload.
+     * @return A {@link CompletableFuture} completing when the payload is stored.
+     * @throws CacheManagingException if the cache is not connected.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value, Duration ttl) {
+        return this.call(connected -> connected.putBytes(key, value, ttl));
+    }
+
+    /**
+     * Delegates the computation to the connected cache and calls the loader directly while disconnected.
+     *
+     * @param key Cache key.
+     * @param clazz Expected type of the value.
+     * @param ttl Expiration time for a computed value.
+     * @param loader Computes the value on a miss.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the cached or computed value.
+     */
+    @Override
+    public <T> CompletableFuture<T> getOrCompute(String key, Class<T> clazz, Duration ttl, Supplier<CompletableFuture<T>> loader) {
+        M connected = delegate;
+        if (connected == null) {
+            log.debug("Cache is not connected, computing without cache: key={}", key);
+            return loader.get();
+        }
+        return connected.getOrCompute(key, clazz, ttl, loader);
+    }
+
+    /**
+     * Stops the connection attempts and closes the connected cache, if any.
+     *
+     * @throws Exception if the connected cache fails to close
+     */
+    @Override
+    public void close() throws Exception {
+        M connected;
+        synchronized (connectionListeners) {
+            closed = true;
+            connected = delegate;
+        }
+        reconnectExecutor.shutdownNow();
+        log.info("Closing reconnecting cache: connected={}", connected != null);
+        if (connected != null) connected.close();
+    }
+
+    /**
+     * Attempts to connect the cache and notifies the connection listeners on success.
+     * A cache connected after {@link #close()} is closed right away.
+     *
+     * @return {@code true} if no further attempts are needed
+     */
+    private boolean tryConnect() {
+        M connected;
+        try {
+            connected = connector.get();
+        } catch (Exception e) {
+            log.warn("Cache is unreachable, retrying in the background: {}", e.getMessage());
+            return false;
+        }
+        List<Consumer<? super M>> listeners;
+        synchronized (connectionListeners) {
+            if (closed) {
+                this.closeQuietly(connected);
+                return true;
+            }
+            delegate = connected;
+            listeners = List.copyOf(connectionListeners);
+        }
+        log.info("Cache connected");
+        listeners.forEach(listener -> listener.accept(connected));
+        return true;
+    }
+
+    /**
+     * Closes a cache connected after {@link #close()}, logging instead of propagating failures.
+     *
+     * @param connected the connected cache
+     */
+    private void closeQuietly(M connected) {
+        try {
+            connected.close();
+        } catch (Exception e) {
+            log.warn("Failed to close cache connected after close: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the operation on the connected cache, or fails it while disconnected.
+     *
+     * @param operation the cache operation
+     * @param <T> Type parameter.
+     * @return the operation future, or a failed future if the cache is not connected
+     */
+    private <T> CompletableFuture<T> call(Function<M, CompletableFuture<T>> operation) {
+        M connected = delegate;
+        if (connected == null) {
+            return CompletableFuture.failedFuture(new CacheManagingException(new IllegalStateException("Cache is not connected")));
+        }
+        try {
+            return operation.apply(connected);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+}
@@ -1,26 +1,95 @@
 package io.maksymuimanov.task.cache;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisClient;
-import io.lettuce.core.api.StatefulRedisConnection;
-import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
 import io.maksymuimanov.task.exception.CacheManagingException;
 import io.maksymuimanov.task.util.ConfigUtils;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Provides asynchronous caching using Redis for non-blocking API aggregation operations.
  * <p>
- * This manager handles JSON serialization, cache retrieval, and cache storage through
- * the Lettuce asynchronous Redis client. It is designed to integrate seamlessly into
+ * This manager handles value serialization, cache retrieval, and cache storage through
+ * the Lettuce asynchronous Redis client. Values travel as raw bytes over a
+ * {@code String}/{@code byte[]} Lettuce codec and are encoded by a pluggable
+ * {@link CacheValueCodec} (JSON, Smile or CBOR), avoiding intermediate {@link String} copies. It is designed to integrate seamlessly into
  * the concurrent Netty-based system, supporting resilience through cached fallbacks
  * and non-blocking cache access.
+ * <p>
+ * Optionally enables RESP3 client-side caching ({@code CLIENT TRACKING} in broadcasting mode).
+ * Invalidations pushed by the server when another node writes a key are forwarded to the
+ * registered {@link CacheInvalidationListener}s, keeping node-local copies coherent.
+ * {@code NOLOOP} only suppresses notifications for writes of the tracking (primary) connection,
+ * so writes sent over the other pooled and batch connections are counted per key, and as many
+ * invalidations of that key are treated as echoes of this node's own writes and not forwarded.
+ * A foreign invalidation consumed in place of an echo is harmless: the echo it stands in for
+ * then arrives uncounted and evicts the local copy.
+ * <p>
+ * Encoded values above the {@link CacheValueCompressor} threshold are compressed before being
+ * sent. Payload sizes and per-operation latency are collected in {@link #getTransferStatistics()}
+ * and logged on close; the server-side memory of a single key can be queried with
+ * {@link #memoryUsage(String)}.
+ * <p>
+ * Commands are spread over the shared connections of a {@link RedisConnectionPool} by key hash or
+ * round robin. Batch reads map to one {@code MGET} per connection. Batch writes with a TTL are
+ * pipelined as {@code PSETEX} commands on the batch connection paired with each shared connection
+ * and sent with a single flush, so a whole batch costs one network round trip per connection
+ * without delaying single commands.
+ * <p>
+ * Connections are opened by a {@link RedisConnectionFactory}, so the same manager works against a
+ * single node, a Sentinel-managed master/replica setup or Redis Cluster ({@link RedisTopology}),
+ * with reads following the configured {@link ReadFrom} policy where replicas are available.
+ * <p>
+ * {@link #getOrCompute(String, Class, Duration, Supplier)} protects expensive values from cache
+ * stampedes across the fleet: a caller missing the value takes a lease ({@code SET NX PX}) and
+ * recomputes it, while the others poll for the new value for a short time and then fall back to a
+ * longer-lived stale copy. The lease is released with a compare-and-delete script so that a slow
+ * holder never removes a lease taken over by someone else, and it expires on its own when the
+ * holder crashes. Within one process, concurrent callers missing the same key share a single
+ * in-flight computation, so only one of them takes part in the lease race or polls for the value.
+ * <p>
+ * Values computed this way are framed with their compute time and expiry ({@link CacheEntryHeader})
+ * and exposed through {@link #getEntry(String, Class)}. Readers refresh them early with the
+ * probability given by {@link XFetchEarlyExpiration}, so refreshes spread out before expiry;
+ * a reader that loses the lease race keeps serving the still valid value.
  *
  * @see AsyncCacheManager
+ * @see CacheValueCodec
+ * @see CacheValueCompressor
+ * @see CacheInvalidationListener
+ * @see RedisConnectionFactory
+ * @see RedisConnectionPool
  */
 @Slf4j
 public class RedisAsyncCacheManager implements AsyncCacheManager {
@@ -32,54 +101,203 @@ public class RedisAsyncCacheManager implements AsyncCacheManager {
     public static final String DEFAULT_REDIS_URL = ConfigUtils.getOrDefault(REDIS_URL_PROPERTY, "redis://localhost:6379");
     /** Default cache entry time-to-live (TTL), applied to all entries unless overridden. */
     public static final Duration DEFAULT_REDIS_TTL = ConfigUtils.getOrDefault(REDIS_TTL_PROPERTY, Duration.ofMinutes(5));
-    private final RedisClient redisClient;
-    private final StatefulRedisConnection<String, String> connection;
-    private final RedisAsyncCommands<String, String> commands;
-    private final ObjectMapper objectMapper;
+    /** System property key defining whether RESP3 client-side caching invalidations are enabled. */
+    public static final String REDIS_CLIENT_TRACKING_PROPERTY = "redis.client-tracking";
+    /** Default client tracking flag; disabled unless explicitly configured. */
+    public static final boolean DEFAULT_CLIENT_TRACKING = ConfigUtils.getOrDefault(REDIS_CLIENT_TRACKING_PROPERTY, false);
+    /** Type of RESP3 push messages carrying client-side caching invalidations. */
+    public static final String INVALIDATE_PUSH_MESSAGE_TYPE = "invalidate";
+    /** System property key selecting the {@link CacheValueFormat} of stored values. */
+    public static final String REDIS_CODEC_PROPERTY = "redis.codec";
+    /** Default format of stored values; JSON keeps compatibility with existing entries. */
+    public static final CacheValueFormat DEFAULT_CODEC_FORMAT = ConfigUtils.getOrDefault(REDIS_CODEC_PROPERTY, CacheValueFormat.JSON);
+    /** System property key selecting the {@link RedisTopology} of the Redis deployment. */
+    public static final String REDIS_TOPOLOGY_PROPERTY = "redis.topology";
+    /** Default Redis topology; a single node. */
+    public static final RedisTopology DEFAULT_TOPOLOGY = ConfigUtils.getOrDefault(REDIS_TOPOLOGY_PROPERTY, RedisTopology.STANDALONE);
+    /** System property key defining the {@link ReadFrom} policy for topologies with replicas, e.g. {@code nearest} or {@code replicaPreferred}. */
+    public static final String REDIS_READ_FROM_PROPERTY = "redis.read-from";
+    /** Default read policy; replicas are preferred so that fallback reads offload the master. */
+    public static final ReadFrom DEFAULT_READ_FROM = ReadFrom.valueOf(ConfigUtils.getOrDefault(REDIS_READ_FROM_PROPERTY, "replicaPreferred"));
+    /** System property key defining how long (in milliseconds) a recomputation lease is held at most. */
+    public static final String REDIS_LEASE_TIMEOUT_PROPERTY = "redis.lease.timeout";
+    /** System property key defining how long (in milliseconds) callers without the lease wait for the recomputed value. */
+    public static final String REDIS_LEASE_WAIT_PROPERTY = "redis.lease.wait";
+    /** System property key defining the interval (in milliseconds) between polls while waiting for the recomputed value. */
+    public static final String REDIS_LEASE_POLL_INTERVAL_PROPERTY = "redis.lease.poll-interval";
+    /** System property key defining how long (in milliseconds) the stale copy outlives a computed value. */
+    public static final String REDIS_STALE_TTL_PROPERTY = "redis.stale-ttl";
+    /** Default lease timeout; bounds how long a crashed holder blocks recomputation. */
+    public static final Duration DEFAULT_LEASE_TIMEOUT = ConfigUtils.getOrDefault(REDIS_LEASE_TIMEOUT_PROPERTY, Duration.ofSeconds(5));
+    /** Default time callers without the lease wait before falling back to the stale copy. */
+    public static final Duration DEFAULT_LEASE_WAIT = ConfigUtils.getOrDefault(REDIS_LEASE_WAIT_PROPERTY, Duration.ofMillis(500));
+    /** Default poll interval while waiting for the recomputed value. */
+    public static final Duration DEFAULT_LEASE_POLL_INTERVAL = ConfigUtils.getOrDefault(REDIS_LEASE_POLL_INTERVAL_PROPERTY, Duration.ofMillis(25));
+    /** Default extra lifetime of stale copies. */
+    public static final Duration DEFAULT_STALE_TTL = ConfigUtils.getOrDefault(REDIS_STALE_TTL_PROPERTY, Duration.ofMinutes(10));
+    /** Prefix of the keys holding recomputation leases. */
+    public static final String LEASE_KEY_PREFIX = "lease:";
+    /** Prefix of the keys holding stale copies of computed values. */
+    public static final String STALE_KEY_PREFIX = "stale:";
+    /** Lua script deleting a lease only if it is still held with the given token. */
+    public static final String RELEASE_LEASE_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end";
+    /** Lettuce codec exchanging {@link String} keys and raw {@code byte[]} values. */
+    public static final RedisCodec<String, byte[]> STRING_BYTE_ARRAY_CODEC = RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE);
+    private final List<CacheInvalidationListener> invalidationListeners = new CopyOnWriteArrayList<>();
+    private final List<CacheFailureListener> failureListeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> pendingOwnInvalidations = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<?>> inFlightComputations = new ConcurrentHashMap<>();
+    private volatile boolean clientTrackingEnabled;
+    private final RedisConnectionPool connectionPool;
+    private final CacheValueCodec valueCodec;
+    private final CacheValueCompressor compressor;
     private final Duration ttl;
+    @Getter
+    private final CacheTransferStatistics transferStatistics = new CacheTransferStatistics();
+    @Getter
+    private final XFetchEarlyExpiration earlyExpiration = new XFetchEarlyExpiration();
 
     /**
-     * Creates a cache manager using the Redis URL from system properties or the default value.
+     * Creates a cache manager using the Redis URL and value format from system properties or the default values.
      *
-     * @param objectMapper Jackson mapper for JSON serialization and deserialization.
+     * @param objectMapper Jackson mapper whose configuration is used by the value codec.
      */
     public RedisAsyncCacheManager(ObjectMapper objectMapper) {
-        this(DEFAULT_REDIS_URL, objectMapper, DEFAULT_REDIS_TTL);
+        this(DEFAULT_REDIS_URL, DEFAULT_CODEC_FORMAT.createCodec(objectMapper), DEFAULT_REDIS_TTL);
     }
 
     /**
      * Creates a Redis-based cache manager with custom TTL.
      *
      * @param url Redis server URL.
-     * @param objectMapper Jackson mapper for JSON serialization and deserialization.
+     * @param valueCodec Codec for value serialization and deserialization.
      * @param ttl Default expiration time for stored values.
      */
     public RedisAsyncCacheManager(String url,
-                                  ObjectMapper objectMapper,
+                                  CacheValueCodec valueCodec,
                                   Duration ttl) {
-        this(RedisClient.create(url), objectMapper, ttl);
+        this(url, valueCodec, ttl, DEFAULT_CLIENT_TRACKING);
+    }
+
+    /**
+     * Creates a Redis-based cache manager with custom TTL and client tracking mode, using the
+     * topology and read policy from system properties or the default values.
+     * When tracking is enabled, the client is forced to speak RESP3 so that invalidations
+     * are pushed over the same connection.
+     *
+     * @param url Redis server URL.
+     * @param valueCodec Codec for value serialization and deserialization.
+     * @param ttl Default expiration time for stored values.
+     * @param clientTracking Whether to enable client-side caching invalidations.
+     */
+    public RedisAsyncCacheManager(String url,
+                                  CacheValueCodec valueCodec,
+                                  Duration ttl,
+                                  boolean clientTracking) {
+        this(DEFAULT_TOPOLOGY.createConnectionFactory(url, DEFAULT_READ_FROM, clientTracking), valueCodec, new CacheValueCompressor(), ttl, clientTracking);
     }
 
     /**
      * Initializes Redis client connection and asynchronous command interface.
      *
      * @param redisClient Redis client instance.
-     * @param objectMapper Jackson mapper for JSON serialization and deserialization.
+     * @param valueCodec Codec for value serialization and deserialization.
      * @param ttl Default expiration time for stored values.
      */
     public RedisAsyncCacheManager(RedisClient redisClient,
-                                  ObjectMapper objectMapper,
+                                  CacheValueCodec valueCodec,
                                   Duration ttl) {
-        this.redisClient = redisClient;
-        this.connection = redisClient.connect();
-        this.commands = this.connection.async();
-        this.objectMapper = objectMapper;
+        this(new StandaloneRedisConnectionFactory(redisClient), valueCodec, new CacheValueCompressor(), ttl, DEFAULT_CLIENT_TRACKING);
+    }
+
+    /**
+     * Initializes a single-node Redis connection and asynchronous command interface,
+     * optionally enabling client-side caching invalidations.
+     *
+     * @param redisClient Redis client instance.
+     * @param valueCodec Codec for value serialization and deserialization.
+     * @param compressor Compressor applied to encoded values.
+     * @param ttl Default expiration time for stored values.
+     * @param clientTracking Whether to enable client-side caching invalidations.
+     */
+    public RedisAsyncCacheManager(RedisClient redisClient,
+                                  CacheValueCodec valueCodec,
+                                  CacheValueCompressor compressor,
+                                  Duration ttl,
+                                  boolean clientTracking) {
+        this(new StandaloneRedisConnectionFactory(redisClient), valueCodec, compressor, ttl, clientTracking);
+    }
+
+    /**
+     * Initializes a Redis connection of any topology and its asynchronous command interface,
+     * optionally enabling client-side caching invalidations where the topology supports them.
+     *
+     * @param connectionFactory Factory opening connections to the Redis deployment.
+     * @param valueCodec Codec for value serialization and deserialization.
+     * @param compressor Compressor applied to encoded values.
+     * @param ttl Default expiration time for stored values.
+     * @param clientTracking Whether to enable client-side caching invalidations.
+     */
+    public RedisAsyncCacheManager(RedisConnectionFactory connectionFactory,
+                                  CacheValueCodec valueCodec,
+                                  CacheValueCompressor compressor,
+                                  Duration ttl,
+                                  boolean clientTracking) {
+        this(new RedisConnectionPool(connectionFactory), valueCodec, compressor, ttl, clientTracking);
+    }
+
+    /**
+     * Initializes the cache manager on top of a pool of Redis connections,
+     * optionally enabling client-side caching invalidations where the topology supports them.
+     * Invalidations are received on the primary connection of the pool only.
+     *
+     * @param connectionPool Pool of connections to the Redis deployment.
+     * @param valueCodec Codec for value serialization and deserialization.
+     * @param compressor Compressor applied to encoded values.
+     * @param ttl Default expiration time for stored values.
+     * @param clientTracking Whether to enable client-side caching invalidations.
+     */
+    public RedisAsyncCacheManager(RedisConnectionPool connectionPool,
+                                  CacheValueCodec valueCodec,
+                                  CacheValueCompressor compressor,
+                                  Duration ttl,
+                                  boolean clientTracking) {
+        RedisConnectionFactory connectionFactory = connectionPool.getConnectionFactory();
+        this.connectionPool = connectionPool;
+        this.valueCodec = valueCodec;
+        this.compressor = compressor;
         this.ttl = ttl;
-        log.info("Initialized Redis cache manager with TTL={}s", ttl.toSeconds());
+        if (clientTracking && connectionFactory.supportsClientTracking()) {
+            this.enableClientTracking();
+        } else if (clientTracking) {
+            log.warn("Client tracking is not supported by {}, invalidations are disabled", connectionFactory.getClass().getSimpleName());
+        }
+        log.info("Initialized Redis cache manager with TTL={}s, clientTracking={}, compressionThreshold={}B",
+                ttl.toSeconds(), clientTracking, compressor.getThreshold());
     }
 
     /**
-     * Asynchronously retrieves a value from Redis cache and deserializes it into the specified type.
+     * Registers a listener notified about keys invalidated by the server.
+     * Listeners are only invoked when client tracking is enabled.
+     *
+     * @param listener the listener to register
+     */
+    public void addInvalidationListener(CacheInvalidationListener listener) {
+        invalidationListeners.add(listener);
+    }
+
+    /**
+     * Registers a listener notified about failed commands that a get-or-compute recovered from,
+     * such as a read treated as a miss or a computed value that could not be stored.
+     *
+     * @param listener the listener to register
+     */
+    public void addFailureListener(CacheFailureListener listener) {
+        failureListeners.add(listener);
+    }
+
+    /**
+     * Asynchronously retrieves a value from Redis cache and decodes it into the specified type.
      *
      * @param key Cache key.
      * @param clazz Type of value to deserialize.
@@ -89,20 +307,173 @@ public class RedisAsyncCacheManager implements AsyncCacheManager {
      */
     @Override
     public <T> CompletableFuture<Optional<T>> get(String key, Class<T> clazz) {
+        return this.getEntry(key, clazz)
+                .thenApply(entry -> entry.map(CacheEntry::value));
+    }
+
+    /**
+     * Asynchronously stores an encoded object in Redis cache with the configured TTL.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @return A {@link CompletableFuture} completed when the operation finishes.
+     * @throws CacheManagingException if serialization or Redis communication fails.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value) {
+        return this.put(key, value, ttl);
+    }
+
+    /**
+     * Asynchronously stores an encoded object in Redis cache with the given TTL.
+     * Uses {@code PSETEX} for positive TTLs and a plain {@code SET} otherwise.
+     * Values reaching the compression threshold are compressed before being sent.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @param ttl Expiration time for the stored value.
+     * @return A {@link CompletableFuture} completed when the operation finishes.
+     * @throws CacheManagingException if serialization or Redis communication fails.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value, Duration ttl) {
         try {
-            return commands.get(key)
+            long startNanos = System.nanoTime();
+            return this.store(key, valueCodec.encode(value), ttl, startNanos);
+        } catch (Exception e) {
+            log.error("Cache put failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Asynchronously retrieves several values with one {@code MGET} per connection and decodes them into the specified type.
+     *
+     * @param keys Cache keys.
+     * @param clazz Type of values to deserialize.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the found values by key; missing or invalid values are omitted.
+     * @throws CacheManagingException if Redis communication fails.
+     */
+    @Override
+    public <T> CompletableFuture<Map<String, T>> getAll(Collection<String> keys, Class<T> clazz) {
+        try {
+            if (keys.isEmpty()) return CompletableFuture.completedFuture(Map.of());
+            long startNanos = System.nanoTime();
+            Map<Integer, List<String>> keysByConnection = new HashMap<>();
+            for (String key : keys) {
+                keysByConnection.computeIfAbsent(connectionPool.selectIndex(key), index -> new ArrayList<>()).add(key);
+            }
+            List<CompletableFuture<List<KeyValue<String, byte[]>>>> futures = new ArrayList<>(keysByConnection.size());
+            keysByConnection.forEach((index, connectionKeys) -> futures.add(connectionPool.commands(index)
+                    .mget(connectionKeys.toArray(String[]::new))
+                    .toCompletableFuture()));
+            return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .thenApply(v -> {
+                        long elapsedNanos = System.nanoTime() - startNanos;
+                        long readBytes = 0;
+                        Map<String, T> values = new LinkedHashMap<>();
+                        for (CompletableFuture<List<KeyValue<String, byte[]>>> future : futures) {
+                            for (KeyValue<String, byte[]> keyValue : future.join()) {
+                                if (!keyValue.hasValue()) continue;
+                                byte[] value = keyValue.getValue();
+                                readBytes += value.length;
+                                try {
+                                    values.put(keyValue.getKey(), valueCodec.decode(this.restore(value), clazz));
+                                } catch (Exception e) {
+                                    log.warn("Failed to deserialize cache value for key={}, skipping", keyValue.getKey());
+                                }
+                            }
+                        }
+                        transferStatistics.recordRead(readBytes, elapsedNanos);
+                        log.debug("Cache mget: keys={}, connections={}, hits={}, size={}B, latency={}us",
+                                keys.size(), futures.size(), values.size(), readBytes, elapsedNanos / 1_000);
+                        return values;
+                    });
+        } catch (Exception e) {
+            log.error("Cache mget failed: keys={}", keys, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Asynchronously stores several encoded objects in one round trip per connection. Uses pipelined
+     * {@code PSETEX} commands for positive TTLs and one {@code MSET} per connection otherwise.
+     *
+     * @param values Objects to cache by key.
+     * @param ttl Expiration time for every stored value.
+     * @return A {@link CompletableFuture} completed when every value has been stored.
+     * @throws CacheManagingException if serialization or Redis communication fails.
+     */
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, ?> values, Duration ttl) {
+        try {
+            if (values.isEmpty()) return CompletableFuture.completedFuture(null);
+            long startNanos = System.nanoTime();
+            long encodedBytes = 0;
+            long storedBytes = 0;
+            Map<Integer, Map<String, byte[]>> storedValuesByConnection = new HashMap<>();
+            for (Map.Entry<String, ?> entry : values.entrySet()) {
+                byte[] encodedValue = valueCodec.encode(entry.getValue());
+                byte[] storedValue = compressor.compress(encodedValue);
+                encodedBytes += encodedValue.length;
+                storedBytes += storedValue.length;
+                storedValuesByConnection.computeIfAbsent(connectionPool.selectIndex(entry.getKey()), index -> new LinkedHashMap<>())
+                        .put(entry.getKey(), storedValue);
+            }
+            List<CompletableFuture<?>> futures = new ArrayList<>(storedValuesByConnection.size());
+            storedValuesByConnection.forEach((index, storedValues) -> {
+                boolean pipelined = ttl.isPositive();
+                boolean expectsEchoes = this.expectOwnInvalidations(storedValues.keySet(), pipelined || index != 0);
+                CompletableFuture<?> future = pipelined
+                        ? this.pipelinePsetex(index, storedValues, this.toTtlMillis(ttl))
+                        : connectionPool.commands(index).mset(storedValues).toCompletableFuture();
+                futures.add(future.whenComplete((v, ex) -> {
+                    if (ex != null && expectsEchoes) storedValues.keySet().forEach(this::consumeOwnInvalidation);
+                }));
+            });
+            long batchEncodedBytes = encodedBytes;
+            long batchStoredBytes = storedBytes;
+            return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(v -> {
+                long elapsedNanos = System.nanoTime() - startNanos;
+                transferStatistics.recordWrite(batchEncodedBytes, batchStoredBytes, elapsedNanos);
+                log.debug("Cache batch put: keys={}, connections={}, ttl={}ms, size={}B/{}B, latency={}us",
+                        values.size(), futures.size(), ttl.toMillis(), batchStoredBytes, batchEncodedBytes, elapsedNanos / 1_000);
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Cache batch put failed: keys={}", values.keySet(), e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Asynchronously retrieves a pre-serialized payload from Redis, only reverting compression.
+     *
+     * @param key Cache key.
+     * @return A {@link CompletableFuture} with an {@link Optional} payload, empty if not found or corrupted.
+     * @throws CacheManagingException if Redis communication fails.
+     */
+    @Override
+    public CompletableFuture<Optional<byte[]>> getBytes(String key) {
+        try {
+            long startNanos = System.nanoTime();
+            return connectionPool.commands(key).get(key)
                     .toCompletableFuture()
                     .thenApply(value -> {
+                        long elapsedNanos = System.nanoTime() - startNanos;
                         if (value == null) {
-                            log.debug("Cache miss: key={}", key);
+                            transferStatistics.recordRead(0, elapsedNanos);
+                            log.debug("Cache miss: key={}, latency={}us", key, elapsedNanos / 1_000);
                             return Optional.empty();
                         }
+                        transferStatistics.recordRead(value.length, elapsedNanos);
                         try {
-                            T t = objectMapper.readValue(value, clazz);
-                            log.debug("Cache hit: key={}", key);
-                            return Optional.of(t);
+                            byte[] payload = this.restore(value);
+                            log.debug("Cache hit: key={}, size={}B, latency={}us", key, value.length, elapsedNanos / 1_000);
+                            return Optional.of(payload);
                         } catch (Exception e) {
-                            log.warn("Failed to deserialize cache value for key={}, returning empty", key);
+                            log.warn("Failed to decompress cache payload for key={}, returning empty", key);
                             return Optional.empty();
                         }
                     });
@@ -113,33 +484,32 @@ public class RedisAsyncCacheManager implements AsyncCacheManager {
     }
 
     /**
-     * Asynchronously stores a serialized object in Redis cache with the configured TTL.
+     * Asynchronously stores a pre-serialized payload in Redis cache with the configured TTL.
      *
      * @param key Cache key.
-     * @param value Object to cache.
+     * @param value Payload to cache.
      * @return A {@link CompletableFuture} completed when the operation finishes.
-     * @throws CacheManagingException if serialization or Redis communication fails.
+     * @throws CacheManagingException if Redis communication fails.
      */
     @Override
-    public CompletableFuture<Void> put(String key, Object value) {
+    public CompletableFuture<Void> putBytes(String key, byte[] value) {
+        return this.putBytes(key, value, ttl);
+    }
+
+    /**
+     * Asynchronously stores a pre-serialized payload in Redis cache with the given TTL,
+     * skipping the value codec.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @param ttl Expiration time for the stored payload.
+     * @return A {@link CompletableFuture} completed when the operation finishes.
+     * @throws CacheManagingException if Redis communication fails.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value, Duration ttl) {
         try {
-            String jsonValue = objectMapper.writeValueAsString(value);
-            if (ttl.isPositive()) {
-                long ttlInSeconds = ttl.toSeconds();
-                return commands.setex(key, ttlInSeconds, jsonValue)
-                        .toCompletableFuture()
-                        .thenApply(v -> {
-                            log.debug("Cache setex: key={}, ttl={}s", key, ttlInSeconds);
-                            return null;
-                        });
-            } else {
-                return commands.set(key, jsonValue)
-                        .toCompletableFuture()
-                        .thenApply(v -> {
-                            log.debug("Cache set: key={}", key);
-                            return null;
-                        });
-            }
+            return this.store(key, value, ttl, System.nanoTime());
         } catch (Exception e) {
             log.error("Cache put failed: key={}", key, e);
             return CompletableFuture.failedFuture(new CacheManagingException(e));
@@ -147,21 +517,523 @@ public class RedisAsyncCacheManager implements AsyncCacheManager {
     }
 
     /**
-     * Closes the Redis connection and gracefully shuts down the client.
+     * Asynchronously retrieves a value from Redis cache together with its compute time, expiry and encoded size.
      *
-     * @throws CacheManagingException if closing or shutdown fails.
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with an {@link Optional} entry, empty if not found or invalid.
+     * @throws CacheManagingException if Redis communication fails.
      */
     @Override
-    public void close() {
+    public <T> CompletableFuture<Optional<CacheEntry<T>>> getEntry(String key, Class<T> clazz) {
+        try {
+            long startNanos = System.nanoTime();
+            return connectionPool.commands(key).get(key)
+                    .toCompletableFuture()
+                    .thenApply(value -> {
+                        long elapsedNanos = System.nanoTime() - startNanos;
+                        if (value == null) {
+                            transferStatistics.recordRead(0, elapsedNanos);
+                            log.debug("Cache miss: key={}, latency={}us", key, elapsedNanos / 1_000);
+                            return Optional.empty();
+                        }
+                        transferStatistics.recordRead(value.length, elapsedNanos);
+                        try {
+                            byte[] encodedValue = this.restore(value);
+                            CacheEntry<T> entry = CacheEntryHeader.toEntry(value, valueCodec.decode(encodedValue, clazz)).withEncodedSize(encodedValue.length);
+                            log.debug("Cache hit: key={}, size={}B, latency={}us", key, value.length, elapsedNanos / 1_000);
+                            return Optional.of(entry);
+                        } catch (Exception e) {
+                            log.warn("Failed to deserialize cache value for key={}, returning empty", key);
+                            return Optional.empty();
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("Cache get entry failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Retrieves a value or recomputes it under a fleet-wide lease.
+     * <p>
+     * On a miss the caller tries to take the lease with {@code SET NX PX}. The lease holder runs the
+     * loader, stores the value together with a stale copy and releases the lease. Callers that did
+     * not get the lease poll for the value for up to {@link #DEFAULT_LEASE_WAIT}, then serve the
+     * stale copy, and only run the loader themselves if there is none. If Redis cannot be reached
+     * the loader is run without coordination and the failed commands are reported to the
+     * {@link CacheFailureListener}s. Callers in this process missing the same key join the
+     * computation already in flight instead of starting their own.
+     * <p>
+     * On a hit the caller may decide to refresh the value early ({@link XFetchEarlyExpiration}).
+     * It then recomputes the value only if no refresh is in flight in this process and it gets the
+     * lease, and otherwise serves the cached value.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param ttl Expiration time of a computed value.
+     * @param loader Computes the value on a miss.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the cached, recomputed or stale value.
+     * @throws CacheManagingException if the lookup cannot be started.
+     */
+    @Override
+    public <T> CompletableFuture<T> getOrCompute(String key, Class<T> clazz, Duration ttl, Supplier<CompletableFuture<T>> loader) {
+        try {
+            return this.getEntry(key, clazz)
+                    .exceptionally(ex -> {
+                        log.warn("Cache read failed, treating as miss: key={}, error={}", key, ex.getMessage());
+                        this.notifyFailure(key, ex);
+                        return Optional.empty();
+                    })
+                    .thenCompose(cached -> {
+                        if (cached.isPresent()) {
+                            CacheEntry<T> entry = cached.get();
+                            if (!earlyExpiration.shouldRecompute(entry)) return CompletableFuture.completedFuture(entry.value());
+                            if (inFlightComputations.containsKey(key)) return CompletableFuture.completedFuture(entry.value());
+                            log.debug("Refreshing cache entry early: key={}, expiresAt={}", key, entry.expiresAt());
+                            return this.computeCoalesced(key, clazz, () -> this.acquireLease(key)
+                                    .thenCompose(token -> token.isPresent()
+                                            ? this.computeUnderLease(key, ttl, loader, token.get())
+                                            : CompletableFuture.completedFuture(entry.value())));
+                        }
+                        return this.computeCoalesced(key, clazz, () -> this.acquireLease(key)
+                                .thenCompose(token -> token.isPresent()
+                                        ? this.computeUnderLease(key, ttl, loader, token.get())
+                                        : this.awaitComputed(key, clazz, loader, System.nanoTime() + DEFAULT_LEASE_WAIT.toNanos())));
+                    });
+        } catch (Exception e) {
+            log.error("Cache get-or-compute failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Runs the computation unless one for the same key is already in flight in this process,
+     * in which case its result is shared. The slot is freed before the result is published, so
+     * callers arriving afterwards read the cache again.
+     *
+     * @param key Cache key.
+     * @param clazz Type of the computed value.
+     * @param computation Takes part in the lease race and produces the value.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the value of this or the joined computation.
+     */
+    private <T> CompletableFuture<T> computeCoalesced(String key, Class<T> clazz, Supplier<CompletableFuture<T>> computation) {
+        CompletableFuture<Object> inFlight = new CompletableFuture<>();
+        CompletableFuture<?> existing = inFlightComputations.putIfAbsent(key, inFlight);
+        if (existing != null) {
+            log.debug("Joining in-flight computation: key={}", key);
+            return existing.thenApply(clazz::cast);
+        }
+        CompletableFuture<T> computed;
         try {
-            log.info("Closing Redis cache connection");
-            this.connection.close();
+            computed = computation.get();
         } catch (Exception e) {
-            log.error("Failed to close Redis connection", e);
-            throw new CacheManagingException(e);
-        } finally {
-            this.redisClient.shutdown();
-            log.info("Redis client shutdown issued");
+            computed = CompletableFuture.failedFuture(e);
         }
+        return computed.whenComplete((value, ex) -> {
+            inFlightComputations.remove(key, inFlight);
+            if (ex != null) {
+                inFlight.completeExceptionally(ex);
+            } else {
+                inFlight.complete(value);
+            }
+        });
+    }
+
+    /**
+     * Tries to take the recomputation lease of the key.
+     * If Redis fails, the lease is treated as taken so that the caller computes without coordination.
+     *
+     * @param key Cache key.
+     * @return A {@link CompletableFuture} with the lease token, empty if another caller holds the lease.
+     */
+    private CompletableFuture<Optional<byte[]>> acquireLease(String key) {
+        String leaseKey = LEASE_KEY_PREFIX + key;
+        byte[] token = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        return connectionPool.commands(leaseKey).set(leaseKey, token, SetArgs.Builder.nx().px(DEFAULT_LEASE_TIMEOUT.toMillis()))
+                .toCompletableFuture()
+                .thenApply(reply -> {
+                    boolean acquired = "OK".equals(reply);
+                    log.debug("Cache lease {}: key={}", acquired ? "acquired" : "busy", key);
+                    return acquired ? Optional.of(token) : Optional.<byte[]>empty();
+                })
+                .exceptionally(ex -> {
+                    log.warn("Failed to acquire cache lease, computing without it: key={}, error={}", key, ex.getMessage());
+                    this.notifyFailure(key, ex);
+                    return Optional.of(token);
+                });
+    }
+
+    /**
+     * Runs the loader, stores the value with its stale copy and releases the lease.
+     *
+     * @param key Cache key.
+     * @param ttl Expiration time of the computed value.
+     * @param loader Computes the value.
+     * @param token The lease token.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the computed value.
+     */
+    private <T> CompletableFuture<T> computeUnderLease(String key, Duration ttl, Supplier<CompletableFuture<T>> loader, byte[] token) {
+        long computeStartNanos = System.nanoTime();
+        CompletableFuture<T> computed;
+        try {
+            computed = loader.get();
+        } catch (Exception e) {
+            computed = CompletableFuture.failedFuture(e);
+        }
+        return computed
+                .thenCompose(value -> this.storeComputed(key, value, ttl, Duration.ofNanos(System.nanoTime() - computeStartNanos))
+                        .handle((v, ex) -> {
+                            if (ex != null) {
+                                log.warn("Failed to cache computed value: key={}, error={}", key, ex.getMessage());
+                                this.notifyFailure(key, ex);
+                            }
+                            return value;
+                        }))
+                .whenComplete((value, ex) -> this.releaseLease(key, token));
+    }
+
+    /**
+     * Stores a computed value and, for expiring values, a stale copy outliving it by {@link #DEFAULT_STALE_TTL}.
+     * Expiring values are framed with their compute time and expiry for early expiration.
+     *
+     * @param key Cache key.
+     * @param value The computed value.
+     * @param ttl Expiration time of the value.
+     * @param computeTime How long it took to compute the value.
+     * @return A {@link CompletableFuture} completed when both copies are stored.
+     */
+    private CompletableFuture<Void> storeComputed(String key, Object value, Duration ttl, Duration computeTime) {
+        long startNanos = System.nanoTime();
+        byte[] encodedValue = valueCodec.encode(value);
+        if (!ttl.isPositive()) return this.store(key, encodedValue, ttl, startNanos);
+        byte[] storedValue = CacheEntryHeader.frame(compressor.compress(encodedValue), computeTime, Instant.now().plus(ttl));
+        return CompletableFuture.allOf(
+                this.write(key, encodedValue, storedValue, ttl, startNanos),
+                this.write(STALE_KEY_PREFIX + key, encodedValue, storedValue, ttl.plus(DEFAULT_STALE_TTL), startNanos)
+        );
+    }
+
+    /**
+     * Deletes the lease if it is still held with the given token.
+     *
+     * @param key Cache key.
+     * @param token The lease token.
+     */
+    private void releaseLease(String key, byte[] token) {
+        String leaseKey = LEASE_KEY_PREFIX + key;
+        try {
+            connectionPool.commands(leaseKey).<Long>eval(RELEASE_LEASE_SCRIPT, ScriptOutputType.INTEGER, new String[]{leaseKey}, token)
+                    .toCompletableFuture()
+                    .whenComplete((released, ex) -> {
+                        if (ex != null) {
+                            log.warn("Failed to release cache lease, it expires in {}ms: key={}, error={}", DEFAULT_LEASE_TIMEOUT.toMillis(), key, ex.getMessage());
+                            this.notifyFailure(key, ex);
+                        } else {
+                            log.debug("Cache lease released: key={}, deleted={}", key, released);
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("Failed to release cache lease, it expires in {}ms: key={}", DEFAULT_LEASE_TIMEOUT.toMillis(), key, e);
+        }
+    }
+
+    /**
+     * Polls for the value recomputed by the lease holder until the deadline, then serves the stale
+     * copy or, if there is none, runs the loader without the lease.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param loader Computes the value if neither a fresh nor a stale value appears.
+     * @param deadlineNanos The {@link System#nanoTime()} at which waiting stops.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the recomputed, stale or self-computed value.
+     */
+    private <T> CompletableFuture<T> awaitComputed(String key, Class<T> clazz, Supplier<CompletableFuture<T>> loader, long deadlineNanos) {
+        return this.getQuietly(key, clazz)
+                .thenCompose(cached -> {
+                    if (cached.isPresent()) return CompletableFuture.completedFuture(cached.get());
+                    if (System.nanoTime() - deadlineNanos >= 0) {
+                        return this.getQuietly(STALE_KEY_PREFIX + key, clazz)
+                                .thenCompose(stale -> {
+                                    if (stale.isPresent()) {
+                                        log.debug("Serving stale value while lease is held: key={}", key);
+                                        return CompletableFuture.completedFuture(stale.get());
+                                    }
+                                    log.debug("No stale value while lease is held, computing without lease: key={}", key);
+                                    return loader.get();
+                                });
+                    }
+                    return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(DEFAULT_LEASE_POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS))
+                            .thenCompose(v -> this.awaitComputed(key, clazz, loader, deadlineNanos));
+                });
+    }
+
+    /**
+     * Retrieves a value, treating any failure as a miss and reporting it to the failure listeners.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with an {@link Optional} value that never completes exceptionally.
+     */
+    private <T> CompletableFuture<Optional<T>> getQuietly(String key, Class<T> clazz) {
+        return this.get(key, clazz)
+                .exceptionally(ex -> {
+                    log.warn("Cache read failed, treating as miss: key={}, error={}", key, ex.getMessage());
+                    this.notifyFailure(key, ex);
+                    return Optional.empty();
+                });
+    }
+
+    /**
+     * Notifies the failure listeners about a failed command that was recovered from.
+     *
+     * @param key Cache key of the failed command.
+     * @param cause The failure.
+     */
+    private void notifyFailure(String key, Throwable cause) {
+        failureListeners.forEach(listener -> listener.onCacheFailure(key, cause));
+    }
+
+    /**
+     * Compresses the encoded value if needed and writes it.
+     *
+     * @param key Cache key.
+     * @param encodedValue Encoded value or pre-serialized payload.
+     * @param ttl Expiration time for the stored value.
+     * @param startNanos The {@link System#nanoTime()} at which the write started.
+     * @return A {@link CompletableFuture} completed when the operation finishes.
+     */
+    private CompletableFuture<Void> store(String key, byte[] encodedValue, Duration ttl, long startNanos) {
+        return this.write(key, encodedValue, compressor.compress(encodedValue), ttl, startNanos);
+    }
+
+    /**
+     * Writes the stored value with {@code PSETEX} for positive TTLs or a plain {@code SET} otherwise.
+     *
+     * @param key Cache key.
+     * @param encodedValue Encoded value before compression, used for statistics.
+     * @param storedValue Value as sent to Redis.
+     * @param ttl Expiration time for the stored value.
+     * @param startNanos The {@link System#nanoTime()} at which the write started.
+     * @return A {@link CompletableFuture} completed when the operation finishes.
+     */
+    private CompletableFuture<Void> write(String key, byte[] encodedValue, byte[] storedValue, Duration ttl, long startNanos) {
+        int index = connectionPool.selectIndex(key);
+        RedisClusterAsyncCommands<String, byte[]> commands = connectionPool.commands(index);
+        boolean expectsEcho = this.expectOwnInvalidations(List.of(key), index != 0);
+        CompletableFuture<Void> written;
+        if (ttl.isPositive()) {
+            long ttlInMillis = this.toTtlMillis(ttl);
+            written = commands.psetex(key, ttlInMillis, storedValue)
+                    .toCompletableFuture()
+                    .thenApply(v -> {
+                        long elapsedNanos = this.recordWrite(encodedValue, storedValue, startNanos);
+                        log.debug("Cache psetex: key={}, ttl={}ms, size={}B/{}B, latency={}us",
+                                key, ttlInMillis, storedValue.length, encodedValue.length, elapsedNanos / 1_000);
+                        return null;
+                    });
+        } else {
+            written = commands.set(key, storedValue)
+                    .toCompletableFuture()
+                    .thenApply(v -> {
+                        long elapsedNanos = this.recordWrite(encodedValue, storedValue, startNanos);
+                        log.debug("Cache set: key={}, size={}B/{}B, latency={}us",
+                                key, storedValue.length, encodedValue.length, elapsedNanos / 1_000);
+                        return null;
+                    });
+        }
+        return written.whenComplete((v, ex) -> {
+            if (ex != null && expectsEcho) this.consumeOwnInvalidation(key);
+        });
+    }
+
+    /**
+     * Converts a positive TTL to the milliseconds sent with {@code PSETEX}, rounding sub-millisecond
+     * TTLs up to one millisecond because Redis rejects an expiry of zero.
+     *
+     * @param ttl Positive expiration time.
+     * @return the expiration time in milliseconds, at least one
+     */
+    private long toTtlMillis(Duration ttl) {
+        return Math.max(1, ttl.toMillis());
+    }
+
+    /**
+     * Queues one {@code PSETEX} per value on the batch connection paired with the given index
+     * and flushes them together.
+     *
+     * @param index Connection index selected for the values' keys.
+     * @param storedValues Values to write, already encoded and compressed.
+     * @param ttlInMillis Expiration time of every value.
+     * @return A {@link CompletableFuture} completed when every command has been acknowledged.
+     */
+    private CompletableFuture<Void> pipelinePsetex(int index, Map<String, byte[]> storedValues, long ttlInMillis) {
+        return connectionPool.pipeline(index, batchCommands -> {
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[storedValues.size()];
+            int futureIndex = 0;
+            for (Map.Entry<String, byte[]> entry : storedValues.entrySet()) {
+                futures[futureIndex++] = batchCommands.psetex(entry.getKey(), ttlInMillis, entry.getValue()).toCompletableFuture();
+            }
+            return CompletableFuture.allOf(futures);
+        });
+    }
+
+    /**
+     * Asynchronously reports how many bytes the key and its value occupy in Redis memory.
+     *
+     * @param key Cache key.
+     * @return A {@link CompletableFuture} with the memory usage in bytes, empty if the key does not exist.
+     * @throws CacheManagingException if Redis communication fails.
+     */
+    public CompletableFuture<Optional<Long>> memoryUsage(String key) {
+        try {
+            return connectionPool.commands(key).memoryUsage(key)
+                    .toCompletableFuture()
+                    .thenApply(Optional::ofNullable);
+        } catch (Exception e) {
+            log.error("Cache memory usage failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Restores the encoded value from its stored form by removing the entry metadata and decompressing it.
+     *
+     * @param storedValue the value as stored in Redis
+     * @return the encoded value
+     */
+    private byte[] restore(byte[] storedValue) {
+        return compressor.decompress(CacheEntryHeader.unframe(storedValue));
+    }
+
+    /**
+     * Records the payload sizes and latency of a completed write.
+     *
+     * @param encodedValue the value before compression
+     * @param storedValue the value sent to Redis
+     * @param startNanos the {@link System#nanoTime()} at which the write started
+     * @return the elapsed time in nanoseconds
+     */
+    private long recordWrite(byte[] encodedValue, byte[] storedValue, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        transferStatistics.recordWrite(encodedValue.length, storedValue.length, elapsedNanos);
+        return elapsedNanos;
+    }
+
+    /**
+     * Subscribes to invalidation push messages and turns on broadcasting client tracking.
+     * <p>
+     * Broadcasting mode reports every modified key, including keys this node only wrote and
+     * never read, while {@code NOLOOP} suppresses notifications for this connection's own writes.
+     * Tracking is re-enabled after every reconnect and all local copies are invalidated, since
+     * invalidations sent while disconnected are lost.
+     */
+    private void enableClientTracking() {
+        RedisConnectionFactory connectionFactory = connectionPool.getConnectionFactory();
+        clientTrackingEnabled = true;
+        connectionFactory.addPushListener(connectionPool.getPrimaryConnection(), this::onPushMessage);
+        connectionFactory.addConnectionStateListener(new RedisConnectionStateListener() {
+            @Override
+            public void onRedisConnected(RedisChannelHandler<?, ?> channelHandler, SocketAddress socketAddress) {
+                if (channelHandler == connectionPool.getPrimaryConnection()) {
+                    log.info("Redis connection re-established, invalidating local copies");
+                    pendingOwnInvalidations.clear();
+                    invalidationListeners.forEach(CacheInvalidationListener::invalidateAll);
+                    requestClientTracking();
+                }
+            }
+        });
+        this.requestClientTracking();
+    }
+
+    /**
+     * Sends {@code CLIENT TRACKING ON BCAST NOLOOP} over the primary cache connection.
+     */
+    private void requestClientTracking() {
+        connectionPool.getPrimaryCommands().clientTracking(TrackingArgs.Builder.enabled().bcast().noloop())
+                .toCompletableFuture()
+                .whenComplete((v, ex) -> {
+                    if (ex != null) {
+                        log.error("Failed to enable Redis client tracking", ex);
+                    } else {
+                        log.info("Redis client tracking enabled");
+                    }
+                });
+    }
+
+    /**
+     * Counts the invalidations the server will echo back for writes of this node, if the writes
+     * are not sent over the tracking connection whose own writes {@code NOLOOP} suppresses.
+     *
+     * @param keys Keys about to be written.
+     * @param untracked Whether the writes are sent over a connection other than the primary one.
+     * @return {@code true} if echoes were counted and must be consumed should the writes fail
+     */
+    private boolean expectOwnInvalidations(Collection<String> keys, boolean untracked) {
+        if (!clientTrackingEnabled || !untracked) return false;
+        for (String key : keys) {
+            pendingOwnInvalidations.merge(key, 1, Integer::sum);
+        }
+        return true;
+    }
+
+    /**
+     * Consumes one expected echo of an own write of the key.
+     *
+     * @param key Cache key.
+     * @return {@code true} if an echo was expected for the key
+     */
+    private boolean consumeOwnInvalidation(String key) {
+        while (true) {
+            Integer pending = pendingOwnInvalidations.get(key);
+            if (pending == null) return false;
+            boolean consumed = pending == 1
+                    ? pendingOwnInvalidations.remove(key, pending)
+                    : pendingOwnInvalidations.replace(key, pending, pending - 1);
+            if (consumed) return true;
+        }
+    }
+
+    /**
+     * Forwards server-pushed invalidations to the registered listeners, except echoes of own writes.
+     * A {@code null} key list means the server flushed all keys.
+     *
+     * @param message the RESP3 push message
+     */
+    private void onPushMessage(PushMessage message) {
+        if (!INVALIDATE_PUSH_MESSAGE_TYPE.equals(message.getType())) return;
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        if (content.size() > 1 && content.get(1) instanceof List<?> keys) {
+            for (Object key : keys) {
+                String invalidatedKey = String.valueOf(key);
+                if (this.consumeOwnInvalidation(invalidatedKey)) {
+                    log.debug("Redis invalidation of own write ignored: key={}", invalidatedKey);
+                    continue;
+                }
+                log.debug("Redis invalidation received: key={}", invalidatedKey);
+                invalidationListeners.forEach(listener -> listener.invalidate(invalidatedKey));
+            }
+        } else {
+            log.debug("Redis invalidation received: all keys");
+            pendingOwnInvalidations.clear();
+            invalidationListeners.forEach(CacheInvalidationListener::invalidateAll);
+        }
+    }
+
+    /**
+     * Closes the Redis connections and gracefully shuts down the client.
+     *
+     * @throws CacheManagingException if closing or shutdown fails.
+     */
+    @Override
+    public void close() {
+        log.info("Closing Redis cache connections: {}, {}", transferStatistics, earlyExpiration);
+        this.connectionPool.close();
     }
 }
@@ -0,0 +1,90 @@
+package io.maksymuimanov.task.cache;
+
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.RedisCommand;
+import io.maksymuimanov.task.util.ConfigUtils;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Supplies per-operation command timeouts to the Lettuce client.
+ * <p>
+ * Lettuce otherwise waits up to its 60 second default for a reply, so a hung or partitioned Redis
+ * keeps cache futures pending long after the caller stopped caring. Reads, writes and all other
+ * commands get their own timeout, after which the command future fails with a
+ * {@link io.lettuce.core.RedisCommandTimeoutException}.
+ *
+ * @see RedisTopology
+ */
+public class RedisCommandTimeoutSource extends TimeoutOptions.TimeoutSource {
+    /** System property key defining the timeout (in milliseconds) of read commands. */
+    public static final String REDIS_READ_TIMEOUT_PROPERTY = "redis.timeout.read";
+    /** System property key defining the timeout (in milliseconds) of write commands. */
+    public static final String REDIS_WRITE_TIMEOUT_PROPERTY = "redis.timeout.write";
+    /** System property key defining the timeout (in milliseconds) of all other commands. */
+    public static final String REDIS_COMMAND_TIMEOUT_PROPERTY = "redis.timeout.command";
+    /** Default read timeout; reads sit on the request path. */
+    public static final Duration DEFAULT_READ_TIMEOUT = ConfigUtils.getOrDefault(REDIS_READ_TIMEOUT_PROPERTY, Duration.ofMillis(250));
+    /** Default write timeout. */
+    public static final Duration DEFAULT_WRITE_TIMEOUT = ConfigUtils.getOrDefault(REDIS_WRITE_TIMEOUT_PROPERTY, Duration.ofMillis(500));
+    /** Default timeout of all other commands. */
+    public static final Duration DEFAULT_COMMAND_TIMEOUT = ConfigUtils.getOrDefault(REDIS_COMMAND_TIMEOUT_PROPERTY, Duration.ofSeconds(1));
+    /** Commands subject to the read timeout. */
+    public static final Set<CommandType> READ_COMMANDS = EnumSet.of(CommandType.GET, CommandType.MGET);
+    /** Commands subject to the write timeout. */
+    public static final Set<CommandType> WRITE_COMMANDS = EnumSet.of(CommandType.SET, CommandType.SETEX, CommandType.PSETEX, CommandType.MSET, CommandType.DEL, CommandType.EVAL, CommandType.EVALSHA);
+    private final long readTimeoutMillis;
+    private final long writeTimeoutMillis;
+    private final long commandTimeoutMillis;
+
+    /**
+     * Creates a timeout source using the timeouts from system properties or the default values.
+     */
+    public RedisCommandTimeoutSource() {
+        this(DEFAULT_READ_TIMEOUT, DEFAULT_WRITE_TIMEOUT, DEFAULT_COMMAND_TIMEOUT);
+    }
+
+    /**
+     * Creates a timeout source with custom timeouts.
+     *
+     * @param readTimeout timeout of read commands
+     * @param writeTimeout timeout of write commands
+     * @param commandTimeout timeout of all other commands
+     */
+    public RedisCommandTimeoutSource(Duration readTimeout, Duration writeTimeout, Duration commandTimeout) {
+        this.readTimeoutMillis = readTimeout.toMillis();
+        this.writeTimeoutMillis = writeTimeout.toMillis();
+        this.commandTimeoutMillis = commandTimeout.toMillis();
+    }
+
+    /**
+     * Returns the timeout of the command based on its type.
+     *
+     * @param command the command about to be sent
+     * @return the timeout in milliseconds
+     */
+    @Override
+    public long getTimeout(RedisCommand<?, ?, ?> command) {
+        ProtocolKeyword type = command.getType();
+        if (type instanceof CommandType commandType) {
+            if (READ_COMMANDS.contains(commandType)) return readTimeoutMillis;
+            if (WRITE_COMMANDS.contains(commandType)) return writeTimeoutMillis;
+        }
+        return commandTimeoutMillis;
+    }
+
+    /**
+     * Creates Lettuce timeout options backed by this source.
+     *
+     * @return the timeout options
+     */
+    public TimeoutOptions toTimeoutOptions() {
+        return TimeoutOptions.builder()
+                .timeoutSource(this)
+                .build();
+    }
+}
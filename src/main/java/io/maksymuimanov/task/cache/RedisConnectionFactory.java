@@ -0,0 +1,63 @@
+package io.maksymuimanov.task.cache;
+
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+
+/**
+ * Opens cache connections for a particular Redis deployment topology.
+ * <p>
+ * Hides the differences between a single node, a Sentinel-managed master/replica setup and
+ * Redis Cluster behind connections exchanging {@link String} keys and raw {@code byte[]} values,
+ * and exposes their commands through the {@link RedisClusterAsyncCommands} API shared by all of them.
+ *
+ * @see RedisAsyncCacheManager
+ * @see RedisTopology
+ */
+public interface RedisConnectionFactory {
+    /**
+     * Opens a new connection to the deployment.
+     *
+     * @return the connection
+     */
+    StatefulConnection<String, byte[]> connect();
+
+    /**
+     * Returns the asynchronous commands of a connection opened by this factory.
+     *
+     * @param connection a connection returned by {@link #connect()}
+     * @return the asynchronous command API
+     */
+    RedisClusterAsyncCommands<String, byte[]> commands(StatefulConnection<String, byte[]> connection);
+
+    /**
+     * Checks whether connections of this factory can receive client-side caching invalidations.
+     *
+     * @return {@code true} if {@link #addPushListener(StatefulConnection, PushListener)} is supported
+     */
+    default boolean supportsClientTracking() {
+        return true;
+    }
+
+    /**
+     * Registers a listener for RESP3 push messages received by a connection opened by this factory.
+     * Factories that do not {@linkplain #supportsClientTracking() support client tracking} ignore the listener.
+     *
+     * @param connection a connection returned by {@link #connect()}
+     * @param listener the listener to register
+     */
+    void addPushListener(StatefulConnection<String, byte[]> connection, PushListener listener);
+
+    /**
+     * Registers a listener notified whenever a connection of the underlying client is (re)established.
+     *
+     * @param listener the listener to register
+     */
+    void addConnectionStateListener(RedisConnectionStateListener listener);
+
+    /**
+     * Shuts down the underlying client and releases its resources.
+     */
+    void shutdown();
+}
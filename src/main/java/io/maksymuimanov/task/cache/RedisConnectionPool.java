@@ -0,0 +1,210 @@
+package io.maksymuimanov.task.cache;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.maksymuimanov.task.exception.CacheManagingException;
+import io.maksymuimanov.task.util.ConfigUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Holds a fixed set of Redis connections and spreads commands over them.
+ * <p>
+ * A single Lettuce connection serializes every command through one write queue and one decoding
+ * thread, which becomes the ceiling at high request rates. The pool opens {@code size} shared
+ * connections with automatic flushing and selects one per command by key hash or round robin
+ * ({@link RedisConnectionSelection}). The first connection is the primary one, used for
+ * connection-scoped commands such as client tracking.
+ * <p>
+ * For each shared connection the pool also opens a companion batch connection with automatic
+ * flushing disabled. All connections are opened up front, so commands and batches never block
+ * the calling thread, possibly a Netty event loop, on a connection handshake. {@link #pipeline(int, Function)} queues a whole batch on it and flushes once,
+ * so batches never delay single commands and batches on different connections run in parallel.
+ *
+ * @see RedisAsyncCacheManager
+ * @see RedisConnectionFactory
+ */
+@Slf4j
+public class RedisConnectionPool implements AutoCloseable {
+    /** System property key defining the number of shared Redis connections. */
+    public static final String REDIS_CONNECTIONS_PROPERTY = "redis.connections";
+    /** System property key selecting the {@link RedisConnectionSelection} strategy. */
+    public static final String REDIS_CONNECTION_SELECTION_PROPERTY = "redis.connection-selection";
+    /** Default number of shared Redis connections. */
+    public static final int DEFAULT_SIZE = ConfigUtils.getOrDefault(REDIS_CONNECTIONS_PROPERTY, 1);
+    /** Default connection selection strategy. */
+    public static final RedisConnectionSelection DEFAULT_SELECTION = ConfigUtils.getOrDefault(REDIS_CONNECTION_SELECTION_PROPERTY, RedisConnectionSelection.KEY_HASH);
+    @Getter
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisConnectionSelection selection;
+    private final List<StatefulConnection<String, byte[]>> connections;
+    private final List<RedisClusterAsyncCommands<String, byte[]>> commands;
+    private final List<StatefulConnection<String, byte[]>> batchConnections;
+    private final Object[] batchLocks;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    /**
+     * Creates a pool with the default size and selection strategy.
+     *
+     * @param connectionFactory Factory opening connections to the Redis deployment.
+     */
+    public RedisConnectionPool(RedisConnectionFactory connectionFactory) {
+        this(connectionFactory, DEFAULT_SIZE, DEFAULT_SELECTION);
+    }
+
+    /**
+     * Opens {@code size} shared connections and their batch connections.
+     *
+     * @param connectionFactory Factory opening connections to the Redis deployment.
+     * @param size Number of shared connections, at least one.
+     * @param selection Strategy selecting a connection per command.
+     * @throws IllegalArgumentException if {@code size} is not positive.
+     */
+    public RedisConnectionPool(RedisConnectionFactory connectionFactory, int size, RedisConnectionSelection selection) {
+        if (size < 1) throw new IllegalArgumentException("Redis connection pool size must be positive: " + size);
+        this.connectionFactory = connectionFactory;
+        this.selection = selection;
+        this.connections = new ArrayList<>(size);
+        this.commands = new ArrayList<>(size);
+        this.batchConnections = new ArrayList<>(size);
+        this.batchLocks = new Object[size];
+        for (int i = 0; i < size; i++) {
+            StatefulConnection<String, byte[]> connection = connectionFactory.connect();
+            connections.add(connection);
+            commands.add(connectionFactory.commands(connection));
+            StatefulConnection<String, byte[]> batchConnection = connectionFactory.connect();
+            batchConnection.setAutoFlushCommands(false);
+            batchConnections.add(batchConnection);
+            batchLocks[i] = new Object();
+        }
+        log.info("Initialized Redis connection pool with size={}, selection={}", size, selection);
+    }
+
+    /**
+     * Returns the number of shared connections.
+     *
+     * @return the pool size
+     */
+    public int size() {
+        return connections.size();
+    }
+
+    /**
+     * Returns the primary connection used for connection-scoped commands.
+     *
+     * @return the first shared connection
+     */
+    public StatefulConnection<String, byte[]> getPrimaryConnection() {
+        return connections.getFirst();
+    }
+
+    /**
+     * Returns the commands of the primary connection.
+     *
+     * @return the asynchronous command API of the first shared connection
+     */
+    public RedisClusterAsyncCommands<String, byte[]> getPrimaryCommands() {
+        return commands.getFirst();
+    }
+
+    /**
+     * Selects the connection index for a command on the given key.
+     *
+     * @param key Cache key.
+     * @return the index of the selected connection
+     */
+    public int selectIndex(String key) {
+        int size = connections.size();
+        if (size == 1) return 0;
+        return switch (selection) {
+            case KEY_HASH -> Math.floorMod(key.hashCode(), size);
+            case ROUND_ROBIN -> Math.floorMod(nextIndex.getAndIncrement(), size);
+        };
+    }
+
+    /**
+     * Returns the commands of the connection selected for the given key.
+     *
+     * @param key Cache key.
+     * @return the asynchronous command API of the selected connection
+     */
+    public RedisClusterAsyncCommands<String, byte[]> commands(String key) {
+        return commands.get(this.selectIndex(key));
+    }
+
+    /**
+     * Returns the commands of the connection at the given index.
+     *
+     * @param index Connection index as returned by {@link #selectIndex(String)}.
+     * @return the asynchronous command API of the connection
+     */
+    public RedisClusterAsyncCommands<String, byte[]> commands(int index) {
+        return commands.get(index);
+    }
+
+    /**
+     * Queues the commands issued by {@code batch} on the batch connection paired with the given
+     * index and flushes them with a single write. Batches on the same connection never interleave.
+     *
+     * @param index Connection index as returned by {@link #selectIndex(String)}.
+     * @param batch Function issuing the commands and returning their combined result.
+     * @param <T> Type of the combined result.
+     * @return the value returned by {@code batch}
+     */
+    public <T> T pipeline(int index, Function<RedisClusterAsyncCommands<String, byte[]>, T> batch) {
+        synchronized (batchLocks[index]) {
+            StatefulConnection<String, byte[]> batchConnection = batchConnections.get(index);
+            try {
+                return batch.apply(connectionFactory.commands(batchConnection));
+            } finally {
+                batchConnection.flushCommands();
+            }
+        }
+    }
+
+    /**
+     * Closes all connections and shuts down the underlying client.
+     *
+     * @throws CacheManagingException if closing any connection fails.
+     */
+    @Override
+    public void close() {
+        RuntimeException failure = null;
+        try {
+            for (int i = 0; i < connections.size(); i++) {
+                synchronized (batchLocks[i]) {
+                    failure = closeQuietly(batchConnections.get(i), failure);
+                }
+                failure = closeQuietly(connections.get(i), failure);
+            }
+            if (failure != null) throw new CacheManagingException(failure);
+        } finally {
+            connectionFactory.shutdown();
+            log.info("Redis client shutdown issued");
+        }
+    }
+
+    /**
+     * Closes a connection, collecting the failure instead of aborting so that the remaining connections are still closed.
+     *
+     * @param connection Connection to close.
+     * @param failure Failure collected so far, may be {@code null}.
+     * @return the first collected failure
+     */
+    private static RuntimeException closeQuietly(StatefulConnection<String, byte[]> connection, RuntimeException failure) {
+        try {
+            connection.close();
+            return failure;
+        } catch (RuntimeException e) {
+            log.error("Failed to close Redis connection", e);
+            if (failure == null) return e;
+            failure.addSuppressed(e);
+            return failure;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.maksymuimanov.task.cache;
+
+/**
+ * Enumerates the strategies used by {@link RedisConnectionPool} to spread commands over its connections.
+ * <p>
+ * Allows the strategy to be selected through configuration, e.g. {@code -Dredis.connection-selection=ROUND_ROBIN}.
+ *
+ * @see RedisConnectionPool
+ */
+public enum RedisConnectionSelection {
+    /** Commands for the same key always use the same connection, preserving per-key ordering. */
+    KEY_HASH,
+    /** Commands rotate over all connections regardless of key; per-key ordering is not guaranteed. */
+    ROUND_ROBIN
+}
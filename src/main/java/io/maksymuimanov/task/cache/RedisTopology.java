@@ -0,0 +1,80 @@
+package io.maksymuimanov.task.cache;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.protocol.ProtocolVersion;
+
+/**
+ * Enumerates the supported Redis deployment topologies and creates their connection factories.
+ * <p>
+ * Allows the topology to be selected through configuration, e.g. {@code -Dredis.topology=CLUSTER}.
+ * The Redis URL is interpreted according to the topology: a node URI for {@link #STANDALONE},
+ * a {@code redis-sentinel://} URI with the master id for {@link #SENTINEL}, and the URI of any
+ * seed node for {@link #CLUSTER}.
+ * <p>
+ * Clients of every topology time out commands per operation ({@link RedisCommandTimeoutSource}).
+ *
+ * @see RedisConnectionFactory
+ */
+public enum RedisTopology {
+    /** A single Redis node. */
+    STANDALONE {
+        @Override
+        public RedisConnectionFactory createConnectionFactory(String url, ReadFrom readFrom, boolean clientTracking) {
+            return new StandaloneRedisConnectionFactory(createRedisClient(url, clientTracking));
+        }
+    },
+    /** A master with replicas, discovered and failed over by Redis Sentinel. */
+    SENTINEL {
+        @Override
+        public RedisConnectionFactory createConnectionFactory(String url, ReadFrom readFrom, boolean clientTracking) {
+            return new SentinelRedisConnectionFactory(createRedisClient(null, clientTracking), RedisURI.create(url), readFrom);
+        }
+    },
+    /** A sharded Redis Cluster. */
+    CLUSTER {
+        @Override
+        public RedisConnectionFactory createConnectionFactory(String url, ReadFrom readFrom, boolean clientTracking) {
+            RedisClusterClient redisClusterClient = RedisClusterClient.create(url);
+            redisClusterClient.setOptions(ClusterClientOptions.builder()
+                    .timeoutOptions(new RedisCommandTimeoutSource().toTimeoutOptions())
+                    .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                    .build());
+            return new ClusterRedisConnectionFactory(redisClusterClient, readFrom);
+        }
+    };
+
+    /**
+     * Creates a connection factory for this topology.
+     *
+     * @param url Redis URL interpreted according to the topology.
+     * @param readFrom Read policy used by topologies with replicas.
+     * @param clientTracking Whether client-side caching invalidations will be enabled.
+     * @return the connection factory
+     */
+    public abstract RedisConnectionFactory createConnectionFactory(String url, ReadFrom readFrom, boolean clientTracking);
+
+    /**
+     * Creates a Redis client with per-operation command timeouts that rejects commands while
+     * disconnected instead of queueing them, forcing RESP3 when client tracking is requested.
+     *
+     * @param url Redis server URL, or {@code null} for a client without a default URI.
+     * @param clientTracking Whether client-side caching invalidations will be enabled.
+     * @return the configured Redis client
+     */
+    private static RedisClient createRedisClient(String url, boolean clientTracking) {
+        RedisClient redisClient = url == null ? RedisClient.create() : RedisClient.create(url);
+        ClientOptions.Builder options = ClientOptions.builder()
+                .timeoutOptions(new RedisCommandTimeoutSource().toTimeoutOptions())
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS);
+        if (clientTracking) {
+            options.protocolVersion(ProtocolVersion.RESP3);
+        }
+        redisClient.setOptions(options.build());
+        return redisClient;
+    }
+}
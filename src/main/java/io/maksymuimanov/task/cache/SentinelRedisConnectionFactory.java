@@ -0,0 +1,48 @@
+package io.maksymuimanov.task.cache;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.masterreplica.MasterReplica;
+import io.lettuce.core.masterreplica.StatefulRedisMasterReplicaConnection;
+
+/**
+ * Opens master/replica connections discovered through Redis Sentinel.
+ * <p>
+ * Writes always go to the current master, while reads follow the configured {@link ReadFrom}
+ * policy, e.g. {@link ReadFrom#NEAREST} to serve fallback reads from the closest replica.
+ * Failovers announced by Sentinel are picked up automatically.
+ *
+ * @see RedisConnectionFactory
+ * @see RedisTopology#SENTINEL
+ */
+public class SentinelRedisConnectionFactory extends StandaloneRedisConnectionFactory {
+    private final RedisURI redisUri;
+    private final ReadFrom readFrom;
+
+    /**
+     * Creates a factory for the given Sentinel URI, e.g. {@code redis-sentinel://host:26379/0#mymaster}.
+     *
+     * @param redisClient the Redis client opening the connections
+     * @param redisUri the Sentinel URI including the master id
+     * @param readFrom the read policy
+     */
+    public SentinelRedisConnectionFactory(RedisClient redisClient, RedisURI redisUri, ReadFrom readFrom) {
+        super(redisClient);
+        this.redisUri = redisUri;
+        this.readFrom = readFrom;
+    }
+
+    /**
+     * Opens a master/replica connection with the configured read policy.
+     *
+     * @return the connection
+     */
+    @Override
+    public StatefulConnection<String, byte[]> connect() {
+        StatefulRedisMasterReplicaConnection<String, byte[]> connection = MasterReplica.connect(redisClient, RedisAsyncCacheManager.STRING_BYTE_ARRAY_CODEC, redisUri);
+        connection.setReadFrom(readFrom);
+        return connection;
+    }
+}
@@ -0,0 +1,24 @@
+package io.maksymuimanov.task.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Encodes cached values in the binary Smile format.
+ * <p>
+ * Smile keeps the JSON data model but uses back-references for repeated property names,
+ * which noticeably shrinks deeply nested payloads such as weather trees and avoids text parsing.
+ *
+ * @see JacksonCacheValueCodec
+ * @see SmileFactory
+ */
+public class SmileCacheValueCodec extends JacksonCacheValueCodec {
+    /**
+     * Creates a Smile codec sharing the configuration of the given mapper.
+     *
+     * @param objectMapper Jackson mapper whose configuration is copied onto a Smile factory
+     */
+    public SmileCacheValueCodec(ObjectMapper objectMapper) {
+        super(objectMapper.copyWith(new SmileFactory()));
+    }
+}
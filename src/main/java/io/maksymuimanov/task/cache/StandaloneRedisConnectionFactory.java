@@ -0,0 +1,71 @@
+package io.maksymuimanov.task.cache;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Opens connections to a single Redis node.
+ *
+ * @see RedisConnectionFactory
+ * @see SentinelRedisConnectionFactory
+ */
+@RequiredArgsConstructor
+public class StandaloneRedisConnectionFactory implements RedisConnectionFactory {
+    /** The Redis client opening the connections. */
+    protected final RedisClient redisClient;
+
+    /**
+     * Opens a connection to the node configured in the client.
+     *
+     * @return the connection
+     */
+    @Override
+    public StatefulConnection<String, byte[]> connect() {
+        return redisClient.connect(RedisAsyncCacheManager.STRING_BYTE_ARRAY_CODEC);
+    }
+
+    /**
+     * Returns the asynchronous commands of the connection.
+     *
+     * @param connection a connection returned by {@link #connect()}
+     * @return the asynchronous command API
+     */
+    @Override
+    public RedisClusterAsyncCommands<String, byte[]> commands(StatefulConnection<String, byte[]> connection) {
+        return ((StatefulRedisConnection<String, byte[]>) connection).async();
+    }
+
+    /**
+     * Registers a push listener on the connection.
+     *
+     * @param connection a connection returned by {@link #connect()}
+     * @param listener the listener to register
+     */
+    @Override
+    public void addPushListener(StatefulConnection<String, byte[]> connection, PushListener listener) {
+        ((StatefulRedisConnection<String, byte[]>) connection).addListener(listener);
+    }
+
+    /**
+     * Registers a connection state listener on the client.
+     *
+     * @param listener the listener to register
+     */
+    @Override
+    public void addConnectionStateListener(RedisConnectionStateListener listener) {
+        redisClient.addListener(listener);
+    }
+
+    /**
+     * Shuts down the client.
+     */
+    @Override
+    public void shutdown() {
+        redisClient.shutdown();
+    }
+}
@@ -0,0 +1,466 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheManagingException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Combines a fast in-process cache (L1) with a shared remote cache (L2) behind a single
+ * {@link AsyncCacheManager}.
+ * <p>
+ * Reads are served from the local tier first and fall through to the remote tier on a miss;
+ * remote hits are promoted into the local tier, along with the encoded size the remote tier read
+ * so the local tier does not have to measure them. Writes fill both tiers. Local entries never
+ * outlive {@code localTtl}, which bounds how stale a node can be relative to other writers.
+ * <p>
+ * {@link #getOrCompute(String, Class, Duration, Supplier)} delegates misses to the remote tier, so
+ * that its stampede protection coordinates recomputation across all nodes.
+ * <p>
+ * Invalidations of the shared cache must be delivered to this manager rather than to the local
+ * tier directly. Each one bumps a version of the key's stripe before the local copy is evicted,
+ * and a remote value is only promoted if the version of its key has not changed since the read
+ * started. Without this, a value read just before an invalidation could be promoted just after
+ * it and stay stale in the local tier for a full {@code localTtl}.
+ * <p>
+ * Hit and miss counters are tracked separately per tier and exposed through
+ * {@link #getLocalStatistics()} and {@link #getRemoteStatistics()}.
+ *
+ * @see InMemoryAsyncCacheManager
+ * @see RedisAsyncCacheManager
+ * @see CacheStatistics
+ * @see CacheInvalidationListener
+ */
+@Slf4j
+public class TieredAsyncCacheManager implements AsyncCacheManager, CacheInvalidationListener {
+    /** Number of stripes the invalidation versions of keys are spread over. */
+    public static final int INVALIDATION_STRIPES = 1024;
+    private final AtomicLongArray invalidationVersions = new AtomicLongArray(INVALIDATION_STRIPES);
+    private final AtomicLong globalInvalidationVersion = new AtomicLong();
+    private final AsyncCacheManager localCacheManager;
+    private final AsyncCacheManager remoteCacheManager;
+    private final Duration localTtl;
+    @Getter
+    private final CacheStatistics localStatistics = new CacheStatistics();
+    @Getter
+    private final CacheStatistics remoteStatistics = new CacheStatistics();
+
+    /**
+     * Creates a tiered cache whose local entries live for the default in-process TTL.
+     *
+     * @param localCacheManager in-process cache used as the first tier
+     * @param remoteCacheManager shared cache used as the second tier
+     */
+    public TieredAsyncCacheManager(AsyncCacheManager localCacheManager,
+                                   AsyncCacheManager remoteCacheManager) {
+        this(localCacheManager, remoteCacheManager, InMemoryAsyncCacheManager.DEFAULT_TTL);
+    }
+
+    /**
+     * Creates a tiered cache with a custom upper bound for local entry lifetime.
+     *
+     * @param localCacheManager in-process cache used as the first tier
+     * @param remoteCacheManager shared cache used as the second tier
+     * @param localTtl maximum time-to-live of local entries
+     */
+    public TieredAsyncCacheManager(AsyncCacheManager localCacheManager,
+                                   AsyncCacheManager remoteCacheManager,
+                                   Duration localTtl) {
+        this.localCacheManager = localCacheManager;
+        this.remoteCacheManager = remoteCacheManager;
+        this.localTtl = localTtl;
+        log.info("Initialized tiered cache manager with local TTL={}ms", localTtl.toMillis());
+    }
+
+    /**
+     * Looks the key up in the local tier and falls through to the remote tier on a miss,
+     * promoting remote hits into the local tier together with their encoded size.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with an {@link Optional} value, empty if neither tier has it.
+     * @throws CacheManagingException if the lookup cannot be started.
+     */
+    @Override
+    public <T> CompletableFuture<Optional<T>> get(String key, Class<T> clazz) {
+        try {
+            long version = this.getInvalidationVersion(key);
+            return localCacheManager.get(key, clazz)
+                    .thenCompose(local -> {
+                        if (local.isPresent()) {
+                            localStatistics.recordHit();
+                            return CompletableFuture.completedFuture(local);
+                        }
+                        localStatistics.recordMiss();
+                        return remoteCacheManager.getEntry(key, clazz)
+                                .thenCompose(remote -> {
+                                    if (remote.isEmpty()) {
+                                        remoteStatistics.recordMiss();
+                                        return CompletableFuture.completedFuture(Optional.<T>empty());
+                                    }
+                                    remoteStatistics.recordHit();
+                                    CacheEntry<T> entry = remote.get();
+                                    return this.promote(key, version, () -> localCacheManager.put(key, entry.value(), localTtl, entry.encodedSize()))
+                                            .thenApply(v -> Optional.of(entry.value()));
+                                });
+                    });
+        } catch (Exception e) {
+            log.error("Tiered cache get failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Writes the value to both tiers, using the remote tier's default TTL.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @return A {@link CompletableFuture} completed when both tiers have stored the value.
+     * @throws CacheManagingException if the write cannot be started.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value) {
+        try {
+            return CompletableFuture.allOf(
+                    localCacheManager.put(key, value, localTtl),
+                    remoteCacheManager.put(key, value)
+            );
+        } catch (Exception e) {
+            log.error("Tiered cache put failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Writes the value to both tiers; the local copy expires no later than {@code localTtl}.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @param ttl Expiration time for the stored value.
+     * @return A {@link CompletableFuture} completed when both tiers have stored the value.
+     * @throws CacheManagingException if the write cannot be started.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value, Duration ttl) {
+        try {
+            return CompletableFuture.allOf(
+                    localCacheManager.put(key, value, this.getEffectiveLocalTtl(ttl)),
+                    remoteCacheManager.put(key, value, ttl)
+            );
+        } catch (Exception e) {
+            log.error("Tiered cache put failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Looks all keys up in the local tier and fetches only the missing ones from the remote tier
+     * in a single batch, promoting remote hits into the local tier.
+     *
+     * @param keys Cache keys.
+     * @param clazz Type of values to deserialize.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the values found in either tier by key.
+     * @throws CacheManagingException if the lookup cannot be started.
+     */
+    @Override
+    public <T> CompletableFuture<Map<String, T>> getAll(Collection<String> keys, Class<T> clazz) {
+        try {
+            Map<String, Long> versions = new LinkedHashMap<>();
+            for (String key : keys) {
+                versions.put(key, this.getInvalidationVersion(key));
+            }
+            return localCacheManager.getAll(keys, clazz)
+                    .thenCompose(local -> {
+                        List<String> missingKeys = new ArrayList<>();
+                        for (String key : keys) {
+                            if (local.containsKey(key)) {
+                                localStatistics.recordHit();
+                            } else {
+                                localStatistics.recordMiss();
+                                missingKeys.add(key);
+                            }
+                        }
+                        if (missingKeys.isEmpty()) return CompletableFuture.completedFuture(local);
+                        return remoteCacheManager.getAll(missingKeys, clazz)
+                                .thenCompose(remote -> {
+                                    for (String key : missingKeys) {
+                                        if (remote.containsKey(key)) {
+                                            remoteStatistics.recordHit();
+                                        } else {
+                                            remoteStatistics.recordMiss();
+                                        }
+                                    }
+                                    Map<String, T> values = new LinkedHashMap<>(local);
+                                    values.putAll(remote);
+                                    Map<String, T> promoted = new LinkedHashMap<>(remote);
+                                    promoted.keySet().removeIf(key -> this.isInvalidatedSince(key, versions.get(key)));
+                                    if (promoted.isEmpty()) return CompletableFuture.completedFuture(values);
+                                    return localCacheManager.putAll(promoted, localTtl)
+                                            .thenApply(v -> {
+                                                promoted.keySet().forEach(key -> {
+                                                    if (this.isInvalidatedSince(key, versions.get(key))) this.evictLocal(key);
+                                                });
+                                                return values;
+                                            });
+                                });
+                    });
+        } catch (Exception e) {
+            log.error("Tiered cache get failed: keys={}", keys, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Writes all values to both tiers in one batch each; local copies expire no later than {@code localTtl}.
+     *
+     * @param values Objects to cache by key.
+     * @param ttl Expiration time for every stored value.
+     * @return A {@link CompletableFuture} completed when both tiers have stored the values.
+     * @throws CacheManagingException if the write cannot be started.
+     */
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, ?> values, Duration ttl) {
+        try {
+            return CompletableFuture.allOf(
+                    localCacheManager.putAll(values, this.getEffectiveLocalTtl(ttl)),
+                    remoteCacheManager.putAll(values, ttl)
+            );
+        } catch (Exception e) {
+            log.error("Tiered cache put failed: keys={}", values.keySet(), e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Serves the value from the local tier or delegates to the remote tier's get-or-compute,
+     * promoting the resulting value into the local tier.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param ttl Expiration time of a computed value.
+     * @param loader Computes the value on a miss.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the cached or computed value.
+     * @throws CacheManagingException if the lookup cannot be started.
+     */
+    @Override
+    public <T> CompletableFuture<T> getOrCompute(String key, Class<T> clazz, Duration ttl, Supplier<CompletableFuture<T>> loader) {
+        try {
+            long version = this.getInvalidationVersion(key);
+            return localCacheManager.get(key, clazz)
+                    .exceptionally(ex -> Optional.empty())
+                    .thenCompose(local -> {
+                        if (local.isPresent()) {
+                            localStatistics.recordHit();
+                            return CompletableFuture.completedFuture(local.get());
+                        }
+                        localStatistics.recordMiss();
+                        return remoteCacheManager.getOrCompute(key, clazz, ttl, loader)
+                                .thenCompose(value -> this.promote(key, version, () -> localCacheManager.put(key, value, this.getEffectiveLocalTtl(ttl)))
+                                        .handle((v, ex) -> value));
+                    });
+        } catch (Exception e) {
+            log.error("Tiered cache get-or-compute failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Looks the payload up in the local tier and falls through to the remote tier on a miss,
+     * promoting remote hits into the local tier.
+     *
+     * @param key Cache key.
+     * @return A {@link CompletableFuture} with an {@link Optional} payload, empty if neither tier has it.
+     * @throws CacheManagingException if the lookup cannot be started.
+     */
+    @Override
+    public CompletableFuture<Optional<byte[]>> getBytes(String key) {
+        try {
+            long version = this.getInvalidationVersion(key);
+            return localCacheManager.getBytes(key)
+                    .thenCompose(local -> {
+                        if (local.isPresent()) {
+                            localStatistics.recordHit();
+                            return CompletableFuture.completedFuture(local);
+                        }
+                        localStatistics.recordMiss();
+                        return remoteCacheManager.getBytes(key)
+                                .thenCompose(remote -> {
+                                    if (remote.isEmpty()) {
+                                        remoteStatistics.recordMiss();
+                                        return CompletableFuture.completedFuture(remote);
+                                    }
+                                    remoteStatistics.recordHit();
+                                    return this.promote(key, version, () -> localCacheManager.putBytes(key, remote.get(), localTtl))
+                                            .thenApply(v -> remote);
+                                });
+                    });
+        } catch (Exception e) {
+            log.error("Tiered cache get failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Writes the payload to both tiers, using the remote tier's default TTL.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @return A {@link CompletableFuture} completed when both tiers have stored the payload.
+     * @throws CacheManagingException if the write cannot be started.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value) {
+        try {
+            return CompletableFuture.allOf(
+                    localCacheManager.putBytes(key, value, localTtl),
+                    remoteCacheManager.putBytes(key, value)
+            );
+        } catch (Exception e) {
+            log.error("Tiered cache put failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Writes the payload to both tiers; the local copy expires no later than {@code localTtl}.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @param ttl Expiration time for the stored payload.
+     * @return A {@link CompletableFuture} completed when both tiers have stored the payload.
+     * @throws CacheManagingException if the write cannot be started.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value, Duration ttl) {
+        try {
+            return CompletableFuture.allOf(
+                    localCacheManager.putBytes(key, value, this.getEffectiveLocalTtl(ttl)),
+                    remoteCacheManager.putBytes(key, value, ttl)
+            );
+        } catch (Exception e) {
+            log.error("Tiered cache put failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Records the invalidation of a key and evicts its local copy.
+     * The version is bumped first, so a promotion racing with this call either sees it or is evicted by it.
+     *
+     * @param key the invalidated cache key
+     */
+    @Override
+    public void invalidate(String key) {
+        invalidationVersions.incrementAndGet(this.getStripe(key));
+        this.evictLocal(key);
+    }
+
+    /**
+     * Records the invalidation of every key and evicts all local copies.
+     */
+    @Override
+    public void invalidateAll() {
+        globalInvalidationVersion.incrementAndGet();
+        if (localCacheManager instanceof CacheInvalidationListener listener) listener.invalidateAll();
+    }
+
+    /**
+     * Closes both tiers and logs the final per-tier statistics.
+     *
+     * @throws Exception if closing either tier fails
+     */
+    @Override
+    public void close() throws Exception {
+        log.info("Closing tiered cache: local={}, remote={}", localStatistics, remoteStatistics);
+        try {
+            localCacheManager.close();
+        } finally {
+            remoteCacheManager.close();
+        }
+    }
+
+    /**
+     * Promotes a remote value into the local tier unless its key was invalidated since the read
+     * started, evicting the promoted copy again if an invalidation landed while it was written.
+     *
+     * @param key the cache key
+     * @param version the invalidation version of the key when the read started
+     * @param promotion writes the value into the local tier
+     * @return a {@link CompletableFuture} completed once the value is promoted or skipped
+     */
+    private CompletableFuture<Void> promote(String key, long version, Supplier<CompletableFuture<Void>> promotion) {
+        if (this.isInvalidatedSince(key, version)) {
+            log.debug("Skipping promotion of invalidated key: key={}", key);
+            return CompletableFuture.completedFuture(null);
+        }
+        return promotion.get()
+                .thenRun(() -> {
+                    if (this.isInvalidatedSince(key, version)) this.evictLocal(key);
+                });
+    }
+
+    /**
+     * Checks whether a key may have been invalidated since its version was read.
+     *
+     * @param key the cache key
+     * @param version the previously read invalidation version
+     * @return {@code true} if the key's stripe or all keys were invalidated since
+     */
+    private boolean isInvalidatedSince(String key, long version) {
+        return this.getInvalidationVersion(key) != version;
+    }
+
+    /**
+     * Returns the invalidation version of a key, which changes whenever the key, another key of
+     * its stripe, or all keys are invalidated.
+     *
+     * @param key the cache key
+     * @return the current invalidation version
+     */
+    private long getInvalidationVersion(String key) {
+        return globalInvalidationVersion.get() + invalidationVersions.get(this.getStripe(key));
+    }
+
+    /**
+     * Maps a key onto its invalidation stripe.
+     *
+     * @param key the cache key
+     * @return the stripe index
+     */
+    private int getStripe(String key) {
+        return Math.floorMod(key.hashCode(), INVALIDATION_STRIPES);
+    }
+
+    /**
+     * Evicts the local copy of a key, if the local tier accepts invalidations.
+     *
+     * @param key the cache key
+     */
+    private void evictLocal(String key) {
+        if (localCacheManager instanceof CacheInvalidationListener listener) listener.invalidate(key);
+    }
+
+    /**
+     * Caps the requested TTL at {@code localTtl} for entries written to the local tier.
+     *
+     * @param ttl the requested time-to-live
+     * @return the time-to-live of the local copy
+     */
+    private Duration getEffectiveLocalTtl(Duration ttl) {
+        return ttl.isPositive() && ttl.compareTo(localTtl) < 0 ? ttl : localTtl;
+    }
+}
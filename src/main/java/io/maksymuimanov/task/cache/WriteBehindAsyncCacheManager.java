@@ -0,0 +1,491 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheManagingException;
+import io.maksymuimanov.task.util.ConfigUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Acknowledges cache writes immediately and applies them to a delegate cache in the background.
+ * <p>
+ * Writes are kept in a bounded, insertion-ordered pending map. A repeated write to a key that has
+ * not been flushed yet replaces the pending value (coalescing), and when the map is full the oldest
+ * pending write is dropped. A single background thread flushes the pending writes every
+ * {@code flushInterval}; writes sharing the same explicit TTL are sent with one
+ * {@link AsyncCacheManager#putAll(Map, Duration)} batch.
+ * <p>
+ * Reads see pending writes first, so a node always reads its own writes. Drained writes stay
+ * readable as in-flight writes until the delegate acknowledges or rejects them, so a read between
+ * the drain and the acknowledgement cannot miss both the buffer and the delegate. Once closed, the
+ * manager rejects further writes, since they would never be flushed. Counters for enqueued,
+ * coalesced, dropped, flushed and failed writes are exposed through getters and logged on close.
+ *
+ * @see AsyncCacheManager
+ * @see TieredAsyncCacheManager
+ */
+@Slf4j
+public class WriteBehindAsyncCacheManager implements AsyncCacheManager {
+    /** System property key defining the maximum number of pending writes. */
+    public static final String WRITE_BEHIND_CAPACITY_PROPERTY = "cache.write-behind.capacity";
+    /** System property key defining the interval (in milliseconds) between background flushes. */
+    public static final String WRITE_BEHIND_FLUSH_INTERVAL_PROPERTY = "cache.write-behind.flush-interval";
+    /** Default maximum number of pending writes. */
+    public static final int DEFAULT_CAPACITY = ConfigUtils.getOrDefault(WRITE_BEHIND_CAPACITY_PROPERTY, 1024);
+    /** Default interval between background flushes. */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = ConfigUtils.getOrDefault(WRITE_BEHIND_FLUSH_INTERVAL_PROPERTY, Duration.ofMillis(50));
+    /** Maximum time to wait for the final flush on close. */
+    public static final Duration CLOSE_FLUSH_TIMEOUT = Duration.ofSeconds(5);
+    private final Map<String, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private final Map<String, PendingWrite> inFlightWrites = new HashMap<>();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AsyncCacheManager delegate;
+    private final int capacity;
+    private final ScheduledExecutorService flushExecutor;
+    private boolean closed;
+
+    /**
+     * Creates a write-behind cache with the default capacity and flush interval.
+     *
+     * @param delegate cache receiving the flushed writes
+     */
+    public WriteBehindAsyncCacheManager(AsyncCacheManager delegate) {
+        this(delegate, DEFAULT_CAPACITY, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates a write-behind cache and starts its background flush thread.
+     *
+     * @param delegate cache receiving the flushed writes
+     * @param capacity maximum number of pending writes
+     * @param flushInterval interval between background flushes
+     */
+    public WriteBehindAsyncCacheManager(AsyncCacheManager delegate, int capacity, Duration flushInterval) {
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        this.flushExecutor.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Initialized write-behind cache manager with capacity={}, flushInterval={}ms", capacity, intervalMillis);
+    }
+
+    /**
+     * Returns the pending value if it matches the type, otherwise reads from the delegate.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with an {@link Optional} value, empty if not found.
+     * @throws CacheManagingException if the lookup cannot be started.
+     */
+    @Override
+    public <T> CompletableFuture<Optional<T>> get(String key, Class<T> clazz) {
+        try {
+            PendingWrite pendingWrite = this.getPendingWrite(key);
+            if (pendingWrite != null && !pendingWrite.serialized() && clazz.isInstance(pendingWrite.value())) {
+                return CompletableFuture.completedFuture(Optional.of(clazz.cast(pendingWrite.value())));
+            }
+            return delegate.get(key, clazz);
+        } catch (Exception e) {
+            log.error("Write-behind cache get failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Returns the pending value as an entry without metadata if it matches the type, otherwise
+     * reads the entry from the delegate.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with an {@link Optional} entry, empty if not found.
+     * @throws CacheManagingException if the lookup cannot be started.
+     */
+    @Override
+    public <T> CompletableFuture<Optional<CacheEntry<T>>> getEntry(String key, Class<T> clazz) {
+        try {
+            PendingWrite pendingWrite = this.getPendingWrite(key);
+            if (pendingWrite != null && !pendingWrite.serialized() && clazz.isInstance(pendingWrite.value())) {
+                return CompletableFuture.completedFuture(Optional.of(CacheEntry.of(clazz.cast(pendingWrite.value()))));
+            }
+            return delegate.getEntry(key, clazz);
+        } catch (Exception e) {
+            log.error("Write-behind cache get entry failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Returns the pending values for the keys that have them and reads the rest from the delegate in one batch.
+     *
+     * @param keys Cache keys.
+     * @param clazz Type of values to deserialize.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the found values by key.
+     * @throws CacheManagingException if the lookup cannot be started.
+     */
+    @Override
+    public <T> CompletableFuture<Map<String, T>> getAll(Collection<String> keys, Class<T> clazz) {
+        try {
+            Map<String, T> values = new LinkedHashMap<>();
+            List<String> missingKeys = new ArrayList<>();
+            for (String key : keys) {
+                PendingWrite pendingWrite = this.getPendingWrite(key);
+                if (pendingWrite != null && !pendingWrite.serialized() && clazz.isInstance(pendingWrite.value())) {
+                    values.put(key, clazz.cast(pendingWrite.value()));
+                } else {
+                    missingKeys.add(key);
+                }
+            }
+            if (missingKeys.isEmpty()) return CompletableFuture.completedFuture(values);
+            return delegate.getAll(missingKeys, clazz)
+                    .thenApply(delegateValues -> {
+                        values.putAll(delegateValues);
+                        return values;
+                    });
+        } catch (Exception e) {
+            log.error("Write-behind cache get failed: keys={}", keys, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Returns the pending value if it matches the type, otherwise delegates the get-or-compute.
+     * <p>
+     * Computed values are written by the delegate directly rather than queued, so that callers
+     * waiting for a recomputation elsewhere in the fleet see them without the flush delay.
+     *
+     * @param key Cache key.
+     * @param clazz Type of value to deserialize.
+     * @param ttl Expiration time of a computed value.
+     * @param loader Computes the value on a miss.
+     * @param <T> Type parameter.
+     * @return A {@link CompletableFuture} with the pending, cached or computed value.
+     * @throws CacheManagingException if the lookup cannot be started.
+     */
+    @Override
+    public <T> CompletableFuture<T> getOrCompute(String key, Class<T> clazz, Duration ttl, Supplier<CompletableFuture<T>> loader) {
+        try {
+            PendingWrite pendingWrite = this.getPendingWrite(key);
+            if (pendingWrite != null && !pendingWrite.serialized() && clazz.isInstance(pendingWrite.value())) {
+                return CompletableFuture.completedFuture(clazz.cast(pendingWrite.value()));
+            }
+            return delegate.getOrCompute(key, clazz, ttl, loader);
+        } catch (Exception e) {
+            log.error("Write-behind cache get-or-compute failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Returns the pending payload if there is one, otherwise reads from the delegate.
+     *
+     * @param key Cache key.
+     * @return A {@link CompletableFuture} with an {@link Optional} payload, empty if not found.
+     * @throws CacheManagingException if the lookup cannot be started.
+     */
+    @Override
+    public CompletableFuture<Optional<byte[]>> getBytes(String key) {
+        try {
+            PendingWrite pendingWrite = this.getPendingWrite(key);
+            if (pendingWrite != null && pendingWrite.serialized()) {
+                return CompletableFuture.completedFuture(Optional.of((byte[]) pendingWrite.value()));
+            }
+            return delegate.getBytes(key);
+        } catch (Exception e) {
+            log.error("Write-behind cache get failed: key={}", key, e);
+            return CompletableFuture.failedFuture(new CacheManagingException(e));
+        }
+    }
+
+    /**
+     * Enqueues the value with the delegate's default TTL.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @return An already completed {@link CompletableFuture}, failed if the manager is closed.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value) {
+        return this.enqueue(key, new PendingWrite(value, false, null));
+    }
+
+    /**
+     * Enqueues the value with the given TTL.
+     *
+     * @param key Cache key.
+     * @param value Object to cache.
+     * @param ttl Expiration time for the stored value.
+     * @return An already completed {@link CompletableFuture}, failed if the manager is closed.
+     */
+    @Override
+    public CompletableFuture<Void> put(String key, Object value, Duration ttl) {
+        return this.enqueue(key, new PendingWrite(value, false, ttl));
+    }
+
+    /**
+     * Enqueues every value with the given TTL.
+     *
+     * @param values Objects to cache by key.
+     * @param ttl Expiration time for every stored value.
+     * @return An already completed {@link CompletableFuture}, failed if the manager is closed.
+     */
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, ?> values, Duration ttl) {
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            CompletableFuture<Void> enqueued = this.enqueue(entry.getKey(), new PendingWrite(entry.getValue(), false, ttl));
+            if (enqueued.isCompletedExceptionally()) return enqueued;
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Enqueues the payload with the delegate's default TTL.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @return An already completed {@link CompletableFuture}, failed if the manager is closed.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value) {
+        return this.enqueue(key, new PendingWrite(value, true, null));
+    }
+
+    /**
+     * Enqueues the payload with the given TTL.
+     *
+     * @param key Cache key.
+     * @param value Payload to cache.
+     * @param ttl Expiration time for the stored payload.
+     * @return An already completed {@link CompletableFuture}, failed if the manager is closed.
+     */
+    @Override
+    public CompletableFuture<Void> putBytes(String key, byte[] value, Duration ttl) {
+        return this.enqueue(key, new PendingWrite(value, true, ttl));
+    }
+
+    /**
+     * Sends all pending writes to the delegate, keeping them readable until acknowledged.
+     * Called periodically by the background thread.
+     *
+     * @return A {@link CompletableFuture} completed when the delegate has acknowledged or rejected every drained write.
+     */
+    public CompletableFuture<Void> flush() {
+        Map<String, PendingWrite> drainedWrites;
+        synchronized (pendingWrites) {
+            if (pendingWrites.isEmpty()) return CompletableFuture.completedFuture(null);
+            drainedWrites = new LinkedHashMap<>(pendingWrites);
+            pendingWrites.clear();
+            inFlightWrites.putAll(drainedWrites);
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        Map<Duration, Map<String, Object>> batches = new HashMap<>();
+        drainedWrites.forEach((key, pendingWrite) -> {
+            if (pendingWrite.serialized()) {
+                byte[] payload = (byte[]) pendingWrite.value();
+                futures.add(this.track(pendingWrite.ttl() == null ? delegate.putBytes(key, payload) : delegate.putBytes(key, payload, pendingWrite.ttl()), Map.of(key, pendingWrite)));
+            } else if (pendingWrite.ttl() == null) {
+                futures.add(this.track(delegate.put(key, pendingWrite.value()), Map.of(key, pendingWrite)));
+            } else {
+                batches.computeIfAbsent(pendingWrite.ttl(), ttl -> new LinkedHashMap<>()).put(key, pendingWrite.value());
+            }
+        });
+        batches.forEach((ttl, values) -> {
+            Map<String, PendingWrite> batchWrites = new HashMap<>();
+            values.keySet().forEach(key -> batchWrites.put(key, drainedWrites.get(key)));
+            futures.add(this.track(delegate.putAll(values, ttl), batchWrites));
+        });
+        log.debug("Write-behind flush: writes={}", drainedWrites.size());
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Returns the number of accepted writes.
+     *
+     * @return the enqueued write count
+     */
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    /**
+     * Returns the number of writes replaced by a later write to the same key before being flushed.
+     *
+     * @return the coalesced write count
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Returns the number of pending writes discarded because the queue was full.
+     *
+     * @return the dropped write count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of writes acknowledged by the delegate.
+     *
+     * @return the flushed write count
+     */
+    public long getFlushedCount() {
+        return flushed.sum();
+    }
+
+    /**
+     * Returns the number of writes rejected by the delegate.
+     *
+     * @return the failed write count
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Returns the number of writes waiting to be flushed.
+     *
+     * @return the pending write count
+     */
+    public int getPendingCount() {
+        synchronized (pendingWrites) {
+            return pendingWrites.size();
+        }
+    }
+
+    /**
+     * Returns the number of drained writes not yet acknowledged by the delegate.
+     *
+     * @return the in-flight write count
+     */
+    public int getInFlightCount() {
+        synchronized (pendingWrites) {
+            return inFlightWrites.size();
+        }
+    }
+
+    /**
+     * Rejects further writes, stops the background thread, flushes the remaining writes and closes the delegate.
+     *
+     * @throws Exception if closing the delegate fails
+     */
+    @Override
+    public void close() throws Exception {
+        synchronized (pendingWrites) {
+            closed = true;
+        }
+        try {
+            flushExecutor.shutdown();
+            flushExecutor.awaitTermination(CLOSE_FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            this.flush()
+                    .orTimeout(CLOSE_FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                    .exceptionally(ex -> null)
+                    .join();
+            log.info("Closing write-behind cache: enqueued={}, coalesced={}, dropped={}, flushed={}, failed={}",
+                    this.getEnqueuedCount(), this.getCoalescedCount(), this.getDroppedCount(), this.getFlushedCount(), this.getFailedCount());
+        } finally {
+            delegate.close();
+        }
+    }
+
+    /**
+     * Adds a write to the pending map, coalescing it with a pending write to the same key
+     * or dropping the oldest pending write when the map is full.
+     *
+     * @param key Cache key.
+     * @param pendingWrite The write to enqueue.
+     * @return An already completed {@link CompletableFuture}, failed if the manager is closed.
+     */
+    private CompletableFuture<Void> enqueue(String key, PendingWrite pendingWrite) {
+        synchronized (pendingWrites) {
+            if (closed) {
+                log.warn("Write-behind cache is closed, rejecting write: key={}", key);
+                return CompletableFuture.failedFuture(new CacheManagingException(new IllegalStateException("Write-behind cache is closed")));
+            }
+            enqueued.increment();
+            if (pendingWrites.remove(key) != null) {
+                coalesced.increment();
+            } else if (pendingWrites.size() >= capacity) {
+                Iterator<String> iterator = pendingWrites.keySet().iterator();
+                String droppedKey = iterator.next();
+                iterator.remove();
+                dropped.increment();
+                log.warn("Write-behind queue full, dropped pending write: key={}", droppedKey);
+            }
+            pendingWrites.put(key, pendingWrite);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Returns the pending write for the key, or the in-flight one if none is pending.
+     *
+     * @param key Cache key.
+     * @return the latest unacknowledged write or {@code null}
+     */
+    private PendingWrite getPendingWrite(String key) {
+        synchronized (pendingWrites) {
+            PendingWrite pendingWrite = pendingWrites.get(key);
+            return pendingWrite != null ? pendingWrite : inFlightWrites.get(key);
+        }
+    }
+
+    /**
+     * Counts the outcome of a flushed write without propagating its failure, and stops serving
+     * its writes as in-flight unless a later flush has replaced them.
+     *
+     * @param future The delegate write.
+     * @param trackedWrites The writes covered by the future, by key.
+     * @return A {@link CompletableFuture} that always completes normally.
+     */
+    private CompletableFuture<Void> track(CompletableFuture<Void> future, Map<String, PendingWrite> trackedWrites) {
+        int writes = trackedWrites.size();
+        return future.handle((v, ex) -> {
+            synchronized (pendingWrites) {
+                trackedWrites.forEach(inFlightWrites::remove);
+            }
+            if (ex == null) {
+                flushed.add(writes);
+            } else {
+                failed.add(writes);
+                log.warn("Write-behind flush failed: writes={}, error={}", writes, ex.getMessage());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Write waiting to be flushed.
+     *
+     * @param value the object or payload to store
+     * @param serialized whether {@code value} is a pre-serialized {@code byte[]} payload
+     * @param ttl the explicit time-to-live, or {@code null} for the delegate's default
+     */
+    private record PendingWrite(Object value, boolean serialized, Duration ttl) {
+    }
+}
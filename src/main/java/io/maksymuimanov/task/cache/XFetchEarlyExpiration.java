@@ -0,0 +1,117 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.util.ConfigUtils;
+import lombok.Getter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Decides whether a cached entry should be recomputed before it expires, using the XFetch
+ * probabilistic early expiration algorithm.
+ * <p>
+ * A reader recomputes the entry if {@code now - computeTime * beta * ln(random) >= expiresAt},
+ * where {@code random} is uniform in {@code (0, 1]}. The probability grows as expiry approaches
+ * and with the time the value takes to compute, so refreshes of popular entries are spread over
+ * the readers instead of all of them missing at the same instant. A larger {@code beta} favours
+ * earlier refreshes; a non-positive {@code beta} disables early expiration.
+ * <p>
+ * Every decision is counted, so the share of early refreshes can be observed through
+ * {@link #getEarlyRecomputationRate()}.
+ *
+ * @see CacheEntry
+ * @see RedisAsyncCacheManager
+ */
+public class XFetchEarlyExpiration {
+    /** System property key defining the XFetch {@code beta} factor. */
+    public static final String CACHE_XFETCH_BETA_PROPERTY = "cache.xfetch.beta";
+    /** Default {@code beta}; {@code 1.0} is the value recommended by the algorithm's authors. */
+    public static final double DEFAULT_BETA = ConfigUtils.getOrDefault(CACHE_XFETCH_BETA_PROPERTY, 1.0);
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder earlyRecomputations = new LongAdder();
+    @Getter
+    private final double beta;
+    private final Clock clock;
+    private final DoubleSupplier random;
+
+    /**
+     * Creates an early expiration policy with the default {@code beta}.
+     */
+    public XFetchEarlyExpiration() {
+        this(DEFAULT_BETA);
+    }
+
+    /**
+     * Creates an early expiration policy with the given {@code beta}.
+     *
+     * @param beta the XFetch {@code beta} factor
+     */
+    public XFetchEarlyExpiration(double beta) {
+        this(beta, Clock.systemUTC(), () -> 1 - ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Creates an early expiration policy with a custom clock and random source.
+     *
+     * @param beta the XFetch {@code beta} factor
+     * @param clock the clock providing the current time
+     * @param random supplier of uniform random numbers in {@code (0, 1]}
+     */
+    public XFetchEarlyExpiration(double beta, Clock clock, DoubleSupplier random) {
+        this.beta = beta;
+        this.clock = clock;
+        this.random = random;
+    }
+
+    /**
+     * Decides whether the entry should be recomputed now.
+     *
+     * @param entry the cached entry
+     * @return {@code true} if the reader should recompute the entry before it expires
+     */
+    public boolean shouldRecompute(CacheEntry<?> entry) {
+        if (beta <= 0 || !entry.hasMetadata()) return false;
+        checks.increment();
+        double gapMillis = entry.computeTime().toMillis() * beta * -Math.log(random.getAsDouble());
+        boolean recompute = clock.millis() + gapMillis >= entry.expiresAt().toEpochMilli();
+        if (recompute) earlyRecomputations.increment();
+        return recompute;
+    }
+
+    /**
+     * Returns the number of evaluated entries carrying metadata.
+     *
+     * @return the check count
+     */
+    public long getCheckCount() {
+        return checks.sum();
+    }
+
+    /**
+     * Returns the number of checks that triggered a recomputation.
+     *
+     * @return the early recomputation count
+     */
+    public long getEarlyRecomputationCount() {
+        return earlyRecomputations.sum();
+    }
+
+    /**
+     * Returns the share of checks that triggered a recomputation.
+     *
+     * @return the early recomputation rate in range {@code [0, 1]}, or {@code 0} if nothing was checked
+     */
+    public double getEarlyRecomputationRate() {
+        long checkCount = this.getCheckCount();
+        return checkCount == 0 ? 0 : (double) this.getEarlyRecomputationCount() / checkCount;
+    }
+
+    @Override
+    public String toString() {
+        return "XFetchEarlyExpiration[beta=%.2f, checks=%d, earlyRecomputations=%d]".formatted(
+                beta, this.getCheckCount(), this.getEarlyRecomputationCount());
+    }
+}
@@ -1,17 +1,21 @@
 package io.maksymuimanov.task.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JsonNode;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Represents the aggregated dashboard response combining multiple
  * asynchronous API results into a single JSON payload.
  * <p>
  * Contains weather data, a random fact, and the client’s public IP address,
- * all fetched concurrently by the aggregator service.
+ * all fetched concurrently by the aggregator service. When only some sections
+ * are requested, the others are {@code null} and omitted from the JSON.
  *
- * @param weather the JSON node containing current weather information
- * @param fact the JSON node containing a random fact
- * @param ip the JSON node containing the client’s IP address
+ * @param weather the JSON node containing current weather information, or {@code null} if not requested
+ * @param fact the JSON node containing a random fact, or {@code null} if not requested
+ * @param ip the JSON node containing the client’s IP address, or {@code null} if not requested
  */
-public record DashboardResponse(JsonNode weather, JsonNode fact, JsonNode ip) {
-}
\ No newline at end of file
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DashboardResponse(@Nullable JsonNode weather, @Nullable JsonNode fact, @Nullable JsonNode ip) {
+}
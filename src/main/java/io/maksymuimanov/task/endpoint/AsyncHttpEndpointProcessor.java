@@ -2,6 +2,7 @@ package io.maksymuimanov.task.endpoint;
 
 import io.maksymuimanov.task.dto.HttpEndpoint;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.FullHttpRequest;
 import org.jspecify.annotations.NonNull;
 
 import java.util.concurrent.CompletableFuture;
@@ -34,12 +35,15 @@ public interface AsyncHttpEndpointProcessor {
      * Implementations should process business logic, prepare a response,
      * and use the provided {@link HttpResponseSender} to write it back to the client.
      * This method must not block and should rely on asynchronous execution.
+     * The request is released once this method returns, so anything needed later,
+     * such as header values, must be read before.
      *
      * @param context Netty channel context for sending the response
+     * @param request the incoming HTTP request
      * @param responseSender component responsible for serializing and sending HTTP responses
      * @param keepAlive whether to keep the TCP connection open after sending the response
      * @return a {@link CompletableFuture} that completes when the response has been sent
      */
     @NonNull
-    CompletableFuture<Void> process(@NonNull ChannelHandlerContext context, @NonNull HttpResponseSender responseSender, boolean keepAlive);
+    CompletableFuture<Void> process(@NonNull ChannelHandlerContext context, @NonNull FullHttpRequest request, @NonNull HttpResponseSender responseSender, boolean keepAlive);
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.maksymuimanov.task.util.ConfigUtils;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Describes how long shared caches such as CDNs and reverse proxies may serve a response.
+ * <p>
+ * Responses get a {@code Cache-Control} header with {@code max-age}, {@code stale-while-revalidate}
+ * and {@code stale-if-error}, plus an {@code Age} header telling how long ago the body was produced,
+ * so a body served from the service's own cache is not treated as fresher than it is. Bodies of
+ * unknown age are marked {@code no-cache}.
+ *
+ * @param maxAge how long the response is fresh after it was produced
+ * @param staleWhileRevalidate how long a stale response may be served while it is revalidated in the background
+ * @param staleIfError how long a stale response may be served when the service fails
+ * @see SerializedResponse
+ */
+public record CacheControlPolicy(Duration maxAge, Duration staleWhileRevalidate, Duration staleIfError) {
+    /** System property key defining the freshness lifetime (in milliseconds) of dashboard responses. */
+    public static final String DASHBOARD_MAX_AGE_PROPERTY = "dashboard.cache.max-age";
+    /** System property key defining the stale-while-revalidate window (in milliseconds) of dashboard responses. */
+    public static final String DASHBOARD_STALE_WHILE_REVALIDATE_PROPERTY = "dashboard.cache.stale-while-revalidate";
+    /** System property key defining the stale-if-error window (in milliseconds) of dashboard responses. */
+    public static final String DASHBOARD_STALE_IF_ERROR_PROPERTY = "dashboard.cache.stale-if-error";
+    /** Default dashboard freshness lifetime; short enough for clients polling every few seconds. */
+    public static final Duration DEFAULT_DASHBOARD_MAX_AGE = ConfigUtils.getOrDefault(DASHBOARD_MAX_AGE_PROPERTY, Duration.ofSeconds(10));
+    /** Default dashboard stale-while-revalidate window. */
+    public static final Duration DEFAULT_DASHBOARD_STALE_WHILE_REVALIDATE = ConfigUtils.getOrDefault(DASHBOARD_STALE_WHILE_REVALIDATE_PROPERTY, Duration.ofSeconds(30));
+    /** Default dashboard stale-if-error window. */
+    public static final Duration DEFAULT_DASHBOARD_STALE_IF_ERROR = ConfigUtils.getOrDefault(DASHBOARD_STALE_IF_ERROR_PROPERTY, Duration.ofMinutes(5));
+    /** Default dashboard policy built from system properties or the default values. */
+    public static final CacheControlPolicy DEFAULT_DASHBOARD_POLICY = new CacheControlPolicy(DEFAULT_DASHBOARD_MAX_AGE, DEFAULT_DASHBOARD_STALE_WHILE_REVALIDATE, DEFAULT_DASHBOARD_STALE_IF_ERROR);
+
+    /**
+     * Returns how long the service should keep a body cached: as long as shared caches may still serve it on error.
+     *
+     * @return the storage TTL
+     */
+    public Duration getStorageTtl() {
+        return maxAge.plus(staleIfError);
+    }
+
+    /**
+     * Checks whether a body produced at the given time is still within its {@code max-age}.
+     *
+     * @param producedAt when the body was produced, or {@link SerializedResponse#UNKNOWN_PRODUCED_AT}
+     * @param now the current time
+     * @return {@code true} if the body is fresh; bodies of unknown age never are
+     */
+    public boolean isFresh(Instant producedAt, Instant now) {
+        if (producedAt.equals(SerializedResponse.UNKNOWN_PRODUCED_AT)) return false;
+        return Duration.between(producedAt, now).compareTo(maxAge) < 0;
+    }
+
+    /**
+     * Formats the {@code Cache-Control} header value.
+     *
+     * @return the header value
+     */
+    public String toHeaderValue() {
+        return "public, max-age=" + maxAge.toSeconds()
+                + ", stale-while-revalidate=" + staleWhileRevalidate.toSeconds()
+                + ", stale-if-error=" + staleIfError.toSeconds();
+    }
+
+    /**
+     * Sets the {@code Cache-Control} and {@code Age} headers for a body produced at the given time.
+     *
+     * @param headers the response headers to update
+     * @param producedAt when the body was produced, or {@link SerializedResponse#UNKNOWN_PRODUCED_AT}
+     * @param now the current time
+     * @return the updated headers
+     */
+    public HttpHeaders apply(HttpHeaders headers, Instant producedAt, Instant now) {
+        if (producedAt.equals(SerializedResponse.UNKNOWN_PRODUCED_AT)) {
+            return headers.set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE);
+        }
+        long age = Math.max(0, Duration.between(producedAt, now).toSeconds());
+        return headers
+                .set(HttpHeaderNames.CACHE_CONTROL, this.toHeaderValue())
+                .set(HttpHeaderNames.AGE, age);
+    }
+}
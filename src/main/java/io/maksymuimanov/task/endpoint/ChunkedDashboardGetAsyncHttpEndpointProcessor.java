@@ -0,0 +1,146 @@
+package io.maksymuimanov.task.endpoint;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.maksymuimanov.task.api.SectionedAsyncApiAggregator;
+import io.maksymuimanov.task.dto.DashboardResponse;
+import io.maksymuimanov.task.dto.HttpEndpoint;
+import io.maksymuimanov.task.exception.HttpEndpointProcessionException;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Handles the {@code GET /api/dashboard} endpoint by streaming the dashboard as chunked JSON.
+ * <p>
+ * Unlike {@link DashboardGetAsyncHttpEndpointProcessor}, which answers once every upstream API
+ * has completed, this processor sends the response head and the opening brace immediately and
+ * then flushes each section (weather, fact, ip) as a separate chunk as soon as its fetch
+ * completes, in completion order. The object is closed after the last section. Time-to-first-byte
+ * no longer depends on the slowest upstream, and no fully assembled response is ever held.
+ * <p>
+ * Once the head is sent the status can no longer change, so a failed section is written as
+ * {@code null}. All writes are made on the channel's event loop, which keeps the chunks ordered.
+ * Whole responses are neither cached nor tagged in this mode; the per-source caching of the
+ * fetchers still applies. The {@code fields} query parameter ({@link FieldSelection}) limits the
+ * streamed, and fetched, sections.
+ *
+ * @see SectionedAsyncApiAggregator
+ * @see HttpResponseSender#sendChunkedHead
+ * @see DashboardGetAsyncHttpEndpointProcessor
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ChunkedDashboardGetAsyncHttpEndpointProcessor implements AsyncHttpEndpointProcessor {
+    /** Chunk opening the dashboard object. */
+    public static final byte[] OBJECT_START = "{".getBytes(StandardCharsets.UTF_8);
+    /** Chunk closing the dashboard object. */
+    public static final byte[] OBJECT_END = "}".getBytes(StandardCharsets.UTF_8);
+    /** Value written for sections that failed or produced nothing. */
+    public static final byte[] NULL_VALUE = "null".getBytes(StandardCharsets.UTF_8);
+    /** Separator between two sections. */
+    public static final byte SECTION_SEPARATOR = ',';
+    @NonNull
+    private final SectionedAsyncApiAggregator<DashboardResponse, JsonNode> apiAggregator;
+
+    /**
+     * Returns the HTTP endpoint handled by this processor.
+     *
+     * @return descriptor for {@code GET /api/dashboard}
+     */
+    @Override
+    @NonNull
+    public HttpEndpoint getEndpoint() {
+        return DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT;
+    }
+
+    /**
+     * Streams a dashboard response section by section.
+     * <p>
+     * Starts fetching the sections selected by the {@code fields} query parameter, or answers
+     * {@code 400 Bad Request} if it selects an unknown one. Then sends the response head and the
+     * opening brace, and writes each section on the channel's event loop as it completes. After the last one the object is
+     * closed and the chunked response ended. If writing fails midway, the connection is closed,
+     * since a started response cannot be replaced by an error.
+     *
+     * @param context Netty context for writing the response
+     * @param request the incoming request, read for its {@code fields} parameter
+     * @param responseSender component responsible for serializing and sending the chunks
+     * @param keepAlive whether to keep the connection open after the last chunk
+     * @return a {@link CompletableFuture} completing when the last chunk has been sent
+     * @throws HttpEndpointProcessionException if a fatal synchronous error occurs
+     */
+    @Override
+    @NonNull
+    public CompletableFuture<Void> process(@NonNull ChannelHandlerContext context, @NonNull FullHttpRequest request, @NonNull HttpResponseSender responseSender, boolean keepAlive) {
+        try {
+            log.info("Streaming dashboard endpoint");
+            FieldSelection selection;
+            try {
+                selection = FieldSelection.fromUri(request.uri(), apiAggregator.getSectionNames());
+            } catch (IllegalArgumentException e) {
+                log.warn("Rejecting dashboard stream request: {}", e.getMessage());
+                responseSender.send(context, DashboardGetAsyncHttpEndpointProcessor.INVALID_FIELDS_MESSAGE, HttpResponseStatus.BAD_REQUEST, keepAlive);
+                return CompletableFuture.completedFuture(null);
+            }
+            Map<String, CompletableFuture<JsonNode>> sections = apiAggregator.aggregateSections(selection.fields());
+            responseSender.sendChunkedHead(context, HttpResponseStatus.OK, EmptyHttpHeaders.INSTANCE, keepAlive);
+            responseSender.sendChunk(context, OBJECT_START);
+            AtomicBoolean first = new AtomicBoolean(true);
+            CompletableFuture<?>[] sectionWrites = sections.entrySet().stream()
+                    .map(section -> section.getValue().handleAsync((value, ex) -> {
+                        byte[] serialized;
+                        if (ex != null) {
+                            log.warn("Dashboard section '{}' failed, streaming null: {}", section.getKey(), ex.getMessage());
+                            serialized = NULL_VALUE;
+                        } else {
+                            serialized = value != null ? responseSender.serialize(value) : NULL_VALUE;
+                        }
+                        responseSender.sendChunk(context, this.toSectionChunk(section.getKey(), serialized, first.getAndSet(false)));
+                        log.debug("Dashboard section '{}' streamed", section.getKey());
+                        return null;
+                    }, context.executor()))
+                    .toArray(CompletableFuture[]::new);
+            return CompletableFuture.allOf(sectionWrites)
+                    .thenRunAsync(() -> {
+                        responseSender.sendChunk(context, OBJECT_END);
+                        responseSender.sendLastChunk(context, keepAlive);
+                        log.info("Dashboard streamed successfully");
+                    }, context.executor())
+                    .exceptionally(ex -> {
+                        log.error("Unexpected error while streaming dashboard, closing connection", ex);
+                        context.close();
+                        return null;
+                    });
+        } catch (Exception e) {
+            log.error("Something went wrong in dashboard streaming: ", e);
+            return CompletableFuture.failedFuture(new HttpEndpointProcessionException(e));
+        }
+    }
+
+    /**
+     * Builds the chunk of a single section: {@code "name":value}, preceded by a separator unless it is the first one.
+     *
+     * @param name the section name
+     * @param value the serialized section value
+     * @param first whether no section has been written yet
+     * @return the chunk bytes
+     */
+    private byte[] toSectionChunk(String name, byte[] value, boolean first) {
+        byte[] key = ("\"" + name + "\":").getBytes(StandardCharsets.UTF_8);
+        int offset = first ? 0 : 1;
+        byte[] chunk = new byte[offset + key.length + value.length];
+        if (!first) chunk[0] = SECTION_SEPARATOR;
+        System.arraycopy(key, 0, chunk, offset, key.length);
+        System.arraycopy(value, 0, chunk, offset + key.length, value.length);
+        return chunk;
+    }
+}
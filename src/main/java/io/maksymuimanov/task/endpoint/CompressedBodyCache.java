@@ -0,0 +1,119 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.maksymuimanov.task.util.ConfigUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+
+/**
+ * Keeps the compressed variants of the latest version of each cached response body.
+ * <p>
+ * A variant is compressed the first time a client asks for its coding and is then reused until a
+ * body with another {@code ETag} replaces the version under the same cache key. Variants are held
+ * as unreleasable read-only buffers, so serving one costs a {@link ByteBuf#duplicate()} instead of
+ * a compression. A version can be as short-lived as the dashboard's {@code max-age}, so the default
+ * level is zlib's default rather than the slowest one.
+ * <p>
+ * Only one version is kept per cache key, and the keys are the field-set and format combinations
+ * of an endpoint, so the cache stays small without an explicit bound.
+ *
+ * @see ContentCoding
+ * @see SerializedResponse
+ * @see DashboardGetAsyncHttpEndpointProcessor
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CompressedBodyCache {
+    /** System property key defining the minimum body size (in bytes) from which responses are compressed; negative disables compression. */
+    public static final String COMPRESSION_MIN_SIZE_PROPERTY = "server.compression.min-size";
+    /** System property key defining the compression level (0-9, or -1 for zlib's default) of the zlib-based codings. */
+    public static final String COMPRESSION_LEVEL_PROPERTY = "server.compression.level";
+    /** Default minimum body size; smaller bodies barely shrink and are sent as they are. */
+    public static final int DEFAULT_COMPRESSION_MIN_SIZE = ConfigUtils.getOrDefault(COMPRESSION_MIN_SIZE_PROPERTY, 256);
+    /** Default compression level, zlib's balance of speed and ratio. */
+    public static final int DEFAULT_COMPRESSION_LEVEL = ConfigUtils.getOrDefault(COMPRESSION_LEVEL_PROPERTY, Deflater.DEFAULT_COMPRESSION);
+    private final Map<String, Variants> versions = new ConcurrentHashMap<>();
+    @Getter
+    private final int minSize;
+    private final int level;
+
+    /**
+     * Creates a cache with the default minimum size and compression level.
+     */
+    public CompressedBodyCache() {
+        this(DEFAULT_COMPRESSION_MIN_SIZE, DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Negotiates the coding of a body from an {@code Accept-Encoding} header, keeping bodies below
+     * the minimum size uncompressed.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header value, possibly empty
+     * @param response the body about to be served
+     * @return the coding to serve the body with
+     */
+    public ContentCoding negotiate(String acceptEncoding, SerializedResponse response) {
+        if (minSize < 0 || response.body().length < minSize) return ContentCoding.IDENTITY;
+        return ContentCoding.negotiate(acceptEncoding);
+    }
+
+    /**
+     * Returns a body compressed with the given coding, compressing it only if this version has
+     * not been compressed with that coding yet.
+     *
+     * @param cacheKey the cache key of the body
+     * @param response the body, identified by its {@code ETag}
+     * @param coding the coding to compress with
+     * @return a duplicate of the compressed body, safe to write and release
+     */
+    public ByteBuf get(String cacheKey, SerializedResponse response, ContentCoding coding) {
+        Variants variants = versions.get(cacheKey);
+        if (variants == null || !variants.etag().equals(response.etag())) {
+            variants = versions.compute(cacheKey, (key, current) -> current != null && current.etag().equals(response.etag())
+                    ? current
+                    : new Variants(response.etag(), new ConcurrentHashMap<>()));
+        }
+        return variants.bodies().computeIfAbsent(coding, c -> this.compress(cacheKey, response, c)).duplicate();
+    }
+
+    /**
+     * Returns the number of cached compressed bodies, across all keys and codings.
+     *
+     * @return cached variant count
+     */
+    public int getCachedVariantCount() {
+        return versions.values().stream()
+                .mapToInt(variants -> variants.bodies().size())
+                .sum();
+    }
+
+    /**
+     * Compresses a body into a shared buffer.
+     *
+     * @param cacheKey the cache key of the body
+     * @param response the body
+     * @param coding the coding to compress with
+     * @return the compressed body as an unreleasable read-only buffer
+     */
+    private ByteBuf compress(String cacheKey, SerializedResponse response, ContentCoding coding) {
+        byte[] compressed = coding.encode(response.body(), level);
+        log.debug("Compressed response body: key={}, etag={}, coding={}, size={} -> {} bytes",
+                cacheKey, response.etag(), coding.getName(), response.body().length, compressed.length);
+        return Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(compressed).asReadOnly());
+    }
+
+    /**
+     * Compressed variants of one version of a body.
+     *
+     * @param etag the {@code ETag} of the uncompressed body
+     * @param bodies compressed bodies by coding
+     */
+    private record Variants(String etag, Map<ContentCoding, ByteBuf> bodies) {
+    }
+}
@@ -0,0 +1,218 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.maksymuimanov.task.exception.HttpEndpointProcessionException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.util.AsciiString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Enumerates the content codings response bodies can be compressed with and negotiates them from
+ * {@code Accept-Encoding} headers.
+ * <p>
+ * Constants are declared in order of server preference, which breaks ties between codings of equal
+ * quality. Gzip and deflate use the JDK's zlib; Brotli is only offered when Netty finds the native
+ * Brotli library on the classpath ({@link Brotli#isAvailable()}).
+ *
+ * @see CompressedBodyCache
+ */
+public enum ContentCoding {
+    /** Brotli (RFC 7932), available with the native Brotli library only. */
+    BROTLI("br") {
+        @Override
+        public boolean isAvailable() {
+            return Brotli.isAvailable();
+        }
+
+        @Override
+        public byte[] encode(byte[] body, int level) {
+            EmbeddedChannel channel = new EmbeddedChannel(new BrotliEncoder());
+            try {
+                channel.writeOutbound(Unpooled.wrappedBuffer(body));
+                channel.finish();
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length);
+                for (ByteBuf chunk = channel.readOutbound(); chunk != null; chunk = channel.readOutbound()) {
+                    try {
+                        chunk.readBytes(compressed, chunk.readableBytes());
+                    } finally {
+                        chunk.release();
+                    }
+                }
+                return compressed.toByteArray();
+            } catch (Exception e) {
+                throw new HttpEndpointProcessionException(e);
+            } finally {
+                channel.finishAndReleaseAll();
+            }
+        }
+    },
+    /** Gzip (RFC 1952). */
+    GZIP("gzip") {
+        @Override
+        public byte[] encode(byte[] body, int level) {
+            return deflate(body, output -> new GZIPOutputStream(output) {
+                {
+                    def.setLevel(level);
+                }
+            });
+        }
+    },
+    /** Zlib-wrapped deflate (RFC 1950), as HTTP defines {@code deflate}. */
+    DEFLATE("deflate") {
+        @Override
+        public byte[] encode(byte[] body, int level) {
+            return deflate(body, output -> new DeflaterOutputStream(output, new Deflater(level)) {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    def.end();
+                }
+            });
+        }
+    },
+    /** The uncompressed body. */
+    IDENTITY("identity") {
+        @Override
+        public byte[] encode(byte[] body, int level) {
+            return body;
+        }
+    };
+
+    /** Coding matching every coding not listed explicitly. */
+    public static final String ANY_CODING = "*";
+    /** Quality parameter prefix of a coding. */
+    public static final String QUALITY_PARAMETER = "q=";
+    private final AsciiString name;
+
+    ContentCoding(String name) {
+        this.name = AsciiString.cached(name);
+    }
+
+    /**
+     * Returns the name of this coding, as used in {@code Accept-Encoding} and {@code Content-Encoding}.
+     *
+     * @return the coding name
+     */
+    public AsciiString getName() {
+        return name;
+    }
+
+    /**
+     * Checks whether bodies can be compressed with this coding in this runtime.
+     *
+     * @return {@code true} if the coding is usable
+     */
+    public boolean isAvailable() {
+        return true;
+    }
+
+    /**
+     * Compresses a body with this coding.
+     *
+     * @param body the uncompressed body
+     * @param level the compression level, where the coding has one
+     * @return the compressed body
+     * @throws HttpEndpointProcessionException if the body cannot be compressed
+     */
+    public abstract byte[] encode(byte[] body, int level);
+
+    /**
+     * Selects the available coding with the highest quality in an {@code Accept-Encoding} header.
+     * Ties go to the preferred coding; {@code *} gives its quality to every coding not listed;
+     * unknown codings are ignored.
+     *
+     * @param acceptEncoding the {@code Accept-Encoding} header value, possibly empty
+     * @return the negotiated coding, {@link #IDENTITY} if no compression is acceptable
+     */
+    public static ContentCoding negotiate(String acceptEncoding) {
+        if (acceptEncoding.isEmpty()) return IDENTITY;
+        Map<ContentCoding, Double> qualities = new EnumMap<>(ContentCoding.class);
+        double anyQuality = -1;
+        for (String codingRange : acceptEncoding.split(",")) {
+            String[] parameters = codingRange.split(";");
+            String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parameters);
+            if (coding.equals(ANY_CODING)) {
+                anyQuality = quality;
+                continue;
+            }
+            for (ContentCoding candidate : values()) {
+                if (candidate.name.contentEquals(coding)) qualities.put(candidate, quality);
+            }
+        }
+        ContentCoding best = IDENTITY;
+        double bestQuality = 0;
+        for (ContentCoding candidate : values()) {
+            double quality = qualities.getOrDefault(candidate, anyQuality);
+            if (quality > bestQuality && candidate.isAvailable()) {
+                best = candidate;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Reads the quality of a coding, {@code 1} if absent and {@code 0} if malformed.
+     *
+     * @param parameters the coding followed by its parameters
+     * @return the quality
+     */
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (!parameter.startsWith(QUALITY_PARAMETER)) continue;
+            try {
+                return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Compresses a body through a zlib output stream.
+     *
+     * @param body the uncompressed body
+     * @param streamFactory creates the compressing stream over the output
+     * @return the compressed body
+     * @throws HttpEndpointProcessionException if the body cannot be compressed
+     */
+    private static byte[] deflate(byte[] body, StreamFactory streamFactory) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2 + 32);
+        try (OutputStream stream = streamFactory.create(compressed)) {
+            stream.write(body);
+        } catch (Exception e) {
+            throw new HttpEndpointProcessionException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Creates a compressing stream over an output.
+     */
+    @FunctionalInterface
+    private interface StreamFactory {
+        /**
+         * Creates the compressing stream.
+         *
+         * @param output the output receiving the compressed bytes
+         * @return the compressing stream
+         * @throws Exception if the stream cannot be created
+         */
+        OutputStream create(OutputStream output) throws Exception;
+    }
+}
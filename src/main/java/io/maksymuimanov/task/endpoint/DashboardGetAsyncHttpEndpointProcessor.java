@@ -1,18 +1,32 @@
 package io.maksymuimanov.task.endpoint;
 
-import io.maksymuimanov.task.api.AsyncApiAggregator;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.maksymuimanov.task.api.CancellationToken;
+import io.maksymuimanov.task.api.SectionedAsyncApiAggregator;
 import io.maksymuimanov.task.cache.AsyncCacheManager;
 import io.maksymuimanov.task.dto.DashboardResponse;
 import io.maksymuimanov.task.dto.ErrorResponse;
 import io.maksymuimanov.task.dto.HttpEndpoint;
 import io.maksymuimanov.task.exception.HttpEndpointProcessionException;
+import io.maksymuimanov.task.util.ConfigUtils;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Handles asynchronous processing of the {@code GET /api/dashboard} endpoint.
@@ -20,11 +34,52 @@ import java.util.concurrent.CompletableFuture;
  * This processor orchestrates concurrent API aggregation, resilient caching via Redis,
  * and non-blocking HTTP response delivery through Netty. It first attempts to fetch
  * live data from multiple APIs and falls back to cached data if an error occurs.
+ * <p>
+ * Live data that has not arrived within a soft deadline is not waited for either: the cached body
+ * is served instead while the aggregation keeps running in the background and refreshes the cache
+ * when it completes. Tail latency is thus bounded by the deadline rather than by the upstream
+ * timeouts, as long as a cached body exists; without one, the live result is awaited.
+ * <p>
+ * A client disconnecting before its response is sent cancels the request's {@link CancellationToken},
+ * which aborts the upstream fetches and pending retries; sources shared with other requests through
+ * the cache keep being fetched.
+ * <p>
+ * Fresh responses are serialized once and the resulting body is cached as-is, so a cache
+ * fallback writes the stored bytes straight to the socket without any JSON parsing or writing.
+ * <p>
+ * Each body is tagged with a strong {@code ETag} when it is produced, and the tag is cached along
+ * with it ({@link SerializedResponse}). Requests whose {@code If-None-Match} matches the tag of the
+ * body about to be served get an empty {@code 304 Not Modified} instead.
+ * <p>
+ * Responses carry {@code Cache-Control} and {@code Age} headers derived from when the served body
+ * was produced ({@link CacheControlPolicy}), so CDNs and reverse proxies can serve most polls.
+ * The body is cached for as long as those caches may serve it on error.
+ * <p>
+ * A {@code fields} query parameter ({@link FieldSelection}) restricts the response to the selected
+ * sections; only their sources are fetched, and each field set is cached under its own key.
+ * <p>
+ * The body format (JSON, CBOR, Smile or MessagePack) is negotiated from the {@code Accept} header
+ * through {@link HttpResponseSender#negotiate(String)}; each format is cached under its own key and
+ * responses carry {@code Vary: Accept}.
+ * <p>
+ * Bodies are compressed with the coding negotiated from the {@code Accept-Encoding} header. Each
+ * version of a body is compressed at most once per coding and kept next to the identity body in a
+ * {@link CompressedBodyCache}, so compressed responses cost a buffer duplicate. Compressed
+ * responses carry the weak form of the body's {@code ETag}, which conditional requests still match.
+ * The latest fresh body of each cache key is kept in memory and served as-is while it is within the
+ * policy's {@code max-age}, so polls within that window skip the aggregation and keep getting the
+ * same version: its tag answers their {@code If-None-Match} with {@code 304}, and its compressed
+ * variants are reused. Once stale, the next request aggregates again, and an unchanged body reuses
+ * its tag instead of being hashed again.
  *
- * @see AsyncApiAggregator
+ * @see SectionedAsyncApiAggregator
  * @see AsyncCacheManager
  * @see AsyncHttpEndpointProcessor
  * @see HttpResponseSender
+ * @see SerializedResponse
+ * @see CacheControlPolicy
+ * @see FieldSelection
+ * @see CompressedBodyCache
  */
 @Slf4j
 public class DashboardGetAsyncHttpEndpointProcessor implements AsyncHttpEndpointProcessor {
@@ -32,27 +87,84 @@ public class DashboardGetAsyncHttpEndpointProcessor implements AsyncHttpEndpoint
     public static final String DASHBOARD_ENDPOINT_PATH = "/api/dashboard";
     /** Descriptor of the HTTP endpoint handled by this processor. */
     public static final HttpEndpoint DASHBOARD_HTTP_ENDPOINT = new HttpEndpoint(DASHBOARD_ENDPOINT_PATH, HttpMethod.GET);
-    /** Redis key used for caching aggregated dashboard data. */
+    /** Redis key used for caching aggregated dashboard data; partial field sets append their fields. */
     public static final String DASHBOARD_CACHE_KEY = "dashboard";
+    /** System property key defining how long (in milliseconds) live data is awaited before the cached dashboard is served; zero or negative always awaits it. */
+    public static final String DASHBOARD_SOFT_DEADLINE_PROPERTY = "dashboard.soft-deadline";
+    /** Default soft deadline of live data. */
+    public static final Duration DEFAULT_DASHBOARD_SOFT_DEADLINE = ConfigUtils.getOrDefault(DASHBOARD_SOFT_DEADLINE_PROPERTY, Duration.ofMillis(200));
+    /** Value of the {@code Vary} header: the body depends on the negotiated format and coding. */
+    public static final String VARY_HEADER_VALUE = "Accept, Accept-Encoding";
+    /** Empty body of {@code 304 Not Modified} responses. */
+    public static final byte[] NOT_MODIFIED_BODY = new byte[0];
     /** Generic response returned when all data fetch attempts fail. */
     public static final ErrorResponse FAILED_TO_FETCH_DATA_MESSAGE = new ErrorResponse("Failed to fetch data");
+    /** Response returned when the {@code fields} query parameter selects an unknown field. */
+    public static final ErrorResponse INVALID_FIELDS_MESSAGE = new ErrorResponse("Invalid fields parameter");
     /** Generic response returned for unexpected server-side errors. */
     public static final ErrorResponse UNEXPECTED_SERVER_ERROR_MESSAGE = new ErrorResponse("Unexpected server error");
     @NonNull
-    private final AsyncApiAggregator<DashboardResponse> apiAggregator;
+    private final SectionedAsyncApiAggregator<DashboardResponse, JsonNode> apiAggregator;
     @NonNull
     private final AsyncCacheManager cacheManager;
+    @NonNull
+    private final CacheControlPolicy cacheControlPolicy;
+    @NonNull
+    private final Clock clock;
+    @NonNull
+    private final CompressedBodyCache compressedBodyCache;
+    @NonNull
+    private final Duration softDeadline;
+    private final Map<String, SerializedResponse> latestResponses = new ConcurrentHashMap<>();
 
     /**
-     * Creates a new asynchronous dashboard endpoint processor.
+     * Creates a new asynchronous dashboard endpoint processor with the default cache control policy.
      *
      * @param cacheManager   asynchronous cache manager for Redis storage
      * @param apiAggregator  concurrent aggregator fetching data from multiple APIs
      */
     public DashboardGetAsyncHttpEndpointProcessor(@NonNull AsyncCacheManager cacheManager,
-                                                  @NonNull AsyncApiAggregator<DashboardResponse> apiAggregator) {
+                                                  @NonNull SectionedAsyncApiAggregator<DashboardResponse, JsonNode> apiAggregator) {
+        this(cacheManager, apiAggregator, CacheControlPolicy.DEFAULT_DASHBOARD_POLICY, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a new asynchronous dashboard endpoint processor.
+     *
+     * @param cacheManager        asynchronous cache manager for Redis storage
+     * @param apiAggregator       concurrent aggregator fetching data from multiple APIs
+     * @param cacheControlPolicy  policy deriving the {@code Cache-Control} and {@code Age} headers
+     * @param clock               clock timestamping produced bodies and computing their age
+     */
+    public DashboardGetAsyncHttpEndpointProcessor(@NonNull AsyncCacheManager cacheManager,
+                                                  @NonNull SectionedAsyncApiAggregator<DashboardResponse, JsonNode> apiAggregator,
+                                                  @NonNull CacheControlPolicy cacheControlPolicy,
+                                                  @NonNull Clock clock) {
+        this(cacheManager, apiAggregator, cacheControlPolicy, clock, new CompressedBodyCache(), DEFAULT_DASHBOARD_SOFT_DEADLINE);
+    }
+
+    /**
+     * Creates a new asynchronous dashboard endpoint processor with the given compressed body cache and soft deadline.
+     *
+     * @param cacheManager        asynchronous cache manager for Redis storage
+     * @param apiAggregator       concurrent aggregator fetching data from multiple APIs
+     * @param cacheControlPolicy  policy deriving the {@code Cache-Control} and {@code Age} headers
+     * @param clock               clock timestamping produced bodies and computing their age
+     * @param compressedBodyCache cache of the compressed variants of served bodies
+     * @param softDeadline        how long live data is awaited before the cached body is served; zero or negative always awaits it
+     */
+    public DashboardGetAsyncHttpEndpointProcessor(@NonNull AsyncCacheManager cacheManager,
+                                                  @NonNull SectionedAsyncApiAggregator<DashboardResponse, JsonNode> apiAggregator,
+                                                  @NonNull CacheControlPolicy cacheControlPolicy,
+                                                  @NonNull Clock clock,
+                                                  @NonNull CompressedBodyCache compressedBodyCache,
+                                                  @NonNull Duration softDeadline) {
         this.cacheManager = cacheManager;
         this.apiAggregator = apiAggregator;
+        this.cacheControlPolicy = cacheControlPolicy;
+        this.clock = clock;
+        this.compressedBodyCache = compressedBodyCache;
+        this.softDeadline = softDeadline;
     }
 
     /**
@@ -69,45 +181,100 @@ public class DashboardGetAsyncHttpEndpointProcessor implements AsyncHttpEndpoint
     /**
      * Processes a dashboard request asynchronously.
      * <p>
-     * Attempts to aggregate data from remote APIs and cache it.
-     * If the aggregation fails, cached data is used as a fallback.
-     * The response is then written back to the client using Netty.
+     * If the latest body aggregated for the request's cache key is still fresh, it is sent right
+     * away without aggregating. Otherwise attempts to aggregate the sections selected by the
+     * {@code fields} query parameter from remote APIs, serialize them and cache the serialized body with its {@code ETag} and production time under the key
+     * of the field set. An unknown field is answered with {@code 400 Bad Request}. Bodies are serialized
+     * in the format negotiated from the {@code Accept} header and cached per format, then compressed
+     * with the coding negotiated from the {@code Accept-Encoding} header, reusing earlier compressions.
+     * If the aggregation fails, or has not completed within the soft deadline, the cached body is sent
+     * as a fallback without being deserialized; a late aggregation still refreshes the cache, and
+     * without a cached body it is awaited. A failure to cache a fresh body does not affect the response.
+     * If the client disconnects before the response is sent, the aggregation is cancelled through a
+     * {@link CancellationToken} tied to the channel's close future, and no fallback or response follows.
+     * The token is detached before any response is sent, so closing the connection after the
+     * response, e.g. without keep-alive, never cancels an aggregation still refreshing the cache.
+     * The response is then written back to the client using Netty, or replaced by an empty
+     * {@code 304 Not Modified} if the request's {@code If-None-Match} matches the body's tag.
+     * Both carry the {@code Cache-Control} and {@code Age} headers of the body.
      *
      * @param context Netty context for writing the response
-     * @param responseSender component responsible for serializing and sending JSON responses
+     * @param request the incoming request, read for its {@code fields} parameter and {@code Accept}, {@code Accept-Encoding} and {@code If-None-Match} headers
+     * @param responseSender component negotiating the response format, then serializing and sending the responses
      * @param keepAlive whether to keep the connection open after sending
      * @return a {@link CompletableFuture} completing when the response has been sent
      * @throws HttpEndpointProcessionException if a fatal synchronous error occurs
      */
     @Override
     @NonNull
-    public CompletableFuture<Void> process(@NonNull ChannelHandlerContext context, @NonNull HttpResponseSender responseSender, boolean keepAlive) {
+    public CompletableFuture<Void> process(@NonNull ChannelHandlerContext context, @NonNull FullHttpRequest request, @NonNull HttpResponseSender responseSender, boolean keepAlive) {
         try {
             log.info("Processing dashboard endpoint");
-            return apiAggregator.aggregate()
+            HttpResponseSender sender = responseSender.negotiate(request.headers().get(HttpHeaderNames.ACCEPT, ""));
+            FieldSelection selection;
+            try {
+                selection = FieldSelection.fromUri(request.uri(), apiAggregator.getSectionNames());
+            } catch (IllegalArgumentException e) {
+                log.warn("Rejecting dashboard request: {}", e.getMessage());
+                sender.send(context, INVALID_FIELDS_MESSAGE, HttpResponseStatus.BAD_REQUEST, keepAlive);
+                return CompletableFuture.completedFuture(null);
+            }
+            String cacheKey = sender.getFormat().cacheKey(selection.cacheKey(DASHBOARD_CACHE_KEY));
+            String ifNoneMatch = request.headers().get(HttpHeaderNames.IF_NONE_MATCH, "");
+            String acceptEncoding = request.headers().get(HttpHeaderNames.ACCEPT_ENCODING, "");
+            SerializedResponse latest = latestResponses.get(cacheKey);
+            if (latest != null && cacheControlPolicy.isFresh(latest.producedAt(), clock.instant())) {
+                log.info("Serving fresh dashboard without aggregating: etag={}", latest.etag());
+                this.send(context, sender, cacheKey, latest, ifNoneMatch, acceptEncoding, keepAlive);
+                return CompletableFuture.completedFuture(null);
+            }
+            CancellationToken cancellationToken = new CancellationToken();
+            ChannelFuture closeFuture = context.channel().closeFuture();
+            ChannelFutureListener cancelOnClose = future -> {
+                if (cancellationToken.cancel()) log.info("Client disconnected, cancelling dashboard processing");
+            };
+            CompletableFuture<SerializedResponse> fresh = (selection.all() ? apiAggregator.aggregate(cancellationToken) : apiAggregator.aggregate(selection.fields(), cancellationToken))
                     .handle((response, ex) -> {
                         if (ex == null) return response;
-                        log.warn("Aggregation failed, attempting to use cached dashboard: {}", ex.getMessage());
+                        if (!cancellationToken.isCancelled()) log.warn("Aggregation failed, attempting to use cached dashboard: {}", ex.getMessage());
                         return null;
                     })
                     .thenCompose(response -> {
-                        if (response == null) return cacheManager.get(DASHBOARD_CACHE_KEY, DashboardResponse.class)
-                                .handle((optional, cacheEx) -> cacheEx == null ? optional.orElse(null) : null);
-                        return cacheManager.put(DASHBOARD_CACHE_KEY, response)
-                                .thenApply(v -> response);
+                        if (response == null) return CompletableFuture.completedFuture(null);
+                        byte[] body = sender.serialize(response);
+                        SerializedResponse serialized = latestResponses.compute(cacheKey, (key, previous) -> SerializedResponse.of(body, clock.instant(), previous));
+                        return cacheManager.putBytes(cacheKey, serialized.toBytes(), cacheControlPolicy.getStorageTtl())
+                                .handle((v, cacheEx) -> {
+                                    if (cacheEx != null) log.warn("Failed to cache dashboard, serving it anyway: {}", cacheEx.getMessage());
+                                    return serialized;
+                                });
+                    });
+            closeFuture.addListener(cancelOnClose);
+            CompletableFuture<SerializedResponse> withinDeadline = softDeadline.isPositive()
+                    ? fresh.copy().completeOnTimeout(null, softDeadline.toMillis(), TimeUnit.MILLISECONDS)
+                    : fresh;
+            return withinDeadline
+                    .thenCompose(serialized -> {
+                        if (serialized != null || cancellationToken.isCancelled()) return CompletableFuture.completedFuture(serialized);
+                        if (!fresh.isDone()) log.warn("Dashboard not aggregated within {} ms, attempting to use cached dashboard", softDeadline.toMillis());
+                        return this.getCached(cacheKey)
+                                .thenCompose(cached -> cached != null ? CompletableFuture.completedFuture(cached) : fresh);
                     })
-                    .thenAccept(response -> {
-                        if (response != null) {
-                            log.info("Dashboard processed successfully");
-                            responseSender.send(context, response, HttpResponseStatus.OK, keepAlive);
+                    .thenAccept(serialized -> {
+                        closeFuture.removeListener(cancelOnClose);
+                        if (cancellationToken.isCancelled()) {
+                            log.info("Dropping dashboard response of disconnected client");
+                        } else if (serialized != null) {
+                            this.send(context, sender, cacheKey, serialized, ifNoneMatch, acceptEncoding, keepAlive);
                         } else {
                             log.error("Dashboard processing failed: no data available");
-                            responseSender.send(context, FAILED_TO_FETCH_DATA_MESSAGE, HttpResponseStatus.INTERNAL_SERVER_ERROR, keepAlive);
+                            sender.send(context, FAILED_TO_FETCH_DATA_MESSAGE, HttpResponseStatus.INTERNAL_SERVER_ERROR, keepAlive);
                         }
                     })
                     .exceptionally(ex -> {
+                        closeFuture.removeListener(cancelOnClose);
                         log.error("Unexpected error while processing dashboard", ex);
-                        responseSender.send(context, UNEXPECTED_SERVER_ERROR_MESSAGE, HttpResponseStatus.INTERNAL_SERVER_ERROR, keepAlive);
+                        if (!cancellationToken.isCancelled()) sender.send(context, UNEXPECTED_SERVER_ERROR_MESSAGE, HttpResponseStatus.INTERNAL_SERVER_ERROR, keepAlive);
                         return null;
                     });
         } catch (Exception e) {
@@ -115,4 +282,47 @@ public class DashboardGetAsyncHttpEndpointProcessor implements AsyncHttpEndpoint
             return CompletableFuture.failedFuture(new HttpEndpointProcessionException(e));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Sends a body, or an empty {@code 304 Not Modified} if the request's {@code If-None-Match} matches
+     * its tag, compressed with the coding negotiated from the {@code Accept-Encoding} header.
+     *
+     * @param context Netty context for writing the response
+     * @param sender the negotiated response sender
+     * @param cacheKey the cache key of the body
+     * @param serialized the body to send
+     * @param ifNoneMatch the {@code If-None-Match} header value, possibly empty
+     * @param acceptEncoding the {@code Accept-Encoding} header value, possibly empty
+     * @param keepAlive whether to keep the connection open after sending
+     */
+    private void send(ChannelHandlerContext context, HttpResponseSender sender, String cacheKey, SerializedResponse serialized,
+                      String ifNoneMatch, String acceptEncoding, boolean keepAlive) {
+        ContentCoding coding = compressedBodyCache.negotiate(acceptEncoding, serialized);
+        boolean compressed = coding != ContentCoding.IDENTITY;
+        HttpHeaders headers = cacheControlPolicy.apply(new DefaultHttpHeaders(), serialized.producedAt(), clock.instant())
+                .set(HttpHeaderNames.ETAG, compressed ? SerializedResponse.WEAK_ETAG_PREFIX + serialized.etag() : serialized.etag())
+                .set(HttpHeaderNames.VARY, VARY_HEADER_VALUE);
+        if (serialized.matches(ifNoneMatch)) {
+            log.info("Dashboard not modified: etag={}", serialized.etag());
+            sender.sendSerialized(context, NOT_MODIFIED_BODY, HttpResponseStatus.NOT_MODIFIED, headers, keepAlive);
+        } else if (compressed) {
+            log.info("Dashboard processed successfully: coding={}", coding.getName());
+            headers.set(HttpHeaderNames.CONTENT_ENCODING, coding.getName());
+            sender.sendBuffer(context, compressedBodyCache.get(cacheKey, serialized, coding), HttpResponseStatus.OK, headers, keepAlive);
+        } else {
+            log.info("Dashboard processed successfully");
+            sender.sendSerialized(context, serialized.body(), HttpResponseStatus.OK, headers, keepAlive);
+        }
+    }
+
+    /**
+     * Reads the cached body of a dashboard, treating a cache failure as a miss.
+     *
+     * @param cacheKey the cache key of the body
+     * @return a future of the cached body, or of {@code null} if there is none
+     */
+    private CompletableFuture<SerializedResponse> getCached(String cacheKey) {
+        return cacheManager.getBytes(cacheKey)
+                .handle((optional, cacheEx) -> cacheEx == null ? optional.map(SerializedResponse::fromBytes).orElse(null) : null);
+    }
+}
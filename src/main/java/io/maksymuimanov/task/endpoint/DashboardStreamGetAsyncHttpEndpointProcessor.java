@@ -0,0 +1,192 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.maksymuimanov.task.api.AsyncApiAggregator;
+import io.maksymuimanov.task.dto.DashboardResponse;
+import io.maksymuimanov.task.dto.HttpEndpoint;
+import io.maksymuimanov.task.exception.HttpEndpointProcessionException;
+import io.maksymuimanov.task.util.ConfigUtils;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.ReadOnlyHttpHeaders;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Handles the {@code GET /api/dashboard/stream} endpoint, pushing dashboard updates as Server-Sent Events.
+ * <p>
+ * Each connection receives the current dashboard snapshot and then every refreshed one, instead
+ * of polling {@code /api/dashboard}. A background thread re-aggregates the dashboard at a fixed
+ * interval while there are subscribers. A changed dashboard, detected by its {@code ETag}, is
+ * serialized once and broadcast by {@link ServerSentEventBroadcaster}. An unchanged or failed
+ * refresh only sends a heartbeat.
+ * <p>
+ * Stream connections never send another request, so the read timeout is removed from their pipeline.
+ *
+ * @see ServerSentEventBroadcaster
+ * @see DashboardGetAsyncHttpEndpointProcessor
+ */
+@Slf4j
+public class DashboardStreamGetAsyncHttpEndpointProcessor implements AsyncHttpEndpointProcessor, AutoCloseable {
+    /** Endpoint path for the dashboard event stream. */
+    public static final String DASHBOARD_STREAM_ENDPOINT_PATH = "/api/dashboard/stream";
+    /** Descriptor of the HTTP endpoint handled by this processor. */
+    public static final HttpEndpoint DASHBOARD_STREAM_HTTP_ENDPOINT = new HttpEndpoint(DASHBOARD_STREAM_ENDPOINT_PATH, HttpMethod.GET);
+    /** Type of the events carrying dashboard snapshots. */
+    public static final String DASHBOARD_EVENT = "dashboard";
+    /** Headers of the event stream response. */
+    public static final HttpHeaders EVENT_STREAM_HEADERS = new ReadOnlyHttpHeaders(true,
+            HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.TEXT_EVENT_STREAM,
+            HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE);
+    /** System property key defining the interval (in milliseconds) between dashboard refreshes. */
+    public static final String DASHBOARD_STREAM_REFRESH_INTERVAL_PROPERTY = "dashboard.stream.refresh-interval";
+    /** Default interval between dashboard refreshes. */
+    public static final Duration DEFAULT_REFRESH_INTERVAL = ConfigUtils.getOrDefault(DASHBOARD_STREAM_REFRESH_INTERVAL_PROPERTY, Duration.ofSeconds(5));
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    @NonNull
+    private final AsyncApiAggregator<DashboardResponse> apiAggregator;
+    @NonNull
+    private final HttpResponseSender responseSender;
+    @NonNull
+    private final ServerSentEventBroadcaster broadcaster;
+    private final ScheduledExecutorService refreshExecutor;
+    private volatile SerializedResponse latestResponse;
+
+    /**
+     * Creates a dashboard stream processor with a new broadcaster and the default refresh interval.
+     *
+     * @param apiAggregator   concurrent aggregator fetching data from multiple APIs
+     * @param responseSender  sender serializing the broadcast snapshots
+     */
+    public DashboardStreamGetAsyncHttpEndpointProcessor(@NonNull AsyncApiAggregator<DashboardResponse> apiAggregator,
+                                                        @NonNull HttpResponseSender responseSender) {
+        this(apiAggregator, responseSender, new ServerSentEventBroadcaster(), DEFAULT_REFRESH_INTERVAL);
+    }
+
+    /**
+     * Creates a dashboard stream processor and starts its background refresh thread.
+     *
+     * @param apiAggregator    concurrent aggregator fetching data from multiple APIs
+     * @param responseSender   sender serializing the broadcast snapshots
+     * @param broadcaster      broadcaster pushing the events to subscribers
+     * @param refreshInterval  interval between dashboard refreshes
+     */
+    public DashboardStreamGetAsyncHttpEndpointProcessor(@NonNull AsyncApiAggregator<DashboardResponse> apiAggregator,
+                                                        @NonNull HttpResponseSender responseSender,
+                                                        @NonNull ServerSentEventBroadcaster broadcaster,
+                                                        @NonNull Duration refreshInterval) {
+        this.apiAggregator = apiAggregator;
+        this.responseSender = responseSender;
+        this.broadcaster = broadcaster;
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-stream-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = refreshInterval.toMillis();
+        this.refreshExecutor.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Initialized dashboard stream processor with refreshInterval={}ms", intervalMillis);
+    }
+
+    /**
+     * Returns the HTTP endpoint handled by this processor.
+     *
+     * @return descriptor for {@code GET /api/dashboard/stream}
+     */
+    @Override
+    @NonNull
+    public HttpEndpoint getEndpoint() {
+        return DASHBOARD_STREAM_HTTP_ENDPOINT;
+    }
+
+    /**
+     * Opens an event stream and subscribes the connection to dashboard updates.
+     * <p>
+     * Sends the stream head and the latest snapshot, or triggers a refresh if none has been published yet.
+     * The returned future completes once the connection is subscribed; the stream itself stays open
+     * until the client disconnects.
+     *
+     * @param context Netty context for writing the stream
+     * @param request the incoming request
+     * @param responseSender component responsible for sending the stream head
+     * @param keepAlive whether the connection was requested to be kept alive
+     * @return a {@link CompletableFuture} completing when the connection is subscribed
+     * @throws HttpEndpointProcessionException if a fatal synchronous error occurs
+     */
+    @Override
+    @NonNull
+    public CompletableFuture<Void> process(@NonNull ChannelHandlerContext context, @NonNull FullHttpRequest request, @NonNull HttpResponseSender responseSender, boolean keepAlive) {
+        try {
+            log.info("Opening dashboard event stream");
+            ChannelPipeline pipeline = context.pipeline();
+            if (pipeline.get(ReadTimeoutHandler.class) != null) pipeline.remove(ReadTimeoutHandler.class);
+            responseSender.sendChunkedHead(context, HttpResponseStatus.OK, EVENT_STREAM_HEADERS, keepAlive);
+            if (!broadcaster.subscribe(context.channel())) this.refresh();
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            log.error("Something went wrong in dashboard stream processing: ", e);
+            return CompletableFuture.failedFuture(new HttpEndpointProcessionException(e));
+        }
+    }
+
+    /**
+     * Re-aggregates the dashboard and broadcasts it if it changed, or sends a heartbeat otherwise.
+     * Skipped while there are no subscribers or another refresh is running.
+     *
+     * @return a {@link CompletableFuture} completing when the refresh has been broadcast
+     */
+    @NonNull
+    public CompletableFuture<Void> refresh() {
+        if (broadcaster.getSubscriberCount() == 0 || !refreshing.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return apiAggregator.aggregate()
+                    .thenAccept(response -> {
+                        byte[] body = responseSender.serialize(response);
+                        SerializedResponse previous = latestResponse;
+                        SerializedResponse serialized = SerializedResponse.of(body, Instant.now(), previous);
+                        String etag = serialized.etag();
+                        if (previous != null && etag.equals(previous.etag())) {
+                            broadcaster.heartbeat();
+                            return;
+                        }
+                        latestResponse = serialized;
+                        broadcaster.publish(etag.substring(1, etag.length() - 1), DASHBOARD_EVENT, body);
+                    })
+                    .exceptionally(ex -> {
+                        log.warn("Dashboard stream refresh failed, sending heartbeat: {}", ex.getMessage());
+                        broadcaster.heartbeat();
+                        return null;
+                    })
+                    .whenComplete((v, ex) -> refreshing.set(false));
+        } catch (Exception e) {
+            refreshing.set(false);
+            log.error("Dashboard stream refresh failed (synchronous)", e);
+            return CompletableFuture.failedFuture(new HttpEndpointProcessionException(e));
+        }
+    }
+
+    /**
+     * Stops the background refresh thread and closes the broadcaster with its subscribers.
+     */
+    @Override
+    public void close() {
+        refreshExecutor.shutdownNow();
+        broadcaster.close();
+    }
+}
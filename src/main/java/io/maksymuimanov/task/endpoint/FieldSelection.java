@@ -0,0 +1,65 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.netty.handler.codec.http.QueryStringDecoder;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sections of a response selected with the {@code fields} query parameter, e.g. {@code ?fields=weather,ip}.
+ * <p>
+ * Selected fields are kept in the order of the available ones, so equivalent selections such as
+ * {@code ip,weather} and {@code weather,ip} share the same cache key.
+ *
+ * @param fields the selected fields, in the order of the available ones
+ * @param all whether every available field is selected, explicitly or by omitting the parameter
+ */
+public record FieldSelection(Set<String> fields, boolean all) {
+    /** Query parameter selecting the fields. */
+    public static final String FIELDS_PARAMETER = "fields";
+    /** Separator between selected fields. */
+    public static final String FIELDS_SEPARATOR = ",";
+    /** Separator between a base cache key and the selected fields. */
+    public static final String CACHE_KEY_SEPARATOR = ":";
+
+    /**
+     * Parses the {@code fields} query parameter of a request URI. Repeated parameters are merged;
+     * a missing or blank parameter selects every field.
+     *
+     * @param uri the raw request URI
+     * @param availableFields the fields that may be selected, in response order
+     * @return the selection
+     * @throws IllegalArgumentException if an unknown field is selected
+     */
+    public static FieldSelection fromUri(String uri, List<String> availableFields) {
+        if (uri.indexOf('?') < 0) return new FieldSelection(new LinkedHashSet<>(availableFields), true);
+        List<String> values = new QueryStringDecoder(uri).parameters().getOrDefault(FIELDS_PARAMETER, List.of());
+        Set<String> requested = new LinkedHashSet<>();
+        for (String value : values) {
+            for (String field : value.split(FIELDS_SEPARATOR)) {
+                String trimmed = field.trim();
+                if (trimmed.isEmpty()) continue;
+                if (!availableFields.contains(trimmed)) throw new IllegalArgumentException("Unknown field: " + trimmed);
+                requested.add(trimmed);
+            }
+        }
+        if (requested.isEmpty()) return new FieldSelection(new LinkedHashSet<>(availableFields), true);
+        Set<String> fields = new LinkedHashSet<>();
+        for (String field : availableFields) {
+            if (requested.contains(field)) fields.add(field);
+        }
+        return new FieldSelection(fields, fields.size() == availableFields.size());
+    }
+
+    /**
+     * Derives the cache key of the selection: the base key itself when every field is selected,
+     * otherwise the base key suffixed with the selected fields.
+     *
+     * @param baseKey the cache key of the full response
+     * @return the cache key of the selection
+     */
+    public String cacheKey(String baseKey) {
+        return all ? baseKey : baseKey + CACHE_KEY_SEPARATOR + String.join(FIELDS_SEPARATOR, fields);
+    }
+}
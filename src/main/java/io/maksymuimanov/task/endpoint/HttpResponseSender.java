@@ -1,6 +1,9 @@
 package io.maksymuimanov.task.endpoint;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import org.jspecify.annotations.NonNull;
 
@@ -10,8 +13,20 @@ import org.jspecify.annotations.NonNull;
  * <p>
  * Implementations handle serialization, header configuration, and
  * connection management (keep-alive or close) for outgoing responses.
+ * <p>
+ * Bodies can also be serialized once with {@link #serialize(Object)} and later written
+ * as-is with {@link #sendSerialized(ChannelHandlerContext, byte[], HttpResponseStatus, boolean)},
+ * which lets cached payloads reach the socket without any serialization work.
+ * Endpoint-specific headers such as {@code ETag} can be passed along with the body, and bodies
+ * already held in buffers, such as pre-compressed variants, are sent with {@link #sendBuffer}.
+ * <p>
+ * Senders may support several {@link ResponseFormat}s; {@link #negotiate(String)} returns the
+ * sender of the format best matching a request's {@code Accept} header.
+ * <p>
+ * A body whose parts become available at different times can instead be streamed as a chunked
+ * response: a head, any number of chunks flushed as they are produced, and a last chunk.
  *
- * @see JsonHttpResponseSender
+ * @see JacksonHttpResponseSender
  */
 public interface HttpResponseSender {
     /**
@@ -27,4 +42,99 @@ public interface HttpResponseSender {
      * @param keepAlive Whether to maintain the connection after sending.
      */
     void send(@NonNull ChannelHandlerContext context, @NonNull Object response, @NonNull HttpResponseStatus status, boolean keepAlive);
+
+    /**
+     * Returns the format of the bodies produced by {@link #serialize(Object)}.
+     *
+     * @return the response format, {@link ResponseFormat#JSON} unless overridden
+     */
+    @NonNull
+    default ResponseFormat getFormat() {
+        return ResponseFormat.JSON;
+    }
+
+    /**
+     * Returns the sender of the format best matching an {@code Accept} header.
+     * Single-format senders return themselves.
+     *
+     * @param accept the {@code Accept} header value, possibly empty
+     * @return the negotiated sender
+     */
+    @NonNull
+    default HttpResponseSender negotiate(@NonNull String accept) {
+        return this;
+    }
+
+    /**
+     * Serializes a response body into the wire format used by this sender.
+     *
+     * @param response Object representing the HTTP response body.
+     * @return the serialized body, suitable for {@link #sendSerialized(ChannelHandlerContext, byte[], HttpResponseStatus, boolean)}.
+     */
+    byte @NonNull [] serialize(@NonNull Object response);
+
+    /**
+     * Sends an already serialized HTTP response body asynchronously to the client,
+     * writing the bytes as-is.
+     *
+     * @param context Netty context used to send the response.
+     * @param body Serialized response body produced by {@link #serialize(Object)}; must not be modified afterwards.
+     * @param status HTTP status code (e.g., 200 OK, 404 Not Found).
+     * @param keepAlive Whether to maintain the connection after sending.
+     */
+    default void sendSerialized(@NonNull ChannelHandlerContext context, byte @NonNull [] body, @NonNull HttpResponseStatus status, boolean keepAlive) {
+        this.sendSerialized(context, body, status, EmptyHttpHeaders.INSTANCE, keepAlive);
+    }
+
+    /**
+     * Sends an already serialized HTTP response body with additional headers asynchronously
+     * to the client, writing the bytes as-is.
+     *
+     * @param context Netty context used to send the response.
+     * @param body Serialized response body produced by {@link #serialize(Object)}; must not be modified afterwards.
+     * @param status HTTP status code (e.g., 200 OK, 304 Not Modified).
+     * @param headers Additional response headers, e.g. {@code ETag}.
+     * @param keepAlive Whether to maintain the connection after sending.
+     */
+    void sendSerialized(@NonNull ChannelHandlerContext context, byte @NonNull [] body, @NonNull HttpResponseStatus status, @NonNull HttpHeaders headers, boolean keepAlive);
+
+    /**
+     * Sends an already serialized HTTP response body held in a buffer, such as a pre-compressed
+     * variant whose {@code Content-Encoding} is among the additional headers.
+     *
+     * @param context Netty context used to send the response.
+     * @param body Buffer holding the serialized body; released once written.
+     * @param status HTTP status code (e.g., 200 OK).
+     * @param headers Additional response headers, e.g. {@code Content-Encoding}.
+     * @param keepAlive Whether to maintain the connection after sending.
+     */
+    void sendBuffer(@NonNull ChannelHandlerContext context, @NonNull ByteBuf body, @NonNull HttpResponseStatus status, @NonNull HttpHeaders headers, boolean keepAlive);
+
+    /**
+     * Starts a chunked HTTP response by sending its status and headers, without a length.
+     * The body follows through {@link #sendChunk(ChannelHandlerContext, byte[])}.
+     *
+     * @param context Netty context used to send the response.
+     * @param status HTTP status code (e.g., 200 OK).
+     * @param headers Additional response headers.
+     * @param keepAlive Whether to maintain the connection after the last chunk.
+     */
+    void sendChunkedHead(@NonNull ChannelHandlerContext context, @NonNull HttpResponseStatus status, @NonNull HttpHeaders headers, boolean keepAlive);
+
+    /**
+     * Sends and flushes one serialized chunk of a response started with
+     * {@link #sendChunkedHead(ChannelHandlerContext, HttpResponseStatus, HttpHeaders, boolean)}.
+     *
+     * @param context Netty context used to send the response.
+     * @param chunk Serialized part of the body; must not be modified afterwards.
+     */
+    void sendChunk(@NonNull ChannelHandlerContext context, byte @NonNull [] chunk);
+
+    /**
+     * Ends a chunked response, closing the connection if it is not kept alive.
+     *
+     * @param context Netty context used to send the response.
+     * @param keepAlive Whether to maintain the connection after sending.
+     */
+    void sendLastChunk(@NonNull ChannelHandlerContext context, boolean keepAlive);
 }
@@ -0,0 +1,56 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.maksymuimanov.task.dto.HttpEndpoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Result of matching a request with {@link HttpRouter}.
+ * <p>
+ * Routes are created once when the router is compiled and shared by all matching requests.
+ *
+ * @param status the outcome of the match
+ * @param endpoint the matched endpoint, {@code null} unless {@link Status#FOUND}
+ * @param processor the processor of the matched endpoint, {@code null} unless {@link Status#FOUND}
+ * @param allowedMethods the {@code Allow} header value, {@code null} unless {@link Status#METHOD_NOT_ALLOWED}
+ * @see HttpRouter
+ */
+public record HttpRoute(Status status, HttpEndpoint endpoint, AsyncHttpEndpointProcessor processor, String allowedMethods) {
+    /** Shared result of requests matching no endpoint path. */
+    public static final HttpRoute NOT_FOUND = new HttpRoute(Status.NOT_FOUND, null, null, null);
+
+    /**
+     * Extracts the values of the template parameters of the matched endpoint from a request URI.
+     * Unlike matching, this allocates, so it is only done by processors that need the values.
+     *
+     * @param uri the raw request URI matched by this route
+     * @return parameter values by name, in template order
+     */
+    public Map<String, String> pathParameters(String uri) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        if (endpoint == null) return parameters;
+        int start = HttpRouter.pathStart(uri);
+        String[] requestSegments = HttpRouter.splitSegments(uri.substring(start, HttpRouter.pathEnd(uri, start)));
+        String[] templateSegments = HttpRouter.splitSegments(endpoint.path());
+        for (int i = 0; i < templateSegments.length && i < requestSegments.length; i++) {
+            String segment = templateSegments[i];
+            if (segment.startsWith(HttpRouter.PARAMETER_PREFIX) && segment.endsWith(HttpRouter.PARAMETER_SUFFIX)) {
+                parameters.put(segment.substring(HttpRouter.PARAMETER_PREFIX.length(), segment.length() - HttpRouter.PARAMETER_SUFFIX.length()), requestSegments[i]);
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Outcomes of matching a request.
+     */
+    public enum Status {
+        /** An endpoint matches the path and method. */
+        FOUND,
+        /** No endpoint matches the path. */
+        NOT_FOUND,
+        /** Endpoints match the path, but none accepts the method. */
+        METHOD_NOT_ALLOWED
+    }
+}
@@ -0,0 +1,207 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.maksymuimanov.task.dto.HttpEndpoint;
+import io.netty.handler.codec.http.HttpMethod;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Routes requests to endpoint processors through a trie precompiled over path segments.
+ * <p>
+ * Endpoint paths are split into segments when the router is built. A segment is either a literal,
+ * a template parameter ({@code {id}}, matching any single segment) or a trailing wildcard
+ * ({@code *}, matching the rest of the path). Literals take precedence over parameters, and
+ * parameters over wildcards; a failed literal branch backtracks to the alternatives.
+ * <p>
+ * {@link #route(HttpMethod, String)} walks the raw request URI in place, stopping at the query
+ * string, and returns one of the {@link HttpRoute} instances prepared at build time, so matching a
+ * request allocates nothing. A path that exists but is not registered for the request method
+ * yields {@link HttpRoute.Status#METHOD_NOT_ALLOWED} with the allowed methods, any other
+ * mismatch {@link HttpRoute.Status#NOT_FOUND}. Paths are matched without percent-decoding.
+ *
+ * @see HttpRoute
+ * @see SimpleHttpEndpointDirector
+ */
+@Slf4j
+public class HttpRouter {
+    /** Separator of path segments. */
+    public static final char PATH_SEPARATOR = '/';
+    /** Start of the query string. */
+    public static final char QUERY_START = '?';
+    /** Start of the fragment. */
+    public static final char FRAGMENT_START = '#';
+    /** Segment matching the rest of the path. */
+    public static final String WILDCARD_SEGMENT = "*";
+    /** Prefix of a template parameter segment. */
+    public static final String PARAMETER_PREFIX = "{";
+    /** Suffix of a template parameter segment. */
+    public static final String PARAMETER_SUFFIX = "}";
+    /** Separator between the scheme and the authority of an absolute-form URI. */
+    public static final String SCHEME_SEPARATOR = "://";
+    private final Node root = new Node();
+
+    /**
+     * Compiles the router from the registered endpoint processors.
+     *
+     * @param endpointProcessors processors by endpoint; paths may contain parameters and a trailing wildcard
+     * @throws IllegalArgumentException if a wildcard is not the last segment
+     */
+    public HttpRouter(Map<HttpEndpoint, AsyncHttpEndpointProcessor> endpointProcessors) {
+        endpointProcessors.forEach(this::add);
+        root.compile();
+        log.info("Compiled HTTP router with {} endpoints", endpointProcessors.size());
+    }
+
+    /**
+     * Matches a request against the registered endpoints.
+     *
+     * @param method the request method
+     * @param uri the raw request URI, in origin or absolute form
+     * @return the matched route, or a route with status {@link HttpRoute.Status#NOT_FOUND} or {@link HttpRoute.Status#METHOD_NOT_ALLOWED}
+     */
+    public HttpRoute route(HttpMethod method, String uri) {
+        int start = pathStart(uri);
+        int end = pathEnd(uri, start);
+        Node node = this.match(root, uri, start, end);
+        if (node == null || node.routes.isEmpty()) return HttpRoute.NOT_FOUND;
+        HttpRoute route = node.routes.get(method);
+        return route != null ? route : node.methodNotAllowed;
+    }
+
+    /**
+     * Inserts an endpoint into the trie.
+     *
+     * @param endpoint the endpoint
+     * @param processor its processor
+     */
+    private void add(HttpEndpoint endpoint, AsyncHttpEndpointProcessor processor) {
+        Node node = root;
+        String[] segments = splitSegments(endpoint.path());
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals(WILDCARD_SEGMENT)) {
+                if (i != segments.length - 1) throw new IllegalArgumentException("Wildcard must be the last segment: " + endpoint.path());
+                if (node.wildcardChild == null) node.wildcardChild = new Node();
+                node = node.wildcardChild;
+            } else if (segment.startsWith(PARAMETER_PREFIX) && segment.endsWith(PARAMETER_SUFFIX)) {
+                if (node.parameterChild == null) node.parameterChild = new Node();
+                node = node.parameterChild;
+            } else {
+                node = node.staticChildren.computeIfAbsent(segment, s -> new Node());
+            }
+        }
+        node.routes.put(endpoint.method(), new HttpRoute(HttpRoute.Status.FOUND, endpoint, processor, null));
+    }
+
+    /**
+     * Finds the node matching the path between {@code start} and {@code end}, trying literals,
+     * then parameters, then wildcards at every segment.
+     *
+     * @param node the current node
+     * @param uri the raw request URI
+     * @param start index of the separator before the next segment
+     * @param end end of the path
+     * @return the matched node, or {@code null}
+     */
+    private Node match(Node node, String uri, int start, int end) {
+        if (start >= end || (start == end - 1 && uri.charAt(start) == PATH_SEPARATOR)) {
+            if (!node.routes.isEmpty()) return node;
+            return node.wildcardChild;
+        }
+        int segmentStart = start + 1;
+        int segmentEnd = uri.indexOf(PATH_SEPARATOR, segmentStart);
+        if (segmentEnd < 0 || segmentEnd > end) segmentEnd = end;
+        int segmentLength = segmentEnd - segmentStart;
+        for (int i = 0; i < node.staticSegments.length; i++) {
+            String segment = node.staticSegments[i];
+            if (segment.length() == segmentLength && uri.regionMatches(segmentStart, segment, 0, segmentLength)) {
+                Node matched = this.match(node.staticNodes[i], uri, segmentEnd, end);
+                if (matched != null) return matched;
+                break;
+            }
+        }
+        if (node.parameterChild != null && segmentLength > 0) {
+            Node matched = this.match(node.parameterChild, uri, segmentEnd, end);
+            if (matched != null) return matched;
+        }
+        return node.wildcardChild;
+    }
+
+    /**
+     * Returns the index where the path of the URI starts, skipping the scheme and authority of absolute-form URIs.
+     *
+     * @param uri the raw request URI
+     * @return the path start
+     */
+    static int pathStart(String uri) {
+        if (!uri.isEmpty() && uri.charAt(0) == PATH_SEPARATOR) return 0;
+        int authority = uri.indexOf(SCHEME_SEPARATOR);
+        if (authority < 0) return 0;
+        int path = uri.indexOf(PATH_SEPARATOR, authority + SCHEME_SEPARATOR.length());
+        return path < 0 ? uri.length() : path;
+    }
+
+    /**
+     * Returns the index where the path of the URI ends, before the query string or fragment.
+     *
+     * @param uri the raw request URI
+     * @param start the path start
+     * @return the path end
+     */
+    static int pathEnd(String uri, int start) {
+        for (int i = start; i < uri.length(); i++) {
+            char c = uri.charAt(i);
+            if (c == QUERY_START || c == FRAGMENT_START) return i;
+        }
+        return uri.length();
+    }
+
+    /**
+     * Splits an endpoint path into its non-empty segments.
+     *
+     * @param path the endpoint path
+     * @return the segments
+     */
+    static String[] splitSegments(String path) {
+        return Arrays.stream(path.split(String.valueOf(PATH_SEPARATOR)))
+                .filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * A trie node: one path segment with its children and the routes ending here.
+     */
+    private static class Node {
+        private final Map<String, Node> staticChildren = new LinkedHashMap<>();
+        private final Map<HttpMethod, HttpRoute> routes = new HashMap<>();
+        private String[] staticSegments = new String[0];
+        private Node[] staticNodes = new Node[0];
+        private Node parameterChild;
+        private Node wildcardChild;
+        private HttpRoute methodNotAllowed = HttpRoute.NOT_FOUND;
+
+        /**
+         * Flattens the literal children into arrays scanned without hashing and prepares the
+         * {@code 405} route of this node, recursively.
+         */
+        private void compile() {
+            staticSegments = staticChildren.keySet().toArray(String[]::new);
+            staticNodes = staticChildren.values().toArray(Node[]::new);
+            if (!routes.isEmpty()) {
+                String allowedMethods = routes.keySet().stream()
+                        .map(HttpMethod::name)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                methodNotAllowed = new HttpRoute(HttpRoute.Status.METHOD_NOT_ALLOWED, null, null, allowedMethods);
+            }
+            for (Node child : staticNodes) child.compile();
+            if (parameterChild != null) parameterChild.compile();
+            if (wildcardChild != null) wildcardChild.compile();
+        }
+    }
+}
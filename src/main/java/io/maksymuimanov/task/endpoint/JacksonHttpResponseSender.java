@@ -0,0 +1,232 @@
+package io.maksymuimanov.task.endpoint;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.maksymuimanov.task.exception.HttpResponseSendingException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.*;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Sends HTTP responses in one {@link ResponseFormat} asynchronously through a Netty channel.
+ * <p>
+ * Converts Java objects to JSON, or to a binary format of the same Jackson data model such as
+ * CBOR, using the encoder the format creates from an {@link ObjectMapper}, and writes the
+ * serialized payload to the network channel as a full HTTP/1.1 response with that format's
+ * {@code Content-Type}. Supports both persistent (keep-alive) and one-shot (close) connections.
+ * <p>
+ * Bodies produced piecewise can be streamed with {@code Transfer-Encoding: chunked},
+ * each chunk being flushed as soon as it is written.
+ * <p>
+ * This component is responsible for finalizing outbound HTTP communication
+ * in the Concurrent API Aggregator Service.
+ *
+ * @see ObjectMapper
+ * @see HttpResponseSender
+ * @see ResponseFormat
+ */
+@Slf4j
+public class JacksonHttpResponseSender implements HttpResponseSender {
+    @NonNull
+    private final ResponseFormat format;
+    private final ResponseFormat.@NonNull Encoder encoder;
+
+    /**
+     * Creates a sender of JSON responses.
+     *
+     * @param objectMapper Jackson mapper serializing the bodies
+     */
+    public JacksonHttpResponseSender(@NonNull ObjectMapper objectMapper) {
+        this(objectMapper, ResponseFormat.JSON);
+    }
+
+    /**
+     * Creates a sender of responses in the given format.
+     *
+     * @param objectMapper Jackson mapper whose configuration the format's encoder shares
+     * @param format the format of the bodies
+     */
+    public JacksonHttpResponseSender(@NonNull ObjectMapper objectMapper, @NonNull ResponseFormat format) {
+        this.format = format;
+        this.encoder = format.createEncoder(objectMapper);
+    }
+
+    /**
+     * Returns the format of the bodies sent by this sender.
+     *
+     * @return the response format
+     */
+    @Override
+    @NonNull
+    public ResponseFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Serializes the given response object into the sender's format and writes it asynchronously
+     * to the provided Netty {@link ChannelHandlerContext}.
+     * <p>
+     * Delegates to {@link #serialize(Object)} and {@link #sendSerialized(ChannelHandlerContext, byte[], HttpResponseStatus, boolean)}.
+     *
+     * @param context Netty channel context used to write the response.
+     * @param response Response body object to serialize and send.
+     * @param status HTTP status code to send (e.g., 200 OK, 500 Internal Server Error).
+     * @param keepAlive Whether to keep the connection alive after sending the response.
+     * @throws HttpResponseSendingException if the response cannot be serialized or sent.
+     */
+    @Override
+    public void send(@NonNull ChannelHandlerContext context, @NonNull Object response, @NonNull HttpResponseStatus status, boolean keepAlive) {
+        this.sendSerialized(context, this.serialize(response), status, keepAlive);
+    }
+
+    /**
+     * Serializes the given response object into the bytes of the sender's format.
+     *
+     * @param response Response body object to serialize.
+     * @return the serialized body.
+     * @throws HttpResponseSendingException if the response cannot be serialized.
+     */
+    @Override
+    public byte @NonNull [] serialize(@NonNull Object response) {
+        try {
+            return encoder.encode(response);
+        } catch (Exception e) {
+            log.error("Failed to serialize HTTP response", e);
+            throw new HttpResponseSendingException(e);
+        }
+    }
+
+    /**
+     * Writes an already serialized body with additional headers asynchronously to the
+     * provided Netty {@link ChannelHandlerContext}, wrapping the bytes without copying them.
+     * <p>
+     * Delegates to {@link #sendBuffer(ChannelHandlerContext, ByteBuf, HttpResponseStatus, HttpHeaders, boolean)}.
+     *
+     * @param context Netty channel context used to write the response.
+     * @param body Serialized body.
+     * @param status HTTP status code to send (e.g., 200 OK, 500 Internal Server Error).
+     * @param headers Additional response headers.
+     * @param keepAlive Whether to keep the connection alive after sending the response.
+     * @throws HttpResponseSendingException if the response cannot be sent.
+     */
+    @Override
+    public void sendSerialized(@NonNull ChannelHandlerContext context, byte @NonNull [] body, @NonNull HttpResponseStatus status, @NonNull HttpHeaders headers, boolean keepAlive) {
+        this.sendBuffer(context, Unpooled.wrappedBuffer(body), status, headers, keepAlive);
+    }
+
+    /**
+     * Writes a serialized body held in a buffer with additional headers asynchronously to the
+     * provided Netty {@link ChannelHandlerContext}.
+     * <p>
+     * Automatically sets HTTP headers including {@code Content-Type}, {@code Content-Length},
+     * and {@code Connection}; a {@code 304 Not Modified} response carries no content headers.
+     * Closes the connection if {@code keepAlive} is {@code false}.
+     *
+     * @param context Netty channel context used to write the response.
+     * @param body Buffer holding the serialized body.
+     * @param status HTTP status code to send (e.g., 200 OK, 500 Internal Server Error).
+     * @param headers Additional response headers.
+     * @param keepAlive Whether to keep the connection alive after sending the response.
+     * @throws HttpResponseSendingException if the response cannot be sent.
+     */
+    @Override
+    public void sendBuffer(@NonNull ChannelHandlerContext context, @NonNull ByteBuf body, @NonNull HttpResponseStatus status, @NonNull HttpHeaders headers, boolean keepAlive) {
+        try {
+            int contentLength = body.readableBytes();
+            HttpResponse httpResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, body);
+            if (!HttpResponseStatus.NOT_MODIFIED.equals(status)) {
+                httpResponse.headers()
+                        .set(HttpHeaderNames.CONTENT_TYPE, format.getContentType())
+                        .setInt(HttpHeaderNames.CONTENT_LENGTH, contentLength);
+            }
+            httpResponse.headers()
+                    .add(headers)
+                    .set(HttpHeaderNames.CONNECTION, keepAlive
+                            ? HttpHeaderValues.KEEP_ALIVE
+                            : HttpHeaderValues.CLOSE);
+            log.info("Sending HTTP response: status={}, keepAlive={}, contentLength={} bytes", status.code(), keepAlive, contentLength);
+            ChannelFuture channelFuture = context.writeAndFlush(httpResponse);
+            if (!keepAlive) {
+                channelFuture.addListener(ChannelFutureListener.CLOSE);
+            }
+        } catch (Exception e) {
+            log.error("Failed to send HTTP response", e);
+            throw new HttpResponseSendingException(e);
+        }
+    }
+
+    /**
+     * Writes the head of a chunked response to the provided Netty {@link ChannelHandlerContext}.
+     * <p>
+     * Sets {@code Content-Type}, {@code Transfer-Encoding: chunked} and {@code Connection} along with the additional headers;
+     * a {@code Content-Type} among the additional headers, e.g. for an event stream, replaces the format's one.
+     *
+     * @param context Netty channel context used to write the response.
+     * @param status HTTP status code to send.
+     * @param headers Additional response headers.
+     * @param keepAlive Whether to keep the connection alive after the last chunk.
+     * @throws HttpResponseSendingException if the head cannot be sent.
+     */
+    @Override
+    public void sendChunkedHead(@NonNull ChannelHandlerContext context, @NonNull HttpResponseStatus status, @NonNull HttpHeaders headers, boolean keepAlive) {
+        try {
+            HttpResponse httpResponse = new DefaultHttpResponse(HttpVersion.HTTP_1_1, status);
+            if (!headers.contains(HttpHeaderNames.CONTENT_TYPE)) {
+                httpResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, format.getContentType());
+            }
+            httpResponse.headers()
+                    .set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED)
+                    .add(headers)
+                    .set(HttpHeaderNames.CONNECTION, keepAlive
+                            ? HttpHeaderValues.KEEP_ALIVE
+                            : HttpHeaderValues.CLOSE);
+            log.info("Sending chunked HTTP response: status={}, keepAlive={}", status.code(), keepAlive);
+            context.writeAndFlush(httpResponse);
+        } catch (Exception e) {
+            log.error("Failed to send chunked HTTP response head", e);
+            throw new HttpResponseSendingException(e);
+        }
+    }
+
+    /**
+     * Writes and flushes one chunk of a chunked response, wrapping the bytes without copying them.
+     *
+     * @param context Netty channel context used to write the response.
+     * @param chunk Serialized part of the body.
+     * @throws HttpResponseSendingException if the chunk cannot be sent.
+     */
+    @Override
+    public void sendChunk(@NonNull ChannelHandlerContext context, byte @NonNull [] chunk) {
+        try {
+            context.writeAndFlush(new DefaultHttpContent(Unpooled.wrappedBuffer(chunk)));
+        } catch (Exception e) {
+            log.error("Failed to send HTTP response chunk", e);
+            throw new HttpResponseSendingException(e);
+        }
+    }
+
+    /**
+     * Writes the terminating chunk of a chunked response.
+     * Closes the connection if {@code keepAlive} is {@code false}.
+     *
+     * @param context Netty channel context used to write the response.
+     * @param keepAlive Whether to keep the connection alive after sending the response.
+     * @throws HttpResponseSendingException if the last chunk cannot be sent.
+     */
+    @Override
+    public void sendLastChunk(@NonNull ChannelHandlerContext context, boolean keepAlive) {
+        try {
+            ChannelFuture channelFuture = context.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+            if (!keepAlive) {
+                channelFuture.addListener(ChannelFutureListener.CLOSE);
+            }
+        } catch (Exception e) {
+            log.error("Failed to send last HTTP response chunk", e);
+            throw new HttpResponseSendingException(e);
+        }
+    }
+}
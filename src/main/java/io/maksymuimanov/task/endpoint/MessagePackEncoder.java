@@ -0,0 +1,236 @@
+package io.maksymuimanov.task.endpoint;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.maksymuimanov.task.dto.DashboardResponse;
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Encodes Jackson trees and dashboard responses as MessagePack.
+ * <p>
+ * Responses only carry the JSON data model, so encoding the tree directly covers every value
+ * without a MessagePack dependency. A {@link DashboardResponse} is written field by field from
+ * the trees it holds, the same map Jackson would produce, without first converting it to a tree.
+ * Integers use the smallest encoding that holds them;
+ * floating-point numbers are written as 64-bit floats.
+ *
+ * @see ResponseFormat#MESSAGE_PACK
+ */
+@UtilityClass
+public class MessagePackEncoder {
+    private static final BigInteger MAX_UINT64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    /**
+     * Encodes a tree as MessagePack.
+     *
+     * @param node the tree
+     * @return the encoded bytes
+     * @throws IOException if the tree cannot be encoded
+     */
+    public byte[] encode(JsonNode node) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeNode(out, node);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encodes a dashboard response as MessagePack, leaving out absent sections like Jackson does.
+     *
+     * @param response the response
+     * @return the encoded bytes
+     * @throws IOException if the response cannot be encoded
+     */
+    public byte[] encode(DashboardResponse response) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        int size = (response.weather() != null ? 1 : 0) + (response.fact() != null ? 1 : 0) + (response.ip() != null ? 1 : 0);
+        writeHeader(out, size, 0x80, 0x0F, 0xDE, 0xDF);
+        writeField(out, "weather", response.weather());
+        writeField(out, "fact", response.fact());
+        writeField(out, "ip", response.ip());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a map entry unless the value is absent.
+     *
+     * @param out the output
+     * @param name the field name
+     * @param value the field value, or {@code null} to skip the field
+     * @throws IOException if writing fails
+     */
+    private void writeField(DataOutputStream out, String name, @Nullable JsonNode value) throws IOException {
+        if (value == null) return;
+        writeString(out, name);
+        writeNode(out, value);
+    }
+
+    /**
+     * Writes a single node and its children.
+     *
+     * @param out the output
+     * @param node the node
+     * @throws IOException if writing fails
+     */
+    private void writeNode(DataOutputStream out, JsonNode node) throws IOException {
+        switch (node.getNodeType()) {
+            case NULL, MISSING -> out.writeByte(0xC0);
+            case BOOLEAN -> out.writeByte(node.booleanValue() ? 0xC3 : 0xC2);
+            case NUMBER -> writeNumber(out, node);
+            case STRING -> writeString(out, node.textValue());
+            case BINARY -> writeBinary(out, node.binaryValue());
+            case ARRAY -> {
+                writeHeader(out, node.size(), 0x90, 0x0F, 0xDC, 0xDD);
+                for (JsonNode element : node) writeNode(out, element);
+            }
+            case OBJECT -> {
+                writeHeader(out, node.size(), 0x80, 0x0F, 0xDE, 0xDF);
+                for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    writeString(out, field.getKey());
+                    writeNode(out, field.getValue());
+                }
+            }
+            case POJO -> writeString(out, node.asText());
+        }
+    }
+
+    /**
+     * Writes a number, as an integer when it is integral and fits 64 bits, otherwise as a 64-bit float.
+     *
+     * @param out the output
+     * @param node the number node
+     * @throws IOException if writing fails
+     */
+    private void writeNumber(DataOutputStream out, JsonNode node) throws IOException {
+        if (node.isIntegralNumber() && node.canConvertToLong()) {
+            writeInteger(out, node.longValue());
+        } else if (node.isBigInteger() && node.bigIntegerValue().signum() > 0 && node.bigIntegerValue().compareTo(MAX_UINT64) <= 0) {
+            out.writeByte(0xCF);
+            out.writeLong(node.bigIntegerValue().longValue());
+        } else {
+            out.writeByte(0xCB);
+            out.writeDouble(node.doubleValue());
+        }
+    }
+
+    /**
+     * Writes an integer in its smallest encoding.
+     *
+     * @param out the output
+     * @param value the integer
+     * @throws IOException if writing fails
+     */
+    private void writeInteger(DataOutputStream out, long value) throws IOException {
+        if (value >= 0) {
+            if (value < 0x80) {
+                out.writeByte((int) value);
+            } else if (value <= 0xFF) {
+                out.writeByte(0xCC);
+                out.writeByte((int) value);
+            } else if (value <= 0xFFFF) {
+                out.writeByte(0xCD);
+                out.writeShort((int) value);
+            } else if (value <= 0xFFFFFFFFL) {
+                out.writeByte(0xCE);
+                out.writeInt((int) value);
+            } else {
+                out.writeByte(0xCF);
+                out.writeLong(value);
+            }
+        } else if (value >= -32) {
+            out.writeByte((int) value);
+        } else if (value >= Byte.MIN_VALUE) {
+            out.writeByte(0xD0);
+            out.writeByte((int) value);
+        } else if (value >= Short.MIN_VALUE) {
+            out.writeByte(0xD1);
+            out.writeShort((int) value);
+        } else if (value >= Integer.MIN_VALUE) {
+            out.writeByte(0xD2);
+            out.writeInt((int) value);
+        } else {
+            out.writeByte(0xD3);
+            out.writeLong(value);
+        }
+    }
+
+    /**
+     * Writes a UTF-8 string.
+     *
+     * @param out the output
+     * @param value the string
+     * @throws IOException if writing fails
+     */
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length < 32) {
+            out.writeByte(0xA0 | utf8.length);
+        } else if (utf8.length <= 0xFF) {
+            out.writeByte(0xD9);
+            out.writeByte(utf8.length);
+        } else if (utf8.length <= 0xFFFF) {
+            out.writeByte(0xDA);
+            out.writeShort(utf8.length);
+        } else {
+            out.writeByte(0xDB);
+            out.writeInt(utf8.length);
+        }
+        out.write(utf8);
+    }
+
+    /**
+     * Writes a byte array.
+     *
+     * @param out the output
+     * @param value the bytes
+     * @throws IOException if writing fails
+     */
+    private void writeBinary(DataOutputStream out, byte[] value) throws IOException {
+        if (value.length <= 0xFF) {
+            out.writeByte(0xC4);
+            out.writeByte(value.length);
+        } else if (value.length <= 0xFFFF) {
+            out.writeByte(0xC5);
+            out.writeShort(value.length);
+        } else {
+            out.writeByte(0xC6);
+            out.writeInt(value.length);
+        }
+        out.write(value);
+    }
+
+    /**
+     * Writes the header of an array or a map.
+     *
+     * @param out the output
+     * @param size the number of elements or entries
+     * @param fixPrefix the prefix of the compact form
+     * @param fixMax the largest size of the compact form
+     * @param prefix16 the prefix of the 16-bit form
+     * @param prefix32 the prefix of the 32-bit form
+     * @throws IOException if writing fails
+     */
+    private void writeHeader(DataOutputStream out, int size, int fixPrefix, int fixMax, int prefix16, int prefix32) throws IOException {
+        if (size <= fixMax) {
+            out.writeByte(fixPrefix | size);
+        } else if (size <= 0xFFFF) {
+            out.writeByte(prefix16);
+            out.writeShort(size);
+        } else {
+            out.writeByte(prefix32);
+            out.writeInt(size);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package io.maksymuimanov.task.endpoint;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.maksymuimanov.task.util.ConfigUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Negotiates the response format from {@code Accept} headers among one sender per {@link ResponseFormat}.
+ * <p>
+ * Acts as the JSON sender itself, so endpoints that do not negotiate keep answering in JSON.
+ * Endpoints that do call {@link #negotiate(String)}. The result is cached per distinct
+ * {@code Accept} value: clients send a handful of fixed values, so after warm-up a lookup costs
+ * one hash probe instead of parsing the header. The cache is bounded, and values beyond
+ * the bound are parsed on every request.
+ *
+ * @see ResponseFormat
+ * @see JacksonHttpResponseSender
+ */
+@Slf4j
+public class NegotiatingHttpResponseSender implements HttpResponseSender {
+    /** System property key defining how many distinct {@code Accept} values are cached. */
+    public static final String NEGOTIATION_CACHE_SIZE_PROPERTY = "server.negotiation.cache-size";
+    /** Default number of cached {@code Accept} values. */
+    public static final int DEFAULT_NEGOTIATION_CACHE_SIZE = ConfigUtils.getOrDefault(NEGOTIATION_CACHE_SIZE_PROPERTY, 256);
+    private final Map<String, HttpResponseSender> negotiated = new ConcurrentHashMap<>();
+    private final Map<ResponseFormat, HttpResponseSender> senders;
+    private final HttpResponseSender defaultSender;
+    private final int cacheSize;
+
+    /**
+     * Creates a negotiating sender with a {@link JacksonHttpResponseSender} for every format.
+     *
+     * @param objectMapper Jackson mapper whose configuration every format shares
+     */
+    public NegotiatingHttpResponseSender(@NonNull ObjectMapper objectMapper) {
+        this(createSenders(objectMapper), DEFAULT_NEGOTIATION_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a negotiating sender over the given senders.
+     *
+     * @param senders sender of each supported format; must contain {@link ResponseFormat#JSON}
+     * @param cacheSize maximum number of cached {@code Accept} values
+     * @throws IllegalArgumentException if there is no JSON sender
+     */
+    public NegotiatingHttpResponseSender(@NonNull Map<ResponseFormat, HttpResponseSender> senders, int cacheSize) {
+        if (!senders.containsKey(ResponseFormat.JSON)) throw new IllegalArgumentException("A JSON sender is required");
+        this.senders = new EnumMap<>(senders);
+        this.defaultSender = senders.get(ResponseFormat.JSON);
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Returns the sender of the format best matching an {@code Accept} header, falling back to JSON
+     * when the best match has no sender.
+     *
+     * @param accept the {@code Accept} header value, possibly empty
+     * @return the negotiated sender
+     */
+    @Override
+    @NonNull
+    public HttpResponseSender negotiate(@NonNull String accept) {
+        HttpResponseSender sender = negotiated.get(accept);
+        if (sender != null) return sender;
+        sender = senders.getOrDefault(ResponseFormat.negotiate(accept), defaultSender);
+        if (negotiated.size() < cacheSize) negotiated.putIfAbsent(accept, sender);
+        log.debug("Negotiated response format: accept={}, format={}", accept, sender.getFormat());
+        return sender;
+    }
+
+    /**
+     * Returns the number of cached {@code Accept} values.
+     *
+     * @return cached negotiation count
+     */
+    public int getCachedNegotiationCount() {
+        return negotiated.size();
+    }
+
+    /**
+     * Returns the format of the default sender.
+     *
+     * @return {@link ResponseFormat#JSON}
+     */
+    @Override
+    @NonNull
+    public ResponseFormat getFormat() {
+        return defaultSender.getFormat();
+    }
+
+    /**
+     * Sends a response in JSON.
+     *
+     * @param context Netty context used to send the response.
+     * @param response Object representing the HTTP response body.
+     * @param status HTTP status code.
+     * @param keepAlive Whether to maintain the connection after sending.
+     */
+    @Override
+    public void send(@NonNull ChannelHandlerContext context, @NonNull Object response, @NonNull HttpResponseStatus status, boolean keepAlive) {
+        defaultSender.send(context, response, status, keepAlive);
+    }
+
+    /**
+     * Serializes a response body into JSON.
+     *
+     * @param response Object representing the HTTP response body.
+     * @return the JSON body.
+     */
+    @Override
+    public byte @NonNull [] serialize(@NonNull Object response) {
+        return defaultSender.serialize(response);
+    }
+
+    /**
+     * Sends an already serialized JSON body.
+     *
+     * @param context Netty context used to send the response.
+     * @param body Serialized JSON body.
+     * @param status HTTP status code.
+     * @param headers Additional response headers.
+     * @param keepAlive Whether to maintain the connection after sending.
+     */
+    @Override
+    public void sendSerialized(@NonNull ChannelHandlerContext context, byte @NonNull [] body, @NonNull HttpResponseStatus status, @NonNull HttpHeaders headers, boolean keepAlive) {
+        defaultSender.sendSerialized(context, body, status, headers, keepAlive);
+    }
+
+    /**
+     * Sends a serialized body held in a buffer.
+     *
+     * @param context Netty context used to send the response.
+     * @param body Buffer holding the serialized body.
+     * @param status HTTP status code.
+     * @param headers Additional response headers.
+     * @param keepAlive Whether to maintain the connection after sending.
+     */
+    @Override
+    public void sendBuffer(@NonNull ChannelHandlerContext context, @NonNull ByteBuf body, @NonNull HttpResponseStatus status, @NonNull HttpHeaders headers, boolean keepAlive) {
+        defaultSender.sendBuffer(context, body, status, headers, keepAlive);
+    }
+
+    /**
+     * Starts a chunked JSON response.
+     *
+     * @param context Netty context used to send the response.
+     * @param status HTTP status code.
+     * @param headers Additional response headers.
+     * @param keepAlive Whether to maintain the connection after the last chunk.
+     */
+    @Override
+    public void sendChunkedHead(@NonNull ChannelHandlerContext context, @NonNull HttpResponseStatus status, @NonNull HttpHeaders headers, boolean keepAlive) {
+        defaultSender.sendChunkedHead(context, status, headers, keepAlive);
+    }
+
+    /**
+     * Sends one chunk of a chunked response.
+     *
+     * @param context Netty context used to send the response.
+     * @param chunk Serialized part of the body.
+     */
+    @Override
+    public void sendChunk(@NonNull ChannelHandlerContext context, byte @NonNull [] chunk) {
+        defaultSender.sendChunk(context, chunk);
+    }
+
+    /**
+     * Ends a chunked response.
+     *
+     * @param context Netty context used to send the response.
+     * @param keepAlive Whether to maintain the connection after sending.
+     */
+    @Override
+    public void sendLastChunk(@NonNull ChannelHandlerContext context, boolean keepAlive) {
+        defaultSender.sendLastChunk(context, keepAlive);
+    }
+
+    /**
+     * Creates a {@link JacksonHttpResponseSender} for every format.
+     *
+     * @param objectMapper the base Jackson mapper
+     * @return senders by format
+     */
+    private static Map<ResponseFormat, HttpResponseSender> createSenders(ObjectMapper objectMapper) {
+        Map<ResponseFormat, HttpResponseSender> senders = new EnumMap<>(ResponseFormat.class);
+        for (ResponseFormat format : ResponseFormat.values()) {
+            senders.put(format, new JacksonHttpResponseSender(objectMapper, format));
+        }
+        return senders;
+    }
+}
@@ -0,0 +1,178 @@
+package io.maksymuimanov.task.endpoint;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.maksymuimanov.task.dto.DashboardResponse;
+import io.netty.util.AsciiString;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Enumerates the wire formats responses can be encoded in and negotiates them from {@code Accept} headers.
+ * <p>
+ * JSON is the default and the fallback when nothing acceptable is requested. CBOR, Smile and
+ * MessagePack keep the JSON data model in a smaller binary encoding that is faster to parse,
+ * which suits service-to-service callers.
+ *
+ * @see NegotiatingHttpResponseSender
+ * @see MessagePackEncoder
+ */
+public enum ResponseFormat {
+    /** UTF-8 JSON text. */
+    JSON(List.of("application/json"), objectMapper -> objectMapper::writeValueAsBytes),
+    /** Binary CBOR (RFC 8949). */
+    CBOR(List.of("application/cbor"), objectMapper -> writer(objectMapper.copyWith(new CBORFactory()))),
+    /** Binary Smile. */
+    SMILE(List.of("application/x-jackson-smile"), objectMapper -> writer(objectMapper.copyWith(new SmileFactory()))),
+    /** Binary MessagePack. */
+    MESSAGE_PACK(List.of("application/msgpack", "application/x-msgpack", "application/vnd.msgpack"),
+            ResponseFormat::messagePack);
+
+    /** Media range accepting any type. */
+    public static final String ANY_MEDIA_RANGE = "*/*";
+    /** Media range accepting any application type. */
+    public static final String ANY_APPLICATION_MEDIA_RANGE = "application/*";
+    /** Quality parameter prefix of a media range. */
+    public static final String QUALITY_PARAMETER = "q=";
+    private final List<String> mediaTypes;
+    private final AsciiString contentType;
+    private final Function<ObjectMapper, Encoder> encoderFactory;
+
+    ResponseFormat(List<String> mediaTypes, Function<ObjectMapper, Encoder> encoderFactory) {
+        this.mediaTypes = mediaTypes;
+        this.contentType = AsciiString.cached(mediaTypes.getFirst());
+        this.encoderFactory = encoderFactory;
+    }
+
+    /**
+     * Returns the {@code Content-Type} of responses in this format.
+     *
+     * @return the primary media type
+     */
+    public AsciiString getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Creates an encoder of this format sharing the configuration of the given mapper.
+     *
+     * @param objectMapper the base Jackson mapper
+     * @return an encoder producing this format
+     */
+    public Encoder createEncoder(ObjectMapper objectMapper) {
+        return encoderFactory.apply(objectMapper);
+    }
+
+    /**
+     * Derives the cache key of a body in this format: the base key itself for JSON,
+     * otherwise the base key suffixed with the format name.
+     *
+     * @param baseKey the cache key of the JSON body
+     * @return the cache key of this format
+     */
+    public String cacheKey(String baseKey) {
+        return this == JSON ? baseKey : baseKey + FieldSelection.CACHE_KEY_SEPARATOR + this.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Selects the format with the highest quality in an {@code Accept} header. Ties go to the
+     * earliest media range; wildcards select JSON; unknown types are ignored.
+     *
+     * @param accept the {@code Accept} header value, possibly empty
+     * @return the negotiated format, {@link #JSON} if none is acceptable
+     */
+    public static ResponseFormat negotiate(String accept) {
+        ResponseFormat best = JSON;
+        double bestQuality = 0;
+        for (String mediaRange : accept.split(",")) {
+            String[] parameters = mediaRange.split(";");
+            ResponseFormat format = fromMediaRange(parameters[0].trim().toLowerCase(Locale.ROOT));
+            if (format == null) continue;
+            double quality = quality(parameters);
+            if (quality > bestQuality) {
+                best = format;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Resolves the format of a single media range.
+     *
+     * @param mediaRange the lower-case media range without parameters
+     * @return the format, or {@code null} if the range matches none
+     */
+    private static ResponseFormat fromMediaRange(String mediaRange) {
+        if (mediaRange.equals(ANY_MEDIA_RANGE) || mediaRange.equals(ANY_APPLICATION_MEDIA_RANGE)) return JSON;
+        for (ResponseFormat format : values()) {
+            if (format.mediaTypes.contains(mediaRange)) return format;
+        }
+        return null;
+    }
+
+    /**
+     * Reads the quality of a media range, {@code 1} if absent and {@code 0} if malformed.
+     *
+     * @param parameters the media range followed by its parameters
+     * @return the quality
+     */
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (!parameter.startsWith(QUALITY_PARAMETER)) continue;
+            try {
+                return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Creates an encoder from a Jackson mapper bound to a binary factory.
+     *
+     * @param objectMapper the format-specific mapper
+     * @return the encoder
+     */
+    private static Encoder writer(ObjectMapper objectMapper) {
+        ObjectWriter writer = objectMapper.writer();
+        return writer::writeValueAsBytes;
+    }
+
+    /**
+     * Creates a MessagePack encoder that writes dashboard responses and trees directly and
+     * converts other bodies to a tree first.
+     *
+     * @param objectMapper the mapper converting other bodies
+     * @return the encoder
+     */
+    private static Encoder messagePack(ObjectMapper objectMapper) {
+        return value -> {
+            if (value instanceof DashboardResponse response) return MessagePackEncoder.encode(response);
+            if (value instanceof JsonNode node) return MessagePackEncoder.encode(node);
+            return MessagePackEncoder.encode(objectMapper.<JsonNode>valueToTree(value));
+        };
+    }
+
+    /**
+     * Encodes response bodies into one format.
+     */
+    @FunctionalInterface
+    public interface Encoder {
+        /**
+         * Encodes a response body.
+         *
+         * @param value the response body
+         * @return the encoded bytes
+         * @throws Exception if the value cannot be encoded
+         */
+        byte[] encode(Object value) throws Exception;
+    }
+}
@@ -0,0 +1,136 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.maksymuimanov.task.exception.HttpEndpointProcessionException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * A serialized response body together with its strong entity tag and the time it was produced.
+ * <p>
+ * The tag is a hash of the body, computed once per body version: it is cached with the body
+ * ({@link #toBytes()}), so conditional requests served from the cache never hash the body again,
+ * and a freshly produced body equal to the previous version reuses its tag
+ * ({@link #of(byte[], Instant, SerializedResponse)}). The production time lets responses served
+ * from the cache report their {@code Age}.
+ * <p>
+ * A framed response starts with the {@link #FRAME_HEADER} byte and the {@link #FRAME_VERSION}
+ * byte. The header differs from the {@link io.maksymuimanov.task.cache.CacheValueCompressor} and
+ * {@link io.maksymuimanov.task.cache.CacheEntryHeader} markers, so a small framed response stored
+ * uncompressed is never mistaken for a compressed or metadata-framed value. Bytes without the
+ * frame header and a known version are treated as a bare body of unknown age and tagged on read.
+ *
+ * @param body the serialized body
+ * @param etag the quoted strong entity tag of the body
+ * @param producedAt when the body was produced, or {@link #UNKNOWN_PRODUCED_AT}
+ */
+public record SerializedResponse(byte[] body, String etag, Instant producedAt) {
+    /** First byte of a framed response; never the first byte of a JSON document nor another cache value marker. */
+    public static final byte FRAME_HEADER = (byte) 0xFC;
+    /** Version of the frame layout, stored right after the header. */
+    public static final byte FRAME_VERSION = 1;
+    /** Size of the fixed part of the frame: header, version, production time and tag length. */
+    public static final int FRAME_PREFIX_LENGTH = 3 + Long.BYTES;
+    /** Production time of bare bodies, whose age is unknown. */
+    public static final Instant UNKNOWN_PRODUCED_AT = Instant.EPOCH;
+    /** Number of body hash bytes encoded in the entity tag. */
+    public static final int ETAG_HASH_LENGTH = 16;
+    /** Value of {@code If-None-Match} matching any entity tag. */
+    public static final String ANY_ETAG = "*";
+    /** Prefix of a weak entity tag. */
+    public static final String WEAK_ETAG_PREFIX = "W/";
+
+    /**
+     * Tags a body produced at the given time.
+     *
+     * @param body the serialized body
+     * @param producedAt when the body was produced
+     * @return the tagged response
+     */
+    public static SerializedResponse of(byte[] body, Instant producedAt) {
+        return new SerializedResponse(body, etag(body), producedAt);
+    }
+
+    /**
+     * Tags a body produced at the given time, reusing the tag of the previous version if the body
+     * is unchanged; comparing the bodies is cheaper than hashing them again.
+     *
+     * @param body the serialized body
+     * @param producedAt when the body was produced
+     * @param previous the previous version of the body, or {@code null}
+     * @return the tagged response
+     */
+    public static SerializedResponse of(byte[] body, Instant producedAt, SerializedResponse previous) {
+        if (previous == null || !Arrays.equals(previous.body(), body)) return of(body, producedAt);
+        return new SerializedResponse(previous.body(), previous.etag(), producedAt);
+    }
+
+    /**
+     * Restores a response stored with {@link #toBytes()}, or tags a bare body.
+     *
+     * @param stored the stored bytes
+     * @return the tagged response
+     */
+    public static SerializedResponse fromBytes(byte[] stored) {
+        if (stored.length < FRAME_PREFIX_LENGTH || stored[0] != FRAME_HEADER || stored[1] != FRAME_VERSION) return of(stored, UNKNOWN_PRODUCED_AT);
+        ByteBuffer buffer = ByteBuffer.wrap(stored, 2, stored.length - 2);
+        Instant producedAt = Instant.ofEpochMilli(buffer.getLong());
+        byte[] etag = new byte[buffer.get() & 0xFF];
+        buffer.get(etag);
+        return new SerializedResponse(Arrays.copyOfRange(stored, buffer.position(), stored.length), new String(etag, StandardCharsets.US_ASCII), producedAt);
+    }
+
+    /**
+     * Frames the production time, the entity tag and the body for caching.
+     *
+     * @return the stored bytes
+     */
+    public byte[] toBytes() {
+        byte[] etagBytes = etag.getBytes(StandardCharsets.US_ASCII);
+        return ByteBuffer.allocate(FRAME_PREFIX_LENGTH + etagBytes.length + body.length)
+                .put(FRAME_HEADER)
+                .put(FRAME_VERSION)
+                .putLong(producedAt.toEpochMilli())
+                .put((byte) etagBytes.length)
+                .put(etagBytes)
+                .put(body)
+                .array();
+    }
+
+    /**
+     * Checks whether an {@code If-None-Match} header value matches this response, using the weak
+     * comparison required for {@code If-None-Match}.
+     *
+     * @param ifNoneMatch the header value, or an empty string if absent
+     * @return {@code true} if the client's copy is current
+     */
+    public boolean matches(String ifNoneMatch) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals(ANY_ETAG)) return true;
+            if (tag.startsWith(WEAK_ETAG_PREFIX)) tag = tag.substring(WEAK_ETAG_PREFIX.length());
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Computes the quoted strong entity tag of a body from its SHA-256 hash.
+     *
+     * @param body the serialized body
+     * @return the entity tag
+     * @throws HttpEndpointProcessionException if the hash algorithm is unavailable
+     */
+    private static String etag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, ETAG_HASH_LENGTH)) + '"';
+        } catch (Exception e) {
+            throw new HttpEndpointProcessionException(e);
+        }
+    }
+}
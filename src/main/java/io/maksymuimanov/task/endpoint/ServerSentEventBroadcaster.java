@@ -0,0 +1,177 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes Server-Sent Events to every subscribed channel.
+ * <p>
+ * Each published event is framed once into a single direct {@link ByteBuf}; subscribers receive
+ * retained duplicates of that buffer, so fanning an update out to thousands of connections neither
+ * copies nor re-serializes it. The latest event is kept so new subscribers start from the current
+ * snapshot.
+ * <p>
+ * Slow consumers are handled by dropping rather than queueing: a subscriber whose channel is not
+ * writable skips the event and is marked as lagging. Since every event is a full snapshot, the
+ * next {@link #heartbeat()} sends it the latest event instead of a comment once it is writable
+ * again. A subscriber that stays blocked is eventually closed by the channel's write timeout.
+ *
+ * @see DashboardStreamGetAsyncHttpEndpointProcessor
+ */
+@Slf4j
+public class ServerSentEventBroadcaster implements AutoCloseable {
+    /** Comment frame sent to keep idle connections and intermediaries alive. */
+    public static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final ByteBuf HEARTBEAT_BUFFER = Unpooled.unreleasableBuffer(Unpooled.directBuffer(HEARTBEAT.length).writeBytes(HEARTBEAT));
+    private final Set<Channel> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Channel> laggingSubscribers = ConcurrentHashMap.newKeySet();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private ByteBuf latestEvent;
+
+    /**
+     * Subscribes a channel whose response head has already been sent, and sends it the latest event if there is one.
+     * The channel is unsubscribed when it closes.
+     *
+     * @param channel the subscriber channel
+     * @return {@code true} if the latest event was sent, {@code false} if nothing has been published yet
+     */
+    public synchronized boolean subscribe(@NonNull Channel channel) {
+        subscribers.add(channel);
+        channel.closeFuture().addListener(future -> this.unsubscribe(channel));
+        log.debug("SSE subscriber added: subscribers={}", subscribers.size());
+        if (latestEvent == null) return false;
+        this.write(channel, latestEvent);
+        return true;
+    }
+
+    /**
+     * Frames an event once and writes it to every subscriber, replacing the latest event.
+     *
+     * @param id the event id
+     * @param event the event type
+     * @param data the event data; must not contain line breaks
+     */
+    public synchronized void publish(@NonNull String id, @NonNull String event, byte @NonNull [] data) {
+        ByteBuf frame = this.toFrame(id, event, data);
+        if (latestEvent != null) latestEvent.release();
+        latestEvent = frame;
+        published.increment();
+        laggingSubscribers.clear();
+        for (Channel subscriber : subscribers) {
+            this.write(subscriber, frame);
+        }
+        log.debug("SSE event published: id={}, subscribers={}, bytes={}", id, subscribers.size(), frame.readableBytes());
+    }
+
+    /**
+     * Sends a heartbeat comment to every subscriber, or the latest event to subscribers that missed it while lagging.
+     */
+    public synchronized void heartbeat() {
+        for (Channel subscriber : subscribers) {
+            if (latestEvent != null && subscriber.isWritable() && laggingSubscribers.remove(subscriber)) {
+                this.write(subscriber, latestEvent);
+            } else {
+                this.write(subscriber, HEARTBEAT_BUFFER);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of subscribed channels.
+     *
+     * @return subscriber count
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Returns the number of events published since creation.
+     *
+     * @return published event count
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * Returns the number of writes skipped because the subscriber was not writable.
+     *
+     * @return dropped write count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Releases the latest event and closes every subscriber.
+     */
+    @Override
+    public synchronized void close() {
+        log.info("Closing SSE broadcaster: subscribers={}, published={}, dropped={}", subscribers.size(), this.getPublishedCount(), this.getDroppedCount());
+        if (latestEvent != null) {
+            latestEvent.release();
+            latestEvent = null;
+        }
+        subscribers.forEach(Channel::close);
+        subscribers.clear();
+        laggingSubscribers.clear();
+    }
+
+    /**
+     * Removes a subscriber.
+     *
+     * @param channel the subscriber channel
+     */
+    private void unsubscribe(Channel channel) {
+        subscribers.remove(channel);
+        laggingSubscribers.remove(channel);
+        log.debug("SSE subscriber removed: subscribers={}", subscribers.size());
+    }
+
+    /**
+     * Writes a retained duplicate of a shared buffer to a subscriber, or marks it as lagging if it is not writable.
+     * A failed write closes the subscriber.
+     *
+     * @param subscriber the subscriber channel
+     * @param buffer the shared frame
+     */
+    private void write(Channel subscriber, ByteBuf buffer) {
+        if (!subscriber.isWritable()) {
+            dropped.increment();
+            laggingSubscribers.add(subscriber);
+            return;
+        }
+        subscriber.writeAndFlush(new DefaultHttpContent(buffer.retainedDuplicate()))
+                .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+    }
+
+    /**
+     * Frames an event as {@code id}, {@code event} and {@code data} fields into a direct buffer.
+     *
+     * @param id the event id
+     * @param event the event type
+     * @param data the event data
+     * @return the framed event
+     */
+    private ByteBuf toFrame(String id, String event, byte[] data) {
+        byte[] fields = ("id: " + id + "\nevent: " + event + "\ndata: ").getBytes(StandardCharsets.UTF_8);
+        return ByteBufAllocator.DEFAULT.directBuffer(fields.length + data.length + 2)
+                .writeBytes(fields)
+                .writeBytes(data)
+                .writeByte('\n')
+                .writeByte('\n');
+    }
+}
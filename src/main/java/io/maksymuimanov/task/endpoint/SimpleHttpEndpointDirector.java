@@ -5,7 +5,6 @@ import io.maksymuimanov.task.dto.HttpEndpoint;
 import io.maksymuimanov.task.exception.HttpEndpointDirectingException;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.*;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 
@@ -15,30 +14,54 @@ import java.util.Map;
  * Routes incoming HTTP requests to their appropriate asynchronous endpoint processors.
  * <p>
  * This class acts as the central dispatcher in the Netty server pipeline,
- * matching each request’s {@link io.netty.handler.codec.http.HttpMethod} and URI path
- * against registered {@link AsyncHttpEndpointProcessor}s. It executes the matched
- * processor asynchronously and ensures proper response handling and error recovery.
+ * matching each request’s {@link io.netty.handler.codec.http.HttpMethod} and raw URI
+ * against registered {@link AsyncHttpEndpointProcessor}s through an {@link HttpRouter}
+ * compiled once at construction. It executes the matched processor asynchronously and
+ * ensures proper response handling and error recovery. Unknown paths are answered with
+ * {@code 404 Not Found}, known paths requested with an unsupported method with
+ * {@code 405 Method Not Allowed} and an {@code Allow} header.
  *
  * @see HttpEndpointDirector
  * @see AsyncHttpEndpointProcessor
  * @see HttpResponseSender
  * @see HttpEndpoint
+ * @see HttpRouter
  */
 @Slf4j
-@RequiredArgsConstructor
 public class SimpleHttpEndpointDirector implements HttpEndpointDirector {
     /** Generic error message used when an unexpected server-side failure occurs. */
     public static final ErrorResponse UNEXPECTED_SERVER_ERROR_MESSAGE = new ErrorResponse("Unexpected server error");
     /** Error message returned when no matching endpoint is found. */
     public static final ErrorResponse NOT_FOUND_MESSAGE = new ErrorResponse("Not Found");
+    /** Error message returned when the endpoint does not accept the request method. */
+    public static final ErrorResponse METHOD_NOT_ALLOWED_MESSAGE = new ErrorResponse("Method Not Allowed");
     @NonNull
-    private final Map<HttpEndpoint, AsyncHttpEndpointProcessor> endpointProcessors;
+    private final HttpRouter router;
+
+    /**
+     * Creates a director routing to the given processors.
+     *
+     * @param endpointProcessors processors by endpoint; paths may contain template parameters and a trailing wildcard
+     */
+    public SimpleHttpEndpointDirector(@NonNull Map<HttpEndpoint, AsyncHttpEndpointProcessor> endpointProcessors) {
+        this(new HttpRouter(endpointProcessors));
+    }
+
+    /**
+     * Creates a director routing with a precompiled router.
+     *
+     * @param router router matching requests to processors
+     */
+    public SimpleHttpEndpointDirector(@NonNull HttpRouter router) {
+        this.router = router;
+    }
 
     /**
      * Directs an incoming HTTP request to the appropriate {@link AsyncHttpEndpointProcessor}.
      * <p>
-     * Resolves the request path and method, finds the matching endpoint, and delegates
-     * asynchronous execution. If no endpoint matches, a 404 response is sent.
+     * Matches the raw request URI and method, and delegates asynchronous execution to the
+     * matched processor. If no endpoint path matches, a 404 response is sent; if the path
+     * matches but not the method, a 405 response is sent.
      * Errors during processing trigger a 500 Internal Server Error response.
      *
      * @param context Netty channel context used to send responses
@@ -50,24 +73,31 @@ public class SimpleHttpEndpointDirector implements HttpEndpointDirector {
     public void direct(@NonNull ChannelHandlerContext context, @NonNull FullHttpRequest request, @NonNull HttpResponseSender responseSender) {
         try {
             boolean keepAlive = HttpUtil.isKeepAlive(request);
-            String path = new QueryStringDecoder(request.uri()).path();
+            String uri = request.uri();
             HttpMethod httpMethod = request.method();
-            HttpEndpoint httpEndpoint = new HttpEndpoint(path, httpMethod);
-            if (endpointProcessors.containsKey(httpEndpoint)) {
-                log.info("Routing to endpoint processor: method={}, path={}, keepAlive={}", httpMethod, path, keepAlive);
-                AsyncHttpEndpointProcessor endpointHandler = endpointProcessors.get(httpEndpoint);
-                endpointHandler.process(context, responseSender, keepAlive)
-                        .whenComplete((v, ex) -> {
-                            if (ex == null || !context.channel().isActive()) {
-                                log.info("Endpoint processing completed: method={}, path={}", httpMethod, path);
-                            } else {
-                                log.error("Endpoint processing failed: method={}, path={}", httpMethod, path, ex);
-                                responseSender.send(context, UNEXPECTED_SERVER_ERROR_MESSAGE, HttpResponseStatus.INTERNAL_SERVER_ERROR, keepAlive);
-                            }
-                        });
-            } else {
-                log.warn("No endpoint matched: method={}, path={}, responding 404", httpMethod, path);
-                responseSender.send(context, NOT_FOUND_MESSAGE, HttpResponseStatus.NOT_FOUND, keepAlive);
+            HttpRoute route = router.route(httpMethod, uri);
+            switch (route.status()) {
+                case FOUND -> {
+                    log.info("Routing to endpoint processor: method={}, uri={}, keepAlive={}", httpMethod, uri, keepAlive);
+                    route.processor().process(context, request, responseSender, keepAlive)
+                            .whenComplete((v, ex) -> {
+                                if (ex == null || !context.channel().isActive()) {
+                                    log.info("Endpoint processing completed: method={}, uri={}", httpMethod, uri);
+                                } else {
+                                    log.error("Endpoint processing failed: method={}, uri={}", httpMethod, uri, ex);
+                                    responseSender.send(context, UNEXPECTED_SERVER_ERROR_MESSAGE, HttpResponseStatus.INTERNAL_SERVER_ERROR, keepAlive);
+                                }
+                            });
+                }
+                case METHOD_NOT_ALLOWED -> {
+                    log.warn("Method not allowed: method={}, uri={}, allowed={}, responding 405", httpMethod, uri, route.allowedMethods());
+                    HttpHeaders headers = new DefaultHttpHeaders().set(HttpHeaderNames.ALLOW, route.allowedMethods());
+                    responseSender.sendSerialized(context, responseSender.serialize(METHOD_NOT_ALLOWED_MESSAGE), HttpResponseStatus.METHOD_NOT_ALLOWED, headers, keepAlive);
+                }
+                case NOT_FOUND -> {
+                    log.warn("No endpoint matched: method={}, uri={}, responding 404", httpMethod, uri);
+                    responseSender.send(context, NOT_FOUND_MESSAGE, HttpResponseStatus.NOT_FOUND, keepAlive);
+                }
             }
         } catch (Exception e) {
             log.error("Failed to direct request", e);
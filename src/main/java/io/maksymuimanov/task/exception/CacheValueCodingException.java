@@ -0,0 +1,20 @@
+package io.maksymuimanov.task.exception;
+
+/**
+ * Thrown when a value cannot be encoded into or decoded from its binary cache representation.
+ * Wraps serialization errors raised by the underlying Jackson data format so that cache
+ * managers can treat corrupted or incompatible entries as cache misses.
+ *
+ * @see io.maksymuimanov.task.cache.CacheValueCodec
+ * @see io.maksymuimanov.task.cache.JacksonCacheValueCodec
+ */
+public class CacheValueCodingException extends RuntimeException {
+    /**
+     * Constructs a new CacheValueCodingException with the specified cause.
+     *
+     * @param cause the underlying serialization or deserialization failure
+     */
+    public CacheValueCodingException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -6,7 +6,7 @@ package io.maksymuimanov.task.exception;
  * client disconnects, or I/O failures during non-blocking response transmission.
  *
  * @see io.maksymuimanov.task.endpoint.HttpResponseSender
- * @see io.maksymuimanov.task.endpoint.JsonHttpResponseSender
+ * @see io.maksymuimanov.task.endpoint.JacksonHttpResponseSender
  */
 public class HttpResponseSendingException extends RuntimeException {
     /**
@@ -8,6 +8,7 @@
  * @see io.maksymuimanov.task.exception.ApiFetchingException
  * @see io.maksymuimanov.task.exception.ApiRequestSendingException
  * @see io.maksymuimanov.task.exception.CacheManagingException
+ * @see io.maksymuimanov.task.exception.CacheValueCodingException
  * @see io.maksymuimanov.task.exception.HttpEndpointDirectingException
  * @see io.maksymuimanov.task.exception.HttpEndpointProcessionException
  * @see io.maksymuimanov.task.exception.HttpResponseSendingException
@@ -7,7 +7,7 @@ import java.time.Duration;
 /**
  * Provides convenient access to system configuration properties used by the
  * asynchronous API aggregator service. This utility allows retrieving typed
- * configuration values (String, Integer, Long, Duration) with safe fallbacks
+ * configuration values (String, Integer, Long, Double, Duration) with safe fallbacks
  * when system properties are not defined.
  *
  * <p>All methods are thread-safe and designed for lightweight use during
@@ -51,6 +51,18 @@ public class ConfigUtils {
         return Long.getLong(key, defaultValue);
     }
 
+    /**
+     * Returns the system property value as a {@link Double} or the default
+     * if the property is not defined.
+     *
+     * @param key the name of the system property
+     * @param defaultValue the value to return if the property is undefined
+     * @return the resolved Double property value or the default
+     */
+    public Double getOrDefault(String key, Double defaultValue) {
+        return Double.parseDouble(getOrDefault(key, Double.toString(defaultValue)));
+    }
+
     /**
      * Returns the system property value as a {@link Boolean}, or the default
      * if the property is not defined. Accepts standard boolean string values
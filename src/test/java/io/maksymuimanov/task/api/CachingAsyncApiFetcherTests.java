@@ -0,0 +1,100 @@
+package io.maksymuimanov.task.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.maksymuimanov.task.cache.AsyncCacheManager;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@SuppressWarnings("unchecked")
+class CachingAsyncApiFetcherTests {
+    static final String CACHED_URL = "http://localhost/cached";
+    static final String UNCACHED_URL = "http://localhost/uncached";
+    static final String CACHED_KEY = CachingAsyncApiFetcher.API_CACHE_KEY_PREFIX + CACHED_URL;
+    static final Duration TEST_TTL = Duration.ofMinutes(1);
+    AsyncApiFetcher<JsonNode> cachingApiFetcher;
+    AsyncApiFetcher<JsonNode> delegate;
+    AsyncCacheManager cacheManager;
+    JsonNode jsonNode;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(AsyncApiFetcher.class);
+        cacheManager = Mockito.mock(AsyncCacheManager.class, Mockito.CALLS_REAL_METHODS);
+        jsonNode = Mockito.mock(JsonNode.class);
+        cachingApiFetcher = new CachingAsyncApiFetcher<>(delegate, cacheManager, JsonNode.class, Map.of(CACHED_URL, TEST_TTL, UNCACHED_URL, Duration.ZERO));
+    }
+
+    @Test
+    void shouldFetchFromCacheSuccessfully() {
+        Mockito.when(cacheManager.get(CACHED_KEY, JsonNode.class)).thenReturn(CompletableFuture.completedFuture(Optional.of(jsonNode)));
+
+        CompletableFuture<JsonNode> result = cachingApiFetcher.fetch(CACHED_URL);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(delegate, Mockito.never()).fetch(CACHED_URL, CancellationToken.NONE);
+        Assertions.assertEquals(jsonNode, result.join());
+    }
+
+    @Test
+    void shouldFetchAndCacheOnMissSuccessfully() {
+        Mockito.when(cacheManager.get(CACHED_KEY, JsonNode.class)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        Mockito.when(delegate.fetch(CACHED_URL, CancellationToken.NONE)).thenReturn(CompletableFuture.completedFuture(jsonNode));
+        Mockito.when(cacheManager.put(CACHED_KEY, jsonNode, TEST_TTL)).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<JsonNode> result = cachingApiFetcher.fetch(CACHED_URL);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(delegate).fetch(CACHED_URL, CancellationToken.NONE);
+        Mockito.verify(cacheManager).put(CACHED_KEY, jsonNode, TEST_TTL);
+        Assertions.assertEquals(jsonNode, result.join());
+    }
+
+    @Test
+    void shouldFetchOnCacheFailureSuccessfully() {
+        Mockito.when(cacheManager.get(CACHED_KEY, JsonNode.class)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Test exception")));
+        Mockito.when(delegate.fetch(CACHED_URL, CancellationToken.NONE)).thenReturn(CompletableFuture.completedFuture(jsonNode));
+        Mockito.when(cacheManager.put(CACHED_KEY, jsonNode, TEST_TTL)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Test exception")));
+
+        CompletableFuture<JsonNode> result = cachingApiFetcher.fetch(CACHED_URL);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(jsonNode, result.join());
+    }
+
+    @Test
+    void shouldBypassCacheWithoutTtlSuccessfully() {
+        Mockito.when(delegate.fetch(UNCACHED_URL, CancellationToken.NONE)).thenReturn(CompletableFuture.completedFuture(jsonNode));
+
+        CompletableFuture<JsonNode> result = cachingApiFetcher.fetch(UNCACHED_URL);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verifyNoInteractions(cacheManager);
+        Assertions.assertEquals(jsonNode, result.join());
+    }
+
+    @Test
+    void shouldPassCancellationTokenOnlyToUncachedSourcesSuccessfully() {
+        CancellationToken token = new CancellationToken();
+        Mockito.when(cacheManager.get(CACHED_KEY, JsonNode.class)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        Mockito.when(cacheManager.put(Mockito.eq(CACHED_KEY), Mockito.any(), Mockito.eq(TEST_TTL))).thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(delegate.fetch(Mockito.anyString(), Mockito.any(CancellationToken.class))).thenReturn(CompletableFuture.completedFuture(jsonNode));
+
+        CompletableFuture<JsonNode> cached = cachingApiFetcher.fetch(CACHED_URL, token);
+        CompletableFuture<JsonNode> uncached = cachingApiFetcher.fetch(UNCACHED_URL, token);
+        Awaitility.await().until(() -> cached.isDone() && uncached.isDone());
+        Mockito.verify(delegate).fetch(CACHED_URL, CancellationToken.NONE);
+        Mockito.verify(delegate).fetch(UNCACHED_URL, token);
+    }
+
+    @Test
+    void shouldFailToFetch() {
+        Mockito.when(cacheManager.get(CACHED_KEY, JsonNode.class)).thenThrow(RuntimeException.class);
+
+        Assertions.assertThrows(CompletionException.class, () -> cachingApiFetcher.fetch(CACHED_URL).join());
+    }
+}
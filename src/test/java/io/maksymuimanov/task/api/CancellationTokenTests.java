@@ -0,0 +1,41 @@
+package io.maksymuimanov.task.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CancellationTokenTests {
+    @Test
+    void shouldCancelSuccessfully() {
+        CancellationToken token = new CancellationToken();
+        AtomicInteger cancellations = new AtomicInteger();
+        token.onCancel(cancellations::incrementAndGet);
+
+        Assertions.assertFalse(token.isCancelled());
+        Assertions.assertTrue(token.cancel());
+        Assertions.assertFalse(token.cancel());
+        Assertions.assertTrue(token.isCancelled());
+        Assertions.assertEquals(1, cancellations.get());
+    }
+
+    @Test
+    void shouldRunActionRegisteredAfterCancellationSuccessfully() {
+        CancellationToken token = new CancellationToken();
+        AtomicInteger cancellations = new AtomicInteger();
+        token.cancel();
+
+        token.onCancel(cancellations::incrementAndGet);
+        Assertions.assertEquals(1, cancellations.get());
+    }
+
+    @Test
+    void shouldFailToCancelNone() {
+        AtomicInteger cancellations = new AtomicInteger();
+        CancellationToken.NONE.onCancel(cancellations::incrementAndGet);
+
+        Assertions.assertFalse(CancellationToken.NONE.cancel());
+        Assertions.assertFalse(CancellationToken.NONE.isCancelled());
+        Assertions.assertEquals(0, cancellations.get());
+    }
+}
@@ -9,6 +9,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
@@ -28,13 +31,13 @@ class DashboardAsyncApiAggregatorTests {
 
     @Test
     void shouldAggregateSuccessfully() {
-        Mockito.when(asyncApiFetcher.fetch(DashboardAsyncApiAggregator.WEATHER_API_URL)).thenReturn(CompletableFuture.completedFuture(weatherResponse));
-        Mockito.when(asyncApiFetcher.fetch(DashboardAsyncApiAggregator.FACTS_API_URL)).thenReturn(CompletableFuture.completedFuture(factResponse));
-        Mockito.when(asyncApiFetcher.fetch(DashboardAsyncApiAggregator.IP_API_URL)).thenReturn(CompletableFuture.completedFuture(ipResponse));
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.WEATHER_API_URL), Mockito.any())).thenReturn(CompletableFuture.completedFuture(weatherResponse));
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.FACTS_API_URL), Mockito.any())).thenReturn(CompletableFuture.completedFuture(factResponse));
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.IP_API_URL), Mockito.any())).thenReturn(CompletableFuture.completedFuture(ipResponse));
 
         CompletableFuture<DashboardResponse> result = asyncApiAggregator.aggregate();
         Awaitility.await().untilAsserted(result::isDone);
-        Mockito.verify(asyncApiFetcher, Mockito.times(3)).fetch(Mockito.anyString());
+        Mockito.verify(asyncApiFetcher, Mockito.times(3)).fetch(Mockito.anyString(), Mockito.any());
         DashboardResponse response = result.join();
         Assertions.assertEquals(response.weather(), weatherResponse);
         Assertions.assertEquals(response.fact(), factResponse);
@@ -43,21 +46,60 @@ class DashboardAsyncApiAggregatorTests {
 
     @Test
     void shouldOneApiFailToAggregate() {
-        Mockito.when(asyncApiFetcher.fetch(DashboardAsyncApiAggregator.WEATHER_API_URL)).thenReturn(CompletableFuture.completedFuture(weatherResponse));
-        Mockito.when(asyncApiFetcher.fetch(DashboardAsyncApiAggregator.FACTS_API_URL)).thenReturn(CompletableFuture.failedFuture(new ApiFetchingException(new RuntimeException("Test exception"))));
-        Mockito.when(asyncApiFetcher.fetch(DashboardAsyncApiAggregator.IP_API_URL)).thenReturn(CompletableFuture.completedFuture(ipResponse));
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.WEATHER_API_URL), Mockito.any())).thenReturn(CompletableFuture.completedFuture(weatherResponse));
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.FACTS_API_URL), Mockito.any())).thenReturn(CompletableFuture.failedFuture(new ApiFetchingException(new RuntimeException("Test exception"))));
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.IP_API_URL), Mockito.any())).thenReturn(CompletableFuture.completedFuture(ipResponse));
 
         CompletableFuture<DashboardResponse> result = asyncApiAggregator.aggregate();
         Awaitility.await().untilAsserted(result::isCompletedExceptionally);
-        Mockito.verify(asyncApiFetcher, Mockito.times(3)).fetch(Mockito.anyString());
+        Mockito.verify(asyncApiFetcher, Mockito.times(3)).fetch(Mockito.anyString(), Mockito.any());
     }
 
     @Test
     void shouldFailToAggregate() {
-        Mockito.when(asyncApiFetcher.fetch(DashboardAsyncApiAggregator.WEATHER_API_URL)).thenReturn(CompletableFuture.completedFuture(weatherResponse));
-        Mockito.when(asyncApiFetcher.fetch(DashboardAsyncApiAggregator.FACTS_API_URL)).thenThrow(new ApiFetchingException(new RuntimeException("Test exception")));
-        Mockito.when(asyncApiFetcher.fetch(DashboardAsyncApiAggregator.IP_API_URL)).thenReturn(CompletableFuture.completedFuture(ipResponse));
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.WEATHER_API_URL), Mockito.any())).thenReturn(CompletableFuture.completedFuture(weatherResponse));
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.FACTS_API_URL), Mockito.any())).thenThrow(new ApiFetchingException(new RuntimeException("Test exception")));
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.IP_API_URL), Mockito.any())).thenReturn(CompletableFuture.completedFuture(ipResponse));
 
         Assertions.assertThrows(CompletionException.class, () -> asyncApiAggregator.aggregate().join());
     }
+
+    @Test
+    void shouldAggregateSectionsSuccessfully() {
+        CompletableFuture<JsonNode> weatherFuture = new CompletableFuture<>();
+        CompletableFuture<JsonNode> factFuture = new CompletableFuture<>();
+        CompletableFuture<JsonNode> ipFuture = new CompletableFuture<>();
+
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.WEATHER_API_URL), Mockito.any())).thenReturn(weatherFuture);
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.FACTS_API_URL), Mockito.any())).thenReturn(factFuture);
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.IP_API_URL), Mockito.any())).thenReturn(ipFuture);
+
+        Map<String, CompletableFuture<JsonNode>> sections = new DashboardAsyncApiAggregator(asyncApiFetcher).aggregateSections();
+        Assertions.assertEquals(List.of(DashboardAsyncApiAggregator.WEATHER_SECTION, DashboardAsyncApiAggregator.FACT_SECTION, DashboardAsyncApiAggregator.IP_SECTION), List.copyOf(sections.keySet()));
+        Assertions.assertSame(weatherFuture, sections.get(DashboardAsyncApiAggregator.WEATHER_SECTION));
+        Assertions.assertSame(factFuture, sections.get(DashboardAsyncApiAggregator.FACT_SECTION));
+        Assertions.assertSame(ipFuture, sections.get(DashboardAsyncApiAggregator.IP_SECTION));
+    }
+
+    @Test
+    void shouldAggregateSelectedSectionsSuccessfully() {
+        Mockito.when(asyncApiFetcher.fetch(Mockito.eq(DashboardAsyncApiAggregator.WEATHER_API_URL), Mockito.any())).thenReturn(CompletableFuture.completedFuture(weatherResponse));
+
+        CompletableFuture<DashboardResponse> result = new DashboardAsyncApiAggregator(asyncApiFetcher).aggregate(Set.of(DashboardAsyncApiAggregator.WEATHER_SECTION));
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(asyncApiFetcher).fetch(Mockito.eq(DashboardAsyncApiAggregator.WEATHER_API_URL), Mockito.any());
+        Mockito.verifyNoMoreInteractions(asyncApiFetcher);
+        DashboardResponse response = result.join();
+        Assertions.assertEquals(weatherResponse, response.weather());
+        Assertions.assertNull(response.fact());
+        Assertions.assertNull(response.ip());
+    }
+
+    @Test
+    void shouldFailToAggregateUnknownSection() {
+        DashboardAsyncApiAggregator aggregator = new DashboardAsyncApiAggregator(asyncApiFetcher);
+
+        Assertions.assertThrows(CompletionException.class, () -> aggregator.aggregate(Set.of("unknown")).join());
+        Mockito.verifyNoInteractions(asyncApiFetcher);
+    }
 }
@@ -45,13 +45,13 @@ class JsonAsyncApiFetcherTests {
 
     @Test
     void shouldFetchSuccessfully() throws JsonProcessingException {
-        Mockito.when(requestSender.send(httpClient, TEST_HTTP_REQUEST, TEST_RESPONSE_BODY_HANDLER)).thenReturn(CompletableFuture.completedFuture(response));
+        Mockito.when(requestSender.send(httpClient, TEST_HTTP_REQUEST, TEST_RESPONSE_BODY_HANDLER, CancellationToken.NONE)).thenReturn(CompletableFuture.completedFuture(response));
         Mockito.when(response.body()).thenReturn(JSON_RESPONSE_BODY);
         Mockito.when(objectMapper.readTree(JSON_RESPONSE_BODY)).thenReturn(jsonNode);
 
         CompletableFuture<JsonNode> result = apiFetcher.fetch(TEST_URL);
         Awaitility.await().untilAsserted(result::isDone);
-        Mockito.verify(requestSender).send(httpClient, TEST_HTTP_REQUEST, TEST_RESPONSE_BODY_HANDLER);
+        Mockito.verify(requestSender).send(httpClient, TEST_HTTP_REQUEST, TEST_RESPONSE_BODY_HANDLER, CancellationToken.NONE);
         Mockito.verify(response).body();
         Mockito.verify(objectMapper).readTree(JSON_RESPONSE_BODY);
         Assertions.assertEquals(jsonNode, result.join());
@@ -59,12 +59,12 @@ class JsonAsyncApiFetcherTests {
 
     @Test
     void shouldFailToFetch() throws JsonProcessingException {
-        Mockito.when(requestSender.send(httpClient, TEST_HTTP_REQUEST, TEST_RESPONSE_BODY_HANDLER)).thenReturn(CompletableFuture.completedFuture(response));
+        Mockito.when(requestSender.send(httpClient, TEST_HTTP_REQUEST, TEST_RESPONSE_BODY_HANDLER, CancellationToken.NONE)).thenReturn(CompletableFuture.completedFuture(response));
         Mockito.when(response.body()).thenReturn(JSON_RESPONSE_BODY);
         Mockito.when(objectMapper.readTree(JSON_RESPONSE_BODY)).thenThrow(JsonProcessingException.class);
 
         CompletableFuture<JsonNode> result = apiFetcher.fetch(TEST_URL);
-        Mockito.verify(requestSender).send(httpClient, TEST_HTTP_REQUEST, TEST_RESPONSE_BODY_HANDLER);
+        Mockito.verify(requestSender).send(httpClient, TEST_HTTP_REQUEST, TEST_RESPONSE_BODY_HANDLER, CancellationToken.NONE);
         Mockito.verify(response).body();
         Mockito.verify(objectMapper).readTree(JSON_RESPONSE_BODY);
         Awaitility.await().untilAsserted(result::isCompletedExceptionally);
@@ -12,7 +12,9 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @SuppressWarnings("unchecked")
 class RetryableAsyncApiRequestSenderTests {
@@ -95,4 +97,50 @@ class RetryableAsyncApiRequestSenderTests {
         });
         Mockito.verify(httpClient, Mockito.times(3)).sendAsync(request, handler);
     }
+
+    @Test
+    void shouldCancelInFlightExchangeSuccessfully() {
+        CompletableFuture<HttpResponse<String>> exchange = new CompletableFuture<>();
+        CancellationToken token = new CancellationToken();
+
+        Mockito.when(request.uri()).thenReturn(TEST_URI);
+        Mockito.when(httpClient.sendAsync(request, handler)).thenReturn(exchange);
+
+        CompletableFuture<HttpResponse<String>> result = requestSender.send(httpClient, request, handler, token);
+        token.cancel();
+        Awaitility.await().atMost(Duration.ofSeconds(1)).untilAsserted(result::isDone);
+        Assertions.assertTrue(exchange.isCancelled());
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertInstanceOf(CancellationException.class, exception.getCause());
+        Mockito.verify(httpClient, Mockito.times(1)).sendAsync(request, handler);
+    }
+
+    @Test
+    void shouldCancelPendingRetrySuccessfully() {
+        CancellationToken token = new CancellationToken();
+        requestSender = new RetryableAsyncApiRequestSender(RetryableAsyncApiRequestSender.DEFAULT_RETRY_COUNT, Duration.ofMinutes(1));
+
+        Mockito.when(request.uri()).thenReturn(TEST_URI);
+        Mockito.when(httpClient.sendAsync(request, handler)).thenReturn(CompletableFuture.completedFuture(response));
+        Mockito.when(response.statusCode()).thenReturn(RetryableAsyncApiRequestSender.HTTP_SUCCESS_CODE_LIMIT);
+
+        CompletableFuture<HttpResponse<String>> result = requestSender.send(httpClient, request, handler, token);
+        token.cancel();
+        Awaitility.await().atMost(Duration.ofSeconds(1)).untilAsserted(() -> Assertions.assertTrue(result.isDone()));
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertInstanceOf(CancellationException.class, exception.getCause());
+        Mockito.verify(httpClient, Mockito.times(1)).sendAsync(request, handler);
+    }
+
+    @Test
+    void shouldFailToSendCancelledRequest() {
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+
+        Mockito.when(request.uri()).thenReturn(TEST_URI);
+
+        CompletableFuture<HttpResponse<String>> result = requestSender.send(httpClient, request, handler, token);
+        Assertions.assertThrows(CancellationException.class, result::join);
+        Mockito.verify(httpClient, Mockito.never()).sendAsync(request, handler);
+    }
 }
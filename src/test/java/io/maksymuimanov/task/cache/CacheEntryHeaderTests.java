@@ -0,0 +1,43 @@
+package io.maksymuimanov.task.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+class CacheEntryHeaderTests {
+    static final byte[] TEST_VALUE = "{\"test\":true}".getBytes(StandardCharsets.UTF_8);
+    static final Duration TEST_COMPUTE_TIME = Duration.ofMillis(120);
+    static final Instant TEST_EXPIRES_AT = Instant.parse("2024-01-01T00:05:00Z");
+
+    @Test
+    void shouldFrameAndUnframeSuccessfully() {
+        byte[] framed = CacheEntryHeader.frame(TEST_VALUE, TEST_COMPUTE_TIME, TEST_EXPIRES_AT);
+
+        Assertions.assertTrue(CacheEntryHeader.isFramed(framed));
+        Assertions.assertEquals(CacheEntryHeader.METADATA_HEADER_LENGTH + TEST_VALUE.length, framed.length);
+        Assertions.assertArrayEquals(TEST_VALUE, CacheEntryHeader.unframe(framed));
+        Assertions.assertEquals(new CacheEntry<>("value", TEST_COMPUTE_TIME, TEST_EXPIRES_AT), CacheEntryHeader.toEntry(framed, "value"));
+    }
+
+    @Test
+    void shouldRoundComputeTimeUpSuccessfully() {
+        CacheEntry<String> subMillisecond = CacheEntryHeader.toEntry(CacheEntryHeader.frame(TEST_VALUE, Duration.ofNanos(200_000), TEST_EXPIRES_AT), "value");
+        CacheEntry<String> fractional = CacheEntryHeader.toEntry(CacheEntryHeader.frame(TEST_VALUE, Duration.ofNanos(1_200_000), TEST_EXPIRES_AT), "value");
+        CacheEntry<String> zero = CacheEntryHeader.toEntry(CacheEntryHeader.frame(TEST_VALUE, Duration.ZERO, TEST_EXPIRES_AT), "value");
+
+        Assertions.assertEquals(Duration.ofMillis(1), subMillisecond.computeTime());
+        Assertions.assertTrue(subMillisecond.hasMetadata());
+        Assertions.assertEquals(Duration.ofMillis(2), fractional.computeTime());
+        Assertions.assertEquals(Duration.ofMillis(CacheEntryHeader.MIN_COMPUTE_TIME_MILLIS), zero.computeTime());
+    }
+
+    @Test
+    void shouldPassUnframedValueThroughSuccessfully() {
+        Assertions.assertFalse(CacheEntryHeader.isFramed(TEST_VALUE));
+        Assertions.assertSame(TEST_VALUE, CacheEntryHeader.unframe(TEST_VALUE));
+        Assertions.assertEquals(CacheEntry.of("value"), CacheEntryHeader.toEntry(TEST_VALUE, "value"));
+    }
+}
@@ -0,0 +1,78 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheValueCodingException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+class CacheValueCompressorTests {
+    static final int TEST_THRESHOLD = 64;
+    static final byte[] SMALL_VALUE = "{\"test\":true}".getBytes(StandardCharsets.UTF_8);
+    static final byte[] LARGE_VALUE = "{\"test\":\"value\"},".repeat(50).getBytes(StandardCharsets.UTF_8);
+    CacheValueCompressor compressor;
+
+    @BeforeEach
+    void setUp() {
+        compressor = new CacheValueCompressor(TEST_THRESHOLD, 1);
+    }
+
+    @Test
+    void shouldCompressAboveThresholdSuccessfully() {
+        byte[] compressed = compressor.compress(LARGE_VALUE);
+
+        Assertions.assertTrue(CacheValueCompressor.isCompressed(compressed));
+        Assertions.assertTrue(compressed.length < LARGE_VALUE.length);
+        Assertions.assertArrayEquals(LARGE_VALUE, compressor.decompress(compressed));
+    }
+
+    @Test
+    void shouldSkipCompressionBelowThresholdSuccessfully() {
+        byte[] stored = compressor.compress(SMALL_VALUE);
+
+        Assertions.assertSame(SMALL_VALUE, stored);
+        Assertions.assertFalse(CacheValueCompressor.isCompressed(stored));
+        Assertions.assertSame(SMALL_VALUE, compressor.decompress(stored));
+    }
+
+    @Test
+    void shouldSkipCompressionWhenDisabledSuccessfully() {
+        CacheValueCompressor disabledCompressor = new CacheValueCompressor(-1, 1);
+
+        Assertions.assertSame(LARGE_VALUE, disabledCompressor.compress(LARGE_VALUE));
+    }
+
+    @Test
+    void shouldReadLegacyUncompressedValueSuccessfully() {
+        Assertions.assertSame(LARGE_VALUE, compressor.decompress(LARGE_VALUE));
+    }
+
+    @Test
+    void shouldFailToDecompressTruncatedValue() {
+        byte[] compressed = compressor.compress(LARGE_VALUE);
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+        Assertions.assertThrows(CacheValueCodingException.class, () -> compressor.decompress(truncated));
+    }
+
+    @Test
+    void shouldFailToDecompressValueAboveMaxLength() {
+        CacheValueCompressor boundedCompressor = new CacheValueCompressor(TEST_THRESHOLD, 1, LARGE_VALUE.length - 1);
+        byte[] compressed = compressor.compress(LARGE_VALUE);
+
+        Assertions.assertThrows(CacheValueCodingException.class, () -> boundedCompressor.decompress(compressed));
+    }
+
+    @Test
+    void shouldFailToDecompressNegativeLength() {
+        byte[] corrupted = ByteBuffer.allocate(CacheValueCompressor.DEFLATE_HEADER_LENGTH + 1)
+                .put(CacheValueCompressor.DEFLATE_HEADER)
+                .putInt(-1)
+                .array();
+
+        Assertions.assertThrows(CacheValueCodingException.class, () -> compressor.decompress(corrupted));
+    }
+}
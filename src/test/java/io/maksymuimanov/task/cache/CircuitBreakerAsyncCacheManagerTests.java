@@ -0,0 +1,120 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheManagingException;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+class CircuitBreakerAsyncCacheManagerTests {
+    static final String TEST_KEY = "test";
+    static final String TEST_VALUE = "value";
+    static final String TEST_COMPUTED_VALUE = "computed";
+    static final Duration TEST_TTL = Duration.ofMinutes(1);
+    static final int TEST_FAILURE_THRESHOLD = 2;
+    static final Duration TEST_OPEN_DURATION = Duration.ofMillis(50);
+    CircuitBreakerAsyncCacheManager circuitBreakerAsyncCacheManager;
+    AsyncCacheManager delegateCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        delegateCacheManager = Mockito.mock(AsyncCacheManager.class);
+        circuitBreakerAsyncCacheManager = new CircuitBreakerAsyncCacheManager(delegateCacheManager, TEST_FAILURE_THRESHOLD, TEST_OPEN_DURATION);
+    }
+
+    @Test
+    void shouldGetWhileClosedSuccessfully() {
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.of(TEST_VALUE)));
+
+        CompletableFuture<Optional<String>> result = circuitBreakerAsyncCacheManager.get(TEST_KEY, String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(Optional.of(TEST_VALUE), result.join());
+        Assertions.assertEquals(CircuitBreakerAsyncCacheManager.State.CLOSED, circuitBreakerAsyncCacheManager.getState());
+    }
+
+    @Test
+    void shouldOpenAfterConsecutiveFailuresSuccessfully() {
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Redis down")));
+        this.failGets(TEST_FAILURE_THRESHOLD);
+
+        Assertions.assertEquals(CircuitBreakerAsyncCacheManager.State.OPEN, circuitBreakerAsyncCacheManager.getState());
+        CompletableFuture<Optional<String>> result = circuitBreakerAsyncCacheManager.get(TEST_KEY, String.class);
+        Assertions.assertTrue(result.isCompletedExceptionally());
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertInstanceOf(CacheManagingException.class, exception.getCause());
+        Mockito.verify(delegateCacheManager, Mockito.times(TEST_FAILURE_THRESHOLD)).get(TEST_KEY, String.class);
+        Assertions.assertEquals(1, circuitBreakerAsyncCacheManager.getRejectedCount());
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulTrialSuccessfully() {
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Redis down")));
+        this.failGets(TEST_FAILURE_THRESHOLD);
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.of(TEST_VALUE)));
+        Awaitility.await().pollDelay(TEST_OPEN_DURATION).until(() -> true);
+
+        Assertions.assertEquals(Optional.of(TEST_VALUE), circuitBreakerAsyncCacheManager.get(TEST_KEY, String.class).join());
+        Assertions.assertEquals(CircuitBreakerAsyncCacheManager.State.CLOSED, circuitBreakerAsyncCacheManager.getState());
+    }
+
+    @Test
+    void shouldReopenAfterFailedTrialSuccessfully() {
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Redis down")));
+        this.failGets(TEST_FAILURE_THRESHOLD);
+        Awaitility.await().pollDelay(TEST_OPEN_DURATION).until(() -> true);
+
+        this.failGets(1);
+        Assertions.assertEquals(CircuitBreakerAsyncCacheManager.State.OPEN, circuitBreakerAsyncCacheManager.getState());
+        Mockito.verify(delegateCacheManager, Mockito.times(TEST_FAILURE_THRESHOLD + 1)).get(TEST_KEY, String.class);
+    }
+
+    @Test
+    void shouldComputeWithoutCacheWhileOpenSuccessfully() {
+        Mockito.when(delegateCacheManager.putBytes(ArgumentMatchers.eq(TEST_KEY), ArgumentMatchers.any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Redis down")));
+        for (int i = 0; i < TEST_FAILURE_THRESHOLD; i++) {
+            Assertions.assertThrows(CompletionException.class, () -> circuitBreakerAsyncCacheManager.putBytes(TEST_KEY, new byte[0]).join());
+        }
+
+        CompletableFuture<String> result = circuitBreakerAsyncCacheManager.getOrCompute(TEST_KEY, String.class, TEST_TTL, () -> CompletableFuture.completedFuture(TEST_COMPUTED_VALUE));
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(TEST_COMPUTED_VALUE, result.join());
+        Mockito.verify(delegateCacheManager, Mockito.never()).getOrCompute(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void shouldOpenAfterFailedCommandsWhileComputingSuccessfully() {
+        Mockito.when(delegateCacheManager.getOrCompute(Mockito.eq(TEST_KEY), Mockito.eq(String.class), Mockito.eq(TEST_TTL), Mockito.any())).thenAnswer(invocation -> {
+            circuitBreakerAsyncCacheManager.onCacheFailure(TEST_KEY, new RuntimeException("Command timed out"));
+            return invocation.<Supplier<CompletableFuture<String>>>getArgument(3).get();
+        });
+        for (int i = 0; i < TEST_FAILURE_THRESHOLD; i++) {
+            Assertions.assertEquals(TEST_COMPUTED_VALUE, circuitBreakerAsyncCacheManager.getOrCompute(TEST_KEY, String.class, TEST_TTL, () -> CompletableFuture.completedFuture(TEST_COMPUTED_VALUE)).join());
+        }
+
+        Assertions.assertEquals(CircuitBreakerAsyncCacheManager.State.OPEN, circuitBreakerAsyncCacheManager.getState());
+        Assertions.assertEquals(TEST_COMPUTED_VALUE, circuitBreakerAsyncCacheManager.getOrCompute(TEST_KEY, String.class, TEST_TTL, () -> CompletableFuture.completedFuture(TEST_COMPUTED_VALUE)).join());
+        Mockito.verify(delegateCacheManager, Mockito.times(TEST_FAILURE_THRESHOLD)).getOrCompute(Mockito.eq(TEST_KEY), Mockito.eq(String.class), Mockito.eq(TEST_TTL), Mockito.any());
+        Assertions.assertEquals(1, circuitBreakerAsyncCacheManager.getRejectedCount());
+    }
+
+    @Test
+    void shouldFailToGetWhenDelegateThrows() {
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenThrow(new IllegalStateException("Broken"));
+
+        Assertions.assertThrows(CompletionException.class, () -> circuitBreakerAsyncCacheManager.get(TEST_KEY, String.class).join());
+    }
+
+    void failGets(int count) {
+        for (int i = 0; i < count; i++) {
+            Assertions.assertThrows(CompletionException.class, () -> circuitBreakerAsyncCacheManager.get(TEST_KEY, String.class).join());
+        }
+    }
+}
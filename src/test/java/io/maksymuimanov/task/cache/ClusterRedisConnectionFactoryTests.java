@@ -0,0 +1,53 @@
+package io.maksymuimanov.task.cache;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+@SuppressWarnings("unchecked")
+class ClusterRedisConnectionFactoryTests {
+    RedisConnectionFactory clusterRedisConnectionFactory;
+    RedisClusterClient redisClusterClient;
+    StatefulRedisClusterConnection<String, byte[]> connection;
+    RedisAdvancedClusterAsyncCommands<String, byte[]> commands;
+
+    @BeforeEach
+    void setUp() {
+        redisClusterClient = Mockito.mock(RedisClusterClient.class);
+        connection = Mockito.mock(StatefulRedisClusterConnection.class);
+        commands = Mockito.mock(RedisAdvancedClusterAsyncCommands.class);
+        Mockito.when(redisClusterClient.connect(RedisAsyncCacheManager.STRING_BYTE_ARRAY_CODEC)).thenReturn(connection);
+        Mockito.when(connection.async()).thenReturn(commands);
+        clusterRedisConnectionFactory = new ClusterRedisConnectionFactory(redisClusterClient, ReadFrom.LOWEST_LATENCY);
+    }
+
+    @Test
+    void shouldConnectWithReadFromSuccessfully() {
+        StatefulConnection<String, byte[]> result = clusterRedisConnectionFactory.connect();
+
+        Mockito.verify(redisClusterClient).connect(RedisAsyncCacheManager.STRING_BYTE_ARRAY_CODEC);
+        Mockito.verify(connection).setReadFrom(ReadFrom.LOWEST_LATENCY);
+        Assertions.assertSame(connection, result);
+        Assertions.assertSame(commands, clusterRedisConnectionFactory.commands(result));
+    }
+
+    @Test
+    void shouldNotSupportClientTracking() {
+        Assertions.assertFalse(clusterRedisConnectionFactory.supportsClientTracking());
+        Assertions.assertDoesNotThrow(() -> clusterRedisConnectionFactory.addPushListener(connection, Mockito.mock(PushListener.class)));
+    }
+
+    @Test
+    void shouldShutdownSuccessfully() {
+        clusterRedisConnectionFactory.shutdown();
+
+        Mockito.verify(redisClusterClient).shutdown();
+    }
+}
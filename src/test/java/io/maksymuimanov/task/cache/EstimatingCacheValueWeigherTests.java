@@ -0,0 +1,47 @@
+package io.maksymuimanov.task.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+class EstimatingCacheValueWeigherTests {
+    static final long TEST_DEFAULT_WEIGHT = 512;
+    static final String TEST_JSON = """
+            {"current_weather":{"time":"2025-11-05T12:00","temperature":11.4,"is_day":1,"codes":[3,61,80]},
+            "fact":{"text":"The average person spends six months of their lifetime waiting for red lights to turn green.","language":"en"},
+            "ip":{"ip":"203.0.113.42","flags":[true,false,null]}}""";
+    ObjectMapper objectMapper;
+    EstimatingCacheValueWeigher estimatingCacheValueWeigher;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        estimatingCacheValueWeigher = new EstimatingCacheValueWeigher(TEST_DEFAULT_WEIGHT);
+    }
+
+    @Test
+    void shouldWeighJsonTreeCloseToItsEncodedSizeSuccessfully() throws Exception {
+        JsonNode tree = objectMapper.readTree(TEST_JSON);
+        long encodedSize = new JsonCacheValueCodec(objectMapper).encode(tree).length;
+
+        long weight = estimatingCacheValueWeigher.weigh(tree);
+
+        Assertions.assertTrue(weight >= encodedSize * 0.8 && weight <= encodedSize * 1.25, "weight=" + weight + ", encodedSize=" + encodedSize);
+    }
+
+    @Test
+    void shouldWeighPayloadsTextAndScalarsSuccessfully() {
+        Assertions.assertEquals(4, estimatingCacheValueWeigher.weigh(new byte[4]));
+        Assertions.assertEquals(7, estimatingCacheValueWeigher.weigh("value"));
+        Assertions.assertEquals(EstimatingCacheValueWeigher.SCALAR_WEIGHT, estimatingCacheValueWeigher.weigh(42));
+    }
+
+    @Test
+    void shouldWeighOtherValuesByDefaultSuccessfully() {
+        Assertions.assertEquals(TEST_DEFAULT_WEIGHT, estimatingCacheValueWeigher.weigh(Instant.EPOCH));
+    }
+}
@@ -0,0 +1,155 @@
+package io.maksymuimanov.task.cache;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+class InMemoryAsyncCacheManagerTests {
+    static final String TEST_KEY = "test";
+    static final String TEST_VALUE = "value";
+    static final int TEST_MAXIMUM_SIZE = 2;
+    static final Duration TEST_TTL = Duration.ofMinutes(1);
+    InMemoryAsyncCacheManager inMemoryAsyncCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        inMemoryAsyncCacheManager = new InMemoryAsyncCacheManager(TEST_MAXIMUM_SIZE, TEST_TTL);
+    }
+
+    @Test
+    void shouldGetNonNullSuccessfully() {
+        inMemoryAsyncCacheManager.put(TEST_KEY, TEST_VALUE).join();
+
+        Assertions.assertEquals(Optional.of(TEST_VALUE), inMemoryAsyncCacheManager.get(TEST_KEY, String.class).join());
+    }
+
+    @Test
+    void shouldGetNullSuccessfully() {
+        Assertions.assertEquals(Optional.empty(), inMemoryAsyncCacheManager.get(TEST_KEY, String.class).join());
+    }
+
+    @Test
+    void shouldGetNullOnTypeMismatchSuccessfully() {
+        inMemoryAsyncCacheManager.put(TEST_KEY, TEST_VALUE).join();
+
+        Assertions.assertEquals(Optional.empty(), inMemoryAsyncCacheManager.get(TEST_KEY, Integer.class).join());
+    }
+
+    @Test
+    void shouldGetBytesSuccessfully() {
+        byte[] bytes = TEST_VALUE.getBytes();
+        inMemoryAsyncCacheManager.putBytes(TEST_KEY, bytes).join();
+
+        Assertions.assertSame(bytes, inMemoryAsyncCacheManager.getBytes(TEST_KEY).join().orElseThrow());
+        Assertions.assertEquals(Optional.empty(), inMemoryAsyncCacheManager.get(TEST_KEY, String.class).join());
+    }
+
+    @Test
+    void shouldPutAndGetAllSuccessfully() {
+        inMemoryAsyncCacheManager.putAll(Map.of("first", TEST_VALUE, "second", 1), TEST_TTL).join();
+
+        Assertions.assertEquals(Map.of("first", TEST_VALUE), inMemoryAsyncCacheManager.getAll(List.of("first", "second", "third"), String.class).join());
+    }
+
+    @Test
+    void shouldGetOrComputeSuccessfully() {
+        Assertions.assertEquals(TEST_VALUE, inMemoryAsyncCacheManager.getOrCompute(TEST_KEY, String.class, TEST_TTL, () -> CompletableFuture.completedFuture(TEST_VALUE)).join());
+        Assertions.assertEquals(TEST_VALUE, inMemoryAsyncCacheManager.getOrCompute(TEST_KEY, String.class, TEST_TTL, () -> CompletableFuture.failedFuture(new IllegalStateException())).join());
+    }
+
+    @Test
+    void shouldEvictByWeightSuccessfully() {
+        InMemoryAsyncCacheManager weighedCacheManager = new InMemoryAsyncCacheManager(TEST_MAXIMUM_SIZE * 2, 10, TEST_TTL, new EstimatingCacheValueWeigher());
+        weighedCacheManager.putBytes("first", new byte[4]).join();
+        weighedCacheManager.putBytes("second", new byte[4]).join();
+        weighedCacheManager.putBytes("third", new byte[4]).join();
+
+        Assertions.assertEquals(Optional.empty(), weighedCacheManager.getBytes("first").join());
+        Assertions.assertTrue(weighedCacheManager.getBytes("third").join().isPresent());
+        Assertions.assertEquals(8, weighedCacheManager.getWeight());
+    }
+
+    @Test
+    void shouldSkipOversizedValueSuccessfully() {
+        InMemoryAsyncCacheManager weighedCacheManager = new InMemoryAsyncCacheManager(TEST_MAXIMUM_SIZE, 10, TEST_TTL, new EstimatingCacheValueWeigher());
+        weighedCacheManager.put(TEST_KEY, TEST_VALUE).join();
+        weighedCacheManager.put(TEST_KEY, "a value heavier than the budget").join();
+
+        Assertions.assertEquals(Optional.empty(), weighedCacheManager.get(TEST_KEY, String.class).join());
+        Assertions.assertEquals(0, weighedCacheManager.getWeight());
+    }
+
+    @Test
+    void shouldWeighByKnownEncodedSizeSuccessfully() {
+        InMemoryAsyncCacheManager weighedCacheManager = new InMemoryAsyncCacheManager(TEST_MAXIMUM_SIZE, 10, TEST_TTL, value -> {
+            throw new AssertionError("Value with a known encoded size weighed");
+        });
+        weighedCacheManager.put(TEST_KEY, TEST_VALUE, TEST_TTL, 6).join();
+
+        Assertions.assertEquals(Optional.of(TEST_VALUE), weighedCacheManager.get(TEST_KEY, String.class).join());
+        Assertions.assertEquals(6, weighedCacheManager.getWeight());
+    }
+
+    @Test
+    void shouldExpireSuccessfully() {
+        inMemoryAsyncCacheManager.put(TEST_KEY, TEST_VALUE, Duration.ofMillis(50)).join();
+
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(1))
+                .until(() -> inMemoryAsyncCacheManager.get(TEST_KEY, String.class).join().isEmpty());
+    }
+
+    @Test
+    void shouldNotExpireWithNonPositiveTtlSuccessfully() {
+        inMemoryAsyncCacheManager.put(TEST_KEY, TEST_VALUE, Duration.ZERO).join();
+
+        Assertions.assertEquals(Optional.of(TEST_VALUE), inMemoryAsyncCacheManager.get(TEST_KEY, String.class).join());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedSuccessfully() {
+        inMemoryAsyncCacheManager.put("first", TEST_VALUE).join();
+        inMemoryAsyncCacheManager.put("second", TEST_VALUE).join();
+        inMemoryAsyncCacheManager.get("first", String.class).join();
+        inMemoryAsyncCacheManager.put("third", TEST_VALUE).join();
+
+        Assertions.assertTrue(inMemoryAsyncCacheManager.get("first", String.class).join().isPresent());
+        Assertions.assertTrue(inMemoryAsyncCacheManager.get("second", String.class).join().isEmpty());
+        Assertions.assertTrue(inMemoryAsyncCacheManager.get("third", String.class).join().isPresent());
+    }
+
+    @Test
+    void shouldInvalidateSuccessfully() {
+        inMemoryAsyncCacheManager.put(TEST_KEY, TEST_VALUE).join();
+        inMemoryAsyncCacheManager.put("other", TEST_VALUE).join();
+
+        inMemoryAsyncCacheManager.invalidate(TEST_KEY);
+        Assertions.assertEquals(Optional.empty(), inMemoryAsyncCacheManager.get(TEST_KEY, String.class).join());
+        Assertions.assertEquals(Optional.of(TEST_VALUE), inMemoryAsyncCacheManager.get("other", String.class).join());
+    }
+
+    @Test
+    void shouldInvalidateAllSuccessfully() {
+        inMemoryAsyncCacheManager.put(TEST_KEY, TEST_VALUE).join();
+        inMemoryAsyncCacheManager.put("other", TEST_VALUE).join();
+
+        inMemoryAsyncCacheManager.invalidateAll();
+        Assertions.assertEquals(Optional.empty(), inMemoryAsyncCacheManager.get(TEST_KEY, String.class).join());
+        Assertions.assertEquals(Optional.empty(), inMemoryAsyncCacheManager.get("other", String.class).join());
+    }
+
+    @Test
+    void shouldCloseSuccessfully() throws Exception {
+        inMemoryAsyncCacheManager.put(TEST_KEY, TEST_VALUE).join();
+
+        inMemoryAsyncCacheManager.close();
+        Assertions.assertEquals(Optional.empty(), inMemoryAsyncCacheManager.get(TEST_KEY, String.class).join());
+    }
+}
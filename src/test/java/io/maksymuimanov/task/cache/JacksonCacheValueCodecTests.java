@@ -0,0 +1,58 @@
+package io.maksymuimanov.task.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.maksymuimanov.task.dto.DashboardResponse;
+import io.maksymuimanov.task.exception.CacheValueCodingException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class JacksonCacheValueCodecTests {
+    static final String TEST_WEATHER_JSON = "{\"current_weather\":{\"temperature\":11.4,\"windspeed\":9.7}}";
+    static final String TEST_FACT_JSON = "{\"text\":\"fact\"}";
+    static final String TEST_IP_JSON = "{\"ip\":\"203.0.113.42\"}";
+    ObjectMapper objectMapper;
+    DashboardResponse dashboardResponse;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        dashboardResponse = new DashboardResponse(objectMapper.readTree(TEST_WEATHER_JSON), objectMapper.readTree(TEST_FACT_JSON), objectMapper.readTree(TEST_IP_JSON));
+    }
+
+    @ParameterizedTest
+    @EnumSource(CacheValueFormat.class)
+    void shouldEncodeAndDecodeSuccessfully(CacheValueFormat format) {
+        CacheValueCodec codec = format.createCodec(objectMapper);
+
+        byte[] encoded = codec.encode(dashboardResponse);
+        Assertions.assertEquals(dashboardResponse, codec.decode(encoded, DashboardResponse.class));
+    }
+
+    @Test
+    void shouldEncodeJsonCompatibleWithLegacyEntries() throws Exception {
+        CacheValueCodec codec = CacheValueFormat.JSON.createCodec(objectMapper);
+
+        byte[] legacyEntry = objectMapper.writeValueAsString(dashboardResponse).getBytes();
+        Assertions.assertEquals(dashboardResponse, codec.decode(legacyEntry, DashboardResponse.class));
+    }
+
+    @Test
+    void shouldEncodeSmallerThanJson() {
+        byte[] json = CacheValueFormat.JSON.createCodec(objectMapper).encode(dashboardResponse);
+        byte[] cbor = CacheValueFormat.CBOR.createCodec(objectMapper).encode(dashboardResponse);
+        byte[] smile = CacheValueFormat.SMILE.createCodec(objectMapper).encode(dashboardResponse);
+
+        Assertions.assertTrue(cbor.length < json.length);
+        Assertions.assertTrue(smile.length < json.length);
+    }
+
+    @Test
+    void shouldFailToDecode() {
+        CacheValueCodec codec = CacheValueFormat.SMILE.createCodec(objectMapper);
+
+        Assertions.assertThrows(CacheValueCodingException.class, () -> codec.decode(TEST_FACT_JSON.getBytes(), DashboardResponse.class));
+    }
+}
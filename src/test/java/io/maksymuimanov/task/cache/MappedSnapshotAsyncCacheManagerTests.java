@@ -0,0 +1,178 @@
+package io.maksymuimanov.task.cache;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+class MappedSnapshotAsyncCacheManagerTests {
+    static final String TEST_KEY = "test";
+    static final String TEST_VALUE = "value";
+    static final byte[] TEST_BYTES = TEST_VALUE.getBytes(StandardCharsets.UTF_8);
+    static final byte[] TEST_PAYLOAD = "payload".getBytes(StandardCharsets.UTF_8);
+    static final Duration TEST_TTL = Duration.ofMinutes(1);
+    static final Duration TEST_INTERVAL = Duration.ofHours(1);
+    static final Duration TEST_MAX_STALE = Duration.ofHours(1);
+    @TempDir
+    Path tempDir;
+    Path snapshotPath;
+    MappedSnapshotAsyncCacheManager snapshotAsyncCacheManager;
+    AsyncCacheManager delegateCacheManager;
+    CacheValueCodec valueCodec;
+
+    @BeforeEach
+    void setUp() {
+        snapshotPath = tempDir.resolve("cache.snapshot");
+        delegateCacheManager = Mockito.mock(AsyncCacheManager.class);
+        valueCodec = Mockito.mock(CacheValueCodec.class);
+        Mockito.when(valueCodec.encode(TEST_VALUE)).thenReturn(TEST_BYTES);
+        Mockito.when(valueCodec.decode(TEST_BYTES, String.class)).thenReturn(TEST_VALUE);
+        Mockito.when(delegateCacheManager.put(ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.any(Duration.class))).thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(delegateCacheManager.putBytes(ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.any(Duration.class))).thenReturn(CompletableFuture.completedFuture(null));
+        snapshotAsyncCacheManager = this.createCacheManager();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        snapshotAsyncCacheManager.close();
+    }
+
+    @Test
+    void shouldServeDelegateValueSuccessfully() {
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.of(TEST_VALUE)));
+
+        CompletableFuture<Optional<String>> result = snapshotAsyncCacheManager.get(TEST_KEY, String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(Optional.of(TEST_VALUE), result.join());
+        Assertions.assertEquals(0, snapshotAsyncCacheManager.getFallbackHitCount());
+    }
+
+    @Test
+    void shouldServeSnapshotOnDelegateFailureSuccessfully() {
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Redis down")));
+        snapshotAsyncCacheManager.put(TEST_KEY, TEST_VALUE, TEST_TTL).join();
+
+        CompletableFuture<Optional<String>> result = snapshotAsyncCacheManager.get(TEST_KEY, String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(delegateCacheManager).put(TEST_KEY, TEST_VALUE, TEST_TTL);
+        Assertions.assertEquals(Optional.of(TEST_VALUE), result.join());
+        Assertions.assertEquals(1, snapshotAsyncCacheManager.getFallbackHitCount());
+    }
+
+    @Test
+    void shouldServeStaleSnapshotOnlyOnDelegateFailureSuccessfully() {
+        Mockito.when(delegateCacheManager.getBytes(TEST_KEY)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        snapshotAsyncCacheManager.putBytes(TEST_KEY, TEST_BYTES, Duration.ofMillis(1)).join();
+        Awaitility.await().pollDelay(Duration.ofMillis(5)).until(() -> true);
+
+        Assertions.assertEquals(Optional.empty(), snapshotAsyncCacheManager.getBytes(TEST_KEY).join());
+        Mockito.when(delegateCacheManager.getBytes(TEST_KEY)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Redis down")));
+        Assertions.assertArrayEquals(TEST_BYTES, snapshotAsyncCacheManager.getBytes(TEST_KEY).join().orElseThrow());
+    }
+
+    @Test
+    void shouldEncodeValuesOnlyWhenWritingSnapshotSuccessfully() throws Exception {
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Redis down")));
+        snapshotAsyncCacheManager.put(TEST_KEY, TEST_VALUE, TEST_TTL).join();
+
+        Assertions.assertEquals(Optional.of(TEST_VALUE), snapshotAsyncCacheManager.get(TEST_KEY, String.class).join());
+        Mockito.verify(valueCodec, Mockito.never()).encode(ArgumentMatchers.any());
+        Mockito.verify(valueCodec, Mockito.never()).decode(ArgumentMatchers.any(), ArgumentMatchers.any());
+        snapshotAsyncCacheManager.writeSnapshot();
+        snapshotAsyncCacheManager.putBytes("bytes", TEST_PAYLOAD, TEST_TTL).join();
+        snapshotAsyncCacheManager.writeSnapshot();
+        Mockito.verify(valueCodec).encode(TEST_VALUE);
+    }
+
+    @Test
+    void shouldReloadSnapshotAfterRestartSuccessfully() throws Exception {
+        snapshotAsyncCacheManager.put(TEST_KEY, TEST_VALUE, TEST_TTL).join();
+        snapshotAsyncCacheManager.putBytes("bytes", TEST_PAYLOAD, TEST_TTL).join();
+        snapshotAsyncCacheManager.close();
+        Assertions.assertTrue(Files.isRegularFile(snapshotPath));
+        Assertions.assertFalse(Files.exists(snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp")));
+
+        snapshotAsyncCacheManager = this.createCacheManager();
+        Mockito.when(delegateCacheManager.getAll(List.of(TEST_KEY, "bytes"), String.class)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Redis down")));
+        Mockito.when(delegateCacheManager.getBytes("bytes")).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        Assertions.assertEquals(Map.of(TEST_KEY, TEST_VALUE), snapshotAsyncCacheManager.getAll(List.of(TEST_KEY, "bytes"), String.class).join());
+        Assertions.assertArrayEquals(TEST_PAYLOAD, snapshotAsyncCacheManager.getBytes("bytes").join().orElseThrow());
+    }
+
+    @Test
+    void shouldRecordComputedValueAndFallBackWhenLoaderFailsSuccessfully() {
+        Mockito.when(delegateCacheManager.getOrCompute(ArgumentMatchers.eq(TEST_KEY), ArgumentMatchers.eq(String.class), ArgumentMatchers.eq(TEST_TTL), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> invocation.<Supplier<CompletableFuture<String>>>getArgument(3).get());
+
+        Assertions.assertEquals(TEST_VALUE, snapshotAsyncCacheManager.getOrCompute(TEST_KEY, String.class, TEST_TTL, () -> CompletableFuture.completedFuture(TEST_VALUE)).join());
+        CompletableFuture<String> result = snapshotAsyncCacheManager.getOrCompute(TEST_KEY, String.class, TEST_TTL, () -> CompletableFuture.failedFuture(new RuntimeException("Upstream down")));
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(TEST_VALUE, result.join());
+    }
+
+    @Test
+    void shouldFailToGetOrComputeWithoutSnapshot() {
+        Mockito.when(delegateCacheManager.getOrCompute(ArgumentMatchers.eq(TEST_KEY), ArgumentMatchers.eq(String.class), ArgumentMatchers.eq(TEST_TTL), ArgumentMatchers.any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Upstream down")));
+
+        Assertions.assertThrows(CompletionException.class, () -> snapshotAsyncCacheManager.getOrCompute(TEST_KEY, String.class, TEST_TTL, () -> CompletableFuture.completedFuture(TEST_VALUE)).join());
+    }
+
+    @Test
+    void shouldIgnoreCorruptedSnapshotSuccessfully() throws Exception {
+        snapshotAsyncCacheManager.close();
+        Files.write(snapshotPath, new byte[]{1, 2, 3});
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Redis down")));
+
+        snapshotAsyncCacheManager = this.createCacheManager();
+        Assertions.assertEquals(Optional.empty(), snapshotAsyncCacheManager.get(TEST_KEY, String.class).join());
+    }
+
+    @Test
+    void shouldEvictSoonestExpiringValuesOverCapacitySuccessfully() throws Exception {
+        snapshotAsyncCacheManager.close();
+        snapshotAsyncCacheManager = new MappedSnapshotAsyncCacheManager(delegateCacheManager, valueCodec, snapshotPath, TEST_INTERVAL, TEST_TTL, TEST_MAX_STALE, 2);
+        Mockito.when(delegateCacheManager.getBytes(ArgumentMatchers.anyString())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Redis down")));
+
+        snapshotAsyncCacheManager.putBytes("short", TEST_PAYLOAD, Duration.ofSeconds(10)).join();
+        snapshotAsyncCacheManager.putBytes("long", TEST_PAYLOAD, Duration.ofMinutes(10)).join();
+        snapshotAsyncCacheManager.putBytes("medium", TEST_PAYLOAD, Duration.ofMinutes(1)).join();
+
+        Assertions.assertEquals(2, snapshotAsyncCacheManager.getEntryCount());
+        Assertions.assertEquals(Optional.empty(), snapshotAsyncCacheManager.getBytes("short").join());
+        Assertions.assertArrayEquals(TEST_PAYLOAD, snapshotAsyncCacheManager.getBytes("long").join().orElseThrow());
+        Assertions.assertArrayEquals(TEST_PAYLOAD, snapshotAsyncCacheManager.getBytes("medium").join().orElseThrow());
+    }
+
+    @Test
+    void shouldPruneUnusableValuesOnSnapshotWriteSuccessfully() throws Exception {
+        snapshotAsyncCacheManager.close();
+        snapshotAsyncCacheManager = new MappedSnapshotAsyncCacheManager(delegateCacheManager, valueCodec, snapshotPath, TEST_INTERVAL, TEST_TTL, Duration.ZERO);
+        snapshotAsyncCacheManager.putBytes(TEST_KEY, TEST_PAYLOAD, Duration.ofMillis(1)).join();
+        snapshotAsyncCacheManager.putBytes("fresh", TEST_PAYLOAD, TEST_TTL).join();
+        Awaitility.await().pollDelay(Duration.ofMillis(5)).until(() -> true);
+
+        snapshotAsyncCacheManager.writeSnapshot();
+        Assertions.assertEquals(1, snapshotAsyncCacheManager.getEntryCount());
+    }
+
+    MappedSnapshotAsyncCacheManager createCacheManager() {
+        return new MappedSnapshotAsyncCacheManager(delegateCacheManager, valueCodec, snapshotPath, TEST_INTERVAL, TEST_TTL, TEST_MAX_STALE);
+    }
+}
@@ -0,0 +1,134 @@
+package io.maksymuimanov.task.cache;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+class OffHeapAsyncCacheManagerTests {
+    static final String TEST_KEY = "test";
+    static final String TEST_OTHER_KEY = "other";
+    static final String TEST_VALUE = "value";
+    static final byte[] TEST_BYTES = TEST_VALUE.getBytes(StandardCharsets.UTF_8);
+    static final byte[] TEST_LARGE_BYTES = "a value spanning several blocks".getBytes(StandardCharsets.UTF_8);
+    static final Duration TEST_TTL = Duration.ofMinutes(1);
+    static final int TEST_BLOCK_SIZE = 8;
+    static final int TEST_SLAB_SIZE = 32;
+    static final long TEST_CAPACITY = 64;
+    OffHeapAsyncCacheManager offHeapAsyncCacheManager;
+    CacheValueCodec valueCodec;
+
+    @BeforeEach
+    void setUp() {
+        valueCodec = Mockito.mock(CacheValueCodec.class);
+        Mockito.when(valueCodec.encode(TEST_VALUE)).thenReturn(TEST_BYTES);
+        Mockito.when(valueCodec.decode(TEST_BYTES, String.class)).thenReturn(TEST_VALUE);
+        offHeapAsyncCacheManager = new OffHeapAsyncCacheManager(valueCodec, TEST_CAPACITY, TEST_SLAB_SIZE, TEST_BLOCK_SIZE, TEST_TTL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        offHeapAsyncCacheManager.close();
+    }
+
+    @Test
+    void shouldPutAndGetSuccessfully() {
+        offHeapAsyncCacheManager.put(TEST_KEY, TEST_VALUE).join();
+
+        CompletableFuture<Optional<String>> result = offHeapAsyncCacheManager.get(TEST_KEY, String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(Optional.of(TEST_VALUE), result.join());
+        Assertions.assertEquals(1, offHeapAsyncCacheManager.getStatistics().getHitCount());
+    }
+
+    @Test
+    void shouldStoreValueAcrossBlocksSuccessfully() {
+        offHeapAsyncCacheManager.putBytes(TEST_KEY, TEST_LARGE_BYTES).join();
+
+        CompletableFuture<Optional<byte[]>> result = offHeapAsyncCacheManager.getBytes(TEST_KEY);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertArrayEquals(TEST_LARGE_BYTES, result.join().orElseThrow());
+        Assertions.assertEquals(32, offHeapAsyncCacheManager.getUsedBytes());
+        Assertions.assertEquals(TEST_SLAB_SIZE, offHeapAsyncCacheManager.getAllocatedBytes());
+    }
+
+    @Test
+    void shouldReuseBlocksWhenValueIsReplacedSuccessfully() {
+        offHeapAsyncCacheManager.putBytes(TEST_KEY, TEST_LARGE_BYTES).join();
+        offHeapAsyncCacheManager.putBytes(TEST_KEY, TEST_BYTES).join();
+
+        Assertions.assertArrayEquals(TEST_BYTES, offHeapAsyncCacheManager.getBytes(TEST_KEY).join().orElseThrow());
+        Assertions.assertEquals(TEST_BLOCK_SIZE, offHeapAsyncCacheManager.getUsedBytes());
+        Assertions.assertEquals(1, offHeapAsyncCacheManager.size());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntrySuccessfully() {
+        offHeapAsyncCacheManager.putBytes(TEST_KEY, TEST_LARGE_BYTES).join();
+        offHeapAsyncCacheManager.putBytes(TEST_OTHER_KEY, TEST_LARGE_BYTES).join();
+        offHeapAsyncCacheManager.getBytes(TEST_KEY).join();
+        offHeapAsyncCacheManager.putBytes("third", TEST_BYTES).join();
+
+        Assertions.assertTrue(offHeapAsyncCacheManager.getBytes(TEST_KEY).join().isPresent());
+        Assertions.assertEquals(Optional.empty(), offHeapAsyncCacheManager.getBytes(TEST_OTHER_KEY).join());
+        Assertions.assertEquals(1, offHeapAsyncCacheManager.getEvictionCount());
+        Assertions.assertEquals(2 * TEST_SLAB_SIZE, offHeapAsyncCacheManager.getAllocatedBytes());
+    }
+
+    @Test
+    void shouldExpireEntrySuccessfully() {
+        offHeapAsyncCacheManager.putBytes(TEST_KEY, TEST_BYTES, Duration.ofMillis(1)).join();
+        Awaitility.await().pollDelay(Duration.ofMillis(5)).until(() -> true);
+
+        Assertions.assertEquals(Optional.empty(), offHeapAsyncCacheManager.getBytes(TEST_KEY).join());
+        Assertions.assertEquals(0, offHeapAsyncCacheManager.getUsedBytes());
+    }
+
+    @Test
+    void shouldSkipValueLargerThanCapacitySuccessfully() {
+        offHeapAsyncCacheManager.putBytes(TEST_KEY, new byte[(int) TEST_CAPACITY + 1]).join();
+
+        Assertions.assertEquals(Optional.empty(), offHeapAsyncCacheManager.getBytes(TEST_KEY).join());
+        Assertions.assertEquals(0, offHeapAsyncCacheManager.getEvictionCount());
+    }
+
+    @Test
+    void shouldPutAllAndGetAllSuccessfully() {
+        offHeapAsyncCacheManager.putAll(Map.of(TEST_KEY, TEST_VALUE), TEST_TTL).join();
+
+        CompletableFuture<Map<String, String>> result = offHeapAsyncCacheManager.getAll(List.of(TEST_KEY, TEST_OTHER_KEY), String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(Map.of(TEST_KEY, TEST_VALUE), result.join());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenValueCannotBeDecodedSuccessfully() {
+        Mockito.when(valueCodec.decode(TEST_BYTES, Integer.class)).thenThrow(new IllegalStateException("Invalid value"));
+        offHeapAsyncCacheManager.put(TEST_KEY, TEST_VALUE).join();
+
+        Assertions.assertEquals(Optional.empty(), offHeapAsyncCacheManager.get(TEST_KEY, Integer.class).join());
+    }
+
+    @Test
+    void shouldFailToPutWhenValueCannotBeEncoded() {
+        Mockito.when(valueCodec.encode(TEST_OTHER_KEY)).thenThrow(new IllegalStateException("Invalid value"));
+
+        CompletableFuture<Void> result = offHeapAsyncCacheManager.put(TEST_KEY, TEST_OTHER_KEY);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertTrue(result.isCompletedExceptionally());
+    }
+
+    @Test
+    void shouldFailToCreateWithInvalidSizes() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new OffHeapAsyncCacheManager(valueCodec, TEST_CAPACITY, TEST_SLAB_SIZE, 7, TEST_TTL));
+    }
+}
@@ -0,0 +1,105 @@
+package io.maksymuimanov.task.cache;
+
+import io.maksymuimanov.task.exception.CacheManagingException;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@SuppressWarnings("unchecked")
+class ReconnectingAsyncCacheManagerTests {
+    static final String TEST_KEY = "test";
+    static final String TEST_VALUE = "value";
+    static final String TEST_COMPUTED_VALUE = "computed";
+    static final Duration TEST_TTL = Duration.ofMinutes(1);
+    static final Duration TEST_RETRY_INTERVAL = Duration.ofMillis(20);
+    ReconnectingAsyncCacheManager<AsyncCacheManager> reconnectingAsyncCacheManager;
+    AsyncCacheManager delegateCacheManager;
+    AtomicInteger connectionAttempts;
+    AtomicReference<AsyncCacheManager> reachableCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        delegateCacheManager = Mockito.mock(AsyncCacheManager.class);
+        connectionAttempts = new AtomicInteger();
+        reachableCacheManager = new AtomicReference<>();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        reconnectingAsyncCacheManager.close();
+    }
+
+    @Test
+    void shouldDelegateWhenConnectedSuccessfully() {
+        reachableCacheManager.set(delegateCacheManager);
+        reconnectingAsyncCacheManager = this.createCacheManager();
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.of(TEST_VALUE)));
+
+        Assertions.assertTrue(reconnectingAsyncCacheManager.isConnected());
+        Assertions.assertEquals(Optional.of(TEST_VALUE), reconnectingAsyncCacheManager.get(TEST_KEY, String.class).join());
+        Assertions.assertEquals(1, connectionAttempts.get());
+    }
+
+    @Test
+    void shouldFailToGetWhileDisconnected() {
+        reconnectingAsyncCacheManager = this.createCacheManager();
+
+        CompletableFuture<Optional<String>> result = reconnectingAsyncCacheManager.get(TEST_KEY, String.class);
+        Assertions.assertFalse(reconnectingAsyncCacheManager.isConnected());
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertInstanceOf(CacheManagingException.class, exception.getCause());
+        Mockito.verifyNoInteractions(delegateCacheManager);
+    }
+
+    @Test
+    void shouldComputeWithoutCacheWhileDisconnectedSuccessfully() {
+        reconnectingAsyncCacheManager = this.createCacheManager();
+        Supplier<CompletableFuture<String>> loader = () -> CompletableFuture.completedFuture(TEST_COMPUTED_VALUE);
+
+        Assertions.assertEquals(TEST_COMPUTED_VALUE, reconnectingAsyncCacheManager.getOrCompute(TEST_KEY, String.class, TEST_TTL, loader).join());
+        Mockito.verifyNoInteractions(delegateCacheManager);
+    }
+
+    @Test
+    void shouldReconnectInBackgroundSuccessfully() {
+        reconnectingAsyncCacheManager = this.createCacheManager();
+        AtomicReference<AsyncCacheManager> connected = new AtomicReference<>();
+        reconnectingAsyncCacheManager.addConnectionListener(connected::set);
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.of(TEST_VALUE)));
+
+        Awaitility.await().until(() -> connectionAttempts.get() > 1);
+        reachableCacheManager.set(delegateCacheManager);
+        Awaitility.await().until(reconnectingAsyncCacheManager::isConnected);
+        Assertions.assertSame(delegateCacheManager, connected.get());
+        Assertions.assertEquals(Optional.of(TEST_VALUE), reconnectingAsyncCacheManager.get(TEST_KEY, String.class).join());
+    }
+
+    @Test
+    void shouldCloseConnectedCacheSuccessfully() throws Exception {
+        reachableCacheManager.set(delegateCacheManager);
+        reconnectingAsyncCacheManager = this.createCacheManager();
+
+        reconnectingAsyncCacheManager.close();
+        Mockito.verify(delegateCacheManager, Mockito.atLeastOnce()).close();
+    }
+
+    ReconnectingAsyncCacheManager<AsyncCacheManager> createCacheManager() {
+        return new ReconnectingAsyncCacheManager<>(() -> {
+            connectionAttempts.incrementAndGet();
+            AsyncCacheManager cacheManager = reachableCacheManager.get();
+            if (cacheManager == null) throw new IllegalStateException("Redis down");
+            return cacheManager;
+        }, TEST_RETRY_INTERVAL);
+    }
+}
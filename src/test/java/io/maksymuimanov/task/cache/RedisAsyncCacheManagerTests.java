@@ -1,91 +1,103 @@
 package io.maksymuimanov.task.cache;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.KeyValue;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.TrackingArgs;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
 import io.maksymuimanov.task.exception.CacheManagingException;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 @SuppressWarnings("unchecked")
 class RedisAsyncCacheManagerTests {
     static final String TEST_STRING = "test";
-    AsyncCacheManager redisAsyncCacheManager;
+    static final byte[] TEST_BYTES = TEST_STRING.getBytes();
+    RedisAsyncCacheManager redisAsyncCacheManager;
     RedisClient redisClient;
-    StatefulRedisConnection<String, String> connection;
-    RedisAsyncCommands<String, String> commands;
-    ObjectMapper objectMapper;
+    StatefulRedisConnection<String, byte[]> connection;
+    RedisAsyncCommands<String, byte[]> commands;
+    CacheValueCodec valueCodec;
     Duration ttl;
     RedisFuture<String> stringRedisFuture;
+    RedisFuture<byte[]> bytesRedisFuture;
 
     @BeforeEach
     void setUp() {
         redisClient = Mockito.mock(RedisClient.class);
         connection = Mockito.mock(StatefulRedisConnection.class);
         commands = Mockito.mock(RedisAsyncCommands.class);
-        objectMapper = Mockito.mock(ObjectMapper.class);
+        valueCodec = Mockito.mock(CacheValueCodec.class);
         ttl = Mockito.mock(Duration.class);
         stringRedisFuture = Mockito.mock(RedisFuture.class);
-        Mockito.when(redisClient.connect()).thenReturn(connection);
+        bytesRedisFuture = Mockito.mock(RedisFuture.class);
+        Mockito.when(redisClient.connect(RedisAsyncCacheManager.STRING_BYTE_ARRAY_CODEC)).thenReturn(connection);
         Mockito.when(connection.async()).thenReturn(commands);
-        redisAsyncCacheManager = new RedisAsyncCacheManager(redisClient, objectMapper, ttl);
+        redisAsyncCacheManager = new RedisAsyncCacheManager(redisClient, valueCodec, ttl);
     }
 
     @Test
-    void shouldGetNonNullSuccessfully() throws JsonProcessingException {
-        CompletableFuture<String> stringCompletableFuture = CompletableFuture.completedFuture(TEST_STRING);
+    void shouldGetNonNullSuccessfully() {
+        CompletableFuture<byte[]> bytesCompletableFuture = CompletableFuture.completedFuture(TEST_BYTES);
 
-        Mockito.when(commands.get(TEST_STRING)).thenReturn(stringRedisFuture);
-        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(stringCompletableFuture);
-        Mockito.when(objectMapper.readValue(TEST_STRING, String.class)).thenReturn(TEST_STRING);
+        Mockito.when(commands.get(TEST_STRING)).thenReturn(bytesRedisFuture);
+        Mockito.when(bytesRedisFuture.toCompletableFuture()).thenReturn(bytesCompletableFuture);
+        Mockito.when(valueCodec.decode(TEST_BYTES, String.class)).thenReturn(TEST_STRING);
 
         CompletableFuture<Optional<String>> result = redisAsyncCacheManager.get(TEST_STRING, String.class);
         Awaitility.await().untilAsserted(result::isDone);
         Mockito.verify(commands).get(TEST_STRING);
-        Mockito.verify(stringRedisFuture).toCompletableFuture();
-        Mockito.verify(objectMapper).readValue(TEST_STRING, String.class);
+        Mockito.verify(bytesRedisFuture).toCompletableFuture();
+        Mockito.verify(valueCodec).decode(TEST_BYTES, String.class);
         Assertions.assertEquals(Optional.of(TEST_STRING), result.join());
     }
 
     @Test
-    void shouldGetNullSuccessfully() throws JsonProcessingException {
-        CompletableFuture<String> stringCompletableFuture = CompletableFuture.completedFuture(null);
+    void shouldGetNullSuccessfully() {
+        CompletableFuture<byte[]> bytesCompletableFuture = CompletableFuture.completedFuture(null);
 
-        Mockito.when(commands.get(TEST_STRING)).thenReturn(stringRedisFuture);
-        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(stringCompletableFuture);
+        Mockito.when(commands.get(TEST_STRING)).thenReturn(bytesRedisFuture);
+        Mockito.when(bytesRedisFuture.toCompletableFuture()).thenReturn(bytesCompletableFuture);
 
         CompletableFuture<Optional<String>> result = redisAsyncCacheManager.get(TEST_STRING, String.class);
         Awaitility.await().untilAsserted(result::isDone);
         Mockito.verify(commands).get(TEST_STRING);
-        Mockito.verify(stringRedisFuture).toCompletableFuture();
-        Mockito.verify(objectMapper, Mockito.never()).readValue((String) null, String.class);
+        Mockito.verify(bytesRedisFuture).toCompletableFuture();
+        Mockito.verify(valueCodec, Mockito.never()).decode(Mockito.any(), Mockito.eq(String.class));
         Assertions.assertEquals(Optional.empty(), result.join());
     }
 
     @Test
-    void shouldGetNullOnExceptionSuccessfully() throws JsonProcessingException {
-        CompletableFuture<String> stringCompletableFuture = CompletableFuture.completedFuture(TEST_STRING);
+    void shouldGetNullOnExceptionSuccessfully() {
+        CompletableFuture<byte[]> bytesCompletableFuture = CompletableFuture.completedFuture(TEST_BYTES);
 
-        Mockito.when(commands.get(TEST_STRING)).thenReturn(stringRedisFuture);
-        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(stringCompletableFuture);
-        Mockito.when(objectMapper.readValue(TEST_STRING, String.class)).thenThrow(RuntimeException.class);
+        Mockito.when(commands.get(TEST_STRING)).thenReturn(bytesRedisFuture);
+        Mockito.when(bytesRedisFuture.toCompletableFuture()).thenReturn(bytesCompletableFuture);
+        Mockito.when(valueCodec.decode(TEST_BYTES, String.class)).thenThrow(RuntimeException.class);
 
         CompletableFuture<Optional<String>> result = redisAsyncCacheManager.get(TEST_STRING, String.class);
         Awaitility.await().untilAsserted(result::isDone);
         Mockito.verify(commands).get(TEST_STRING);
-        Mockito.verify(stringRedisFuture).toCompletableFuture();
-        Mockito.verify(objectMapper).readValue(TEST_STRING, String.class);
+        Mockito.verify(bytesRedisFuture).toCompletableFuture();
+        Mockito.verify(valueCodec).decode(TEST_BYTES, String.class);
         Assertions.assertEquals(Optional.empty(), result.join());
     }
 
@@ -97,53 +109,400 @@ class RedisAsyncCacheManagerTests {
     }
 
     @Test
-    void shouldPutWithTtlPositiveSuccessfully() throws JsonProcessingException {
+    void shouldPutWithTtlPositiveSuccessfully() {
         CompletableFuture<String> stringCompletableFuture = CompletableFuture.completedFuture(TEST_STRING);
 
-        Mockito.when(objectMapper.writeValueAsString(TEST_STRING)).thenReturn(TEST_STRING);
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenReturn(TEST_BYTES);
         Mockito.when(ttl.isPositive()).thenReturn(true);
-        Mockito.when(commands.setex(TEST_STRING, ttl.toSeconds(), TEST_STRING)).thenReturn(stringRedisFuture);
+        Mockito.when(ttl.toMillis()).thenReturn(Duration.ofMinutes(1).toMillis());
+        Mockito.when(commands.psetex(TEST_STRING, ttl.toMillis(), TEST_BYTES)).thenReturn(stringRedisFuture);
         Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(stringCompletableFuture);
         
         CompletableFuture<Void> result = redisAsyncCacheManager.put(TEST_STRING, TEST_STRING);
         Awaitility.await().untilAsserted(result::isDone);
-        Mockito.verify(objectMapper).writeValueAsString(TEST_STRING);
+        Mockito.verify(valueCodec).encode(TEST_STRING);
         Mockito.verify(ttl).isPositive();
-        Mockito.verify(commands).setex(TEST_STRING, ttl.toSeconds(), TEST_STRING);
-        Mockito.verify(commands, Mockito.never()).set(TEST_STRING, TEST_STRING);
+        Mockito.verify(commands).psetex(TEST_STRING, ttl.toMillis(), TEST_BYTES);
+        Mockito.verify(commands, Mockito.never()).set(TEST_STRING, TEST_BYTES);
     }
 
     @Test
-    void shouldPutWithTtlNonPositiveSuccessfully() throws JsonProcessingException {
+    void shouldPutWithTtlNonPositiveSuccessfully() {
         CompletableFuture<String> stringCompletableFuture = CompletableFuture.completedFuture(TEST_STRING);
 
-        Mockito.when(objectMapper.writeValueAsString(TEST_STRING)).thenReturn(TEST_STRING);
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenReturn(TEST_BYTES);
         Mockito.when(ttl.isPositive()).thenReturn(false);
-        Mockito.when(commands.set(TEST_STRING, TEST_STRING)).thenReturn(stringRedisFuture);
+        Mockito.when(commands.set(TEST_STRING, TEST_BYTES)).thenReturn(stringRedisFuture);
         Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(stringCompletableFuture);
 
         CompletableFuture<Void> result = redisAsyncCacheManager.put(TEST_STRING, TEST_STRING);
         Awaitility.await().untilAsserted(result::isDone);
-        Mockito.verify(objectMapper).writeValueAsString(TEST_STRING);
+        Mockito.verify(valueCodec).encode(TEST_STRING);
         Mockito.verify(ttl).isPositive();
-        Mockito.verify(commands).set(TEST_STRING, TEST_STRING);
-        Mockito.verify(commands, Mockito.never()).setex(TEST_STRING, ttl.toSeconds(), TEST_STRING);
+        Mockito.verify(commands).set(TEST_STRING, TEST_BYTES);
+        Mockito.verify(commands, Mockito.never()).psetex(TEST_STRING, ttl.toMillis(), TEST_BYTES);
+    }
+
+    @Test
+    void shouldPutWithExplicitTtlSuccessfully() {
+        CompletableFuture<String> stringCompletableFuture = CompletableFuture.completedFuture(TEST_STRING);
+        Duration explicitTtl = Duration.ofHours(1);
+
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenReturn(TEST_BYTES);
+        Mockito.when(commands.psetex(TEST_STRING, explicitTtl.toMillis(), TEST_BYTES)).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(stringCompletableFuture);
+
+        CompletableFuture<Void> result = redisAsyncCacheManager.put(TEST_STRING, TEST_STRING, explicitTtl);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(commands).psetex(TEST_STRING, explicitTtl.toMillis(), TEST_BYTES);
+        Mockito.verify(ttl, Mockito.never()).isPositive();
+    }
+
+    @Test
+    void shouldPutAndGetCompressedSuccessfully() {
+        CacheValueCompressor compressor = new CacheValueCompressor(0, 1);
+        RedisAsyncCacheManager compressingCacheManager = new RedisAsyncCacheManager(redisClient, valueCodec, compressor, ttl, false);
+        byte[] encodedValue = TEST_STRING.repeat(100).getBytes();
+        ArgumentCaptor<byte[]> storedValueCaptor = ArgumentCaptor.forClass(byte[].class);
+
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenReturn(encodedValue);
+        Mockito.when(ttl.isPositive()).thenReturn(false);
+        Mockito.when(commands.set(Mockito.eq(TEST_STRING), storedValueCaptor.capture())).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(TEST_STRING));
+
+        CompletableFuture<Void> putResult = compressingCacheManager.put(TEST_STRING, TEST_STRING);
+        Awaitility.await().untilAsserted(putResult::isDone);
+        byte[] storedValue = storedValueCaptor.getValue();
+        Assertions.assertTrue(CacheValueCompressor.isCompressed(storedValue));
+        Assertions.assertTrue(storedValue.length < encodedValue.length);
+        Assertions.assertEquals(encodedValue.length, compressingCacheManager.getTransferStatistics().getEncodedBytes());
+        Assertions.assertEquals(storedValue.length, compressingCacheManager.getTransferStatistics().getWrittenBytes());
+
+        Mockito.when(commands.get(TEST_STRING)).thenReturn(bytesRedisFuture);
+        Mockito.when(bytesRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(storedValue));
+        Mockito.when(valueCodec.decode(encodedValue, String.class)).thenReturn(TEST_STRING);
+
+        CompletableFuture<Optional<String>> getResult = compressingCacheManager.get(TEST_STRING, String.class);
+        Awaitility.await().untilAsserted(getResult::isDone);
+        Mockito.verify(valueCodec).decode(encodedValue, String.class);
+        Assertions.assertEquals(Optional.of(TEST_STRING), getResult.join());
+        Assertions.assertEquals(storedValue.length, compressingCacheManager.getTransferStatistics().getReadBytes());
+    }
+
+    @Test
+    void shouldGetBytesSuccessfully() {
+        Mockito.when(commands.get(TEST_STRING)).thenReturn(bytesRedisFuture);
+        Mockito.when(bytesRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(TEST_BYTES));
+
+        CompletableFuture<Optional<byte[]>> result = redisAsyncCacheManager.getBytes(TEST_STRING);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(commands).get(TEST_STRING);
+        Mockito.verifyNoInteractions(valueCodec);
+        Assertions.assertSame(TEST_BYTES, result.join().orElseThrow());
+    }
+
+    @Test
+    void shouldPutBytesSuccessfully() {
+        Duration explicitTtl = Duration.ofHours(1);
+
+        Mockito.when(commands.psetex(TEST_STRING, explicitTtl.toMillis(), TEST_BYTES)).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(TEST_STRING));
+
+        CompletableFuture<Void> result = redisAsyncCacheManager.putBytes(TEST_STRING, TEST_BYTES, explicitTtl);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(commands).psetex(TEST_STRING, explicitTtl.toMillis(), TEST_BYTES);
+        Mockito.verifyNoInteractions(valueCodec);
+    }
+
+    @Test
+    void shouldGetAllWithSingleMgetSuccessfully() {
+        RedisFuture<List<KeyValue<String, byte[]>>> keyValuesRedisFuture = Mockito.mock(RedisFuture.class);
+        List<KeyValue<String, byte[]>> keyValues = List.of(KeyValue.just("first", TEST_BYTES), KeyValue.empty("second"));
+
+        Mockito.when(commands.mget("first", "second")).thenReturn(keyValuesRedisFuture);
+        Mockito.when(keyValuesRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(keyValues));
+        Mockito.when(valueCodec.decode(TEST_BYTES, String.class)).thenReturn(TEST_STRING);
+
+        CompletableFuture<Map<String, String>> result = redisAsyncCacheManager.getAll(List.of("first", "second"), String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(commands).mget("first", "second");
+        Mockito.verify(commands, Mockito.never()).get(Mockito.anyString());
+        Assertions.assertEquals(Map.of("first", TEST_STRING), result.join());
+    }
+
+    @Test
+    void shouldPutWithSubSecondTtlSuccessfully() {
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenReturn(TEST_BYTES);
+        Mockito.when(commands.psetex(Mockito.eq(TEST_STRING), Mockito.anyLong(), Mockito.eq(TEST_BYTES))).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(TEST_STRING));
+
+        redisAsyncCacheManager.put(TEST_STRING, TEST_STRING, Duration.ofMillis(1500)).join();
+        redisAsyncCacheManager.put(TEST_STRING, TEST_STRING, Duration.ofNanos(1)).join();
+        Mockito.verify(commands).psetex(TEST_STRING, 1500, TEST_BYTES);
+        Mockito.verify(commands).psetex(TEST_STRING, 1, TEST_BYTES);
+    }
+
+    @Test
+    void shouldPutAllWithPipelinedPsetexSuccessfully() {
+        Duration explicitTtl = Duration.ofHours(1);
+
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenReturn(TEST_BYTES);
+        Mockito.when(commands.psetex(Mockito.anyString(), Mockito.eq(explicitTtl.toMillis()), Mockito.eq(TEST_BYTES))).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(TEST_STRING));
+
+        CompletableFuture<Void> result = redisAsyncCacheManager.putAll(Map.of("first", TEST_STRING, "second", TEST_STRING), explicitTtl);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(redisClient, Mockito.times(2)).connect(RedisAsyncCacheManager.STRING_BYTE_ARRAY_CODEC);
+        Mockito.verify(connection).setAutoFlushCommands(false);
+        Mockito.verify(commands).psetex("first", explicitTtl.toMillis(), TEST_BYTES);
+        Mockito.verify(commands).psetex("second", explicitTtl.toMillis(), TEST_BYTES);
+        Mockito.verify(connection).flushCommands();
+        Assertions.assertEquals(1, ((RedisAsyncCacheManager) redisAsyncCacheManager).getTransferStatistics().getWriteCount());
+    }
+
+    @Test
+    void shouldPutAllWithMsetSuccessfully() {
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenReturn(TEST_BYTES);
+        Mockito.when(commands.mset(Mockito.anyMap())).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(TEST_STRING));
+
+        CompletableFuture<Void> result = redisAsyncCacheManager.putAll(Map.of("first", TEST_STRING), Duration.ZERO);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(commands).mset(Map.of("first", TEST_BYTES));
+        Mockito.verify(connection, Mockito.never()).flushCommands();
+    }
+
+    @Test
+    void shouldGetOrComputeUnderLeaseSuccessfully() {
+        Duration explicitTtl = Duration.ofMinutes(1);
+        String leaseKey = RedisAsyncCacheManager.LEASE_KEY_PREFIX + TEST_STRING;
+        String staleKey = RedisAsyncCacheManager.STALE_KEY_PREFIX + TEST_STRING;
+        RedisFuture<Object> evalRedisFuture = Mockito.mock(RedisFuture.class);
+
+        Mockito.when(commands.get(TEST_STRING)).thenReturn(bytesRedisFuture);
+        Mockito.when(bytesRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(commands.set(Mockito.eq(leaseKey), Mockito.any(byte[].class), Mockito.any(SetArgs.class))).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture("OK"));
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenReturn(TEST_BYTES);
+        Mockito.when(commands.psetex(Mockito.anyString(), Mockito.anyLong(), Mockito.any(byte[].class))).thenReturn(stringRedisFuture);
+        Mockito.when(commands.eval(Mockito.eq(RedisAsyncCacheManager.RELEASE_LEASE_SCRIPT), Mockito.eq(ScriptOutputType.INTEGER), Mockito.any(String[].class), Mockito.<byte[]>any())).thenReturn(evalRedisFuture);
+        Mockito.when(evalRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(1L));
+
+        CompletableFuture<String> result = redisAsyncCacheManager.getOrCompute(TEST_STRING, String.class, explicitTtl, () -> CompletableFuture.completedFuture(TEST_STRING));
+        Awaitility.await().untilAsserted(result::isDone);
+        ArgumentCaptor<byte[]> storedValueCaptor = ArgumentCaptor.forClass(byte[].class);
+        Mockito.verify(commands).psetex(Mockito.eq(TEST_STRING), Mockito.eq(explicitTtl.toMillis()), storedValueCaptor.capture());
+        Mockito.verify(commands).psetex(staleKey, explicitTtl.plus(RedisAsyncCacheManager.DEFAULT_STALE_TTL).toMillis(), storedValueCaptor.getValue());
+        Assertions.assertTrue(CacheEntryHeader.isFramed(storedValueCaptor.getValue()));
+        Assertions.assertArrayEquals(TEST_BYTES, CacheEntryHeader.unframe(storedValueCaptor.getValue()));
+        Mockito.verify(commands).eval(Mockito.eq(RedisAsyncCacheManager.RELEASE_LEASE_SCRIPT), Mockito.eq(ScriptOutputType.INTEGER), Mockito.eq(new String[]{leaseKey}), Mockito.<byte[]>any());
+        Assertions.assertEquals(TEST_STRING, result.join());
+    }
+
+    @Test
+    void shouldReportFailedCommandsWhileComputingSuccessfully() {
+        String leaseKey = RedisAsyncCacheManager.LEASE_KEY_PREFIX + TEST_STRING;
+        RedisFuture<Object> evalRedisFuture = Mockito.mock(RedisFuture.class);
+        CacheFailureListener failureListener = Mockito.mock(CacheFailureListener.class);
+        RuntimeException failure = new RuntimeException("Command timed out");
+
+        Mockito.when(commands.get(TEST_STRING)).thenReturn(bytesRedisFuture);
+        Mockito.when(bytesRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.failedFuture(failure));
+        Mockito.when(commands.set(Mockito.eq(leaseKey), Mockito.any(byte[].class), Mockito.any(SetArgs.class))).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.failedFuture(failure));
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenReturn(TEST_BYTES);
+        Mockito.when(commands.psetex(Mockito.anyString(), Mockito.anyLong(), Mockito.any(byte[].class))).thenReturn(stringRedisFuture);
+        Mockito.when(commands.eval(Mockito.eq(RedisAsyncCacheManager.RELEASE_LEASE_SCRIPT), Mockito.eq(ScriptOutputType.INTEGER), Mockito.any(String[].class), Mockito.<byte[]>any())).thenReturn(evalRedisFuture);
+        Mockito.when(evalRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.failedFuture(failure));
+        redisAsyncCacheManager.addFailureListener(failureListener);
+
+        CompletableFuture<String> result = redisAsyncCacheManager.getOrCompute(TEST_STRING, String.class, Duration.ofMinutes(1), () -> CompletableFuture.completedFuture(TEST_STRING));
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(TEST_STRING, result.join());
+        Awaitility.await().untilAsserted(() -> Mockito.verify(failureListener, Mockito.times(4)).onCacheFailure(Mockito.eq(TEST_STRING), Mockito.any()));
+    }
+
+    @Test
+    void shouldServeStaleValueWhileLeaseIsHeldSuccessfully() {
+        String leaseKey = RedisAsyncCacheManager.LEASE_KEY_PREFIX + TEST_STRING;
+        String staleKey = RedisAsyncCacheManager.STALE_KEY_PREFIX + TEST_STRING;
+        RedisFuture<byte[]> staleRedisFuture = Mockito.mock(RedisFuture.class);
+
+        Mockito.when(commands.get(TEST_STRING)).thenReturn(bytesRedisFuture);
+        Mockito.when(bytesRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(commands.set(Mockito.eq(leaseKey), Mockito.any(byte[].class), Mockito.any(SetArgs.class))).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(commands.get(staleKey)).thenReturn(staleRedisFuture);
+        Mockito.when(staleRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(TEST_BYTES));
+        Mockito.when(valueCodec.decode(TEST_BYTES, String.class)).thenReturn(TEST_STRING);
+        Supplier<CompletableFuture<String>> loader = Mockito.mock(Supplier.class);
+
+        CompletableFuture<String> result = redisAsyncCacheManager.getOrCompute(TEST_STRING, String.class, Duration.ofMinutes(1), loader);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(loader, Mockito.never()).get();
+        Mockito.verify(commands, Mockito.atLeast(2)).get(TEST_STRING);
+        Assertions.assertEquals(TEST_STRING, result.join());
     }
 
     @Test
-    void shouldFailToPutWithTtl() throws JsonProcessingException {
-        Mockito.when(objectMapper.writeValueAsString(TEST_STRING)).thenThrow(RuntimeException.class);
+    void shouldShareInFlightComputationSuccessfully() {
+        String leaseKey = RedisAsyncCacheManager.LEASE_KEY_PREFIX + TEST_STRING;
+        RedisFuture<Object> evalRedisFuture = Mockito.mock(RedisFuture.class);
+        CompletableFuture<String> computation = new CompletableFuture<>();
+        Supplier<CompletableFuture<String>> loader = Mockito.mock(Supplier.class);
+
+        Mockito.when(commands.get(TEST_STRING)).thenReturn(bytesRedisFuture);
+        Mockito.when(bytesRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(commands.set(Mockito.eq(leaseKey), Mockito.any(byte[].class), Mockito.any(SetArgs.class))).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture("OK"));
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenReturn(TEST_BYTES);
+        Mockito.when(commands.psetex(Mockito.anyString(), Mockito.anyLong(), Mockito.any(byte[].class))).thenReturn(stringRedisFuture);
+        Mockito.when(commands.eval(Mockito.eq(RedisAsyncCacheManager.RELEASE_LEASE_SCRIPT), Mockito.eq(ScriptOutputType.INTEGER), Mockito.any(String[].class), Mockito.<byte[]>any())).thenReturn(evalRedisFuture);
+        Mockito.when(evalRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(1L));
+        Mockito.when(loader.get()).thenReturn(computation);
+
+        CompletableFuture<String> first = redisAsyncCacheManager.getOrCompute(TEST_STRING, String.class, Duration.ofMinutes(1), loader);
+        CompletableFuture<String> second = redisAsyncCacheManager.getOrCompute(TEST_STRING, String.class, Duration.ofMinutes(1), loader);
+        Assertions.assertFalse(second.isDone());
+        computation.complete(TEST_STRING);
+        Awaitility.await().until(() -> first.isDone() && second.isDone());
+        Mockito.verify(loader).get();
+        Mockito.verify(commands).set(Mockito.eq(leaseKey), Mockito.any(byte[].class), Mockito.any(SetArgs.class));
+        Assertions.assertEquals(TEST_STRING, first.join());
+        Assertions.assertEquals(TEST_STRING, second.join());
+    }
+
+    @Test
+    void shouldGetEntryWithMetadataSuccessfully() {
+        Duration computeTime = Duration.ofMillis(120);
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        byte[] storedValue = CacheEntryHeader.frame(TEST_BYTES, computeTime, expiresAt);
+
+        Mockito.when(commands.get(TEST_STRING)).thenReturn(bytesRedisFuture);
+        Mockito.when(bytesRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(storedValue));
+        Mockito.when(valueCodec.decode(TEST_BYTES, String.class)).thenReturn(TEST_STRING);
+
+        CompletableFuture<Optional<CacheEntry<String>>> result = redisAsyncCacheManager.getEntry(TEST_STRING, String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(Optional.of(new CacheEntry<>(TEST_STRING, computeTime, Instant.ofEpochMilli(expiresAt.toEpochMilli()), TEST_BYTES.length)), result.join());
+    }
+
+    @Test
+    void shouldServeCachedValueWhenEarlyRefreshLeaseIsHeldSuccessfully() {
+        String leaseKey = RedisAsyncCacheManager.LEASE_KEY_PREFIX + TEST_STRING;
+        byte[] storedValue = CacheEntryHeader.frame(TEST_BYTES, Duration.ofSeconds(1), Instant.now().minusSeconds(1));
+        Supplier<CompletableFuture<String>> loader = Mockito.mock(Supplier.class);
+
+        Mockito.when(commands.get(TEST_STRING)).thenReturn(bytesRedisFuture);
+        Mockito.when(bytesRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(storedValue));
+        Mockito.when(valueCodec.decode(TEST_BYTES, String.class)).thenReturn(TEST_STRING);
+        Mockito.when(commands.set(Mockito.eq(leaseKey), Mockito.any(byte[].class), Mockito.any(SetArgs.class))).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<String> result = redisAsyncCacheManager.getOrCompute(TEST_STRING, String.class, Duration.ofMinutes(1), loader);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(commands).set(Mockito.eq(leaseKey), Mockito.any(byte[].class), Mockito.any(SetArgs.class));
+        Mockito.verify(loader, Mockito.never()).get();
+        Assertions.assertEquals(TEST_STRING, result.join());
+        Assertions.assertEquals(1, ((RedisAsyncCacheManager) redisAsyncCacheManager).getEarlyExpiration().getEarlyRecomputationCount());
+    }
+
+    @Test
+    void shouldGetMemoryUsageSuccessfully() {
+        RedisFuture<Long> longRedisFuture = Mockito.mock(RedisFuture.class);
+
+        Mockito.when(commands.memoryUsage(TEST_STRING)).thenReturn(longRedisFuture);
+        Mockito.when(longRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture(64L));
+
+        CompletableFuture<Optional<Long>> result = ((RedisAsyncCacheManager) redisAsyncCacheManager).memoryUsage(TEST_STRING);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(commands).memoryUsage(TEST_STRING);
+        Assertions.assertEquals(Optional.of(64L), result.join());
+    }
+
+    @Test
+    void shouldFailToPutWithTtl() {
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenThrow(RuntimeException.class);
 
         Assertions.assertThrows(CompletionException.class, () -> redisAsyncCacheManager.put(TEST_STRING, TEST_STRING).join());
     }
 
+    @Test
+    void shouldForwardInvalidationsWithClientTrackingSuccessfully() {
+        CacheInvalidationListener invalidationListener = Mockito.mock(CacheInvalidationListener.class);
+        PushMessage pushMessage = Mockito.mock(PushMessage.class);
+        ArgumentCaptor<PushListener> pushListenerCaptor = ArgumentCaptor.forClass(PushListener.class);
+
+        Mockito.when(commands.clientTracking(Mockito.any(TrackingArgs.class))).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture("OK"));
+        Mockito.when(pushMessage.getType()).thenReturn(RedisAsyncCacheManager.INVALIDATE_PUSH_MESSAGE_TYPE);
+        Mockito.when(pushMessage.getContent(Mockito.any())).thenReturn(List.of(RedisAsyncCacheManager.INVALIDATE_PUSH_MESSAGE_TYPE, List.of(TEST_STRING)));
+
+        RedisAsyncCacheManager trackingCacheManager = new RedisAsyncCacheManager(redisClient, valueCodec, new CacheValueCompressor(), ttl, true);
+        trackingCacheManager.addInvalidationListener(invalidationListener);
+        Mockito.verify(commands).clientTracking(Mockito.any(TrackingArgs.class));
+        Mockito.verify(connection).addListener(pushListenerCaptor.capture());
+        pushListenerCaptor.getValue().onPushMessage(pushMessage);
+        Mockito.verify(invalidationListener).invalidate(TEST_STRING);
+        Mockito.verify(invalidationListener, Mockito.never()).invalidateAll();
+    }
+
+    @Test
+    void shouldIgnoreInvalidationsOfOwnPooledWritesSuccessfully() {
+        RedisConnectionFactory connectionFactory = Mockito.mock(RedisConnectionFactory.class);
+        CacheInvalidationListener invalidationListener = Mockito.mock(CacheInvalidationListener.class);
+        PushMessage pushMessage = Mockito.mock(PushMessage.class);
+        ArgumentCaptor<PushListener> pushListenerCaptor = ArgumentCaptor.forClass(PushListener.class);
+
+        Mockito.when(connectionFactory.connect()).thenReturn(connection);
+        Mockito.when(connectionFactory.commands(connection)).thenReturn(commands);
+        Mockito.when(connectionFactory.supportsClientTracking()).thenReturn(true);
+        Mockito.when(commands.clientTracking(Mockito.any(TrackingArgs.class))).thenReturn(stringRedisFuture);
+        Mockito.when(commands.psetex(Mockito.anyString(), Mockito.anyLong(), Mockito.any(byte[].class))).thenReturn(stringRedisFuture);
+        Mockito.when(stringRedisFuture.toCompletableFuture()).thenReturn(CompletableFuture.completedFuture("OK"));
+        Mockito.when(valueCodec.encode(TEST_STRING)).thenReturn(TEST_BYTES);
+        Mockito.when(pushMessage.getType()).thenReturn(RedisAsyncCacheManager.INVALIDATE_PUSH_MESSAGE_TYPE);
+
+        RedisConnectionPool connectionPool = new RedisConnectionPool(connectionFactory, 2, RedisConnectionSelection.KEY_HASH);
+        String pooledKey = connectionPool.selectIndex("a") == 1 ? "a" : "b";
+        Mockito.when(pushMessage.getContent(Mockito.any())).thenReturn(List.of(RedisAsyncCacheManager.INVALIDATE_PUSH_MESSAGE_TYPE, List.of(pooledKey)));
+        RedisAsyncCacheManager trackingCacheManager = new RedisAsyncCacheManager(connectionPool, valueCodec, new CacheValueCompressor(), Duration.ofMinutes(1), true);
+        trackingCacheManager.addInvalidationListener(invalidationListener);
+        Mockito.verify(connectionFactory).addPushListener(Mockito.eq(connection), pushListenerCaptor.capture());
+
+        trackingCacheManager.put(pooledKey, TEST_STRING).join();
+        pushListenerCaptor.getValue().onPushMessage(pushMessage);
+        Mockito.verify(invalidationListener, Mockito.never()).invalidate(pooledKey);
+        pushListenerCaptor.getValue().onPushMessage(pushMessage);
+        Mockito.verify(invalidationListener).invalidate(pooledKey);
+    }
+
+    @Test
+    void shouldSkipClientTrackingWhenUnsupportedSuccessfully() {
+        RedisConnectionFactory connectionFactory = Mockito.mock(RedisConnectionFactory.class);
+
+        Mockito.when(connectionFactory.connect()).thenReturn(connection);
+        Mockito.when(connectionFactory.commands(connection)).thenReturn(commands);
+        Mockito.when(connectionFactory.supportsClientTracking()).thenReturn(false);
+
+        Assertions.assertDoesNotThrow(() -> new RedisAsyncCacheManager(connectionFactory, valueCodec, new CacheValueCompressor(), ttl, true));
+        Mockito.verify(connectionFactory, Mockito.never()).addPushListener(Mockito.any(), Mockito.any());
+        Mockito.verify(commands, Mockito.never()).clientTracking(Mockito.any(TrackingArgs.class));
+    }
+
+    @Test
+    void shouldNotEnableClientTrackingByDefault() {
+        Mockito.verify(commands, Mockito.never()).clientTracking(Mockito.any(TrackingArgs.class));
+        Mockito.verify(connection, Mockito.never()).addListener(Mockito.any(PushListener.class));
+    }
+
     @Test
     void shouldCloseSuccessfully() {
         Mockito.doNothing().when(connection).close();
         Mockito.doNothing().when(redisClient).shutdown();
 
         Assertions.assertDoesNotThrow(() -> redisAsyncCacheManager.close());
-        Mockito.verify(connection).close();
+        Mockito.verify(connection, Mockito.times(2)).close();
         Mockito.verify(redisClient).shutdown();
     }
 
@@ -153,7 +512,7 @@ class RedisAsyncCacheManagerTests {
         Mockito.doNothing().when(redisClient).shutdown();
 
         Assertions.assertThrows(CacheManagingException.class, () -> redisAsyncCacheManager.close());
-        Mockito.verify(connection).close();
+        Mockito.verify(connection, Mockito.times(2)).close();
         Mockito.verify(redisClient).shutdown();
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package io.maksymuimanov.task.cache;
+
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+
+@SuppressWarnings("unchecked")
+class RedisCommandTimeoutSourceTests {
+    static final Duration TEST_READ_TIMEOUT = Duration.ofMillis(100);
+    static final Duration TEST_WRITE_TIMEOUT = Duration.ofMillis(200);
+    static final Duration TEST_COMMAND_TIMEOUT = Duration.ofMillis(300);
+    RedisCommandTimeoutSource redisCommandTimeoutSource;
+    RedisCommand<String, byte[], Object> command;
+
+    @BeforeEach
+    void setUp() {
+        command = Mockito.mock(RedisCommand.class);
+        redisCommandTimeoutSource = new RedisCommandTimeoutSource(TEST_READ_TIMEOUT, TEST_WRITE_TIMEOUT, TEST_COMMAND_TIMEOUT);
+    }
+
+    @Test
+    void shouldUseReadTimeoutSuccessfully() {
+        Mockito.when(command.getType()).thenReturn(CommandType.MGET);
+
+        Assertions.assertEquals(TEST_READ_TIMEOUT.toMillis(), redisCommandTimeoutSource.getTimeout(command));
+    }
+
+    @Test
+    void shouldUseWriteTimeoutSuccessfully() {
+        Mockito.when(command.getType()).thenReturn(CommandType.SETEX);
+
+        Assertions.assertEquals(TEST_WRITE_TIMEOUT.toMillis(), redisCommandTimeoutSource.getTimeout(command));
+    }
+
+    @Test
+    void shouldUseCommandTimeoutSuccessfully() {
+        Mockito.when(command.getType()).thenReturn(CommandType.CLIENT);
+
+        Assertions.assertEquals(TEST_COMMAND_TIMEOUT.toMillis(), redisCommandTimeoutSource.getTimeout(command));
+    }
+
+    @Test
+    void shouldCreateTimeoutOptionsSuccessfully() {
+        Assertions.assertTrue(redisCommandTimeoutSource.toTimeoutOptions().isTimeoutCommands());
+    }
+}
@@ -0,0 +1,89 @@
+package io.maksymuimanov.task.cache;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.maksymuimanov.task.exception.CacheManagingException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@SuppressWarnings("unchecked")
+class RedisConnectionPoolTests {
+    static final int TEST_SIZE = 4;
+    static final String TEST_KEY = "test";
+    RedisConnectionFactory connectionFactory;
+    StatefulConnection<String, byte[]> connection;
+    RedisClusterAsyncCommands<String, byte[]> commands;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = Mockito.mock(RedisConnectionFactory.class);
+        connection = Mockito.mock(StatefulConnection.class);
+        commands = Mockito.mock(RedisClusterAsyncCommands.class);
+        Mockito.when(connectionFactory.connect()).thenReturn(connection);
+        Mockito.when(connectionFactory.commands(connection)).thenReturn(commands);
+    }
+
+    @Test
+    void shouldOpenSharedConnectionsSuccessfully() {
+        RedisConnectionPool connectionPool = new RedisConnectionPool(connectionFactory, TEST_SIZE, RedisConnectionSelection.KEY_HASH);
+
+        Mockito.verify(connectionFactory, Mockito.times(TEST_SIZE * 2)).connect();
+        Mockito.verify(connection, Mockito.times(TEST_SIZE)).setAutoFlushCommands(false);
+        Assertions.assertEquals(TEST_SIZE, connectionPool.size());
+        Assertions.assertSame(connection, connectionPool.getPrimaryConnection());
+        Assertions.assertSame(commands, connectionPool.commands(TEST_KEY));
+    }
+
+    @Test
+    void shouldSelectSameConnectionForSameKeySuccessfully() {
+        RedisConnectionPool connectionPool = new RedisConnectionPool(connectionFactory, TEST_SIZE, RedisConnectionSelection.KEY_HASH);
+
+        int index = connectionPool.selectIndex(TEST_KEY);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(index, connectionPool.selectIndex(TEST_KEY));
+        }
+    }
+
+    @Test
+    void shouldRotateConnectionsWithRoundRobinSuccessfully() {
+        RedisConnectionPool connectionPool = new RedisConnectionPool(connectionFactory, TEST_SIZE, RedisConnectionSelection.ROUND_ROBIN);
+        Set<Integer> indexes = new HashSet<>();
+
+        for (int i = 0; i < TEST_SIZE; i++) {
+            indexes.add(connectionPool.selectIndex(TEST_KEY));
+        }
+        Assertions.assertEquals(TEST_SIZE, indexes.size());
+    }
+
+    @Test
+    void shouldPipelineOnBatchConnectionSuccessfully() {
+        RedisConnectionPool connectionPool = new RedisConnectionPool(connectionFactory, 1, RedisConnectionSelection.KEY_HASH);
+
+        Assertions.assertEquals(TEST_KEY, connectionPool.pipeline(0, batchCommands -> TEST_KEY));
+        Assertions.assertEquals(TEST_KEY, connectionPool.pipeline(0, batchCommands -> TEST_KEY));
+        Mockito.verify(connectionFactory, Mockito.times(2)).connect();
+        Mockito.verify(connection).setAutoFlushCommands(false);
+        Mockito.verify(connection, Mockito.times(2)).flushCommands();
+    }
+
+    @Test
+    void shouldCloseAllConnectionsOnFailure() {
+        RedisConnectionPool connectionPool = new RedisConnectionPool(connectionFactory, TEST_SIZE, RedisConnectionSelection.KEY_HASH);
+
+        Mockito.doThrow(RuntimeException.class).when(connection).close();
+
+        Assertions.assertThrows(CacheManagingException.class, connectionPool::close);
+        Mockito.verify(connection, Mockito.times(TEST_SIZE * 2)).close();
+        Mockito.verify(connectionFactory).shutdown();
+    }
+
+    @Test
+    void shouldFailToCreateWithNonPositiveSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new RedisConnectionPool(connectionFactory, 0, RedisConnectionSelection.KEY_HASH));
+    }
+}
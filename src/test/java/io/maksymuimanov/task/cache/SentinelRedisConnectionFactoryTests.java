@@ -0,0 +1,52 @@
+package io.maksymuimanov.task.cache;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.masterreplica.MasterReplica;
+import io.lettuce.core.masterreplica.StatefulRedisMasterReplicaConnection;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+@SuppressWarnings("unchecked")
+class SentinelRedisConnectionFactoryTests {
+    static final RedisURI TEST_SENTINEL_URI = RedisURI.create("redis-sentinel://localhost:26379/0#mymaster");
+    RedisConnectionFactory sentinelRedisConnectionFactory;
+    RedisClient redisClient;
+    StatefulRedisMasterReplicaConnection<String, byte[]> connection;
+    RedisAsyncCommands<String, byte[]> commands;
+
+    @BeforeEach
+    void setUp() {
+        redisClient = Mockito.mock(RedisClient.class);
+        connection = Mockito.mock(StatefulRedisMasterReplicaConnection.class);
+        commands = Mockito.mock(RedisAsyncCommands.class);
+        Mockito.when(connection.async()).thenReturn(commands);
+        sentinelRedisConnectionFactory = new SentinelRedisConnectionFactory(redisClient, TEST_SENTINEL_URI, ReadFrom.REPLICA_PREFERRED);
+    }
+
+    @Test
+    void shouldConnectWithReadFromSuccessfully() {
+        try (MockedStatic<MasterReplica> masterReplica = Mockito.mockStatic(MasterReplica.class)) {
+            masterReplica.when(() -> MasterReplica.connect(redisClient, RedisAsyncCacheManager.STRING_BYTE_ARRAY_CODEC, TEST_SENTINEL_URI)).thenReturn(connection);
+
+            StatefulConnection<String, byte[]> result = sentinelRedisConnectionFactory.connect();
+            Mockito.verify(connection).setReadFrom(ReadFrom.REPLICA_PREFERRED);
+            Assertions.assertSame(connection, result);
+            Assertions.assertSame(commands, sentinelRedisConnectionFactory.commands(result));
+            Assertions.assertTrue(sentinelRedisConnectionFactory.supportsClientTracking());
+        }
+    }
+
+    @Test
+    void shouldShutdownSuccessfully() {
+        sentinelRedisConnectionFactory.shutdown();
+
+        Mockito.verify(redisClient).shutdown();
+    }
+}
@@ -0,0 +1,212 @@
+package io.maksymuimanov.task.cache;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+class TieredAsyncCacheManagerTests {
+    static final String TEST_KEY = "test";
+    static final String TEST_VALUE = "value";
+    static final byte[] TEST_BYTES = TEST_VALUE.getBytes();
+    static final Duration TEST_LOCAL_TTL = Duration.ofSeconds(30);
+    static final long TEST_ENCODED_SIZE = 7;
+    TieredAsyncCacheManager tieredAsyncCacheManager;
+    AsyncCacheManager localCacheManager;
+    AsyncCacheManager remoteCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        localCacheManager = Mockito.mock(AsyncCacheManager.class);
+        remoteCacheManager = Mockito.mock(AsyncCacheManager.class);
+        tieredAsyncCacheManager = new TieredAsyncCacheManager(localCacheManager, remoteCacheManager, TEST_LOCAL_TTL);
+    }
+
+    @Test
+    void shouldGetFromLocalTierSuccessfully() {
+        Mockito.when(localCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.of(TEST_VALUE)));
+
+        CompletableFuture<Optional<String>> result = tieredAsyncCacheManager.get(TEST_KEY, String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(remoteCacheManager, Mockito.never()).getEntry(TEST_KEY, String.class);
+        Assertions.assertEquals(Optional.of(TEST_VALUE), result.join());
+        Assertions.assertEquals(1, tieredAsyncCacheManager.getLocalStatistics().getHitCount());
+        Assertions.assertEquals(0, tieredAsyncCacheManager.getRemoteStatistics().getHitCount());
+    }
+
+    @Test
+    void shouldGetFromRemoteTierAndPromoteSuccessfully() {
+        Mockito.when(localCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        Mockito.when(remoteCacheManager.getEntry(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.of(CacheEntry.of(TEST_VALUE).withEncodedSize(TEST_ENCODED_SIZE))));
+        Mockito.when(localCacheManager.put(TEST_KEY, TEST_VALUE, TEST_LOCAL_TTL, TEST_ENCODED_SIZE)).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<Optional<String>> result = tieredAsyncCacheManager.get(TEST_KEY, String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(localCacheManager).put(TEST_KEY, TEST_VALUE, TEST_LOCAL_TTL, TEST_ENCODED_SIZE);
+        Mockito.verify(localCacheManager, Mockito.never()).put(TEST_KEY, TEST_VALUE, TEST_LOCAL_TTL);
+        Assertions.assertEquals(Optional.of(TEST_VALUE), result.join());
+        Assertions.assertEquals(1, tieredAsyncCacheManager.getLocalStatistics().getMissCount());
+        Assertions.assertEquals(1, tieredAsyncCacheManager.getRemoteStatistics().getHitCount());
+    }
+
+    @Test
+    void shouldSkipPromotionInvalidatedDuringReadSuccessfully() {
+        CompletableFuture<Optional<CacheEntry<String>>> remoteFuture = new CompletableFuture<>();
+        Mockito.when(localCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        Mockito.when(remoteCacheManager.getEntry(TEST_KEY, String.class)).thenReturn(remoteFuture);
+
+        CompletableFuture<Optional<String>> result = tieredAsyncCacheManager.get(TEST_KEY, String.class);
+        tieredAsyncCacheManager.invalidate(TEST_KEY);
+        remoteFuture.complete(Optional.of(CacheEntry.of(TEST_VALUE)));
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(localCacheManager, Mockito.never()).put(Mockito.eq(TEST_KEY), Mockito.any(), Mockito.any(), Mockito.anyLong());
+        Assertions.assertEquals(Optional.of(TEST_VALUE), result.join());
+    }
+
+    @Test
+    void shouldEvictPromotionInvalidatedDuringWriteSuccessfully() {
+        AtomicReference<TieredAsyncCacheManager> tieredCacheManager = new AtomicReference<>();
+        InMemoryAsyncCacheManager inMemoryCacheManager = new InMemoryAsyncCacheManager(2, TEST_LOCAL_TTL) {
+            @Override
+            public CompletableFuture<Void> put(String key, Object value, Duration ttl, long encodedSize) {
+                CompletableFuture<Void> put = super.put(key, value, ttl, encodedSize);
+                tieredCacheManager.get().invalidate(key);
+                super.put(key, value, ttl, encodedSize);
+                return put;
+            }
+        };
+        tieredCacheManager.set(new TieredAsyncCacheManager(inMemoryCacheManager, remoteCacheManager, TEST_LOCAL_TTL));
+        Mockito.when(remoteCacheManager.getEntry(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.of(CacheEntry.of(TEST_VALUE))));
+
+        Assertions.assertEquals(Optional.of(TEST_VALUE), tieredCacheManager.get().get(TEST_KEY, String.class).join());
+        Assertions.assertEquals(Optional.empty(), inMemoryCacheManager.get(TEST_KEY, String.class).join());
+    }
+
+    @Test
+    void shouldGetOrComputeThroughRemoteTierAndPromoteSuccessfully() {
+        Duration ttl = Duration.ofMinutes(1);
+        Mockito.when(localCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        Mockito.when(remoteCacheManager.getOrCompute(Mockito.eq(TEST_KEY), Mockito.eq(String.class), Mockito.eq(ttl), Mockito.any())).thenReturn(CompletableFuture.completedFuture(TEST_VALUE));
+        Mockito.when(localCacheManager.put(TEST_KEY, TEST_VALUE, TEST_LOCAL_TTL)).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<String> result = tieredAsyncCacheManager.getOrCompute(TEST_KEY, String.class, ttl, () -> CompletableFuture.completedFuture(TEST_VALUE));
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(localCacheManager).put(TEST_KEY, TEST_VALUE, TEST_LOCAL_TTL);
+        Assertions.assertEquals(TEST_VALUE, result.join());
+        Assertions.assertEquals(1, tieredAsyncCacheManager.getLocalStatistics().getMissCount());
+    }
+
+    @Test
+    void shouldGetNullFromBothTiersSuccessfully() {
+        Mockito.when(localCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        Mockito.when(remoteCacheManager.getEntry(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        CompletableFuture<Optional<String>> result = tieredAsyncCacheManager.get(TEST_KEY, String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(Optional.empty(), result.join());
+        Assertions.assertEquals(1, tieredAsyncCacheManager.getRemoteStatistics().getMissCount());
+        Assertions.assertEquals(1.0, tieredAsyncCacheManager.getLocalStatistics().getMissRate());
+    }
+
+    @Test
+    void shouldPutToBothTiersSuccessfully() {
+        Mockito.when(localCacheManager.put(TEST_KEY, TEST_VALUE, TEST_LOCAL_TTL)).thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(remoteCacheManager.put(TEST_KEY, TEST_VALUE)).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<Void> result = tieredAsyncCacheManager.put(TEST_KEY, TEST_VALUE);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(localCacheManager).put(TEST_KEY, TEST_VALUE, TEST_LOCAL_TTL);
+        Mockito.verify(remoteCacheManager).put(TEST_KEY, TEST_VALUE);
+    }
+
+    @Test
+    void shouldPutWithShorterTtlToBothTiersSuccessfully() {
+        Duration ttl = Duration.ofSeconds(5);
+
+        Mockito.when(localCacheManager.put(TEST_KEY, TEST_VALUE, ttl)).thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(remoteCacheManager.put(TEST_KEY, TEST_VALUE, ttl)).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<Void> result = tieredAsyncCacheManager.put(TEST_KEY, TEST_VALUE, ttl);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(localCacheManager).put(TEST_KEY, TEST_VALUE, ttl);
+        Mockito.verify(remoteCacheManager).put(TEST_KEY, TEST_VALUE, ttl);
+    }
+
+    @Test
+    void shouldGetAllFetchingOnlyMissingKeysFromRemoteTierSuccessfully() {
+        Mockito.when(localCacheManager.getAll(List.of("first", "second", "third"), String.class)).thenReturn(CompletableFuture.completedFuture(Map.of("first", TEST_VALUE)));
+        Mockito.when(remoteCacheManager.getAll(List.of("second", "third"), String.class)).thenReturn(CompletableFuture.completedFuture(Map.of("second", TEST_VALUE)));
+        Mockito.when(localCacheManager.putAll(Map.of("second", TEST_VALUE), TEST_LOCAL_TTL)).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<Map<String, String>> result = tieredAsyncCacheManager.getAll(List.of("first", "second", "third"), String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(localCacheManager).putAll(Map.of("second", TEST_VALUE), TEST_LOCAL_TTL);
+        Assertions.assertEquals(Map.of("first", TEST_VALUE, "second", TEST_VALUE), result.join());
+        Assertions.assertEquals(1, tieredAsyncCacheManager.getLocalStatistics().getHitCount());
+        Assertions.assertEquals(2, tieredAsyncCacheManager.getLocalStatistics().getMissCount());
+        Assertions.assertEquals(1, tieredAsyncCacheManager.getRemoteStatistics().getHitCount());
+        Assertions.assertEquals(1, tieredAsyncCacheManager.getRemoteStatistics().getMissCount());
+    }
+
+    @Test
+    void shouldPutAllToBothTiersSuccessfully() {
+        Map<String, String> values = Map.of(TEST_KEY, TEST_VALUE);
+
+        Mockito.when(localCacheManager.putAll(values, TEST_LOCAL_TTL)).thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(remoteCacheManager.putAll(values, Duration.ZERO)).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<Void> result = tieredAsyncCacheManager.putAll(values, Duration.ZERO);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(localCacheManager).putAll(values, TEST_LOCAL_TTL);
+        Mockito.verify(remoteCacheManager).putAll(values, Duration.ZERO);
+    }
+
+    @Test
+    void shouldGetBytesFromRemoteTierAndPromoteSuccessfully() {
+        Mockito.when(localCacheManager.getBytes(TEST_KEY)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        Mockito.when(remoteCacheManager.getBytes(TEST_KEY)).thenReturn(CompletableFuture.completedFuture(Optional.of(TEST_BYTES)));
+        Mockito.when(localCacheManager.putBytes(TEST_KEY, TEST_BYTES, TEST_LOCAL_TTL)).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<Optional<byte[]>> result = tieredAsyncCacheManager.getBytes(TEST_KEY);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(localCacheManager).putBytes(TEST_KEY, TEST_BYTES, TEST_LOCAL_TTL);
+        Assertions.assertSame(TEST_BYTES, result.join().orElseThrow());
+        Assertions.assertEquals(1, tieredAsyncCacheManager.getLocalStatistics().getMissCount());
+        Assertions.assertEquals(1, tieredAsyncCacheManager.getRemoteStatistics().getHitCount());
+    }
+
+    @Test
+    void shouldPutBytesToBothTiersSuccessfully() {
+        Mockito.when(localCacheManager.putBytes(TEST_KEY, TEST_BYTES, TEST_LOCAL_TTL)).thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(remoteCacheManager.putBytes(TEST_KEY, TEST_BYTES)).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<Void> result = tieredAsyncCacheManager.putBytes(TEST_KEY, TEST_BYTES);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(localCacheManager).putBytes(TEST_KEY, TEST_BYTES, TEST_LOCAL_TTL);
+        Mockito.verify(remoteCacheManager).putBytes(TEST_KEY, TEST_BYTES);
+    }
+
+    @Test
+    void shouldFailToGet() {
+        Mockito.when(localCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        Mockito.when(remoteCacheManager.getEntry(TEST_KEY, String.class)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Test exception")));
+
+        Assertions.assertThrows(CompletionException.class, () -> tieredAsyncCacheManager.get(TEST_KEY, String.class).join());
+    }
+
+    @Test
+    void shouldCloseSuccessfully() throws Exception {
+        Assertions.assertDoesNotThrow(() -> tieredAsyncCacheManager.close());
+        Mockito.verify(localCacheManager).close();
+        Mockito.verify(remoteCacheManager).close();
+    }
+}
@@ -0,0 +1,180 @@
+package io.maksymuimanov.task.cache;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+class WriteBehindAsyncCacheManagerTests {
+    static final String TEST_KEY = "test";
+    static final String TEST_OTHER_KEY = "other";
+    static final String TEST_VALUE = "value";
+    static final String TEST_NEW_VALUE = "new-value";
+    static final byte[] TEST_BYTES = TEST_VALUE.getBytes();
+    static final Duration TEST_TTL = Duration.ofSeconds(30);
+    static final Duration TEST_FLUSH_INTERVAL = Duration.ofHours(1);
+    WriteBehindAsyncCacheManager writeBehindAsyncCacheManager;
+    AsyncCacheManager delegateCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        delegateCacheManager = Mockito.mock(AsyncCacheManager.class);
+        Mockito.when(delegateCacheManager.put(ArgumentMatchers.anyString(), ArgumentMatchers.any())).thenReturn(CompletableFuture.completedFuture(null));
+        Mockito.when(delegateCacheManager.putBytes(ArgumentMatchers.anyString(), ArgumentMatchers.any())).thenReturn(CompletableFuture.completedFuture(null));
+        writeBehindAsyncCacheManager = new WriteBehindAsyncCacheManager(delegateCacheManager, 2, TEST_FLUSH_INTERVAL);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        writeBehindAsyncCacheManager.close();
+    }
+
+    @Test
+    void shouldAcknowledgePutImmediatelySuccessfully() {
+        CompletableFuture<Void> result = writeBehindAsyncCacheManager.put(TEST_KEY, TEST_VALUE);
+
+        Assertions.assertTrue(result.isDone());
+        Mockito.verifyNoInteractions(delegateCacheManager);
+        Assertions.assertEquals(1, writeBehindAsyncCacheManager.getPendingCount());
+        Assertions.assertEquals(1, writeBehindAsyncCacheManager.getEnqueuedCount());
+    }
+
+    @Test
+    void shouldCoalesceWritesToSameKeySuccessfully() {
+        Mockito.when(delegateCacheManager.put(TEST_KEY, TEST_NEW_VALUE)).thenReturn(CompletableFuture.completedFuture(null));
+        writeBehindAsyncCacheManager.put(TEST_KEY, TEST_VALUE);
+        writeBehindAsyncCacheManager.put(TEST_KEY, TEST_NEW_VALUE);
+
+        CompletableFuture<Void> result = writeBehindAsyncCacheManager.flush();
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(delegateCacheManager).put(TEST_KEY, TEST_NEW_VALUE);
+        Mockito.verify(delegateCacheManager, Mockito.never()).put(TEST_KEY, TEST_VALUE);
+        Assertions.assertEquals(1, writeBehindAsyncCacheManager.getCoalescedCount());
+        Assertions.assertEquals(1, writeBehindAsyncCacheManager.getFlushedCount());
+    }
+
+    @Test
+    void shouldDropOldestWriteWhenQueueIsFullSuccessfully() {
+        writeBehindAsyncCacheManager.put(TEST_KEY, TEST_VALUE);
+        writeBehindAsyncCacheManager.put(TEST_OTHER_KEY, TEST_VALUE);
+        writeBehindAsyncCacheManager.put("third", TEST_VALUE);
+
+        Assertions.assertEquals(2, writeBehindAsyncCacheManager.getPendingCount());
+        Assertions.assertEquals(1, writeBehindAsyncCacheManager.getDroppedCount());
+        Mockito.when(delegateCacheManager.get(TEST_KEY, String.class)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        Assertions.assertEquals(Optional.empty(), writeBehindAsyncCacheManager.get(TEST_KEY, String.class).join());
+    }
+
+    @Test
+    void shouldFlushWritesWithSameTtlAsBatchSuccessfully() {
+        Mockito.when(delegateCacheManager.putAll(ArgumentMatchers.anyMap(), ArgumentMatchers.eq(TEST_TTL))).thenReturn(CompletableFuture.completedFuture(null));
+        writeBehindAsyncCacheManager.putAll(Map.of(TEST_KEY, TEST_VALUE, TEST_OTHER_KEY, TEST_NEW_VALUE), TEST_TTL);
+
+        CompletableFuture<Void> result = writeBehindAsyncCacheManager.flush();
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(delegateCacheManager).putAll(Map.of(TEST_KEY, TEST_VALUE, TEST_OTHER_KEY, TEST_NEW_VALUE), TEST_TTL);
+        Assertions.assertEquals(2, writeBehindAsyncCacheManager.getFlushedCount());
+        Assertions.assertEquals(0, writeBehindAsyncCacheManager.getPendingCount());
+    }
+
+    @Test
+    void shouldFlushBytesSuccessfully() {
+        Mockito.when(delegateCacheManager.putBytes(TEST_KEY, TEST_BYTES, TEST_TTL)).thenReturn(CompletableFuture.completedFuture(null));
+        writeBehindAsyncCacheManager.putBytes(TEST_KEY, TEST_BYTES, TEST_TTL);
+
+        CompletableFuture<Void> result = writeBehindAsyncCacheManager.flush();
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(delegateCacheManager).putBytes(TEST_KEY, TEST_BYTES, TEST_TTL);
+    }
+
+    @Test
+    void shouldCountFailedFlushSuccessfully() {
+        Mockito.when(delegateCacheManager.put(TEST_KEY, TEST_VALUE)).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Redis down")));
+        writeBehindAsyncCacheManager.put(TEST_KEY, TEST_VALUE);
+
+        CompletableFuture<Void> result = writeBehindAsyncCacheManager.flush();
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertFalse(result.isCompletedExceptionally());
+        Assertions.assertEquals(1, writeBehindAsyncCacheManager.getFailedCount());
+        Assertions.assertEquals(0, writeBehindAsyncCacheManager.getFlushedCount());
+    }
+
+    @Test
+    void shouldReadPendingWritesSuccessfully() {
+        writeBehindAsyncCacheManager.put(TEST_KEY, TEST_VALUE);
+        writeBehindAsyncCacheManager.putBytes(TEST_OTHER_KEY, TEST_BYTES);
+
+        Assertions.assertEquals(Optional.of(TEST_VALUE), writeBehindAsyncCacheManager.get(TEST_KEY, String.class).join());
+        Assertions.assertArrayEquals(TEST_BYTES, writeBehindAsyncCacheManager.getBytes(TEST_OTHER_KEY).join().orElseThrow());
+        Mockito.verify(delegateCacheManager, Mockito.never()).get(TEST_KEY, String.class);
+        Mockito.verify(delegateCacheManager, Mockito.never()).getBytes(TEST_OTHER_KEY);
+    }
+
+    @Test
+    void shouldGetOrComputeFromPendingWriteSuccessfully() {
+        writeBehindAsyncCacheManager.put(TEST_KEY, TEST_VALUE);
+
+        CompletableFuture<String> result = writeBehindAsyncCacheManager.getOrCompute(TEST_KEY, String.class, TEST_TTL, () -> CompletableFuture.completedFuture(TEST_NEW_VALUE));
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(delegateCacheManager, Mockito.never()).getOrCompute(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any());
+        Assertions.assertEquals(TEST_VALUE, result.join());
+    }
+
+    @Test
+    void shouldGetAllFromPendingWritesAndDelegateSuccessfully() {
+        Mockito.when(delegateCacheManager.getAll(List.of(TEST_OTHER_KEY), String.class)).thenReturn(CompletableFuture.completedFuture(Map.of(TEST_OTHER_KEY, TEST_NEW_VALUE)));
+        writeBehindAsyncCacheManager.put(TEST_KEY, TEST_VALUE);
+
+        CompletableFuture<Map<String, String>> result = writeBehindAsyncCacheManager.getAll(List.of(TEST_KEY, TEST_OTHER_KEY), String.class);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(Map.of(TEST_KEY, TEST_VALUE, TEST_OTHER_KEY, TEST_NEW_VALUE), result.join());
+    }
+
+    @Test
+    void shouldReadInFlightWritesUntilAcknowledgedSuccessfully() {
+        CompletableFuture<Void> acknowledgement = new CompletableFuture<>();
+        Mockito.when(delegateCacheManager.put(TEST_KEY, TEST_VALUE)).thenReturn(acknowledgement);
+        writeBehindAsyncCacheManager.put(TEST_KEY, TEST_VALUE);
+
+        CompletableFuture<Void> result = writeBehindAsyncCacheManager.flush();
+        Assertions.assertEquals(0, writeBehindAsyncCacheManager.getPendingCount());
+        Assertions.assertEquals(1, writeBehindAsyncCacheManager.getInFlightCount());
+        Assertions.assertEquals(Optional.of(TEST_VALUE), writeBehindAsyncCacheManager.get(TEST_KEY, String.class).join());
+        Mockito.verify(delegateCacheManager, Mockito.never()).get(TEST_KEY, String.class);
+
+        acknowledgement.complete(null);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals(0, writeBehindAsyncCacheManager.getInFlightCount());
+        Assertions.assertEquals(1, writeBehindAsyncCacheManager.getFlushedCount());
+    }
+
+    @Test
+    void shouldFailToPutAfterClose() throws Exception {
+        writeBehindAsyncCacheManager.close();
+
+        Assertions.assertThrows(CompletionException.class, () -> writeBehindAsyncCacheManager.put(TEST_KEY, TEST_VALUE).join());
+        Assertions.assertThrows(CompletionException.class, () -> writeBehindAsyncCacheManager.putAll(Map.of(TEST_KEY, TEST_VALUE), TEST_TTL).join());
+        Assertions.assertEquals(0, writeBehindAsyncCacheManager.getPendingCount());
+        Assertions.assertEquals(0, writeBehindAsyncCacheManager.getEnqueuedCount());
+    }
+
+    @Test
+    void shouldFlushPendingWritesOnCloseSuccessfully() throws Exception {
+        Mockito.when(delegateCacheManager.put(TEST_KEY, TEST_VALUE)).thenReturn(CompletableFuture.completedFuture(null));
+        writeBehindAsyncCacheManager.put(TEST_KEY, TEST_VALUE);
+
+        writeBehindAsyncCacheManager.close();
+        Mockito.verify(delegateCacheManager).put(TEST_KEY, TEST_VALUE);
+        Mockito.verify(delegateCacheManager, Mockito.atLeastOnce()).close();
+    }
+}
@@ -0,0 +1,59 @@
+package io.maksymuimanov.task.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+class XFetchEarlyExpirationTests {
+    static final Instant TEST_NOW = Instant.parse("2024-01-01T00:00:00Z");
+    static final Clock TEST_CLOCK = Clock.fixed(TEST_NOW, ZoneOffset.UTC);
+    static final Duration TEST_COMPUTE_TIME = Duration.ofMillis(100);
+
+    @Test
+    void shouldRecomputeCloseToExpirySuccessfully() {
+        XFetchEarlyExpiration earlyExpiration = new XFetchEarlyExpiration(1.0, TEST_CLOCK, () -> Math.exp(-2));
+        CacheEntry<String> entry = new CacheEntry<>("value", TEST_COMPUTE_TIME, TEST_NOW.plusMillis(150));
+
+        Assertions.assertTrue(earlyExpiration.shouldRecompute(entry));
+        Assertions.assertEquals(1, earlyExpiration.getEarlyRecomputationCount());
+        Assertions.assertEquals(1.0, earlyExpiration.getEarlyRecomputationRate());
+    }
+
+    @Test
+    void shouldNotRecomputeFarFromExpirySuccessfully() {
+        XFetchEarlyExpiration earlyExpiration = new XFetchEarlyExpiration(1.0, TEST_CLOCK, () -> Math.exp(-2));
+        CacheEntry<String> entry = new CacheEntry<>("value", TEST_COMPUTE_TIME, TEST_NOW.plusMillis(250));
+
+        Assertions.assertFalse(earlyExpiration.shouldRecompute(entry));
+        Assertions.assertEquals(1, earlyExpiration.getCheckCount());
+        Assertions.assertEquals(0, earlyExpiration.getEarlyRecomputationCount());
+    }
+
+    @Test
+    void shouldRecomputeEarlierWithLargerBetaSuccessfully() {
+        XFetchEarlyExpiration earlyExpiration = new XFetchEarlyExpiration(3.0, TEST_CLOCK, () -> Math.exp(-2));
+        CacheEntry<String> entry = new CacheEntry<>("value", TEST_COMPUTE_TIME, TEST_NOW.plusMillis(250));
+
+        Assertions.assertTrue(earlyExpiration.shouldRecompute(entry));
+    }
+
+    @Test
+    void shouldIgnoreEntriesWithoutMetadataSuccessfully() {
+        XFetchEarlyExpiration earlyExpiration = new XFetchEarlyExpiration(1.0, TEST_CLOCK, () -> Math.exp(-2));
+
+        Assertions.assertFalse(earlyExpiration.shouldRecompute(CacheEntry.of("value")));
+        Assertions.assertEquals(0, earlyExpiration.getCheckCount());
+    }
+
+    @Test
+    void shouldNotRecomputeWhenDisabledSuccessfully() {
+        XFetchEarlyExpiration earlyExpiration = new XFetchEarlyExpiration(0, TEST_CLOCK, () -> Math.exp(-2));
+        CacheEntry<String> entry = new CacheEntry<>("value", TEST_COMPUTE_TIME, TEST_NOW);
+
+        Assertions.assertFalse(earlyExpiration.shouldRecompute(entry));
+    }
+}
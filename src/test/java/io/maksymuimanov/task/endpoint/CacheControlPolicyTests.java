@@ -0,0 +1,51 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+class CacheControlPolicyTests {
+    static final Instant TEST_NOW = Instant.parse("2026-01-01T00:00:00Z");
+    static final CacheControlPolicy TEST_POLICY = new CacheControlPolicy(Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofMinutes(5));
+
+    @Test
+    void shouldApplyCacheControlAndAgeSuccessfully() {
+        HttpHeaders headers = TEST_POLICY.apply(new DefaultHttpHeaders(), TEST_NOW.minusMillis(12_500), TEST_NOW);
+
+        Assertions.assertEquals("public, max-age=10, stale-while-revalidate=30, stale-if-error=300", headers.get(HttpHeaderNames.CACHE_CONTROL));
+        Assertions.assertEquals("12", headers.get(HttpHeaderNames.AGE));
+    }
+
+    @Test
+    void shouldNeverReportNegativeAgeSuccessfully() {
+        HttpHeaders headers = TEST_POLICY.apply(new DefaultHttpHeaders(), TEST_NOW.plusSeconds(5), TEST_NOW);
+
+        Assertions.assertEquals("0", headers.get(HttpHeaderNames.AGE));
+    }
+
+    @Test
+    void shouldMarkUnknownAgeAsNoCacheSuccessfully() {
+        HttpHeaders headers = TEST_POLICY.apply(new DefaultHttpHeaders(), SerializedResponse.UNKNOWN_PRODUCED_AT, TEST_NOW);
+
+        Assertions.assertEquals(HttpHeaderValues.NO_CACHE.toString(), headers.get(HttpHeaderNames.CACHE_CONTROL));
+        Assertions.assertFalse(headers.contains(HttpHeaderNames.AGE));
+    }
+
+    @Test
+    void shouldTreatBodyAsFreshWithinMaxAgeSuccessfully() {
+        Assertions.assertTrue(TEST_POLICY.isFresh(TEST_NOW.minusMillis(9_999), TEST_NOW));
+        Assertions.assertFalse(TEST_POLICY.isFresh(TEST_NOW.minusSeconds(10), TEST_NOW));
+        Assertions.assertFalse(TEST_POLICY.isFresh(SerializedResponse.UNKNOWN_PRODUCED_AT, TEST_NOW));
+    }
+
+    @Test
+    void shouldKeepBodyAsLongAsStaleIfErrorAllowsSuccessfully() {
+        Assertions.assertEquals(Duration.ofSeconds(310), TEST_POLICY.getStorageTtl());
+    }
+}
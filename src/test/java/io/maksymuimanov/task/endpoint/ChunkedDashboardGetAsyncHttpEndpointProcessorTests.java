@@ -0,0 +1,139 @@
+package io.maksymuimanov.task.endpoint;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.maksymuimanov.task.api.DashboardAsyncApiAggregator;
+import io.maksymuimanov.task.api.SectionedAsyncApiAggregator;
+import io.maksymuimanov.task.dto.DashboardResponse;
+import io.maksymuimanov.task.exception.HttpEndpointProcessionException;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+@SuppressWarnings("unchecked")
+class ChunkedDashboardGetAsyncHttpEndpointProcessorTests {
+    static final boolean NOT_KEEP_ALIVE = false;
+    static final JsonNode TEST_WEATHER = TextNode.valueOf("sunny");
+    static final JsonNode TEST_IP = TextNode.valueOf("127.0.0.1");
+    AsyncHttpEndpointProcessor chunkedDashboardGetAsyncHttpEndpointProcessor;
+    SectionedAsyncApiAggregator<DashboardResponse, JsonNode> apiAggregator;
+    ChannelHandlerContext context;
+    FullHttpRequest request;
+    HttpResponseSender responseSender;
+    CompletableFuture<JsonNode> weatherFuture;
+    CompletableFuture<JsonNode> factFuture;
+    CompletableFuture<JsonNode> ipFuture;
+
+    @BeforeEach
+    void setUp() {
+        apiAggregator = Mockito.mock(SectionedAsyncApiAggregator.class);
+        context = Mockito.mock(ChannelHandlerContext.class);
+        request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT.method(), DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT.path());
+        responseSender = Mockito.mock(HttpResponseSender.class);
+        weatherFuture = new CompletableFuture<>();
+        factFuture = new CompletableFuture<>();
+        ipFuture = new CompletableFuture<>();
+        Map<String, CompletableFuture<JsonNode>> sections = new LinkedHashMap<>();
+        sections.put(DashboardAsyncApiAggregator.WEATHER_SECTION, weatherFuture);
+        sections.put(DashboardAsyncApiAggregator.FACT_SECTION, factFuture);
+        sections.put(DashboardAsyncApiAggregator.IP_SECTION, ipFuture);
+        Mockito.when(apiAggregator.getSectionNames()).thenReturn(DashboardAsyncApiAggregator.SECTION_NAMES);
+        Mockito.when(apiAggregator.aggregateSections(Set.copyOf(DashboardAsyncApiAggregator.SECTION_NAMES))).thenReturn(sections);
+        Mockito.when(context.executor()).thenReturn(ImmediateEventExecutor.INSTANCE);
+        Mockito.when(responseSender.serialize(TEST_WEATHER)).thenReturn("\"sunny\"".getBytes(StandardCharsets.UTF_8));
+        Mockito.when(responseSender.serialize(TEST_IP)).thenReturn("\"127.0.0.1\"".getBytes(StandardCharsets.UTF_8));
+        chunkedDashboardGetAsyncHttpEndpointProcessor = new ChunkedDashboardGetAsyncHttpEndpointProcessor(apiAggregator);
+    }
+
+    @Test
+    void shouldStreamSectionsInCompletionOrderSuccessfully() {
+        CompletableFuture<Void> result = chunkedDashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        Mockito.verify(responseSender).sendChunkedHead(context, HttpResponseStatus.OK, EmptyHttpHeaders.INSTANCE, NOT_KEEP_ALIVE);
+        Assertions.assertEquals("{", this.sentBody());
+
+        ipFuture.complete(TEST_IP);
+        Assertions.assertEquals("{\"ip\":\"127.0.0.1\"", this.sentBody());
+        Assertions.assertFalse(result.isDone());
+
+        weatherFuture.complete(TEST_WEATHER);
+        factFuture.completeExceptionally(new RuntimeException("Test exception"));
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals("{\"ip\":\"127.0.0.1\",\"weather\":\"sunny\",\"fact\":null}", this.sentBody());
+        InOrder inOrder = Mockito.inOrder(responseSender);
+        inOrder.verify(responseSender).sendChunkedHead(context, HttpResponseStatus.OK, EmptyHttpHeaders.INSTANCE, NOT_KEEP_ALIVE);
+        inOrder.verify(responseSender, Mockito.times(5)).sendChunk(Mockito.eq(context), Mockito.any());
+        inOrder.verify(responseSender).sendLastChunk(context, NOT_KEEP_ALIVE);
+    }
+
+    @Test
+    void shouldCloseConnectionWhenStreamingFails() {
+        Mockito.when(responseSender.serialize(TEST_WEATHER)).thenThrow(RuntimeException.class);
+
+        CompletableFuture<Void> result = chunkedDashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        weatherFuture.complete(TEST_WEATHER);
+        factFuture.complete(null);
+        ipFuture.complete(TEST_IP);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertFalse(result.isCompletedExceptionally());
+        Mockito.verify(context).close();
+        Mockito.verify(responseSender, Mockito.never()).sendLastChunk(Mockito.any(), Mockito.anyBoolean());
+    }
+
+    @Test
+    void shouldStreamSelectedSectionsSuccessfully() {
+        FullHttpRequest selectionRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT.method(), DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_ENDPOINT_PATH + "?fields=ip");
+        Mockito.when(apiAggregator.aggregateSections(Set.of(DashboardAsyncApiAggregator.IP_SECTION))).thenReturn(Map.of(DashboardAsyncApiAggregator.IP_SECTION, ipFuture));
+
+        CompletableFuture<Void> result = chunkedDashboardGetAsyncHttpEndpointProcessor.process(context, selectionRequest, responseSender, NOT_KEEP_ALIVE);
+        ipFuture.complete(TEST_IP);
+        Awaitility.await().untilAsserted(result::isDone);
+        Assertions.assertEquals("{\"ip\":\"127.0.0.1\"}", this.sentBody());
+    }
+
+    @Test
+    void shouldRejectUnknownFieldSuccessfully() {
+        FullHttpRequest selectionRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT.method(), DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_ENDPOINT_PATH + "?fields=unknown");
+
+        CompletableFuture<Void> result = chunkedDashboardGetAsyncHttpEndpointProcessor.process(context, selectionRequest, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(responseSender).send(context, DashboardGetAsyncHttpEndpointProcessor.INVALID_FIELDS_MESSAGE, HttpResponseStatus.BAD_REQUEST, NOT_KEEP_ALIVE);
+        Mockito.verify(responseSender, Mockito.never()).sendChunkedHead(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+    }
+
+    @Test
+    void shouldFailToProcess() {
+        Mockito.when(apiAggregator.aggregateSections(Mockito.anySet())).thenThrow(RuntimeException.class);
+
+        CompletableFuture<Void> result = chunkedDashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isCompletedExceptionally);
+        CompletionException completionException = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertInstanceOf(HttpEndpointProcessionException.class, completionException.getCause());
+    }
+
+    String sentBody() {
+        ArgumentCaptor<byte[]> chunks = ArgumentCaptor.forClass(byte[].class);
+        Mockito.verify(responseSender, Mockito.atLeastOnce()).sendChunk(Mockito.eq(context), chunks.capture());
+        return chunks.getAllValues().stream()
+                .map(chunk -> new String(chunk, StandardCharsets.UTF_8))
+                .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,70 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+class CompressedBodyCacheTests {
+    static final int TEST_MIN_SIZE = 64;
+    static final String TEST_CACHE_KEY = "dashboard";
+    static final Instant TEST_NOW = Instant.parse("2026-01-01T00:00:00Z");
+    static final SerializedResponse TEST_RESPONSE = SerializedResponse.of("{\"fact\":\"%s\"}".formatted("a".repeat(256)).getBytes(StandardCharsets.UTF_8), TEST_NOW);
+    CompressedBodyCache compressedBodyCache;
+
+    @BeforeEach
+    void setUp() {
+        compressedBodyCache = new CompressedBodyCache(TEST_MIN_SIZE, Deflater.BEST_COMPRESSION);
+    }
+
+    @Test
+    void shouldNegotiateSuccessfully() {
+        SerializedResponse smallResponse = SerializedResponse.of("{}".getBytes(StandardCharsets.UTF_8), TEST_NOW);
+
+        Assertions.assertEquals(ContentCoding.GZIP, compressedBodyCache.negotiate("gzip", TEST_RESPONSE));
+        Assertions.assertEquals(ContentCoding.IDENTITY, compressedBodyCache.negotiate("gzip", smallResponse));
+        Assertions.assertEquals(ContentCoding.IDENTITY, new CompressedBodyCache(-1, Deflater.BEST_COMPRESSION).negotiate("gzip", TEST_RESPONSE));
+    }
+
+    @Test
+    void shouldCompressOncePerVersionSuccessfully() throws IOException {
+        ByteBuf first = compressedBodyCache.get(TEST_CACHE_KEY, TEST_RESPONSE, ContentCoding.GZIP);
+        byte[] compressed = ByteBufUtil.getBytes(first);
+        first.skipBytes(first.readableBytes());
+        first.release();
+        ByteBuf second = compressedBodyCache.get(TEST_CACHE_KEY, TEST_RESPONSE, ContentCoding.GZIP);
+
+        Assertions.assertEquals(1, compressedBodyCache.getCachedVariantCount());
+        Assertions.assertArrayEquals(compressed, ByteBufUtil.getBytes(second));
+        Assertions.assertArrayEquals(TEST_RESPONSE.body(), new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes());
+    }
+
+    @Test
+    void shouldKeepVariantsPerCodingSuccessfully() {
+        compressedBodyCache.get(TEST_CACHE_KEY, TEST_RESPONSE, ContentCoding.GZIP);
+        compressedBodyCache.get(TEST_CACHE_KEY, TEST_RESPONSE, ContentCoding.DEFLATE);
+        compressedBodyCache.get(TEST_CACHE_KEY + ":cbor", TEST_RESPONSE, ContentCoding.GZIP);
+
+        Assertions.assertEquals(3, compressedBodyCache.getCachedVariantCount());
+    }
+
+    @Test
+    void shouldReplacePreviousVersionSuccessfully() throws IOException {
+        SerializedResponse newResponse = SerializedResponse.of("{\"fact\":\"%s\"}".formatted("b".repeat(256)).getBytes(StandardCharsets.UTF_8), TEST_NOW);
+
+        compressedBodyCache.get(TEST_CACHE_KEY, TEST_RESPONSE, ContentCoding.GZIP);
+        compressedBodyCache.get(TEST_CACHE_KEY, TEST_RESPONSE, ContentCoding.DEFLATE);
+        ByteBuf compressed = compressedBodyCache.get(TEST_CACHE_KEY, newResponse, ContentCoding.GZIP);
+
+        Assertions.assertEquals(1, compressedBodyCache.getCachedVariantCount());
+        Assertions.assertArrayEquals(newResponse.body(), new GZIPInputStream(new ByteArrayInputStream(ByteBufUtil.getBytes(compressed))).readAllBytes());
+    }
+}
@@ -0,0 +1,53 @@
+package io.maksymuimanov.task.endpoint;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+class ContentCodingTests {
+    static final byte[] TEST_BODY = "{\"fact\":\"%s\"}".formatted("a".repeat(512)).getBytes(StandardCharsets.UTF_8);
+    static final int TEST_LEVEL = Deflater.BEST_COMPRESSION;
+
+    @Test
+    void shouldNegotiateCodingSuccessfully() {
+        Assertions.assertEquals(ContentCoding.GZIP, ContentCoding.negotiate("gzip"));
+        Assertions.assertEquals(ContentCoding.DEFLATE, ContentCoding.negotiate("deflate"));
+        Assertions.assertEquals(ContentCoding.GZIP, ContentCoding.negotiate("deflate, GZIP"));
+        Assertions.assertEquals(ContentCoding.DEFLATE, ContentCoding.negotiate("gzip;q=0.5, deflate"));
+        Assertions.assertEquals(ContentCoding.GZIP, ContentCoding.negotiate("*"));
+        Assertions.assertEquals(ContentCoding.DEFLATE, ContentCoding.negotiate("gzip;q=0, *;q=0.3"));
+    }
+
+    @Test
+    void shouldFallBackToIdentitySuccessfully() {
+        Assertions.assertEquals(ContentCoding.IDENTITY, ContentCoding.negotiate(""));
+        Assertions.assertEquals(ContentCoding.IDENTITY, ContentCoding.negotiate("identity"));
+        Assertions.assertEquals(ContentCoding.IDENTITY, ContentCoding.negotiate("compress, zstd"));
+        Assertions.assertEquals(ContentCoding.IDENTITY, ContentCoding.negotiate("gzip;q=0"));
+        Assertions.assertEquals(ContentCoding.IDENTITY, ContentCoding.negotiate("gzip;q=0.2, identity"));
+    }
+
+    @Test
+    void shouldSkipUnavailableCodingSuccessfully() {
+        Assertions.assertEquals(ContentCoding.BROTLI.isAvailable() ? ContentCoding.BROTLI : ContentCoding.GZIP, ContentCoding.negotiate("br, gzip"));
+        Assertions.assertEquals(ContentCoding.BROTLI.isAvailable() ? ContentCoding.BROTLI : ContentCoding.IDENTITY, ContentCoding.negotiate("br"));
+    }
+
+    @Test
+    void shouldEncodeSuccessfully() throws IOException {
+        byte[] gzip = ContentCoding.GZIP.encode(TEST_BODY, TEST_LEVEL);
+        byte[] deflate = ContentCoding.DEFLATE.encode(TEST_BODY, TEST_LEVEL);
+
+        Assertions.assertTrue(gzip.length < TEST_BODY.length);
+        Assertions.assertTrue(deflate.length < TEST_BODY.length);
+        Assertions.assertArrayEquals(TEST_BODY, new GZIPInputStream(new ByteArrayInputStream(gzip)).readAllBytes());
+        Assertions.assertArrayEquals(TEST_BODY, new InflaterInputStream(new ByteArrayInputStream(deflate)).readAllBytes());
+        Assertions.assertSame(TEST_BODY, ContentCoding.IDENTITY.encode(TEST_BODY, TEST_LEVEL));
+    }
+}
@@ -1,38 +1,82 @@
 package io.maksymuimanov.task.endpoint;
 
-import io.maksymuimanov.task.api.AsyncApiAggregator;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.maksymuimanov.task.api.CancellationToken;
+import io.maksymuimanov.task.api.DashboardAsyncApiAggregator;
+import io.maksymuimanov.task.api.SectionedAsyncApiAggregator;
 import io.maksymuimanov.task.cache.AsyncCacheManager;
 import io.maksymuimanov.task.dto.DashboardResponse;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.concurrent.GenericFutureListener;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
 
 @SuppressWarnings("unchecked")
 class DashboardGetAsyncHttpEndpointProcessorTests {
     static final boolean NOT_KEEP_ALIVE = false;
+    static final byte[] TEST_BODY = "{}".getBytes();
+    static final Instant TEST_NOW = Instant.parse("2026-01-01T00:00:00Z");
+    static final Clock TEST_CLOCK = Clock.fixed(TEST_NOW, ZoneOffset.UTC);
+    static final CacheControlPolicy TEST_CACHE_CONTROL_POLICY = new CacheControlPolicy(Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofMinutes(5));
+    static final Duration TEST_STORAGE_TTL = TEST_CACHE_CONTROL_POLICY.getStorageTtl();
+    static final SerializedResponse TEST_SERIALIZED_RESPONSE = SerializedResponse.of(TEST_BODY, TEST_NOW);
+    static final byte[] TEST_STORED_BODY = TEST_SERIALIZED_RESPONSE.toBytes();
+    static final Duration TEST_SOFT_DEADLINE = Duration.ofMillis(50);
+    static final HttpHeaders TEST_HEADERS = TEST_CACHE_CONTROL_POLICY.apply(new DefaultHttpHeaders(), TEST_NOW, TEST_NOW)
+            .set(HttpHeaderNames.ETAG, TEST_SERIALIZED_RESPONSE.etag())
+            .set(HttpHeaderNames.VARY, DashboardGetAsyncHttpEndpointProcessor.VARY_HEADER_VALUE);
     AsyncHttpEndpointProcessor dashboardGetAsyncHttpEndpointProcessor;
-    AsyncApiAggregator<DashboardResponse> apiAggregator;
+    SectionedAsyncApiAggregator<DashboardResponse, JsonNode> apiAggregator;
     AsyncCacheManager cacheManager;
     ChannelHandlerContext context;
+    ChannelFuture closeFuture;
+    FullHttpRequest request;
     HttpResponseSender responseSender;
     DashboardResponse dashboardResponse;
 
     @BeforeEach
     void setUp() {
-        apiAggregator = Mockito.mock(AsyncApiAggregator.class);
+        apiAggregator = Mockito.mock(SectionedAsyncApiAggregator.class);
+        Mockito.when(apiAggregator.getSectionNames()).thenReturn(DashboardAsyncApiAggregator.SECTION_NAMES);
         cacheManager = Mockito.mock(AsyncCacheManager.class);
         context = Mockito.mock(ChannelHandlerContext.class);
+        Channel channel = Mockito.mock(Channel.class);
+        closeFuture = Mockito.mock(ChannelFuture.class);
+        Mockito.when(context.channel()).thenReturn(channel);
+        Mockito.when(channel.closeFuture()).thenReturn(closeFuture);
+        request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT.method(), DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT.path());
         responseSender = Mockito.mock(HttpResponseSender.class);
+        Mockito.when(responseSender.negotiate(Mockito.anyString())).thenReturn(responseSender);
+        Mockito.when(responseSender.getFormat()).thenReturn(ResponseFormat.JSON);
         dashboardResponse = Mockito.mock(DashboardResponse.class);
-        dashboardGetAsyncHttpEndpointProcessor = new DashboardGetAsyncHttpEndpointProcessor(cacheManager, apiAggregator);
+        dashboardGetAsyncHttpEndpointProcessor = new DashboardGetAsyncHttpEndpointProcessor(cacheManager, apiAggregator, TEST_CACHE_CONTROL_POLICY, TEST_CLOCK);
     }
 
     @Test
@@ -40,71 +84,354 @@ class DashboardGetAsyncHttpEndpointProcessorTests {
         CompletableFuture<DashboardResponse> responseFuture = CompletableFuture.completedFuture(dashboardResponse);
         CompletableFuture<Void> voidFuture = CompletableFuture.completedFuture(null);
 
-        Mockito.when(apiAggregator.aggregate()).thenReturn(responseFuture);
-        Mockito.when(cacheManager.put(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, dashboardResponse)).thenReturn(voidFuture);
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(responseFuture);
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(TEST_BODY);
+        Mockito.when(cacheManager.putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, TEST_STORED_BODY, TEST_STORAGE_TTL)).thenReturn(voidFuture);
 
-        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, responseSender, NOT_KEEP_ALIVE);
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
         Awaitility.await().untilAsserted(result::isDone);
-        Mockito.verify(apiAggregator).aggregate();
-        Mockito.verify(cacheManager, Mockito.never()).get(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, DashboardResponse.class);
-        Mockito.verify(cacheManager).put(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, dashboardResponse);
-        Mockito.verify(responseSender).send(context, dashboardResponse, HttpResponseStatus.OK, NOT_KEEP_ALIVE);
+        Mockito.verify(apiAggregator).aggregate(Mockito.any(CancellationToken.class));
+        Mockito.verify(cacheManager, Mockito.never()).getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY);
+        Mockito.verify(responseSender).serialize(dashboardResponse);
+        Mockito.verify(cacheManager).putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, TEST_STORED_BODY, TEST_STORAGE_TTL);
+        Mockito.verify(responseSender).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, TEST_HEADERS, NOT_KEEP_ALIVE);
     }
 
     @Test
     void shouldProcessWithCacheSuccessfully() {
         CompletableFuture<DashboardResponse> failedFuture = CompletableFuture.failedFuture(new RuntimeException("Test exception"));
-        CompletableFuture<Optional<DashboardResponse>> optionalResponseFuture = CompletableFuture.completedFuture(Optional.of(dashboardResponse));
-        CompletableFuture<Void> voidFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<Optional<byte[]>> optionalBodyFuture = CompletableFuture.completedFuture(Optional.of(TEST_BODY));
 
-        Mockito.when(apiAggregator.aggregate()).thenReturn(failedFuture);
-        Mockito.when(cacheManager.get(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, DashboardResponse.class)).thenReturn(optionalResponseFuture);
-        Mockito.when(cacheManager.put(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, dashboardResponse)).thenReturn(voidFuture);
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(failedFuture);
+        Mockito.when(cacheManager.getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY)).thenReturn(optionalBodyFuture);
 
-        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, responseSender, NOT_KEEP_ALIVE);
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
         Awaitility.await().untilAsserted(result::isDone);
-        Mockito.verify(apiAggregator).aggregate();
-        Mockito.verify(cacheManager).get(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, DashboardResponse.class);
-        Mockito.verify(cacheManager, Mockito.never()).put(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, dashboardResponse);
-        Mockito.verify(responseSender).send(context, dashboardResponse, HttpResponseStatus.OK, NOT_KEEP_ALIVE);
+        Mockito.verify(apiAggregator).aggregate(Mockito.any(CancellationToken.class));
+        Mockito.verify(cacheManager).getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY);
+        Mockito.verify(cacheManager, Mockito.never()).putBytes(Mockito.eq(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY), Mockito.any(), Mockito.any());
+        Mockito.verify(responseSender, Mockito.never()).serialize(Mockito.any());
+        HttpHeaders headers = new DefaultHttpHeaders()
+                .set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_CACHE)
+                .set(HttpHeaderNames.ETAG, TEST_SERIALIZED_RESPONSE.etag())
+                .set(HttpHeaderNames.VARY, DashboardGetAsyncHttpEndpointProcessor.VARY_HEADER_VALUE);
+        Mockito.verify(responseSender).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, headers, NOT_KEEP_ALIVE);
+    }
+
+    @Test
+    void shouldProcessWithAgeFromCacheSuccessfully() {
+        CompletableFuture<DashboardResponse> failedFuture = CompletableFuture.failedFuture(new RuntimeException("Test exception"));
+        byte[] storedBody = SerializedResponse.of(TEST_BODY, TEST_NOW.minusSeconds(90)).toBytes();
+        CompletableFuture<Optional<byte[]>> optionalBodyFuture = CompletableFuture.completedFuture(Optional.of(storedBody));
+
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(failedFuture);
+        Mockito.when(cacheManager.getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY)).thenReturn(optionalBodyFuture);
+
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isDone);
+        HttpHeaders headers = new DefaultHttpHeaders()
+                .set(HttpHeaderNames.CACHE_CONTROL, "public, max-age=10, stale-while-revalidate=30, stale-if-error=300")
+                .set(HttpHeaderNames.AGE, "90")
+                .set(HttpHeaderNames.ETAG, TEST_SERIALIZED_RESPONSE.etag())
+                .set(HttpHeaderNames.VARY, DashboardGetAsyncHttpEndpointProcessor.VARY_HEADER_VALUE);
+        Mockito.verify(responseSender).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, headers, NOT_KEEP_ALIVE);
     }
 
     @Test
     void shouldProcessWithFailedToFetchData() {
         CompletableFuture<DashboardResponse> failedFuture = CompletableFuture.failedFuture(new RuntimeException("Test exception"));
-        CompletableFuture<Optional<DashboardResponse>> optionalEmptyResponseFuture = CompletableFuture.completedFuture(Optional.empty());
+        CompletableFuture<Optional<byte[]>> optionalEmptyBodyFuture = CompletableFuture.completedFuture(Optional.empty());
 
-        Mockito.when(apiAggregator.aggregate()).thenReturn(failedFuture);
-        Mockito.when(cacheManager.get(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, DashboardResponse.class)).thenReturn(optionalEmptyResponseFuture);
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(failedFuture);
+        Mockito.when(cacheManager.getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY)).thenReturn(optionalEmptyBodyFuture);
 
-        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, responseSender, NOT_KEEP_ALIVE);
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
         Awaitility.await().untilAsserted(result::isDone);
-        Mockito.verify(apiAggregator).aggregate();
-        Mockito.verify(cacheManager).get(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, DashboardResponse.class);
-        Mockito.verify(cacheManager, Mockito.never()).put(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, dashboardResponse);
+        Mockito.verify(apiAggregator).aggregate(Mockito.any(CancellationToken.class));
+        Mockito.verify(cacheManager).getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY);
+        Mockito.verify(cacheManager, Mockito.never()).putBytes(Mockito.eq(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY), Mockito.any(), Mockito.any());
         Mockito.verify(responseSender).send(context, DashboardGetAsyncHttpEndpointProcessor.FAILED_TO_FETCH_DATA_MESSAGE, HttpResponseStatus.INTERNAL_SERVER_ERROR, NOT_KEEP_ALIVE);
     }
 
     @Test
-    void shouldProcessWithUnexpectedServerError() {
+    void shouldProcessWhenCachePutFailsSuccessfully() {
         CompletableFuture<DashboardResponse> responseFuture = CompletableFuture.completedFuture(dashboardResponse);
         CompletableFuture<Void> failedFuture = CompletableFuture.failedFuture(new RuntimeException("Test exception"));
 
-        Mockito.when(apiAggregator.aggregate()).thenReturn(responseFuture);
-        Mockito.when(cacheManager.put(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, dashboardResponse)).thenReturn(failedFuture);
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(responseFuture);
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(TEST_BODY);
+        Mockito.when(cacheManager.putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, TEST_STORED_BODY, TEST_STORAGE_TTL)).thenReturn(failedFuture);
+
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(apiAggregator).aggregate(Mockito.any(CancellationToken.class));
+        Mockito.verify(cacheManager, Mockito.never()).getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY);
+        Mockito.verify(cacheManager).putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, TEST_STORED_BODY, TEST_STORAGE_TTL);
+        Mockito.verify(responseSender).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, TEST_HEADERS, NOT_KEEP_ALIVE);
+    }
+
+    @Test
+    void shouldProcessWithUnexpectedServerError() {
+        CompletableFuture<DashboardResponse> responseFuture = CompletableFuture.completedFuture(dashboardResponse);
+
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(responseFuture);
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenThrow(new RuntimeException("Test exception"));
 
-        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, responseSender, NOT_KEEP_ALIVE);
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
         Awaitility.await().untilAsserted(result::isDone);
-        Mockito.verify(apiAggregator).aggregate();
-        Mockito.verify(cacheManager, Mockito.never()).get(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, DashboardResponse.class);
-        Mockito.verify(cacheManager).put(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, dashboardResponse);
+        Mockito.verify(apiAggregator).aggregate(Mockito.any(CancellationToken.class));
+        Mockito.verify(cacheManager, Mockito.never()).putBytes(Mockito.eq(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY), Mockito.any(), Mockito.any());
         Mockito.verify(responseSender).send(context, DashboardGetAsyncHttpEndpointProcessor.UNEXPECTED_SERVER_ERROR_MESSAGE, HttpResponseStatus.INTERNAL_SERVER_ERROR, NOT_KEEP_ALIVE);
     }
 
+    @Test
+    void shouldProcessWithNotModifiedSuccessfully() {
+        CompletableFuture<DashboardResponse> responseFuture = CompletableFuture.completedFuture(dashboardResponse);
+        CompletableFuture<Void> voidFuture = CompletableFuture.completedFuture(null);
+        request.headers().set(HttpHeaderNames.IF_NONE_MATCH, "\"other\", W/" + TEST_SERIALIZED_RESPONSE.etag());
+
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(responseFuture);
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(TEST_BODY);
+        Mockito.when(cacheManager.putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, TEST_STORED_BODY, TEST_STORAGE_TTL)).thenReturn(voidFuture);
+
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(responseSender).sendSerialized(context, DashboardGetAsyncHttpEndpointProcessor.NOT_MODIFIED_BODY, HttpResponseStatus.NOT_MODIFIED, TEST_HEADERS, NOT_KEEP_ALIVE);
+        Mockito.verify(responseSender, Mockito.never()).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, TEST_HEADERS, NOT_KEEP_ALIVE);
+    }
+
+    @Test
+    void shouldProcessWithNotModifiedFromCacheSuccessfully() {
+        CompletableFuture<DashboardResponse> failedFuture = CompletableFuture.failedFuture(new RuntimeException("Test exception"));
+        CompletableFuture<Optional<byte[]>> optionalBodyFuture = CompletableFuture.completedFuture(Optional.of(TEST_STORED_BODY));
+        request.headers().set(HttpHeaderNames.IF_NONE_MATCH, TEST_SERIALIZED_RESPONSE.etag());
+
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(failedFuture);
+        Mockito.when(cacheManager.getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY)).thenReturn(optionalBodyFuture);
+
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(responseSender).sendSerialized(context, DashboardGetAsyncHttpEndpointProcessor.NOT_MODIFIED_BODY, HttpResponseStatus.NOT_MODIFIED, TEST_HEADERS, NOT_KEEP_ALIVE);
+    }
+
+    @Test
+    void shouldProcessPollsWithNotModifiedWhileFreshSuccessfully() {
+        CompletableFuture<DashboardResponse> responseFuture = CompletableFuture.completedFuture(dashboardResponse);
+        CompletableFuture<Void> voidFuture = CompletableFuture.completedFuture(null);
+
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(responseFuture);
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(TEST_BODY);
+        Mockito.when(cacheManager.putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, TEST_STORED_BODY, TEST_STORAGE_TTL)).thenReturn(voidFuture);
+
+        dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE).join();
+        Mockito.verify(responseSender).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, TEST_HEADERS, NOT_KEEP_ALIVE);
+        request.headers().set(HttpHeaderNames.IF_NONE_MATCH, TEST_HEADERS.get(HttpHeaderNames.ETAG));
+        dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE).join();
+        dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE).join();
+
+        Mockito.verify(apiAggregator).aggregate(Mockito.any(CancellationToken.class));
+        Mockito.verify(responseSender, Mockito.times(2)).sendSerialized(context, DashboardGetAsyncHttpEndpointProcessor.NOT_MODIFIED_BODY, HttpResponseStatus.NOT_MODIFIED, TEST_HEADERS, NOT_KEEP_ALIVE);
+        Mockito.verify(cacheManager, Mockito.never()).getBytes(Mockito.any());
+    }
+
+    @Test
+    void shouldAggregateAgainOnceStaleSuccessfully() {
+        Clock clock = Mockito.mock(Clock.class);
+        AsyncHttpEndpointProcessor processor = new DashboardGetAsyncHttpEndpointProcessor(cacheManager, apiAggregator, TEST_CACHE_CONTROL_POLICY, clock);
+        CompletableFuture<DashboardResponse> responseFuture = CompletableFuture.completedFuture(dashboardResponse);
+
+        Mockito.when(clock.instant()).thenReturn(TEST_NOW, TEST_NOW, TEST_NOW.plus(TEST_CACHE_CONTROL_POLICY.maxAge()));
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(responseFuture);
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(TEST_BODY);
+        Mockito.when(cacheManager.putBytes(Mockito.eq(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY), Mockito.any(), Mockito.eq(TEST_STORAGE_TTL))).thenReturn(CompletableFuture.completedFuture(null));
+
+        processor.process(context, request, responseSender, NOT_KEEP_ALIVE).join();
+        processor.process(context, request, responseSender, NOT_KEEP_ALIVE).join();
+
+        Mockito.verify(apiAggregator, Mockito.times(2)).aggregate(Mockito.any(CancellationToken.class));
+    }
+
+    @Test
+    void shouldProcessWithFieldSelectionSuccessfully() {
+        FullHttpRequest selectionRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT.method(), DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_ENDPOINT_PATH + "?fields=ip,weather");
+        String cacheKey = DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY + ":weather,ip";
+        CompletableFuture<DashboardResponse> responseFuture = CompletableFuture.completedFuture(dashboardResponse);
+        CompletableFuture<Void> voidFuture = CompletableFuture.completedFuture(null);
+
+        Mockito.when(apiAggregator.aggregate(Mockito.eq(Set.of(DashboardAsyncApiAggregator.WEATHER_SECTION, DashboardAsyncApiAggregator.IP_SECTION)), Mockito.any(CancellationToken.class))).thenReturn(responseFuture);
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(TEST_BODY);
+        Mockito.when(cacheManager.putBytes(cacheKey, TEST_STORED_BODY, TEST_STORAGE_TTL)).thenReturn(voidFuture);
+
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, selectionRequest, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(apiAggregator, Mockito.never()).aggregate(Mockito.any(CancellationToken.class));
+        Mockito.verify(cacheManager).putBytes(cacheKey, TEST_STORED_BODY, TEST_STORAGE_TTL);
+        Mockito.verify(responseSender).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, TEST_HEADERS, NOT_KEEP_ALIVE);
+    }
+
+    @Test
+    void shouldProcessWithNegotiatedFormatSuccessfully() {
+        FullHttpRequest cborRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT.method(), DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_ENDPOINT_PATH);
+        cborRequest.headers().set(HttpHeaderNames.ACCEPT, "application/cbor");
+        String cacheKey = DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY + ":cbor";
+        HttpResponseSender cborSender = Mockito.mock(HttpResponseSender.class);
+        CompletableFuture<DashboardResponse> responseFuture = CompletableFuture.completedFuture(dashboardResponse);
+        CompletableFuture<Void> voidFuture = CompletableFuture.completedFuture(null);
+
+        Mockito.when(responseSender.negotiate("application/cbor")).thenReturn(cborSender);
+        Mockito.when(cborSender.getFormat()).thenReturn(ResponseFormat.CBOR);
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(responseFuture);
+        Mockito.when(cborSender.serialize(dashboardResponse)).thenReturn(TEST_BODY);
+        Mockito.when(cacheManager.putBytes(cacheKey, TEST_STORED_BODY, TEST_STORAGE_TTL)).thenReturn(voidFuture);
+
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, cborRequest, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(cacheManager).putBytes(cacheKey, TEST_STORED_BODY, TEST_STORAGE_TTL);
+        Mockito.verify(cborSender).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, TEST_HEADERS, NOT_KEEP_ALIVE);
+        Mockito.verify(responseSender, Mockito.never()).sendSerialized(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+    }
+
+    @Test
+    void shouldProcessWithCompressionSuccessfully() {
+        byte[] body = "{\"fact\":\"%s\"}".formatted("a".repeat(256)).getBytes();
+        SerializedResponse serialized = SerializedResponse.of(body, TEST_NOW);
+        CompressedBodyCache compressedBodyCache = new CompressedBodyCache(0, Deflater.BEST_COMPRESSION);
+        AsyncHttpEndpointProcessor compressingProcessor = new DashboardGetAsyncHttpEndpointProcessor(cacheManager, apiAggregator, TEST_CACHE_CONTROL_POLICY, TEST_CLOCK, compressedBodyCache, TEST_SOFT_DEADLINE);
+        request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, "gzip, deflate");
+        CompletableFuture<DashboardResponse> responseFuture = CompletableFuture.completedFuture(dashboardResponse);
+        CompletableFuture<Void> voidFuture = CompletableFuture.completedFuture(null);
+
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(responseFuture);
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(body);
+        Mockito.when(cacheManager.putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, serialized.toBytes(), TEST_STORAGE_TTL)).thenReturn(voidFuture);
+
+        CompletableFuture<Void> result = compressingProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isDone);
+        HttpHeaders headers = TEST_CACHE_CONTROL_POLICY.apply(new DefaultHttpHeaders(), TEST_NOW, TEST_NOW)
+                .set(HttpHeaderNames.ETAG, SerializedResponse.WEAK_ETAG_PREFIX + serialized.etag())
+                .set(HttpHeaderNames.VARY, DashboardGetAsyncHttpEndpointProcessor.VARY_HEADER_VALUE)
+                .set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.GZIP);
+        Mockito.verify(responseSender).sendBuffer(context, compressedBodyCache.get(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, serialized, ContentCoding.GZIP), HttpResponseStatus.OK, headers, NOT_KEEP_ALIVE);
+        Mockito.verify(responseSender, Mockito.never()).sendSerialized(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Assertions.assertEquals(1, compressedBodyCache.getCachedVariantCount());
+    }
+
+    @Test
+    void shouldProcessWithCacheAfterSoftDeadlineSuccessfully() {
+        byte[] freshBody = "{\"fresh\":true}".getBytes();
+        SerializedResponse freshResponse = SerializedResponse.of(freshBody, TEST_NOW);
+        AsyncHttpEndpointProcessor deadlineProcessor = new DashboardGetAsyncHttpEndpointProcessor(cacheManager, apiAggregator, TEST_CACHE_CONTROL_POLICY, TEST_CLOCK, new CompressedBodyCache(), TEST_SOFT_DEADLINE);
+        CompletableFuture<DashboardResponse> pendingFuture = new CompletableFuture<>();
+        CompletableFuture<Optional<byte[]>> optionalBodyFuture = CompletableFuture.completedFuture(Optional.of(TEST_STORED_BODY));
+        CompletableFuture<Void> voidFuture = CompletableFuture.completedFuture(null);
+
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(pendingFuture);
+        Mockito.when(cacheManager.getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY)).thenReturn(optionalBodyFuture);
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(freshBody);
+        Mockito.when(cacheManager.putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, freshResponse.toBytes(), TEST_STORAGE_TTL)).thenReturn(voidFuture);
+
+        CompletableFuture<Void> result = deadlineProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().until(result::isDone);
+        Mockito.verify(responseSender).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, TEST_HEADERS, NOT_KEEP_ALIVE);
+        Mockito.verify(cacheManager, Mockito.never()).putBytes(Mockito.any(), Mockito.any(), Mockito.any());
+
+        pendingFuture.complete(dashboardResponse);
+        Mockito.verify(cacheManager).putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, freshResponse.toBytes(), TEST_STORAGE_TTL);
+        Mockito.verify(responseSender, Mockito.never()).sendSerialized(Mockito.eq(context), Mockito.eq(freshBody), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+    }
+
+    @Test
+    void shouldProcessWithLiveDataAfterSoftDeadlineWithoutCacheSuccessfully() {
+        AsyncHttpEndpointProcessor deadlineProcessor = new DashboardGetAsyncHttpEndpointProcessor(cacheManager, apiAggregator, TEST_CACHE_CONTROL_POLICY, TEST_CLOCK, new CompressedBodyCache(), TEST_SOFT_DEADLINE);
+        CompletableFuture<DashboardResponse> pendingFuture = new CompletableFuture<>();
+        CompletableFuture<Optional<byte[]>> optionalEmptyBodyFuture = CompletableFuture.completedFuture(Optional.empty());
+        CompletableFuture<Void> voidFuture = CompletableFuture.completedFuture(null);
+
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenReturn(pendingFuture);
+        Mockito.when(cacheManager.getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY)).thenReturn(optionalEmptyBodyFuture);
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(TEST_BODY);
+        Mockito.when(cacheManager.putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, TEST_STORED_BODY, TEST_STORAGE_TTL)).thenReturn(voidFuture);
+
+        CompletableFuture<Void> result = deadlineProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        Mockito.verify(cacheManager, Mockito.timeout(1000)).getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY);
+        Assertions.assertFalse(result.isDone());
+
+        pendingFuture.complete(dashboardResponse);
+        Awaitility.await().until(result::isDone);
+        Mockito.verify(responseSender).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, TEST_HEADERS, NOT_KEEP_ALIVE);
+    }
+
+    @Test
+    void shouldProcessWithInvalidFields() {
+        FullHttpRequest selectionRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT.method(), DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_ENDPOINT_PATH + "?fields=weather,unknown");
+
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, selectionRequest, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(apiAggregator, Mockito.never()).aggregate(Mockito.anySet(), Mockito.any(CancellationToken.class));
+        Mockito.verify(responseSender).send(context, DashboardGetAsyncHttpEndpointProcessor.INVALID_FIELDS_MESSAGE, HttpResponseStatus.BAD_REQUEST, NOT_KEEP_ALIVE);
+    }
+
+    @Test
+    void shouldCancelAggregationOnDisconnectSuccessfully() throws Exception {
+        CompletableFuture<DashboardResponse> pendingFuture = new CompletableFuture<>();
+        ArgumentCaptor<CancellationToken> tokenCaptor = ArgumentCaptor.forClass(CancellationToken.class);
+        ArgumentCaptor<ChannelFutureListener> listenerCaptor = ArgumentCaptor.forClass(ChannelFutureListener.class);
+
+        Mockito.when(apiAggregator.aggregate(tokenCaptor.capture())).thenReturn(pendingFuture);
+
+        CompletableFuture<Void> result = dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        Mockito.verify(closeFuture).addListener(listenerCaptor.capture());
+        listenerCaptor.getValue().operationComplete(closeFuture);
+        Assertions.assertTrue(tokenCaptor.getValue().isCancelled());
+
+        pendingFuture.completeExceptionally(new CancellationException("Test cancellation"));
+        Awaitility.await().until(result::isDone);
+        Mockito.verify(cacheManager, Mockito.never()).getBytes(Mockito.any());
+        Mockito.verify(responseSender, Mockito.never()).sendSerialized(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(responseSender, Mockito.never()).send(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.verify(closeFuture).removeListener(listenerCaptor.getValue());
+    }
+
+    @Test
+    void shouldKeepRefreshingWhenConnectionClosesDuringSendSuccessfully() {
+        byte[] freshBody = "{\"fresh\":true}".getBytes();
+        SerializedResponse freshResponse = SerializedResponse.of(freshBody, TEST_NOW);
+        AsyncHttpEndpointProcessor deadlineProcessor = new DashboardGetAsyncHttpEndpointProcessor(cacheManager, apiAggregator, TEST_CACHE_CONTROL_POLICY, TEST_CLOCK, new CompressedBodyCache(), TEST_SOFT_DEADLINE);
+        CompletableFuture<DashboardResponse> pendingFuture = new CompletableFuture<>();
+        ArgumentCaptor<CancellationToken> tokenCaptor = ArgumentCaptor.forClass(CancellationToken.class);
+        AtomicReference<GenericFutureListener<?>> registeredListener = new AtomicReference<>();
+
+        Mockito.when(closeFuture.addListener(Mockito.any())).thenAnswer(invocation -> {
+            registeredListener.set(invocation.getArgument(0));
+            return closeFuture;
+        });
+        Mockito.when(closeFuture.removeListener(Mockito.any())).thenAnswer(invocation -> {
+            registeredListener.compareAndSet(invocation.getArgument(0), null);
+            return closeFuture;
+        });
+        Mockito.doAnswer(invocation -> {
+            ChannelFutureListener listener = (ChannelFutureListener) registeredListener.get();
+            if (listener != null) listener.operationComplete(closeFuture);
+            return null;
+        }).when(responseSender).sendSerialized(Mockito.eq(context), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.anyBoolean());
+        Mockito.when(apiAggregator.aggregate(tokenCaptor.capture())).thenReturn(pendingFuture);
+        Mockito.when(cacheManager.getBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY)).thenReturn(CompletableFuture.completedFuture(Optional.of(TEST_STORED_BODY)));
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(freshBody);
+        Mockito.when(cacheManager.putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, freshResponse.toBytes(), TEST_STORAGE_TTL)).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<Void> result = deadlineProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE);
+        Awaitility.await().until(result::isDone);
+        Mockito.verify(responseSender).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, TEST_HEADERS, NOT_KEEP_ALIVE);
+        Assertions.assertFalse(tokenCaptor.getValue().isCancelled());
+
+        pendingFuture.complete(dashboardResponse);
+        Mockito.verify(cacheManager).putBytes(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_CACHE_KEY, freshResponse.toBytes(), TEST_STORAGE_TTL);
+    }
+
     @Test
     void shouldFailToProcess() {
-        Mockito.when(apiAggregator.aggregate()).thenThrow(RuntimeException.class);
+        Mockito.when(apiAggregator.aggregate(Mockito.any(CancellationToken.class))).thenThrow(RuntimeException.class);
 
-        Assertions.assertThrows(CompletionException.class, () -> dashboardGetAsyncHttpEndpointProcessor.process(context, responseSender, NOT_KEEP_ALIVE).join());
+        Assertions.assertThrows(CompletionException.class, () -> dashboardGetAsyncHttpEndpointProcessor.process(context, request, responseSender, NOT_KEEP_ALIVE).join());
     }
 }
@@ -0,0 +1,128 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.maksymuimanov.task.api.AsyncApiAggregator;
+import io.maksymuimanov.task.dto.DashboardResponse;
+import io.maksymuimanov.task.exception.HttpEndpointProcessionException;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@SuppressWarnings("unchecked")
+class DashboardStreamGetAsyncHttpEndpointProcessorTests {
+    static final boolean KEEP_ALIVE = true;
+    static final Duration TEST_REFRESH_INTERVAL = Duration.ofHours(1);
+    static final byte[] TEST_BODY = "{}".getBytes();
+    static final byte[] TEST_OTHER_BODY = "{\"a\":\"a\"}".getBytes();
+    DashboardStreamGetAsyncHttpEndpointProcessor dashboardStreamGetAsyncHttpEndpointProcessor;
+    AsyncApiAggregator<DashboardResponse> apiAggregator;
+    HttpResponseSender responseSender;
+    ServerSentEventBroadcaster broadcaster;
+    ChannelHandlerContext context;
+    ChannelPipeline pipeline;
+    Channel channel;
+    FullHttpRequest request;
+    DashboardResponse dashboardResponse;
+
+    @BeforeEach
+    void setUp() {
+        apiAggregator = Mockito.mock(AsyncApiAggregator.class);
+        responseSender = Mockito.mock(HttpResponseSender.class);
+        broadcaster = Mockito.mock(ServerSentEventBroadcaster.class);
+        context = Mockito.mock(ChannelHandlerContext.class);
+        pipeline = Mockito.mock(ChannelPipeline.class);
+        channel = Mockito.mock(Channel.class);
+        request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, DashboardStreamGetAsyncHttpEndpointProcessor.DASHBOARD_STREAM_HTTP_ENDPOINT.method(), DashboardStreamGetAsyncHttpEndpointProcessor.DASHBOARD_STREAM_HTTP_ENDPOINT.path());
+        dashboardResponse = Mockito.mock(DashboardResponse.class);
+        Mockito.when(context.pipeline()).thenReturn(pipeline);
+        Mockito.when(context.channel()).thenReturn(channel);
+        Mockito.when(broadcaster.getSubscriberCount()).thenReturn(1);
+        dashboardStreamGetAsyncHttpEndpointProcessor = new DashboardStreamGetAsyncHttpEndpointProcessor(apiAggregator, responseSender, broadcaster, TEST_REFRESH_INTERVAL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardStreamGetAsyncHttpEndpointProcessor.close();
+    }
+
+    @Test
+    void shouldSubscribeWithLatestSnapshotSuccessfully() {
+        Mockito.when(pipeline.get(ReadTimeoutHandler.class)).thenReturn(Mockito.mock(ReadTimeoutHandler.class));
+        Mockito.when(broadcaster.subscribe(channel)).thenReturn(true);
+
+        CompletableFuture<Void> result = dashboardStreamGetAsyncHttpEndpointProcessor.process(context, request, responseSender, KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(pipeline).remove(ReadTimeoutHandler.class);
+        Mockito.verify(responseSender).sendChunkedHead(context, HttpResponseStatus.OK, DashboardStreamGetAsyncHttpEndpointProcessor.EVENT_STREAM_HEADERS, KEEP_ALIVE);
+        Mockito.verify(broadcaster).subscribe(channel);
+        Mockito.verifyNoInteractions(apiAggregator);
+    }
+
+    @Test
+    void shouldSubscribeAndRefreshWithoutSnapshotSuccessfully() {
+        Mockito.when(broadcaster.subscribe(channel)).thenReturn(false);
+        Mockito.when(apiAggregator.aggregate()).thenReturn(CompletableFuture.completedFuture(dashboardResponse));
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(TEST_BODY);
+
+        CompletableFuture<Void> result = dashboardStreamGetAsyncHttpEndpointProcessor.process(context, request, responseSender, KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isDone);
+        Mockito.verify(pipeline, Mockito.never()).remove(ReadTimeoutHandler.class);
+        Mockito.verify(broadcaster).publish(Mockito.anyString(), Mockito.eq(DashboardStreamGetAsyncHttpEndpointProcessor.DASHBOARD_EVENT), Mockito.eq(TEST_BODY));
+    }
+
+    @Test
+    void shouldPublishOnlyChangedSnapshotsSuccessfully() {
+        Mockito.when(apiAggregator.aggregate()).thenReturn(CompletableFuture.completedFuture(dashboardResponse));
+        Mockito.when(responseSender.serialize(dashboardResponse)).thenReturn(TEST_BODY, TEST_BODY, TEST_OTHER_BODY);
+
+        dashboardStreamGetAsyncHttpEndpointProcessor.refresh().join();
+        dashboardStreamGetAsyncHttpEndpointProcessor.refresh().join();
+        dashboardStreamGetAsyncHttpEndpointProcessor.refresh().join();
+        String etag = SerializedResponse.of(TEST_BODY, Instant.EPOCH).etag();
+        Mockito.verify(broadcaster).publish(etag.substring(1, etag.length() - 1), DashboardStreamGetAsyncHttpEndpointProcessor.DASHBOARD_EVENT, TEST_BODY);
+        Mockito.verify(broadcaster).publish(Mockito.anyString(), Mockito.eq(DashboardStreamGetAsyncHttpEndpointProcessor.DASHBOARD_EVENT), Mockito.eq(TEST_OTHER_BODY));
+        Mockito.verify(broadcaster).heartbeat();
+    }
+
+    @Test
+    void shouldSendHeartbeatWhenRefreshFailsSuccessfully() {
+        Mockito.when(apiAggregator.aggregate()).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Test exception")));
+
+        dashboardStreamGetAsyncHttpEndpointProcessor.refresh().join();
+        Mockito.verify(broadcaster).heartbeat();
+        Mockito.verify(broadcaster, Mockito.never()).publish(Mockito.anyString(), Mockito.anyString(), Mockito.any());
+    }
+
+    @Test
+    void shouldSkipRefreshWithoutSubscribersSuccessfully() {
+        Mockito.when(broadcaster.getSubscriberCount()).thenReturn(0);
+
+        dashboardStreamGetAsyncHttpEndpointProcessor.refresh().join();
+        Mockito.verifyNoInteractions(apiAggregator);
+    }
+
+    @Test
+    void shouldFailToProcess() {
+        Mockito.when(context.pipeline()).thenThrow(RuntimeException.class);
+
+        CompletableFuture<Void> result = dashboardStreamGetAsyncHttpEndpointProcessor.process(context, request, responseSender, KEEP_ALIVE);
+        Awaitility.await().untilAsserted(result::isCompletedExceptionally);
+        CompletionException completionException = Assertions.assertThrows(CompletionException.class, result::join);
+        Assertions.assertInstanceOf(HttpEndpointProcessionException.class, completionException.getCause());
+    }
+}
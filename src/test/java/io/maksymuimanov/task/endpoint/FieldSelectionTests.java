@@ -0,0 +1,45 @@
+package io.maksymuimanov.task.endpoint;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class FieldSelectionTests {
+    static final List<String> TEST_FIELDS = List.of("weather", "fact", "ip");
+    static final String TEST_BASE_KEY = "dashboard";
+
+    @Test
+    void shouldSelectAllWithoutParameterSuccessfully() {
+        FieldSelection selection = FieldSelection.fromUri("/api/dashboard", TEST_FIELDS);
+
+        Assertions.assertTrue(selection.all());
+        Assertions.assertEquals(List.copyOf(TEST_FIELDS), List.copyOf(selection.fields()));
+        Assertions.assertEquals(TEST_BASE_KEY, selection.cacheKey(TEST_BASE_KEY));
+        Assertions.assertTrue(FieldSelection.fromUri("/api/dashboard?fields=", TEST_FIELDS).all());
+        Assertions.assertTrue(FieldSelection.fromUri("/api/dashboard?fresh=true", TEST_FIELDS).all());
+    }
+
+    @Test
+    void shouldSelectFieldsInCanonicalOrderSuccessfully() {
+        FieldSelection selection = FieldSelection.fromUri("/api/dashboard?fields=ip,%20weather&fields=ip", TEST_FIELDS);
+
+        Assertions.assertFalse(selection.all());
+        Assertions.assertEquals(List.of("weather", "ip"), List.copyOf(selection.fields()));
+        Assertions.assertEquals("dashboard:weather,ip", selection.cacheKey(TEST_BASE_KEY));
+        Assertions.assertEquals(selection.cacheKey(TEST_BASE_KEY), FieldSelection.fromUri("/api/dashboard?fields=weather,ip", TEST_FIELDS).cacheKey(TEST_BASE_KEY));
+    }
+
+    @Test
+    void shouldTreatEveryFieldAsAllSuccessfully() {
+        FieldSelection selection = FieldSelection.fromUri("/api/dashboard?fields=ip,fact,weather", TEST_FIELDS);
+
+        Assertions.assertTrue(selection.all());
+        Assertions.assertEquals(TEST_BASE_KEY, selection.cacheKey(TEST_BASE_KEY));
+    }
+
+    @Test
+    void shouldFailToSelectUnknownField() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FieldSelection.fromUri("/api/dashboard?fields=weather,unknown", TEST_FIELDS));
+    }
+}
@@ -0,0 +1,93 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.maksymuimanov.task.dto.HttpEndpoint;
+import io.netty.handler.codec.http.HttpMethod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+
+class HttpRouterTests {
+    static final HttpEndpoint TEST_STATIC_ENDPOINT = new HttpEndpoint("/api/users/me", HttpMethod.GET);
+    static final HttpEndpoint TEST_TEMPLATE_ENDPOINT = new HttpEndpoint("/api/users/{id}/orders/{orderId}", HttpMethod.GET);
+    static final HttpEndpoint TEST_TEMPLATE_DELETE_ENDPOINT = new HttpEndpoint("/api/users/{id}/orders/{orderId}", HttpMethod.DELETE);
+    static final HttpEndpoint TEST_WILDCARD_ENDPOINT = new HttpEndpoint("/static/*", HttpMethod.GET);
+    static final HttpEndpoint TEST_ROOT_ENDPOINT = new HttpEndpoint("/", HttpMethod.GET);
+    HttpRouter httpRouter;
+    AsyncHttpEndpointProcessor staticProcessor;
+    AsyncHttpEndpointProcessor templateProcessor;
+    AsyncHttpEndpointProcessor templateDeleteProcessor;
+    AsyncHttpEndpointProcessor wildcardProcessor;
+    AsyncHttpEndpointProcessor rootProcessor;
+
+    @BeforeEach
+    void setUp() {
+        staticProcessor = Mockito.mock(AsyncHttpEndpointProcessor.class);
+        templateProcessor = Mockito.mock(AsyncHttpEndpointProcessor.class);
+        templateDeleteProcessor = Mockito.mock(AsyncHttpEndpointProcessor.class);
+        wildcardProcessor = Mockito.mock(AsyncHttpEndpointProcessor.class);
+        rootProcessor = Mockito.mock(AsyncHttpEndpointProcessor.class);
+        httpRouter = new HttpRouter(Map.of(
+                TEST_STATIC_ENDPOINT, staticProcessor,
+                TEST_TEMPLATE_ENDPOINT, templateProcessor,
+                TEST_TEMPLATE_DELETE_ENDPOINT, templateDeleteProcessor,
+                TEST_WILDCARD_ENDPOINT, wildcardProcessor,
+                TEST_ROOT_ENDPOINT, rootProcessor));
+    }
+
+    @Test
+    void shouldRouteStaticPathSuccessfully() {
+        HttpRoute route = httpRouter.route(HttpMethod.GET, "/api/users/me?verbose=true");
+
+        Assertions.assertEquals(HttpRoute.Status.FOUND, route.status());
+        Assertions.assertSame(staticProcessor, route.processor());
+        Assertions.assertSame(route, httpRouter.route(HttpMethod.GET, "/api/users/me/"));
+    }
+
+    @Test
+    void shouldRouteTemplatedPathSuccessfully() {
+        HttpRoute route = httpRouter.route(HttpMethod.DELETE, "/api/users/42/orders/7");
+
+        Assertions.assertSame(templateDeleteProcessor, route.processor());
+        Assertions.assertEquals(Map.of("id", "42", "orderId", "7"), route.pathParameters("/api/users/42/orders/7"));
+    }
+
+    @Test
+    void shouldBacktrackFromLiteralToTemplateSuccessfully() {
+        HttpRoute route = httpRouter.route(HttpMethod.GET, "/api/users/me/orders/7");
+
+        Assertions.assertSame(templateProcessor, route.processor());
+        Assertions.assertEquals(Map.of("id", "me", "orderId", "7"), route.pathParameters("/api/users/me/orders/7"));
+    }
+
+    @Test
+    void shouldRouteWildcardSuccessfully() {
+        Assertions.assertSame(wildcardProcessor, httpRouter.route(HttpMethod.GET, "/static/css/site.css").processor());
+        Assertions.assertSame(wildcardProcessor, httpRouter.route(HttpMethod.GET, "/static").processor());
+    }
+
+    @Test
+    void shouldRouteRootAndAbsoluteFormSuccessfully() {
+        Assertions.assertSame(rootProcessor, httpRouter.route(HttpMethod.GET, "/").processor());
+        Assertions.assertSame(staticProcessor, httpRouter.route(HttpMethod.GET, "http://localhost:8080/api/users/me").processor());
+    }
+
+    @Test
+    void shouldDistinguishNotFoundFromMethodNotAllowedSuccessfully() {
+        Assertions.assertSame(HttpRoute.NOT_FOUND, httpRouter.route(HttpMethod.GET, "/api/unknown"));
+        Assertions.assertSame(HttpRoute.NOT_FOUND, httpRouter.route(HttpMethod.GET, "/api/users"));
+
+        HttpRoute route = httpRouter.route(HttpMethod.POST, "/api/users/42/orders/7");
+        Assertions.assertEquals(HttpRoute.Status.METHOD_NOT_ALLOWED, route.status());
+        Assertions.assertEquals("DELETE, GET", route.allowedMethods());
+    }
+
+    @Test
+    void shouldFailToCompileMisplacedWildcard() {
+        Map<HttpEndpoint, AsyncHttpEndpointProcessor> endpointProcessors = Map.of(new HttpEndpoint("/static/*/file", HttpMethod.GET), wildcardProcessor);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HttpRouter(endpointProcessors));
+    }
+}
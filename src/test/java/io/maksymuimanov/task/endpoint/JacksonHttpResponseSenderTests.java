@@ -0,0 +1,181 @@
+package io.maksymuimanov.task.endpoint;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.maksymuimanov.task.exception.HttpResponseSendingException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+class JacksonHttpResponseSenderTests {
+    static final Object TEST_RESPONSE_BODY = "{\"a\": \"a\"}";
+    static final int TEST_JSON_BUFFER_SIZE = 1;
+    static final byte[] TEST_JSON_BUFFER = new byte[TEST_JSON_BUFFER_SIZE];
+    static final ByteBuf TEST_RESPONSE_BUFFER = Unpooled.wrappedBuffer(TEST_JSON_BUFFER);
+    HttpResponseSender jacksonHttpResponseSender;
+    ObjectMapper objectMapper;
+    ChannelHandlerContext context;
+    HttpResponseStatus status;
+    HttpResponse httpResponse;
+    ChannelFuture channelFuture;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Mockito.mock(ObjectMapper.class);
+        context = Mockito.mock(ChannelHandlerContext.class);
+        status = HttpResponseStatus.OK;
+        httpResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, TEST_RESPONSE_BUFFER);
+        httpResponse.headers()
+                .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                .setInt(HttpHeaderNames.CONTENT_LENGTH, TEST_JSON_BUFFER_SIZE);
+        channelFuture = Mockito.mock(ChannelFuture.class);
+        jacksonHttpResponseSender = new JacksonHttpResponseSender(objectMapper);
+    }
+
+    @Test
+    void shouldSendKeepAliveSuccessfully() throws JsonProcessingException {
+        boolean keepAlive = true;
+        httpResponse.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+
+        Mockito.when(objectMapper.writeValueAsBytes(TEST_RESPONSE_BODY)).thenReturn(TEST_JSON_BUFFER);
+        Mockito.when(context.writeAndFlush(httpResponse)).thenReturn(channelFuture);
+
+        jacksonHttpResponseSender.send(context, TEST_RESPONSE_BODY, status, keepAlive);
+        Mockito.verify(context).writeAndFlush(httpResponse);
+        Mockito.verify(channelFuture, Mockito.never()).addListener(ChannelFutureListener.CLOSE);
+    }
+
+    @Test
+    void shouldSendNonKeepAliveSuccessfully() throws JsonProcessingException {
+        boolean keepAlive = false;
+        httpResponse.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+
+        Mockito.when(objectMapper.writeValueAsBytes(TEST_RESPONSE_BODY)).thenReturn(TEST_JSON_BUFFER);
+        Mockito.when(context.writeAndFlush(httpResponse)).thenReturn(channelFuture);
+
+        jacksonHttpResponseSender.send(context, TEST_RESPONSE_BODY, status, keepAlive);
+        Mockito.verify(context).writeAndFlush(httpResponse);
+        Mockito.verify(channelFuture).addListener(ChannelFutureListener.CLOSE);
+    }
+
+    @Test
+    void shouldSendSerializedSuccessfully() throws JsonProcessingException {
+        boolean keepAlive = true;
+        httpResponse.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+
+        Mockito.when(context.writeAndFlush(httpResponse)).thenReturn(channelFuture);
+
+        jacksonHttpResponseSender.sendSerialized(context, TEST_JSON_BUFFER, status, keepAlive);
+        Mockito.verify(objectMapper, Mockito.never()).writeValueAsBytes(Mockito.any());
+        Mockito.verify(context).writeAndFlush(httpResponse);
+        Mockito.verify(channelFuture, Mockito.never()).addListener(ChannelFutureListener.CLOSE);
+    }
+
+    @Test
+    void shouldSendBufferSuccessfully() {
+        boolean keepAlive = true;
+        ByteBuf body = Unpooled.wrappedBuffer(TEST_JSON_BUFFER);
+        HttpHeaders headers = new DefaultHttpHeaders().set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.GZIP);
+        httpResponse.headers()
+                .set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.GZIP)
+                .set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+
+        Mockito.when(context.writeAndFlush(httpResponse)).thenReturn(channelFuture);
+
+        jacksonHttpResponseSender.sendBuffer(context, body, status, headers, keepAlive);
+        Mockito.verify(context).writeAndFlush(httpResponse);
+        Mockito.verify(channelFuture, Mockito.never()).addListener(ChannelFutureListener.CLOSE);
+    }
+
+    @Test
+    void shouldSendNotModifiedWithHeadersSuccessfully() {
+        boolean keepAlive = true;
+        byte[] emptyBody = new byte[0];
+        HttpHeaders headers = new DefaultHttpHeaders().set(HttpHeaderNames.ETAG, "\"etag\"");
+        HttpResponse notModifiedResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NOT_MODIFIED, Unpooled.wrappedBuffer(emptyBody));
+        notModifiedResponse.headers()
+                .set(HttpHeaderNames.ETAG, "\"etag\"")
+                .set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+
+        Mockito.when(context.writeAndFlush(notModifiedResponse)).thenReturn(channelFuture);
+
+        jacksonHttpResponseSender.sendSerialized(context, emptyBody, HttpResponseStatus.NOT_MODIFIED, headers, keepAlive);
+        Mockito.verify(context).writeAndFlush(notModifiedResponse);
+    }
+
+    @Test
+    void shouldSendChunkedResponseSuccessfully() {
+        boolean keepAlive = false;
+        HttpHeaders headers = new DefaultHttpHeaders().set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_STORE);
+        HttpResponse chunkedHead = new DefaultHttpResponse(HttpVersion.HTTP_1_1, status);
+        chunkedHead.headers()
+                .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                .set(HttpHeaderNames.TRANSFER_ENCODING, HttpHeaderValues.CHUNKED)
+                .set(HttpHeaderNames.CACHE_CONTROL, HttpHeaderValues.NO_STORE)
+                .set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+
+        Mockito.when(context.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT)).thenReturn(channelFuture);
+
+        jacksonHttpResponseSender.sendChunkedHead(context, status, headers, keepAlive);
+        jacksonHttpResponseSender.sendChunk(context, TEST_JSON_BUFFER);
+        jacksonHttpResponseSender.sendLastChunk(context, keepAlive);
+        Mockito.verify(context).writeAndFlush(chunkedHead);
+        Mockito.verify(context).writeAndFlush(Mockito.argThat(message -> message instanceof HttpContent content && !(message instanceof LastHttpContent) && Unpooled.wrappedBuffer(TEST_JSON_BUFFER).equals(content.content())));
+        Mockito.verify(context).writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        Mockito.verify(channelFuture).addListener(ChannelFutureListener.CLOSE);
+    }
+
+    @Test
+    void shouldSendSerializedInFormatSuccessfully() {
+        boolean keepAlive = true;
+        HttpResponseSender cborHttpResponseSender = new JacksonHttpResponseSender(new ObjectMapper(), ResponseFormat.CBOR);
+        HttpResponse cborResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, TEST_RESPONSE_BUFFER);
+        cborResponse.headers()
+                .set(HttpHeaderNames.CONTENT_TYPE, ResponseFormat.CBOR.getContentType())
+                .setInt(HttpHeaderNames.CONTENT_LENGTH, TEST_JSON_BUFFER_SIZE)
+                .set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
+
+        Mockito.when(context.writeAndFlush(cborResponse)).thenReturn(channelFuture);
+
+        cborHttpResponseSender.sendSerialized(context, TEST_JSON_BUFFER, status, keepAlive);
+        Mockito.verify(context).writeAndFlush(cborResponse);
+        Assertions.assertEquals(ResponseFormat.CBOR, cborHttpResponseSender.getFormat());
+    }
+
+    @Test
+    void shouldSerializeSuccessfully() throws JsonProcessingException {
+        Mockito.when(objectMapper.writeValueAsBytes(TEST_RESPONSE_BODY)).thenReturn(TEST_JSON_BUFFER);
+
+        Assertions.assertSame(TEST_JSON_BUFFER, jacksonHttpResponseSender.serialize(TEST_RESPONSE_BODY));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ResponseFormat.class, names = "JSON", mode = EnumSource.Mode.EXCLUDE)
+    void shouldSerializeSmallerThanJsonSuccessfully(ResponseFormat format) {
+        ObjectMapper realObjectMapper = new ObjectMapper();
+        Map<String, Object> weather = Map.of("time", "2025-11-05T12:00", "temperature", 11.4, "windspeed", 9.7, "winddirection", 238, "weathercode", 3);
+        Map<String, Object> body = Map.of("current_weather", weather, "hourly_weather", List.of(weather, weather, weather), "ip", "203.0.113.42");
+
+        byte[] json = new JacksonHttpResponseSender(realObjectMapper, ResponseFormat.JSON).serialize(body);
+        Assertions.assertTrue(new JacksonHttpResponseSender(realObjectMapper, format).serialize(body).length < json.length);
+    }
+
+    @Test
+    void shouldFailToSend() throws JsonProcessingException {
+        Mockito.when(objectMapper.writeValueAsBytes(TEST_RESPONSE_BODY)).thenThrow(RuntimeException.class);
+
+        Assertions.assertThrows(HttpResponseSendingException.class, () -> jacksonHttpResponseSender.send(context, TEST_RESPONSE_BODY, status, false));
+    }
+}
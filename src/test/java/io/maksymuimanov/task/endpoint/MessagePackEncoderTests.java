@@ -0,0 +1,171 @@
+package io.maksymuimanov.task.endpoint;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.maksymuimanov.task.dto.DashboardResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+class MessagePackEncoderTests {
+    static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    @Test
+    void shouldEncodeScalarsSuccessfully() throws IOException {
+        Assertions.assertArrayEquals(bytes(0xC0), MessagePackEncoder.encode(NODES.nullNode()));
+        Assertions.assertArrayEquals(bytes(0xC3), MessagePackEncoder.encode(NODES.booleanNode(true)));
+        Assertions.assertArrayEquals(bytes(0xC2), MessagePackEncoder.encode(NODES.booleanNode(false)));
+        Assertions.assertArrayEquals(bytes(0xA2, 'h', 'i'), MessagePackEncoder.encode(NODES.textNode("hi")));
+        Assertions.assertArrayEquals(bytes(0xCB, 0x3F, 0xF8, 0, 0, 0, 0, 0, 0), MessagePackEncoder.encode(NODES.numberNode(1.5)));
+    }
+
+    @Test
+    void shouldEncodeIntegersInSmallestFormSuccessfully() throws IOException {
+        Assertions.assertArrayEquals(bytes(0x7F), MessagePackEncoder.encode(NODES.numberNode(127)));
+        Assertions.assertArrayEquals(bytes(0xCC, 0x80), MessagePackEncoder.encode(NODES.numberNode(128)));
+        Assertions.assertArrayEquals(bytes(0xCD, 0x01, 0x00), MessagePackEncoder.encode(NODES.numberNode(256)));
+        Assertions.assertArrayEquals(bytes(0xCE, 0x00, 0x01, 0x00, 0x00), MessagePackEncoder.encode(NODES.numberNode(65536)));
+        Assertions.assertArrayEquals(bytes(0xFF), MessagePackEncoder.encode(NODES.numberNode(-1)));
+        Assertions.assertArrayEquals(bytes(0xD0, 0xDF), MessagePackEncoder.encode(NODES.numberNode(-33)));
+        Assertions.assertArrayEquals(bytes(0xD1, 0xFF, 0x7F), MessagePackEncoder.encode(NODES.numberNode(-129)));
+        Assertions.assertArrayEquals(bytes(0xCF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF),
+                MessagePackEncoder.encode(NODES.numberNode(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE))));
+    }
+
+    @Test
+    void shouldEncodeContainersSuccessfully() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        Assertions.assertArrayEquals(bytes(0x81, 0xA1, 'a', 0x92, 0x01, 0xC0), MessagePackEncoder.encode(objectMapper.readTree("{\"a\":[1,null]}")));
+        Assertions.assertArrayEquals(bytes(0x90), MessagePackEncoder.encode(NODES.arrayNode()));
+        Assertions.assertArrayEquals(bytes(0x80), MessagePackEncoder.encode(NODES.objectNode()));
+    }
+
+    @Test
+    void shouldEncodeLongStringAndArraySuccessfully() throws IOException {
+        byte[] string = MessagePackEncoder.encode(NODES.textNode("x".repeat(40)));
+        byte[] array = MessagePackEncoder.encode(NODES.arrayNode().addAll(Collections.nCopies(16, NODES.numberNode(0))));
+
+        Assertions.assertArrayEquals(bytes(0xD9, 40), Arrays.copyOf(string, 2));
+        Assertions.assertEquals(42, string.length);
+        Assertions.assertArrayEquals(bytes(0xDC, 0x00, 0x10), Arrays.copyOf(array, 3));
+        Assertions.assertEquals(19, array.length);
+    }
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void shouldRoundTripThroughReferenceDecoderSuccessfully(JsonNode node, Value expected) throws IOException {
+        Assertions.assertEquals(expected, decode(MessagePackEncoder.encode(node)));
+    }
+
+    @Test
+    void shouldEncodeDashboardResponseLikeItsTreeSuccessfully() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        DashboardResponse response = new DashboardResponse(objectMapper.readTree("{\"temperature\":11.4,\"codes\":[3,61]}"), null, NODES.textNode("203.0.113.42"));
+
+        byte[] encoded = MessagePackEncoder.encode(response);
+        Assertions.assertArrayEquals(MessagePackEncoder.encode(objectMapper.<JsonNode>valueToTree(response)), encoded);
+        Assertions.assertArrayEquals(encoded, ResponseFormat.MESSAGE_PACK.createEncoder(objectMapper).encode(response));
+        Assertions.assertEquals(ValueFactory.newMap(
+                ValueFactory.newString("weather"), ValueFactory.newMap(
+                        ValueFactory.newString("temperature"), ValueFactory.newFloat(11.4),
+                        ValueFactory.newString("codes"), ValueFactory.newArray(ValueFactory.newInteger(3), ValueFactory.newInteger(61))),
+                ValueFactory.newString("ip"), ValueFactory.newString("203.0.113.42")), decode(encoded));
+        Assertions.assertEquals(ValueFactory.emptyMap(), decode(MessagePackEncoder.encode(new DashboardResponse(null, null, null))));
+    }
+
+    static Stream<Arguments> values() {
+        BigInteger maxUint64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        return Stream.of(
+                Arguments.of(NODES.nullNode(), ValueFactory.newNil()),
+                Arguments.of(NODES.missingNode(), ValueFactory.newNil()),
+                Arguments.of(NODES.booleanNode(true), ValueFactory.newBoolean(true)),
+                Arguments.of(NODES.booleanNode(false), ValueFactory.newBoolean(false)),
+                integer(0), integer(127), integer(128), integer(255), integer(256), integer(65535), integer(65536),
+                integer(0xFFFFFFFFL), integer(0x100000000L), integer(Long.MAX_VALUE),
+                integer(-1), integer(-32), integer(-33), integer(-128), integer(-129), integer(-32768), integer(-32769),
+                integer(Integer.MIN_VALUE), integer(Integer.MIN_VALUE - 1L), integer(Long.MIN_VALUE),
+                Arguments.of(NODES.numberNode(maxUint64), ValueFactory.newInteger(maxUint64)),
+                Arguments.of(NODES.numberNode(maxUint64.add(BigInteger.ONE)), ValueFactory.newFloat(maxUint64.add(BigInteger.ONE).doubleValue())),
+                Arguments.of(NODES.numberNode(1.5), ValueFactory.newFloat(1.5)),
+                Arguments.of(NODES.numberNode(0.25f), ValueFactory.newFloat(0.25)),
+                Arguments.of(NODES.numberNode(new BigDecimal("0.1")), ValueFactory.newFloat(0.1)),
+                string(0), string(31), string(32), string(255), string(256), string(65535), string(65536),
+                Arguments.of(NODES.textNode("żółw 🐢"), ValueFactory.newString("żółw 🐢")),
+                binary(0), binary(255), binary(256), binary(65535), binary(65536),
+                array(0), array(15), array(16), array(65535), array(65536),
+                object(0), object(15), object(16), object(65535), object(65536),
+                Arguments.of(NODES.pojoNode(Instant.EPOCH), ValueFactory.newString(Instant.EPOCH.toString()))
+        );
+    }
+
+    static Arguments integer(long value) {
+        return Arguments.of(NODES.numberNode(value), ValueFactory.newInteger(value));
+    }
+
+    static Arguments string(int length) {
+        String value = "s".repeat(length);
+        return Arguments.of(NODES.textNode(value), ValueFactory.newString(value));
+    }
+
+    static Arguments binary(int length) {
+        byte[] value = new byte[length];
+        Arrays.fill(value, (byte) 0xA5);
+        return Arguments.of(NODES.binaryNode(value), ValueFactory.newBinary(value));
+    }
+
+    static Arguments array(int size) {
+        ArrayNode node = NODES.arrayNode(size);
+        List<Value> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            node.add(i);
+            values.add(ValueFactory.newInteger(i));
+        }
+        return Arguments.of(node, ValueFactory.newArray(values));
+    }
+
+    static Arguments object(int size) {
+        ObjectNode node = NODES.objectNode();
+        Map<Value, Value> values = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            node.put("field" + i, "value" + i);
+            values.put(ValueFactory.newString("field" + i), ValueFactory.newString("value" + i));
+        }
+        return Arguments.of(node, ValueFactory.newMap(values));
+    }
+
+    static Value decode(byte[] encoded) throws IOException {
+        try (MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(encoded)) {
+            Value value = unpacker.unpackValue();
+            Assertions.assertFalse(unpacker.hasNext(), "Trailing bytes after the value");
+            return value;
+        }
+    }
+
+    static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) bytes[i] = (byte) values[i];
+        return bytes;
+    }
+}
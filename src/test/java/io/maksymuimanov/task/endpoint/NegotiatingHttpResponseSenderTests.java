@@ -0,0 +1,78 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+
+class NegotiatingHttpResponseSenderTests {
+    static final int TEST_CACHE_SIZE = 2;
+    static final byte[] TEST_BODY = "{}".getBytes();
+    NegotiatingHttpResponseSender negotiatingHttpResponseSender;
+    HttpResponseSender jsonSender;
+    HttpResponseSender cborSender;
+    ChannelHandlerContext context;
+
+    @BeforeEach
+    void setUp() {
+        jsonSender = Mockito.mock(HttpResponseSender.class);
+        cborSender = Mockito.mock(HttpResponseSender.class);
+        context = Mockito.mock(ChannelHandlerContext.class);
+        Mockito.when(jsonSender.getFormat()).thenReturn(ResponseFormat.JSON);
+        Mockito.when(cborSender.getFormat()).thenReturn(ResponseFormat.CBOR);
+        negotiatingHttpResponseSender = new NegotiatingHttpResponseSender(Map.of(ResponseFormat.JSON, jsonSender, ResponseFormat.CBOR, cborSender), TEST_CACHE_SIZE);
+    }
+
+    @Test
+    void shouldNegotiateSuccessfully() {
+        Assertions.assertSame(cborSender, negotiatingHttpResponseSender.negotiate("application/cbor"));
+        Assertions.assertSame(jsonSender, negotiatingHttpResponseSender.negotiate("application/json"));
+        Assertions.assertEquals(ResponseFormat.JSON, negotiatingHttpResponseSender.getFormat());
+    }
+
+    @Test
+    void shouldFallBackToJsonWithoutSenderSuccessfully() {
+        Assertions.assertSame(jsonSender, negotiatingHttpResponseSender.negotiate("application/msgpack"));
+        Assertions.assertSame(jsonSender, negotiatingHttpResponseSender.negotiate("text/html"));
+    }
+
+    @Test
+    void shouldCacheNegotiationsUpToCacheSizeSuccessfully() {
+        negotiatingHttpResponseSender.negotiate("application/cbor");
+        negotiatingHttpResponseSender.negotiate("application/cbor");
+        Assertions.assertEquals(1, negotiatingHttpResponseSender.getCachedNegotiationCount());
+
+        negotiatingHttpResponseSender.negotiate("application/json");
+        negotiatingHttpResponseSender.negotiate("*/*");
+        Assertions.assertEquals(TEST_CACHE_SIZE, negotiatingHttpResponseSender.getCachedNegotiationCount());
+        Assertions.assertSame(jsonSender, negotiatingHttpResponseSender.negotiate("*/*"));
+    }
+
+    @Test
+    void shouldDelegateToJsonSenderSuccessfully() {
+        negotiatingHttpResponseSender.send(context, TEST_BODY, HttpResponseStatus.OK, true);
+        negotiatingHttpResponseSender.sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, EmptyHttpHeaders.INSTANCE, true);
+        negotiatingHttpResponseSender.sendChunkedHead(context, HttpResponseStatus.OK, EmptyHttpHeaders.INSTANCE, true);
+        negotiatingHttpResponseSender.sendChunk(context, TEST_BODY);
+        negotiatingHttpResponseSender.sendLastChunk(context, true);
+        negotiatingHttpResponseSender.serialize(TEST_BODY);
+
+        Mockito.verify(jsonSender).send(context, TEST_BODY, HttpResponseStatus.OK, true);
+        Mockito.verify(jsonSender).sendSerialized(context, TEST_BODY, HttpResponseStatus.OK, EmptyHttpHeaders.INSTANCE, true);
+        Mockito.verify(jsonSender).sendChunkedHead(context, HttpResponseStatus.OK, EmptyHttpHeaders.INSTANCE, true);
+        Mockito.verify(jsonSender).sendChunk(context, TEST_BODY);
+        Mockito.verify(jsonSender).sendLastChunk(context, true);
+        Mockito.verify(jsonSender).serialize(TEST_BODY);
+        Mockito.verifyNoInteractions(cborSender);
+    }
+
+    @Test
+    void shouldFailToCreateWithoutJsonSender() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new NegotiatingHttpResponseSender(Map.of(ResponseFormat.CBOR, cborSender), TEST_CACHE_SIZE));
+    }
+}
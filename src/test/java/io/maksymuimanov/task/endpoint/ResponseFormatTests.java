@@ -0,0 +1,59 @@
+package io.maksymuimanov.task.endpoint;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class ResponseFormatTests {
+    static final String TEST_BASE_KEY = "dashboard";
+    static final Map<String, Object> TEST_VALUE = Map.of("ip", "203.0.113.42");
+
+    @Test
+    void shouldNegotiateExactMediaTypeSuccessfully() {
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("application/json"));
+        Assertions.assertEquals(ResponseFormat.CBOR, ResponseFormat.negotiate("application/cbor"));
+        Assertions.assertEquals(ResponseFormat.SMILE, ResponseFormat.negotiate("application/x-jackson-smile"));
+        Assertions.assertEquals(ResponseFormat.MESSAGE_PACK, ResponseFormat.negotiate("application/msgpack"));
+        Assertions.assertEquals(ResponseFormat.MESSAGE_PACK, ResponseFormat.negotiate("Application/X-MsgPack"));
+    }
+
+    @Test
+    void shouldNegotiateByQualitySuccessfully() {
+        Assertions.assertEquals(ResponseFormat.CBOR, ResponseFormat.negotiate("application/json;q=0.5, application/cbor"));
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("application/cbor;q=0.2, application/json;q=0.9"));
+        Assertions.assertEquals(ResponseFormat.SMILE, ResponseFormat.negotiate("application/x-jackson-smile, application/cbor"));
+        Assertions.assertEquals(ResponseFormat.MESSAGE_PACK, ResponseFormat.negotiate("*/*;q=0.1, application/msgpack ; q=0.8"));
+    }
+
+    @Test
+    void shouldFallBackToJsonSuccessfully() {
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate(""));
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("*/*"));
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("application/*"));
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("text/html, application/xml"));
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("application/cbor;q=0"));
+        Assertions.assertEquals(ResponseFormat.JSON, ResponseFormat.negotiate("application/cbor;q=high"));
+    }
+
+    @Test
+    void shouldDeriveCacheKeySuccessfully() {
+        Assertions.assertEquals(TEST_BASE_KEY, ResponseFormat.JSON.cacheKey(TEST_BASE_KEY));
+        Assertions.assertEquals("dashboard:cbor", ResponseFormat.CBOR.cacheKey(TEST_BASE_KEY));
+        Assertions.assertEquals("dashboard:smile", ResponseFormat.SMILE.cacheKey(TEST_BASE_KEY));
+        Assertions.assertEquals("dashboard:message_pack", ResponseFormat.MESSAGE_PACK.cacheKey(TEST_BASE_KEY));
+    }
+
+    @Test
+    void shouldCreateEncoderSuccessfully() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        Assertions.assertArrayEquals(objectMapper.writeValueAsBytes(TEST_VALUE), ResponseFormat.JSON.createEncoder(objectMapper).encode(TEST_VALUE));
+        Assertions.assertEquals(TEST_VALUE, new ObjectMapper(new CBORFactory()).readValue(ResponseFormat.CBOR.createEncoder(objectMapper).encode(TEST_VALUE), Map.class));
+        Assertions.assertEquals(TEST_VALUE, new ObjectMapper(new SmileFactory()).readValue(ResponseFormat.SMILE.createEncoder(objectMapper).encode(TEST_VALUE), Map.class));
+        Assertions.assertArrayEquals(MessagePackEncoder.encode(objectMapper.valueToTree(TEST_VALUE)), ResponseFormat.MESSAGE_PACK.createEncoder(objectMapper).encode(TEST_VALUE));
+    }
+}
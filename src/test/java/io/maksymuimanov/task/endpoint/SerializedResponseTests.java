@@ -0,0 +1,80 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.maksymuimanov.task.cache.CacheValueCompressor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.Deflater;
+
+class SerializedResponseTests {
+    static final byte[] TEST_BODY = "{\"a\":\"a\"}".getBytes(StandardCharsets.UTF_8);
+    static final byte[] TEST_OTHER_BODY = "{\"a\":\"b\"}".getBytes(StandardCharsets.UTF_8);
+    static final Instant TEST_PRODUCED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void shouldTagBodyConsistentlySuccessfully() {
+        SerializedResponse response = SerializedResponse.of(TEST_BODY, TEST_PRODUCED_AT);
+
+        Assertions.assertEquals(response.etag(), SerializedResponse.of(TEST_BODY.clone(), TEST_PRODUCED_AT).etag());
+        Assertions.assertNotEquals(response.etag(), SerializedResponse.of(TEST_OTHER_BODY, TEST_PRODUCED_AT).etag());
+        Assertions.assertTrue(response.etag().startsWith("\"") && response.etag().endsWith("\""));
+    }
+
+    @Test
+    void shouldRestoreFramedResponseSuccessfully() {
+        SerializedResponse response = SerializedResponse.of(TEST_BODY, TEST_PRODUCED_AT);
+
+        SerializedResponse restored = SerializedResponse.fromBytes(response.toBytes());
+        Assertions.assertArrayEquals(TEST_BODY, restored.body());
+        Assertions.assertEquals(response.etag(), restored.etag());
+        Assertions.assertEquals(TEST_PRODUCED_AT, restored.producedAt());
+    }
+
+    @Test
+    void shouldRoundTripFramedResponseThroughCompressorSuccessfully() {
+        SerializedResponse response = SerializedResponse.of(TEST_BODY, TEST_PRODUCED_AT);
+        CacheValueCompressor compressor = new CacheValueCompressor(CacheValueCompressor.DEFAULT_COMPRESSION_THRESHOLD, Deflater.BEST_SPEED);
+
+        byte[] stored = compressor.compress(response.toBytes());
+        Assertions.assertFalse(CacheValueCompressor.isCompressed(stored));
+        SerializedResponse restored = SerializedResponse.fromBytes(compressor.decompress(stored));
+        Assertions.assertArrayEquals(TEST_BODY, restored.body());
+        Assertions.assertEquals(response.etag(), restored.etag());
+        Assertions.assertEquals(TEST_PRODUCED_AT, restored.producedAt());
+    }
+
+    @Test
+    void shouldReuseTagOfUnchangedBodySuccessfully() {
+        SerializedResponse previous = SerializedResponse.of(TEST_BODY, TEST_PRODUCED_AT);
+        Instant producedAt = TEST_PRODUCED_AT.plusSeconds(1);
+
+        SerializedResponse unchanged = SerializedResponse.of(TEST_BODY.clone(), producedAt, previous);
+        SerializedResponse changed = SerializedResponse.of(TEST_OTHER_BODY, producedAt, previous);
+        Assertions.assertSame(previous.etag(), unchanged.etag());
+        Assertions.assertEquals(producedAt, unchanged.producedAt());
+        Assertions.assertEquals(SerializedResponse.of(TEST_OTHER_BODY, producedAt).etag(), changed.etag());
+        Assertions.assertEquals(previous.etag(), SerializedResponse.of(TEST_BODY, producedAt, null).etag());
+    }
+
+    @Test
+    void shouldTagBareBodySuccessfully() {
+        SerializedResponse restored = SerializedResponse.fromBytes(TEST_BODY);
+
+        Assertions.assertArrayEquals(TEST_BODY, restored.body());
+        Assertions.assertEquals(SerializedResponse.of(TEST_BODY, TEST_PRODUCED_AT).etag(), restored.etag());
+        Assertions.assertEquals(SerializedResponse.UNKNOWN_PRODUCED_AT, restored.producedAt());
+    }
+
+    @Test
+    void shouldMatchIfNoneMatchSuccessfully() {
+        SerializedResponse response = SerializedResponse.of(TEST_BODY, TEST_PRODUCED_AT);
+
+        Assertions.assertTrue(response.matches(response.etag()));
+        Assertions.assertTrue(response.matches("\"other\", W/" + response.etag()));
+        Assertions.assertTrue(response.matches(SerializedResponse.ANY_ETAG));
+        Assertions.assertFalse(response.matches(""));
+        Assertions.assertFalse(response.matches("\"other\""));
+    }
+}
@@ -0,0 +1,104 @@
+package io.maksymuimanov.task.endpoint;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpContent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+
+class ServerSentEventBroadcasterTests {
+    static final String TEST_ID = "id";
+    static final String TEST_EVENT = "dashboard";
+    static final byte[] TEST_DATA = "{\"a\":\"a\"}".getBytes(StandardCharsets.UTF_8);
+    static final String TEST_FRAME = "id: id\nevent: dashboard\ndata: {\"a\":\"a\"}\n\n";
+    ServerSentEventBroadcaster broadcaster;
+    EmbeddedChannel firstChannel;
+    EmbeddedChannel secondChannel;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new ServerSentEventBroadcaster();
+        firstChannel = new EmbeddedChannel();
+        secondChannel = new EmbeddedChannel();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+        firstChannel.finishAndReleaseAll();
+        secondChannel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldPublishSharedFrameToSubscribersSuccessfully() {
+        Assertions.assertFalse(broadcaster.subscribe(firstChannel));
+        Assertions.assertFalse(broadcaster.subscribe(secondChannel));
+
+        broadcaster.publish(TEST_ID, TEST_EVENT, TEST_DATA);
+        ByteBuf first = this.readOutbound(firstChannel);
+        ByteBuf second = this.readOutbound(secondChannel);
+        Assertions.assertEquals(TEST_FRAME, first.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals(TEST_FRAME, second.toString(StandardCharsets.UTF_8));
+        Assertions.assertSame(first.unwrap(), second.unwrap());
+        first.release();
+        second.release();
+        Assertions.assertEquals(1, broadcaster.getPublishedCount());
+    }
+
+    @Test
+    void shouldSendLatestEventOnSubscribeSuccessfully() {
+        broadcaster.publish(TEST_ID, TEST_EVENT, TEST_DATA);
+
+        Assertions.assertTrue(broadcaster.subscribe(firstChannel));
+        ByteBuf latest = this.readOutbound(firstChannel);
+        Assertions.assertEquals(TEST_FRAME, latest.toString(StandardCharsets.UTF_8));
+        latest.release();
+    }
+
+    @Test
+    void shouldUnsubscribeClosedChannelSuccessfully() {
+        broadcaster.subscribe(firstChannel);
+        broadcaster.subscribe(secondChannel);
+
+        firstChannel.close();
+        Assertions.assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void shouldCatchUpLaggingSubscriberOnHeartbeatSuccessfully() {
+        Channel slowChannel = Mockito.mock(Channel.class);
+        ChannelFuture channelFuture = Mockito.mock(ChannelFuture.class);
+
+        Mockito.when(slowChannel.closeFuture()).thenReturn(channelFuture);
+        Mockito.when(slowChannel.writeAndFlush(Mockito.any())).thenReturn(channelFuture);
+        Mockito.when(slowChannel.isWritable()).thenReturn(false);
+
+        broadcaster.subscribe(slowChannel);
+        broadcaster.subscribe(firstChannel);
+        broadcaster.publish(TEST_ID, TEST_EVENT, TEST_DATA);
+        Mockito.verify(slowChannel, Mockito.never()).writeAndFlush(Mockito.any());
+        Assertions.assertEquals(1, broadcaster.getDroppedCount());
+        this.readOutbound(firstChannel).release();
+
+        Mockito.when(slowChannel.isWritable()).thenReturn(true);
+        broadcaster.heartbeat();
+        Mockito.verify(slowChannel).writeAndFlush(Mockito.argThat(message -> message instanceof HttpContent content
+                && TEST_FRAME.equals(content.content().toString(StandardCharsets.UTF_8))));
+        ByteBuf heartbeat = this.readOutbound(firstChannel);
+        Assertions.assertArrayEquals(ServerSentEventBroadcaster.HEARTBEAT, heartbeat.toString(StandardCharsets.UTF_8).getBytes(StandardCharsets.UTF_8));
+        heartbeat.release();
+    }
+
+    ByteBuf readOutbound(EmbeddedChannel channel) {
+        HttpContent content = channel.readOutbound();
+        Assertions.assertNotNull(content);
+        return content.content();
+    }
+}
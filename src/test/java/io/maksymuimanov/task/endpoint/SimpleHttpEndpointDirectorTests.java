@@ -1,10 +1,11 @@
 package io.maksymuimanov.task.endpoint;
 
-import io.maksymuimanov.task.dto.HttpEndpoint;
 import io.maksymuimanov.task.exception.HttpEndpointDirectingException;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import org.junit.jupiter.api.Assertions;
@@ -15,33 +16,30 @@ import org.mockito.Mockito;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
-@SuppressWarnings("unchecked")
 class SimpleHttpEndpointDirectorTests {
     static final DefaultFullHttpRequest TEST_HTTP_REQUEST = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT.method(), DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT.path());
+    static final byte[] TEST_BODY = "{}".getBytes();
     HttpEndpointDirector endpointDirector;
-    Map<HttpEndpoint, AsyncHttpEndpointProcessor> endpointProcessors;
     ChannelHandlerContext context;
     HttpResponseSender responseSender;
     AsyncHttpEndpointProcessor endpointProcessor;
 
     @BeforeEach
     void setUp() {
-        endpointProcessors = Mockito.mock(Map.class);
         context = Mockito.mock(ChannelHandlerContext.class);
         responseSender = Mockito.mock(HttpResponseSender.class);
         endpointProcessor = Mockito.mock(AsyncHttpEndpointProcessor.class);
-        endpointDirector = new SimpleHttpEndpointDirector(endpointProcessors);
+        endpointDirector = new SimpleHttpEndpointDirector(Map.of(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT, endpointProcessor));
     }
 
     @Test
     void shouldDirectSuccessfully() {
         CompletableFuture<Void> voidFuture = CompletableFuture.completedFuture(null);
 
-        Mockito.when(endpointProcessors.containsKey(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT)).thenReturn(true);
-        Mockito.when(endpointProcessors.get(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT)).thenReturn(endpointProcessor);
-        Mockito.when(endpointProcessor.process(context, responseSender, true)).thenReturn(voidFuture);
+        Mockito.when(endpointProcessor.process(context, TEST_HTTP_REQUEST, responseSender, true)).thenReturn(voidFuture);
 
         Assertions.assertDoesNotThrow(() -> endpointDirector.direct(context, TEST_HTTP_REQUEST, responseSender));
+        Mockito.verify(endpointProcessor).process(context, TEST_HTTP_REQUEST, responseSender, true);
     }
 
     @Test
@@ -49,27 +47,38 @@ class SimpleHttpEndpointDirectorTests {
         CompletableFuture<Void> failedFuture = CompletableFuture.failedFuture(new RuntimeException("Test exception"));
         Channel channel = Mockito.mock(Channel.class);
 
-        Mockito.when(endpointProcessors.containsKey(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT)).thenReturn(true);
-        Mockito.when(endpointProcessors.get(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT)).thenReturn(endpointProcessor);
-        Mockito.when(endpointProcessor.process(context, responseSender, true)).thenReturn(failedFuture);
+        Mockito.when(endpointProcessor.process(context, TEST_HTTP_REQUEST, responseSender, true)).thenReturn(failedFuture);
         Mockito.when(context.channel()).thenReturn(channel);
         Mockito.when(channel.isActive()).thenReturn(true);
 
         Assertions.assertDoesNotThrow(() -> endpointDirector.direct(context, TEST_HTTP_REQUEST, responseSender));
-        Mockito.verify(responseSender).send(context, DashboardGetAsyncHttpEndpointProcessor.UNEXPECTED_SERVER_ERROR_MESSAGE, HttpResponseStatus.INTERNAL_SERVER_ERROR, true);
+        Mockito.verify(responseSender).send(context, SimpleHttpEndpointDirector.UNEXPECTED_SERVER_ERROR_MESSAGE, HttpResponseStatus.INTERNAL_SERVER_ERROR, true);
     }
 
     @Test
     void shouldDirectWithNotFound() {
-        Mockito.when(endpointProcessors.containsKey(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT)).thenReturn(false);
+        DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/api/unknown");
 
-        Assertions.assertDoesNotThrow(() -> endpointDirector.direct(context, TEST_HTTP_REQUEST, responseSender));
+        Assertions.assertDoesNotThrow(() -> endpointDirector.direct(context, request, responseSender));
         Mockito.verify(responseSender).send(context, SimpleHttpEndpointDirector.NOT_FOUND_MESSAGE, HttpResponseStatus.NOT_FOUND, true);
+        Mockito.verifyNoInteractions(endpointProcessor);
+    }
+
+    @Test
+    void shouldDirectWithMethodNotAllowed() {
+        DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_ENDPOINT_PATH);
+
+        Mockito.when(responseSender.serialize(SimpleHttpEndpointDirector.METHOD_NOT_ALLOWED_MESSAGE)).thenReturn(TEST_BODY);
+
+        Assertions.assertDoesNotThrow(() -> endpointDirector.direct(context, request, responseSender));
+        Mockito.verify(responseSender).sendSerialized(Mockito.eq(context), Mockito.eq(TEST_BODY), Mockito.eq(HttpResponseStatus.METHOD_NOT_ALLOWED),
+                Mockito.argThat(headers -> "GET".equals(headers.get(HttpHeaderNames.ALLOW))), Mockito.eq(true));
+        Mockito.verifyNoInteractions(endpointProcessor);
     }
 
     @Test
     void shouldFailToDirect() {
-        Mockito.when(endpointProcessors.containsKey(DashboardGetAsyncHttpEndpointProcessor.DASHBOARD_HTTP_ENDPOINT)).thenThrow(RuntimeException.class);
+        Mockito.when(endpointProcessor.process(context, TEST_HTTP_REQUEST, responseSender, true)).thenThrow(RuntimeException.class);
 
         Assertions.assertThrows(HttpEndpointDirectingException.class, () -> endpointDirector.direct(context, TEST_HTTP_REQUEST, responseSender));
     }